@@ -126,7 +126,7 @@ public final class StandardFactoryController implements IFactoryController
             {
                 Log.getLogger().debug("Attempting to find a Factory with Primary: " + input.toString() + " -> " + output.toString());
 
-                final Set<TypeToken> secondaryInputSet = ReflectionUtils.getSuperClasses(input);
+                final Set<TypeToken> secondaryInputSet = ReflectionUtils.getCachedSuperClasses(input);
 
                 for (final TypeToken secondaryInputClass : secondaryInputSet)
                 {
@@ -139,7 +139,7 @@ public final class StandardFactoryController implements IFactoryController
                     Log.getLogger().debug("Found matching Factory for Primary input type.");
                     for (final IFactory factory : factories)
                     {
-                        final Set<TypeToken> secondaryOutputSet = ReflectionUtils.getSuperClasses(factory.getFactoryOutputType());
+                        final Set<TypeToken> secondaryOutputSet = ReflectionUtils.getCachedSuperClasses(factory.getFactoryOutputType());
                         if (secondaryOutputSet.contains(output))
                         {
                             Log.getLogger().debug("Found input factory with matching super OUTPUT type. Search complete with: " + factory);
@@ -165,7 +165,7 @@ public final class StandardFactoryController implements IFactoryController
 
         final TypeToken input = inputOverrideHandler != null ? inputOverrideHandler.getOutputType() : inputClass;
 
-        final Set<TypeToken> secondaryInputSet = ReflectionUtils.getSuperClasses(input);
+        final Set<TypeToken> secondaryInputSet = ReflectionUtils.getCachedSuperClasses(input);
 
         for (final TypeToken secondaryInputClass : secondaryInputSet)
         {
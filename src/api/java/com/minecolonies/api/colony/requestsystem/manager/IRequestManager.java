@@ -102,6 +102,19 @@ public interface IRequestManager extends INBTSerializable<NBTTagCompound>, ITick
     @Nullable
     IRequest getRequestForToken(@NotNull final IToken<?> token);
 
+    /**
+     * Method to get a read only view of a request for a given token.
+     * <p>
+     * Unlike {@link #getRequestForToken(IToken)} the request is not copied, so the view always shows the current data of the request.
+     * Trying to modify it throws an {@link UnsupportedOperationException}.
+     *
+     * @param token The token to get a request for.
+     * @return The read only request for that token, or null if it is unknown.
+     */
+    @SuppressWarnings(RAWTYPES)
+    @Nullable
+    IRequest getReadOnlyRequestForToken(@NotNull final IToken<?> token);
+
     /**
      * Method to get a resolver from its token.
      *
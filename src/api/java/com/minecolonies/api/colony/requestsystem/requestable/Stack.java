@@ -131,7 +131,14 @@ public class Stack implements IDeliverable
     {
         this.matchOreDic = match;
         return this;
-    }    @NotNull
+    }
+
+    public boolean isMatchOreDic()
+    {
+        return matchOreDic;
+    }
+
+    @NotNull
     @Override
     public ItemStack getResult()
     {
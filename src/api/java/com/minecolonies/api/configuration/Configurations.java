@@ -88,6 +88,9 @@ public class Configurations
         @Config.Comment("Max amount of schematics to be cached on the server")
         public int maxCachedSchematics = 100;
 
+        @Config.Comment("Max amount of blocks of loaded schematics to be kept in memory for reuse")
+        public int maxCachedSchematicBlocks = 1000000;
+
             @Config.Comment("Should players be allowed to change names? -1 for false, 0 for specific groups, 1 for true")
             public  int allowGlobalNameChanges = 1;
 
@@ -167,6 +170,21 @@ public class Configurations
         @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder)")
         public int maxBlocksCheckedByBuilder = 1000;
 
+        @Config.Comment("Amount of blocks placed per tick when pasting large structures (to decrease lag by pasting)")
+        public int maxBlocksPlacedPerTick = 4096;
+
+        @Config.Comment("Time each colony may spend per tick (in microseconds) before deferrable work like building cleanup is moved to later ticks")
+        public int colonyTickBudget = 2000;
+
+        @Config.Comment("Time each deferrable subsystem of a colony, like building cleanup or request retries, may spend per tick (in microseconds) on average, a subsystem taking longer waits until later ticks made up for it")
+        public int colonySubsystemTickBudget = 500;
+
+        @Config.Comment("Whether colonies without players or loaded chunks nearby are only kept as stubs, loaded fully again when a chunk in range loads or an owner logs in")
+        public boolean dormantColonies = true;
+
+        @Config.Comment("Minutes a colony has to be without players and loaded chunks nearby before it becomes dormant")
+        public int dormantColonyDelay = 5;
+
         @Config.Comment("Chat frequency of worker requests")
         public int chatFrequency = 30;
 
@@ -191,6 +209,24 @@ public class Configurations
 
         @Config.Comment("Amount of additional threads to be used for pathfinding")
         public int pathfindingMaxThreadCount = 2;
+
+        @Config.Comment("Use the indexed path search (primitive node index, decrease-key heap and pooled nodes) instead of the default search")
+        public boolean pathfindingUseIndexedSearch = true;
+
+        @Config.Comment("Share the passability of colony blocks between all path searches inside of the colony")
+        public boolean pathfindingUsePassabilityCache = true;
+
+        @Config.Comment("Let equal path requests share one search while it is running and reuse the recent paths")
+        public boolean pathfindingCoalesceRequests = true;
+
+        @Config.Comment("Amount of recent paths kept until a block along them changes, 0 to disable")
+        public int pathfindingPathCacheSize = 64;
+
+        @Config.Comment("Idle citizens do not get new paths while more path jobs than this are waiting")
+        public int pathfindingMaxQueuedLowPriorityJobs = 32;
+
+        @Config.Comment("Plan long trips inside of colonies over the crossings between chunks first and only search the chunks along that route")
+        public boolean pathfindingUseHierarchicalSearch = true;
     }
 
     public static class Names
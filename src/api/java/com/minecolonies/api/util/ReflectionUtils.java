@@ -1,20 +1,27 @@
 package com.minecolonies.api.util;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.core.config.AppenderControl;
 
 import java.lang.reflect.Field;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
-import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
  * Utility class with methods regarding reflection.
  */
 public final class ReflectionUtils
 {
+    /**
+     * Super types of the types which were already looked up, type hierarchies never change at runtime.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private static final Map<TypeToken<?>, ImmutableSet<TypeToken>> SUPER_CLASSES = new ConcurrentHashMap<>();
 
     /**
      * Private constructor to hide the implicit public one.
@@ -28,22 +35,44 @@ public final class ReflectionUtils
      *
      * @param token The type to get the Supertypes for.
      * @param <T>   The type to get the super types for.
-     * @return A set with the super types of the given type.
+     * @return A modifiable set with the super types of the given type.
      */
     @SuppressWarnings(RAWTYPES)
     public static <T> Set<TypeToken> getSuperClasses(final TypeToken<T> token)
     {
-        final Set<TypeToken<?>> directSet = new LinkedHashSet<>(token.getTypes());
-        @SuppressWarnings(UNCHECKED)
-        final Set<TypeToken> resultingSet = new LinkedHashSet<>();
+        return new LinkedHashSet<>(getCachedSuperClasses(token));
+    }
 
-        directSet.forEach(t ->
+    /**
+     * Method to get all Super types of a given Class, computed once per type.
+     *
+     * @param token The type to get the Supertypes for.
+     * @param <T>   The type to get the super types for.
+     * @return An immutable set with the super types of the given type, ordered like {@link #getSuperClasses(TypeToken)}.
+     */
+    @SuppressWarnings(RAWTYPES)
+    public static <T> ImmutableSet<TypeToken> getCachedSuperClasses(final TypeToken<T> token)
+    {
+        final ImmutableSet<TypeToken> cached = SUPER_CLASSES.get(token);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        return SUPER_CLASSES.computeIfAbsent(token, ReflectionUtils::computeSuperClasses);
+    }
+
+    @SuppressWarnings(RAWTYPES)
+    private static ImmutableSet<TypeToken> computeSuperClasses(final TypeToken<?> token)
+    {
+        final ImmutableSet.Builder<TypeToken> builder = ImmutableSet.builder();
+        for (final TypeToken<?> type : token.getTypes())
         {
-            resultingSet.add(t);
-            resultingSet.add(TypeToken.of(t.getRawType()));
-        });
+            builder.add(type);
+            builder.add(TypeToken.of(type.getRawType()));
+        }
 
-        return resultingSet;
+        return builder.build();
     }
 
     public static void setFMLLoggingLevelOnConsoleToDebug(AppenderControl control)
@@ -9,6 +9,7 @@ import com.minecolonies.coremod.commands.CommandEntryPoint;
 import com.minecolonies.coremod.network.messages.*;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
+import com.minecolonies.structures.helpers.StructureTemplateCache;
 import gigaherz.guidebook.client.BookRegistryEvent;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.config.Configuration;
@@ -20,6 +21,7 @@ import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppedEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
@@ -184,6 +186,8 @@ public class MineColonies
         getNetwork().registerMessage(BuildToolPasteMessage.class, BuildToolPasteMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(TransferItemsToCitizenRequestMessage.class, TransferItemsToCitizenRequestMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(UpdateRequestStateMessage.class, UpdateRequestStateMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(ColonyViewRequestResyncMessage.class, ColonyViewRequestResyncMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(ColonyViewCitizenResyncMessage.class, ColonyViewCitizenResyncMessage.class, ++id, Side.SERVER);
 
         // Schematic transfer messages
         getNetwork().registerMessage(SchematicRequestMessage.class, SchematicRequestMessage.class, ++id, Side.SERVER);
@@ -212,4 +216,11 @@ public class MineColonies
         // register server commands
         event.registerServerCommand(new CommandEntryPoint());
     }
+
+    @Mod.EventHandler
+    public void serverStopped(final FMLServerStoppedEvent event)
+    {
+        // the loaded structures are process wide, don't keep them for the next server
+        StructureTemplateCache.clear();
+    }
 }
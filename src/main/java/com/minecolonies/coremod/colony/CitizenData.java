@@ -16,6 +16,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractAISkeleton;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.text.ITextComponent;
@@ -23,6 +24,9 @@ import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -35,6 +39,17 @@ public class CitizenData
      * Maximum saturation of a citizen.
      */
     public static final int MAX_SATURATION = 10;
+
+    /**
+     * The sections of the citizen view, every section is versioned and sent on its own when it changed.
+     * Core holds the name, buildings, job, level and skills.
+     */
+    public static final int SECTION_CORE      = 1;
+    public static final int SECTION_HEALTH    = 1 << 1;
+    public static final int SECTION_STATUS    = 1 << 2;
+    public static final int SECTION_INVENTORY = 1 << 3;
+    public static final int ALL_SECTIONS      = SECTION_CORE | SECTION_HEALTH | SECTION_STATUS | SECTION_INVENTORY;
+    static final        int SECTION_COUNT     = 4;
     private static final float  MAX_HEALTH              = 20.0F;
     /**
      * Max level of an attribute a citizen may initially have.
@@ -102,9 +117,19 @@ public class CitizenData
      */
     private AbstractJob job;
     /**
-     * If the citizen is dirty (Has to be updated on client side).
+     * The view sections which have to be updated on client side.
      */
-    private boolean dirty;
+    private int dirtySections;
+    /**
+     * The version of each view section, moved up by every delta carrying the section.
+     */
+    private final int[] sectionVersions = new int[SECTION_COUNT];
+    /**
+     * The inventory as sent with the last delta, to find the slots which changed since.
+     */
+    @Nullable
+    private ItemStack[] syncedInventory;
+    private int         syncedHeldItemSlot = -1;
     /**
      * Its entitity.
      */
@@ -234,7 +259,17 @@ public class CitizenData
      */
     public void markDirty()
     {
-        dirty = true;
+        markDirty(ALL_SECTIONS);
+    }
+
+    /**
+     * Marks sections of the view dirty, only the sections which changed are sent to the subscribers.
+     *
+     * @param sections the sections, like {@link #SECTION_HEALTH}.
+     */
+    public void markDirty(final int sections)
+    {
+        dirtySections |= sections;
         colony.markCitizensDirty();
     }
 
@@ -501,7 +536,7 @@ public class CitizenData
      */
     public boolean isDirty()
     {
-        return dirty;
+        return dirtySections != 0;
     }
 
     /**
@@ -509,7 +544,7 @@ public class CitizenData
      */
     public void clearDirty()
     {
-        dirty = false;
+        dirtySections = 0;
     }
 
     /**
@@ -709,74 +744,200 @@ public class CitizenData
     }
 
     /**
-     * Writes the citizen data to a byte buf for transition.
+     * Writes the complete citizen view to a byte buf for transition, for new subscribers.
      *
      * @param buf Buffer to write to.
      */
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
-
-        buf.writeInt(entity != null ? entity.getEntityId() : -1);
+        buf.writeBoolean(true);
+        writeViewSections(buf, ALL_SECTIONS, null);
+    }
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
+    /**
+     * Writes the sections of the citizen view which changed since the last delta to a byte buf for transition.
+     * Every section sent moves up its version, the inventory section only carries the slots which changed.
+     *
+     * @param buf Buffer to write to.
+     */
+    public void serializeViewNetworkDelta(@NotNull final ByteBuf buf)
+    {
+        int sections = dirtySections & ~SECTION_INVENTORY;
+        final List<Integer> changedSlots = takeChangedInventorySlots();
+        if (!changedSlots.isEmpty() || syncedHeldItemSlot != inventory.getHeldItemSlot())
         {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            syncedHeldItemSlot = inventory.getHeldItemSlot();
+            sections |= SECTION_INVENTORY;
         }
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
+        for (int i = 0; i < SECTION_COUNT; i++)
         {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            if ((sections & (1 << i)) != 0)
+            {
+                sectionVersions[i]++;
+            }
         }
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+        buf.writeBoolean(false);
+        writeViewSections(buf, sections, changedSlots);
+    }
 
-        //If entity is null assume the standard values as health
-        if (entity == null)
+    /**
+     * Find the inventory slots which changed since the last delta and remember their new content.
+     *
+     * @return the changed slots.
+     */
+    @NotNull
+    private List<Integer> takeChangedInventorySlots()
+    {
+        if (syncedInventory == null || syncedInventory.length != inventory.getSizeInventory())
         {
-            buf.writeFloat(MAX_HEALTH);
-            buf.writeFloat(MAX_HEALTH);
+            syncedInventory = new ItemStack[inventory.getSizeInventory()];
+            Arrays.fill(syncedInventory, ItemStack.EMPTY);
         }
-        else
+
+        final List<Integer> changedSlots = new ArrayList<>();
+        for (int slot = 0; slot < syncedInventory.length; slot++)
         {
-            buf.writeFloat(entity.getHealth());
-            buf.writeFloat(entity.getMaxHealth());
+            final ItemStack stack = inventory.getStackInSlot(slot);
+            if (!ItemStack.areItemStacksEqual(stack, syncedInventory[slot]))
+            {
+                syncedInventory[slot] = stack.copy();
+                changedSlots.add(slot);
+            }
         }
+        return changedSlots;
+    }
+
+    /**
+     * Write sections of the citizen view, each with its version.
+     *
+     * @param buf          Buffer to write to.
+     * @param sections     the sections to write.
+     * @param changedSlots the inventory slots to write, or null to write all filled slots.
+     */
+    private void writeViewSections(@NotNull final ByteBuf buf, final int sections, @Nullable final List<Integer> changedSlots)
+    {
+        buf.writeInt(sections);
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
+        if ((sections & SECTION_CORE) != 0)
+        {
+            buf.writeInt(getSectionVersion(SECTION_CORE));
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+            buf.writeInt(entity != null ? entity.getEntityId() : -1);
 
-        final EntityCitizen citizen = getCitizenEntity();
-        if (citizen != null)
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
+
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
+
+            //  Attributes
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
+
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+            buf.writeDouble(getSaturation());
+
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+
+            buf.writeInt(colony.getID());
+        }
+
+        if ((sections & SECTION_HEALTH) != 0)
         {
-            final ITextComponent[] latestStatus = citizen.getLatestStatus();
-            buf.writeInt(latestStatus.length);
-            for (int i = 0; i < latestStatus.length; i++)
+            buf.writeInt(getSectionVersion(SECTION_HEALTH));
+
+            //If entity is null assume the standard values as health
+            if (entity == null)
             {
-                ByteBufUtils.writeUTF8String(buf, latestStatus[i] == null ? "" : latestStatus[i].getUnformattedText());
+                buf.writeFloat(MAX_HEALTH);
+                buf.writeFloat(MAX_HEALTH);
+            }
+            else
+            {
+                buf.writeFloat(entity.getHealth());
+                buf.writeFloat(entity.getMaxHealth());
             }
         }
-        else
+
+        if ((sections & SECTION_STATUS) != 0)
+        {
+            buf.writeInt(getSectionVersion(SECTION_STATUS));
+
+            final EntityCitizen citizen = getCitizenEntity();
+            if (citizen != null)
+            {
+                final ITextComponent[] latestStatus = citizen.getLatestStatus();
+                buf.writeInt(latestStatus.length);
+                for (int i = 0; i < latestStatus.length; i++)
+                {
+                    ByteBufUtils.writeUTF8String(buf, latestStatus[i] == null ? "" : latestStatus[i].getUnformattedText());
+                }
+            }
+            else
+            {
+                buf.writeInt(0);
+            }
+        }
+
+        if ((sections & SECTION_INVENTORY) != 0)
         {
-            buf.writeInt(0);
+            buf.writeInt(getSectionVersion(SECTION_INVENTORY));
+            buf.writeInt(inventory.getHeldItemSlot());
+
+            final List<Integer> slots;
+            if (changedSlots == null)
+            {
+                slots = new ArrayList<>();
+                for (int slot = 0; slot < inventory.getSizeInventory(); slot++)
+                {
+                    if (!inventory.getStackInSlot(slot).isEmpty())
+                    {
+                        slots.add(slot);
+                    }
+                }
+            }
+            else
+            {
+                slots = changedSlots;
+            }
+
+            buf.writeInt(slots.size());
+            for (final int slot : slots)
+            {
+                buf.writeInt(slot);
+                ByteBufUtils.writeItemStack(buf, inventory.getStackInSlot(slot));
+            }
         }
+    }
 
-        buf.writeInt(colony.getID());
+    /**
+     * Get the index of a view section, for the arrays of section versions.
+     *
+     * @param section the section, like {@link #SECTION_HEALTH}.
+     * @return the index.
+     */
+    static int getSectionIndex(final int section)
+    {
+        return Integer.numberOfTrailingZeros(section);
+    }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
+    private int getSectionVersion(final int section)
+    {
+        return sectionVersions[getSectionIndex(section)];
     }
 
     /**
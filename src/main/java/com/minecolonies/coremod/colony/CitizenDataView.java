@@ -3,8 +3,7 @@ package com.minecolonies.coremod.colony;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentTranslation;
@@ -21,8 +20,6 @@ import org.jetbrains.annotations.Nullable;
 public class CitizenDataView
 {
 
-    private static final String TAG_HELD_ITEM_SLOT = "HeldItemSlot";
-
     /**
      * The max amount of lines the latest log allows.
      */
@@ -75,6 +72,11 @@ public class CitizenDataView
 
     private InventoryCitizen inventory;
 
+    /**
+     * The versions of the view sections received last.
+     */
+    private final int[] sectionVersions = new int[CitizenData.SECTION_COUNT];
+
     /**
      * Set View id.
      *
@@ -274,43 +276,107 @@ public class CitizenDataView
      */
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-
-        //  Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        final int length = buf.readInt();
-        for (int i = 0; i < length; i++)
+        readSections(buf, true);
+    }
+
+    /**
+     * Deserialize the sections of the view which changed.
+     * The slots of an inventory delta are only applied if the view has the inventory version the delta follows.
+     *
+     * @param buf Byte buffer to deserialize.
+     * @return false if the inventory delta did not follow the inventory of the view, then the full view is needed.
+     */
+    public boolean deserializeDelta(@NotNull final ByteBuf buf)
+    {
+        return readSections(buf, false);
+    }
+
+    private boolean readSections(@NotNull final ByteBuf buf, final boolean isFull)
+    {
+        final int sections = buf.readInt();
+        boolean isInventoryInSync = true;
+
+        if ((sections & CitizenData.SECTION_CORE) != 0)
         {
-            final String textComp = ByteBufUtils.readUTF8String(buf);
-            final TextComponentTranslation textComponent = new TextComponentTranslation(textComp);
-            latestStatus[i] = textComponent;
+            setSectionVersion(CitizenData.SECTION_CORE, buf.readInt());
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+
+            //  Attributes
+            level = buf.readInt();
+            experience = buf.readDouble();
+
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+            saturation = buf.readDouble();
+
+            job = ByteBufUtils.readUTF8String(buf);
+
+            colonyId = buf.readInt();
         }
 
-        colonyId = buf.readInt();
+        if ((sections & CitizenData.SECTION_HEALTH) != 0)
+        {
+            setSectionVersion(CitizenData.SECTION_HEALTH, buf.readInt());
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+        }
 
-        NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(compound.getInteger(TAG_HELD_ITEM_SLOT));
+        if ((sections & CitizenData.SECTION_STATUS) != 0)
+        {
+            setSectionVersion(CitizenData.SECTION_STATUS, buf.readInt());
+            latestStatus = new ITextComponent[MAX_LINES_OF_LATEST_LOG];
+            final int length = buf.readInt();
+            for (int i = 0; i < length; i++)
+            {
+                final String textComp = ByteBufUtils.readUTF8String(buf);
+                final TextComponentTranslation textComponent = new TextComponentTranslation(textComp);
+                latestStatus[i] = textComponent;
+            }
+        }
+
+        if ((sections & CitizenData.SECTION_INVENTORY) != 0)
+        {
+            final int index = CitizenData.getSectionIndex(CitizenData.SECTION_INVENTORY);
+            final int version = buf.readInt();
+            isInventoryInSync = isFull || version == sectionVersions[index] + 1;
+            if (isFull)
+            {
+                inventory = new InventoryCitizen(this.name, true);
+            }
+            final int heldItemSlot = buf.readInt();
+
+            final int slots = buf.readInt();
+            for (int i = 0; i < slots; i++)
+            {
+                final int slot = buf.readInt();
+                final ItemStack stack = ByteBufUtils.readItemStack(buf);
+                if (isInventoryInSync)
+                {
+                    inventory.setInventorySlotContents(slot, stack);
+                }
+            }
+
+            if (isInventoryInSync)
+            {
+                inventory.setHeldItem(heldItemSlot);
+                sectionVersions[index] = version;
+            }
+        }
+
+        return isInventoryInSync;
+    }
+
+    private void setSectionVersion(final int section, final int version)
+    {
+        sectionVersions[CitizenData.getSectionIndex(section)] = version;
     }
 
     /**
@@ -17,6 +17,10 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.farmer.Field;
 import com.minecolonies.coremod.entity.ai.mobs.util.MobEventsUtils;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ColonyThreatTracker;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeCache;
+import com.minecolonies.coremod.entity.pathfinding.PassabilityCache;
+import com.minecolonies.coremod.entity.pathfinding.SectionPortalCache;
 import com.minecolonies.coremod.network.messages.*;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
@@ -24,6 +28,8 @@ import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.coremod.util.AchievementUtils;
 import com.minecolonies.coremod.util.ColonyUtils;
 import com.minecolonies.coremod.util.ServerUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -41,13 +47,15 @@ import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.World;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.*;
@@ -64,6 +72,18 @@ public class Colony implements IColony
     private static final int CONST_CHUNKSIZE = 16;
     private static final int DEFAULT_OVERALL_HAPPYNESS = 5;
 
+    /**
+     * Names of the subsystems ticked through the tick scheduler.
+     */
+    private static final String TICK_BUILDINGS   = "buildings";
+    private static final String TICK_CITIZENS    = "citizens";
+    private static final String TICK_WORK        = "workorders";
+    private static final String TICK_SUBSCRIBERS = "subscribers";
+    private static final String TICK_REQUESTS    = "requests";
+    private static final String TICK_CLEANUP     = "cleanup";
+    private static final String TICK_WAYPOINTS   = "waypoints";
+    private static final String TICK_HAPPINESS   = "happiness";
+
     /**
      * Id of the colony.
      */
@@ -108,9 +128,10 @@ public class Colony implements IColony
      */
     private final Set<Block> freeBlocks = new HashSet<>();
     /**
-     * Colony permission event handler.
+     * Colony permission event handler, created on first use.
      */
-    private final ColonyPermissionEventHandler eventHandler;
+    @Nullable
+    private ColonyPermissionEventHandler eventHandler;
     /**
      * Whether there will be a raid in this colony tonight.
      */
@@ -162,6 +183,21 @@ public class Colony implements IColony
      */
     @NotNull
     private Set<EntityPlayerMP> subscribers = new HashSet<>();
+    /**
+     * Cost of serializing the views for the subscribers.
+     */
+    @NotNull
+    private final ViewSyncMetrics viewSyncMetrics = new ViewSyncMetrics();
+    /**
+     * Subscribers which missed a request delta and get the full request data with the next view update.
+     */
+    @NotNull
+    private final Set<EntityPlayerMP> requestResyncSubscribers = new HashSet<>();
+    /**
+     * Subscribers which missed a citizen delta and get the full view of that citizen with the next view update, by citizen id.
+     */
+    @NotNull
+    private final Map<Integer, Set<EntityPlayerMP>> citizenResyncSubscribers = new HashMap<>();
     /**
      * Variables taking care of updating the views.
      */
@@ -169,6 +205,27 @@ public class Colony implements IColony
     private boolean isCitizensDirty  = false;
     private boolean isBuildingsDirty = false;
     private boolean isFieldsDirty    = false;
+    /**
+     * If the colony changed since it was saved, new colonies were never saved.
+     */
+    private boolean isSaveDirty      = true;
+    /**
+     * If the stub data of a dormant colony changed since it was saved, only saved together with all colonies.
+     */
+    private boolean isStubDirty      = false;
+    /**
+     * Whether only the stub of the colony is loaded: id, center, dimension, name, permissions, free blocks and the hours without contact.
+     */
+    private boolean dormant          = false;
+    /**
+     * Minutes the colony had no players and no loaded chunks at its buildings.
+     */
+    private int     idleMinutes      = 0;
+    /**
+     * The structures the decoration work orders of a dormant colony build, so their cached schematics are kept.
+     */
+    @NotNull
+    private Set<String> dormantStructureNames = Collections.emptySet();
     /**
      * The hiring mode in the colony.
      */
@@ -215,7 +272,37 @@ public class Colony implements IColony
     /**
      * The request manager assigned to the colony.
      */
-    private IRequestManager requestManager;
+    private StandardRequestManager requestManager;
+
+    /**
+     * Passability cache shared by all path jobs in the colony, created on first use.
+     */
+    @Nullable
+    private PassabilityCache passabilityCache;
+
+    /**
+     * Portals between the sections of the colony used to plan long trips, created on first use.
+     */
+    @Nullable
+    private SectionPortalCache portalCache;
+
+    /**
+     * Logs of the trees found by the lumberjacks of the colony, created on first use.
+     */
+    @Nullable
+    private TreeCache treeCache;
+
+    /**
+     * The entities the guards of the colony may attack, created on first use in a loaded world.
+     */
+    @Nullable
+    private ColonyThreatTracker threatTracker;
+
+    /**
+     * Runs the tick work of the colony within its time budget.
+     */
+    @NotNull
+    private final ColonyTickScheduler tickScheduler = new ColonyTickScheduler();
 
     /**
      * Constructor for a newly created Colony.
@@ -247,10 +334,6 @@ public class Colony implements IColony
         this.permissions = new Permissions(this);
         this.colonyAchievements = new ArrayList<>();
 
-        // Register a new event handler
-        eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
-
         for (final String s : Configurations.gameplay.freeToInteractBlocks)
         {
             final Block block = Block.getBlockFromName(s);
@@ -287,6 +370,93 @@ public class Colony implements IColony
         return c;
     }
 
+    /**
+     * Load the stub of a saved colony, without its buildings, citizens, fields, work and requests.
+     * The colony is dormant until {@link #hydrate(NBTTagCompound)} loads the rest.
+     *
+     * @param compound The NBT compound containing the colony's data.
+     * @param world    The world the colony exists in.
+     * @return loaded dormant colony.
+     */
+    @NotNull
+    public static Colony loadDormantColony(@NotNull final NBTTagCompound compound, @NotNull final World world)
+    {
+        final int id = compound.getInteger(TAG_ID);
+        @NotNull final Colony c = new Colony(id, world);
+        c.setName(compound.getString(TAG_NAME));
+        c.center = BlockPosUtil.readFromNBT(compound, TAG_CENTER);
+        c.permissions.loadPermissions(compound);
+        c.lastContactInHours = compound.getInteger(TAG_ABANDONED);
+        c.readFreeToInteractFromNBT(compound);
+        c.dormantStructureNames = WorkManager.readDecorationStructureNames(compound.getCompoundTag(TAG_WORK));
+        c.dormant = true;
+        return c;
+    }
+
+    /**
+     * Drop the buildings, citizens, fields, work and requests of the colony after its full state was written, only the stub stays loaded.
+     * The same colony is loaded fully again by {@link #hydrate(NBTTagCompound)}, so references to it held elsewhere stay valid.
+     *
+     * @param compound the full state of the colony as it was written.
+     */
+    void makeDormant(@NotNull final NBTTagCompound compound)
+    {
+        dormantStructureNames = WorkManager.readDecorationStructureNames(compound.getCompoundTag(TAG_WORK));
+
+        citizens.clear();
+        buildings.clear();
+        fields.clear();
+        wayPoints.clear();
+        colonyAchievements.clear();
+        workManager.clear();
+        townHall = null;
+        wareHouse = null;
+        requestManager = null;
+        topCitizenId = 0;
+
+        passabilityCache = null;
+        portalCache = null;
+        treeCache = null;
+        threatTracker = null;
+
+        idleMinutes = 0;
+        dormant = true;
+    }
+
+    /**
+     * Load the full state of a dormant colony from its saved data.
+     * The stub data of the colony is newer than the saved data and replaces it.
+     *
+     * @param compound the saved data of the colony, changed by this.
+     */
+    void hydrate(@NotNull final NBTTagCompound compound)
+    {
+        final boolean wasSaveDirty = isSaveDirty;
+        writeStubToNBT(compound);
+
+        dormant = false;
+        idleMinutes = 0;
+        dormantStructureNames = Collections.emptySet();
+        setRequestManager();
+        readFromNBT(compound);
+
+        isSaveDirty = wasSaveDirty || isStubDirty;
+        isStubDirty = false;
+    }
+
+    /**
+     * Write the stub data of the colony over its saved data.
+     *
+     * @param compound the saved data of the colony.
+     */
+    void writeStubToNBT(@NotNull final NBTTagCompound compound)
+    {
+        compound.setString(TAG_NAME, name);
+        BlockPosUtil.writeToNBT(compound, TAG_CENTER, center);
+        permissions.savePermissions(compound);
+        compound.setInteger(TAG_ABANDONED, lastContactInHours);
+    }
+
     /**
      * Sets the request manager on colony load.
      */
@@ -385,21 +555,7 @@ public class Colony implements IColony
         felledTrees = lumberjackStatisticsCompound.getInteger(TAG_LUMBERJACK_TREES);
         plantedSaplings = lumberjackStatisticsCompound.getInteger(TAG_LUMBERJACK_SAPLINGS);
 
-        // Free blocks
-        final NBTTagList freeBlockTagList = compound.getTagList(TAG_FREE_BLOCKS, NBT.TAG_STRING);
-        for (int i = 0; i < freeBlockTagList.tagCount(); ++i)
-        {
-            freeBlocks.add(Block.getBlockFromName(freeBlockTagList.getStringTagAt(i)));
-        }
-
-        // Free positions
-        final NBTTagList freePositionTagList = compound.getTagList(TAG_FREE_POSITIONS, NBT.TAG_COMPOUND);
-        for (int i = 0; i < freePositionTagList.tagCount(); ++i)
-        {
-            final NBTTagCompound blockTag = freePositionTagList.getCompoundTagAt(i);
-            final BlockPos block = BlockPosUtil.readFromNBT(blockTag, TAG_FREE_POSITIONS);
-            freePositions.add(block);
-        }
+        readFreeToInteractFromNBT(compound);
 
         if (compound.hasKey(TAG_HAPPINESS))
         {
@@ -418,6 +574,30 @@ public class Colony implements IColony
         }
     }
 
+    /**
+     * Read the blocks and positions players can freely interact with, they are part of the stub because the permission checks need them.
+     *
+     * @param compound compound to read from.
+     */
+    private void readFreeToInteractFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        // Free blocks
+        final NBTTagList freeBlockTagList = compound.getTagList(TAG_FREE_BLOCKS, NBT.TAG_STRING);
+        for (int i = 0; i < freeBlockTagList.tagCount(); ++i)
+        {
+            freeBlocks.add(Block.getBlockFromName(freeBlockTagList.getStringTagAt(i)));
+        }
+
+        // Free positions
+        final NBTTagList freePositionTagList = compound.getTagList(TAG_FREE_POSITIONS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < freePositionTagList.tagCount(); ++i)
+        {
+            final NBTTagCompound blockTag = freePositionTagList.getCompoundTagAt(i);
+            final BlockPos block = BlockPosUtil.readFromNBT(blockTag, TAG_FREE_POSITIONS);
+            freePositions.add(block);
+        }
+    }
+
     /**
      * Add a Building to the Colony.
      *
@@ -459,6 +639,11 @@ public class Colony implements IColony
      */
     public ColonyPermissionEventHandler getEventHandler()
     {
+        if (eventHandler == null)
+        {
+            // The handler is called by the permission event dispatcher for events inside of the colony.
+            eventHandler = new ColonyPermissionEventHandler(this);
+        }
         return eventHandler;
     }
 
@@ -469,6 +654,11 @@ public class Colony implements IColony
      */
     protected void writeToNBT(@NotNull final NBTTagCompound compound)
     {
+        if (dormant)
+        {
+            throw new IllegalStateException(String.format("Colony #%d is dormant, only its stub can be written", id));
+        }
+
         //  Core attributes
         compound.setInteger(TAG_ID, id);
         compound.setInteger(TAG_DIMENSION, dimensionId);
@@ -748,6 +938,7 @@ public class Colony implements IColony
         }
 
         world = null;
+        threatTracker = null;
     }
 
     /**
@@ -757,17 +948,53 @@ public class Colony implements IColony
      */
     public void onServerTick(@NotNull final TickEvent.ServerTickEvent event)
     {
-        for (@NotNull final AbstractBuilding b : buildings.values())
+        if (dormant)
         {
-            b.onServerTick(event);
+            //  Nobody is around a dormant colony, only the time without contact goes on.
+            if (event.phase == TickEvent.Phase.END)
+            {
+                countTickWithoutContact();
+            }
+            return;
         }
 
-        getRequestManager().update();
+        if (event.phase == TickEvent.Phase.START)
+        {
+            tickScheduler.startTick();
+        }
+
+        tickScheduler.run(TICK_BUILDINGS, () ->
+        {
+            for (@NotNull final AbstractBuilding b : buildings.values())
+            {
+                b.onServerTick(event);
+            }
+        });
+
+        tickScheduler.schedule(TICK_REQUESTS, () -> getRequestManager().update());
 
         if (event.phase == TickEvent.Phase.END)
         {
-            updateSubscribers();
+            tickScheduler.run(TICK_SUBSCRIBERS, this::updateSubscribers);
+            tickScheduler.runDeferred();
+        }
+    }
+
+    /**
+     * Count a server tick without players of the colony online.
+     */
+    private void countTickWithoutContact()
+    {
+        if (ticksPassed >= TICKS_HOUR)
+        {
+            ticksPassed = 0;
+            lastContactInHours++;
+            if (dormant)
+            {
+                isStubDirty = true;
+            }
         }
+        ticksPassed++;
     }
 
     /**
@@ -781,6 +1008,12 @@ public class Colony implements IColony
             return;
         }
 
+        //  Whatever changed for the views also has to be saved, before the changes are cleared below.
+        if (isCitizensDirty || isBuildingsDirty || isFieldsDirty || permissions.isDirty() || workManager.isDirty())
+        {
+            markSaveDirty();
+        }
+
         //  Recompute subscribers every frame (for now)
         //  Subscribers = Owners + Players within (double working town hall range)
         @NotNull final Set<EntityPlayerMP> oldSubscribers = subscribers;
@@ -794,12 +1027,7 @@ public class Colony implements IColony
 
         if (subscribers.isEmpty())
         {
-            if (ticksPassed >= TICKS_HOUR)
-            {
-                ticksPassed = 0;
-                lastContactInHours++;
-            }
-            ticksPassed++;
+            countTickWithoutContact();
         }
         else
         {
@@ -863,6 +1091,15 @@ public class Colony implements IColony
                 Structures.clearDirty();
             }
         }
+        else
+        {
+            //  Whoever subscribes next gets the full request data, so nobody needs the tracked changes.
+            requestManager.discardChanges();
+            requestResyncSubscribers.clear();
+            citizenResyncSubscribers.clear();
+        }
+
+        viewSyncMetrics.endTick();
 
         isFieldsDirty = false;
         isDirty = false;
@@ -876,16 +1113,55 @@ public class Colony implements IColony
 
     private void sendColonyViewPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers)
     {
-        if (isDirty || hasNewSubscribers)
+        if (isDirty || hasNewSubscribers || !requestResyncSubscribers.isEmpty())
         {
+            final List<EntityPlayerMP> newSubscribers = new ArrayList<>();
+            final List<EntityPlayerMP> resyncedSubscribers = new ArrayList<>();
+            final List<EntityPlayerMP> updatedSubscribers = new ArrayList<>();
             for (final EntityPlayerMP player : subscribers)
             {
-                final boolean isNewSubscriber = !oldSubscribers.contains(player);
-                if (isDirty || isNewSubscriber)
+                if (!oldSubscribers.contains(player))
+                {
+                    newSubscribers.add(player);
+                }
+                else if (requestResyncSubscribers.contains(player))
                 {
-                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(this, isNewSubscriber), player);
+                    resyncedSubscribers.add(player);
+                }
+                else if (isDirty)
+                {
+                    updatedSubscribers.add(player);
                 }
             }
+            requestResyncSubscribers.clear();
+
+            //  The request delta is taken first, so the full request data sent afterwards has the version following it.
+            if (!updatedSubscribers.isEmpty())
+            {
+                final NBTTagCompound requestDelta = requestManager.serializeDelta();
+                sendView(updatedSubscribers,
+                  buf -> ColonyView.serializeNetworkData(this, buf, false, requestDelta),
+                  payload -> new ColonyViewMessage(this, false, payload));
+            }
+            sendView(resyncedSubscribers,
+              buf -> ColonyView.serializeNetworkData(this, buf, false, null),
+              payload -> new ColonyViewMessage(this, false, payload));
+            sendView(newSubscribers,
+              buf -> ColonyView.serializeNetworkData(this, buf, true, null),
+              payload -> new ColonyViewMessage(this, true, payload));
+        }
+    }
+
+    /**
+     * Send the full request data with the next view update to a subscriber which missed a request delta.
+     *
+     * @param player the subscriber.
+     */
+    public void requestRequestResync(@NotNull final EntityPlayerMP player)
+    {
+        if (subscribers.contains(player))
+        {
+            requestResyncSubscribers.add(player);
         }
     }
 
@@ -937,17 +1213,48 @@ public class Colony implements IColony
      */
     private void sendCitizenPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers)
     {
-        if (isCitizensDirty || hasNewSubscribers)
+        if (isCitizensDirty || hasNewSubscribers || !citizenResyncSubscribers.isEmpty())
         {
             for (@NotNull final CitizenData citizen : citizens.values())
             {
-                if (citizen.isDirty() || hasNewSubscribers)
+                final Set<EntityPlayerMP> resyncs = citizenResyncSubscribers.getOrDefault(citizen.getId(), Collections.emptySet());
+                final List<EntityPlayerMP> fullTargets = new ArrayList<>();
+                final List<EntityPlayerMP> deltaTargets = new ArrayList<>();
+                for (final EntityPlayerMP player : subscribers)
                 {
-                    subscribers.stream()
-                      .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                      .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(this, citizen), player));
+                    if (!oldSubscribers.contains(player) || resyncs.contains(player))
+                    {
+                        fullTargets.add(player);
+                    }
+                    else if (citizen.isDirty())
+                    {
+                        deltaTargets.add(player);
+                    }
                 }
+
+                //  The delta is taken first, so the full view sent afterwards carries the versions following it.
+                sendView(deltaTargets,
+                  citizen::serializeViewNetworkDelta,
+                  payload -> new ColonyViewCitizenViewMessage(this, citizen, payload));
+                sendView(fullTargets,
+                  citizen::serializeViewNetworkData,
+                  payload -> new ColonyViewCitizenViewMessage(this, citizen, payload));
             }
+            citizenResyncSubscribers.clear();
+        }
+    }
+
+    /**
+     * Send the full view of a citizen with the next view update to a subscriber which missed one of its deltas.
+     *
+     * @param player    the subscriber.
+     * @param citizenId the id of the citizen.
+     */
+    public void requestCitizenResync(@NotNull final EntityPlayerMP player, final int citizenId)
+    {
+        if (subscribers.contains(player) && citizens.containsKey(citizenId))
+        {
+            citizenResyncSubscribers.computeIfAbsent(citizenId, id -> new HashSet<>()).add(player);
         }
     }
 
@@ -965,9 +1272,9 @@ public class Colony implements IColony
             {
                 if (building.isDirty() || hasNewSubscribers)
                 {
-                    subscribers.stream()
-                      .filter(player -> building.isDirty() || !oldSubscribers.contains(player))
-                      .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    sendView(getViewTargets(oldSubscribers, building.isDirty()),
+                      building::serializeToView,
+                      payload -> new ColonyViewBuildingViewMessage(building, payload));
                 }
             }
         }
@@ -986,12 +1293,68 @@ public class Colony implements IColony
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    subscribers.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    sendView(subscribers, building::serializeToView, payload -> new ColonyViewBuildingViewMessage(building, payload));
                 }
             }
         }
     }
 
+    /**
+     * Get the subscribers a view has to be sent to.
+     *
+     * @param oldSubscribers the existing subscribers.
+     * @param isDirty        if the view changed, then it is sent to all subscribers.
+     * @return the subscribers.
+     */
+    @NotNull
+    private Collection<EntityPlayerMP> getViewTargets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean isDirty)
+    {
+        if (isDirty)
+        {
+            return subscribers;
+        }
+        return subscribers.stream().filter(player -> !oldSubscribers.contains(player)).collect(Collectors.toList());
+    }
+
+    /**
+     * Serialize a view once into a pooled buffer and send the same payload to all given players.
+     * <p>
+     * The network wrapper encodes the message while sending it, so the payload can be released as soon as all messages are sent.
+     *
+     * @param players    the players to send the view to.
+     * @param serializer writes the view.
+     * @param message    creates the message carrying the payload.
+     */
+    private void sendView(
+                           @NotNull final Collection<EntityPlayerMP> players,
+                           @NotNull final Consumer<ByteBuf> serializer,
+                           @NotNull final Function<ByteBuf, IMessage> message)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ByteBuf payload = PooledByteBufAllocator.DEFAULT.buffer();
+        try
+        {
+            serializer.accept(payload);
+            viewSyncMetrics.onSerialized(System.nanoTime() - start, payload.readableBytes());
+
+            final IMessage shared = message.apply(payload);
+            for (@NotNull final EntityPlayerMP player : players)
+            {
+                MineColonies.getNetwork().sendTo(shared, player);
+            }
+            viewSyncMetrics.onSent(players.size());
+        }
+        finally
+        {
+            payload.release();
+        }
+    }
+
     /**
      * Sends packages to update the schematics.
      *
@@ -1090,7 +1453,7 @@ public class Colony implements IColony
      */
     public void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
     {
-        if (event.world != getWorld())
+        if (dormant || event.world != getWorld())
         {
             /**
              * If the event world is not the colony world ignore. This might happen in interactions with other mods.
@@ -1101,68 +1464,81 @@ public class Colony implements IColony
 
         if (event.phase == TickEvent.Phase.START)
         {
-            //  Detect CitizenData whose EntityCitizen no longer exist in world, and clear the mapping
-            //  Consider handing this in an ChunkUnload Event instead?
-            citizens.values()
-              .stream()
-              .filter(ColonyUtils::isCitizenMissingFromWorld)
-              .forEach(CitizenData::clearCitizenEntity);
-
-            //  Cleanup disappeared citizens
-            //  It would be really nice if we didn't have to do this... but Citizens can disappear without dying!
-            //  Every CITIZEN_CLEANUP_TICK_INCREMENT, cleanup any 'lost' citizens
-            if (shallUpdate(event.world, CITIZEN_CLEANUP_TICK_INCREMENT) && areAllColonyChunksLoaded(event) && townHall != null)
-            {
-                //  All chunks within a good range of the colony should be loaded, so all citizens should be loaded
-                //  If we don't have any references to them, destroy the citizen
-                citizens.values().forEach(this::spawnCitizenIfNull);
-            }
+            tickScheduler.run(TICK_CITIZENS, () -> updateCitizens(event));
 
             //  Cleanup Buildings whose Blocks have gone AWOL
-            cleanUpBuildings(event);
-
-            //  Spawn Citizens
-            if (townHall != null && citizens.size() < maxCitizens)
-            {
-                int respawnInterval = Configurations.gameplay.citizenRespawnInterval * TICKS_SECOND;
-                respawnInterval -= (SECONDS_A_MINUTE * townHall.getBuildingLevel());
-
-                if ((event.world.getTotalWorldTime() + 1) % (respawnInterval + 1) == 0)
-                {
-                    spawnCitizen();
-                }
-            }
-
-            if (shallUpdate(world, TICKS_SECOND)
-                  && event.world.getDifficulty() != EnumDifficulty.PEACEFUL
-                  && Configurations.gameplay.doBarbariansSpawn
-                  && canHaveBarbEvents
-                  && !world.getMinecraftServer().getPlayerList().getPlayers()
-                        .stream().filter(permissions::isSubscriber).collect(Collectors.toList()).isEmpty()
-                  && MobEventsUtils.isItTimeToRaid(event.world, this))
-            {
-                MobEventsUtils.barbarianEvent(event.world, this);
-            }
+            tickScheduler.schedule(TICK_CLEANUP, this::cleanUpBuildings);
         }
 
         //  Tick Buildings
-        for (@NotNull final AbstractBuilding building : buildings.values())
+        tickScheduler.run(TICK_BUILDINGS, () ->
         {
-            building.onWorldTick(event);
-        }
+            for (@NotNull final AbstractBuilding building : buildings.values())
+            {
+                building.onWorldTick(event);
+            }
+        });
 
         if (isDay && !world.isDaytime())
         {
             isDay = false;
-            updateOverallHappiness();
+            tickScheduler.schedule(TICK_HAPPINESS, this::updateOverallHappiness);
         }
         else if (!isDay && world.isDaytime())
         {
             isDay = true;
         }
 
-        updateWayPoints();
-        workManager.onWorldTick(event);
+        tickScheduler.schedule(TICK_WAYPOINTS, this::updateWayPoints);
+        tickScheduler.run(TICK_WORK, () -> workManager.onWorldTick(event));
+    }
+
+    /**
+     * Clear citizens missing from the world, respawn and spawn citizens and start raids, once per world tick.
+     *
+     * @param event {@link TickEvent.WorldTickEvent}
+     */
+    private void updateCitizens(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        //  Detect CitizenData whose EntityCitizen no longer exist in world, and clear the mapping
+        //  Consider handing this in an ChunkUnload Event instead?
+        citizens.values()
+          .stream()
+          .filter(ColonyUtils::isCitizenMissingFromWorld)
+          .forEach(CitizenData::clearCitizenEntity);
+
+        //  Cleanup disappeared citizens
+        //  It would be really nice if we didn't have to do this... but Citizens can disappear without dying!
+        //  Every CITIZEN_CLEANUP_TICK_INCREMENT, cleanup any 'lost' citizens
+        if (shallUpdate(event.world, CITIZEN_CLEANUP_TICK_INCREMENT) && areAllColonyChunksLoaded(event) && townHall != null)
+        {
+            //  All chunks within a good range of the colony should be loaded, so all citizens should be loaded
+            //  If we don't have any references to them, destroy the citizen
+            citizens.values().forEach(this::spawnCitizenIfNull);
+        }
+
+        //  Spawn Citizens
+        if (townHall != null && citizens.size() < maxCitizens)
+        {
+            int respawnInterval = Configurations.gameplay.citizenRespawnInterval * TICKS_SECOND;
+            respawnInterval -= (SECONDS_A_MINUTE * townHall.getBuildingLevel());
+
+            if ((event.world.getTotalWorldTime() + 1) % (respawnInterval + 1) == 0)
+            {
+                spawnCitizen();
+            }
+        }
+
+        if (shallUpdate(world, TICKS_SECOND)
+              && event.world.getDifficulty() != EnumDifficulty.PEACEFUL
+              && Configurations.gameplay.doBarbariansSpawn
+              && canHaveBarbEvents
+              && !world.getMinecraftServer().getPlayerList().getPlayers()
+                    .stream().filter(permissions::isSubscriber).collect(Collectors.toList()).isEmpty()
+              && MobEventsUtils.isItTimeToRaid(event.world, this))
+        {
+            MobEventsUtils.barbarianEvent(event.world, this);
+        }
     }
 
     /**
@@ -1193,8 +1569,13 @@ public class Colony implements IColony
         return true;
     }
 
-    private void cleanUpBuildings(@NotNull final TickEvent.WorldTickEvent event)
+    private void cleanUpBuildings()
     {
+        if (world == null)
+        {
+            return;
+        }
+
         @Nullable final List<AbstractBuilding> removedBuildings = new ArrayList<>();
 
         //Need this list, we may enter he while we add a building in the real world.
@@ -1203,7 +1584,7 @@ public class Colony implements IColony
         for (@NotNull final AbstractBuilding building : tempBuildings)
         {
             final BlockPos loc = building.getLocation();
-            if (event.world.isBlockLoaded(loc) && !building.isMatchingBlock(event.world.getBlockState(loc).getBlock()))
+            if (world.isBlockLoaded(loc) && !building.isMatchingBlock(world.getBlockState(loc).getBlock()))
             {
                 //  Sanity cleanup
                 removedBuildings.add(building);
@@ -1214,9 +1595,9 @@ public class Colony implements IColony
 
         for (@NotNull final Field field : tempFields)
         {
-            if (event.world.isBlockLoaded(field.getLocation()))
+            if (world.isBlockLoaded(field.getLocation()))
             {
-                final ScarecrowTileEntity scarecrow = (ScarecrowTileEntity) event.world.getTileEntity(field.getID());
+                final ScarecrowTileEntity scarecrow = (ScarecrowTileEntity) world.getTileEntity(field.getID());
                 if (scarecrow == null)
                 {
                     fields.remove(field.getID());
@@ -1417,6 +1798,131 @@ public class Colony implements IColony
         return requestManager;
     }
 
+    /**
+     * Get the passability cache shared by the path jobs running in this colony.
+     *
+     * @return the cache.
+     */
+    @NotNull
+    public PassabilityCache getPassabilityCache()
+    {
+        if (passabilityCache == null)
+        {
+            passabilityCache = new PassabilityCache(center, Configurations.gameplay.workingRangeTownHall);
+        }
+        return passabilityCache;
+    }
+
+    /**
+     * Get the cache of the trees found by the lumberjacks of this colony.
+     *
+     * @return the cache.
+     */
+    @NotNull
+    public TreeCache getTreeCache()
+    {
+        if (treeCache == null)
+        {
+            treeCache = new TreeCache(center, Configurations.gameplay.workingRangeTownHall);
+        }
+        return treeCache;
+    }
+
+    /**
+     * Get the tracker of the entities the guards of this colony may attack.
+     * Only available while the world of the colony is loaded.
+     *
+     * @return the tracker.
+     */
+    @NotNull
+    public ColonyThreatTracker getThreatTracker()
+    {
+        if (threatTracker == null)
+        {
+            threatTracker = new ColonyThreatTracker(world, center);
+        }
+        return threatTracker;
+    }
+
+    /**
+     * Get the scheduler running the tick work of this colony.
+     *
+     * @return the scheduler.
+     */
+    @NotNull
+    public ColonyTickScheduler getTickScheduler()
+    {
+        return tickScheduler;
+    }
+
+    /**
+     * Get the threat tracker if guards used it already.
+     *
+     * @return the tracker or null.
+     */
+    @Nullable
+    public ColonyThreatTracker getThreatTrackerIfPresent()
+    {
+        return threatTracker;
+    }
+
+    /**
+     * Get the cost of serializing the views of this colony for its subscribers.
+     *
+     * @return the metrics.
+     */
+    @NotNull
+    public ViewSyncMetrics getViewSyncMetrics()
+    {
+        return viewSyncMetrics;
+    }
+
+    /**
+     * Get the portal cache used by path jobs to plan long trips within the colony.
+     *
+     * @return the cache.
+     */
+    @NotNull
+    public SectionPortalCache getPortalCache()
+    {
+        if (portalCache == null)
+        {
+            portalCache = new SectionPortalCache();
+        }
+        return portalCache;
+    }
+
+    /**
+     * Called when a block inside of the colony changed.
+     *
+     * @param pos      the position of the block.
+     * @param oldState the old state.
+     * @param newState the new state.
+     */
+    public void onBlockChanged(@NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState)
+    {
+        if (world != null && treeCache != null && (TreeCache.isLog(world, pos, oldState) || TreeCache.isLog(world, pos, newState)))
+        {
+            treeCache.invalidate(pos);
+        }
+
+        if (world == null || (passabilityCache == null && portalCache == null)
+              || PassabilityCache.computeFlags(world, pos, oldState) == PassabilityCache.computeFlags(world, pos, newState))
+        {
+            return;
+        }
+
+        if (passabilityCache != null)
+        {
+            passabilityCache.invalidate(pos);
+        }
+
+        if (portalCache != null)
+        {
+            portalCache.invalidate(pos);
+        }
+    }
+
     @Override
     public boolean hasWillRaidTonight()
     {
@@ -1428,10 +1934,112 @@ public class Colony implements IColony
      */
     public void markDirty()
     {
-        ColonyManager.markDirty();
+        markSaveDirty();
         isDirty = true;
     }
 
+    /**
+     * Marks the colony to be saved with the next save, without updating the views.
+     */
+    public void markSaveDirty()
+    {
+        isSaveDirty = true;
+        ColonyManager.markDirty();
+    }
+
+    /**
+     * Check if the colony changed since it was saved.
+     *
+     * @return true if so.
+     */
+    public boolean isSaveDirty()
+    {
+        return isSaveDirty;
+    }
+
+    /**
+     * Called when the colony got saved.
+     */
+    public void clearSaveDirty()
+    {
+        isSaveDirty = false;
+        isStubDirty = false;
+    }
+
+    /**
+     * Check if the stub data of a dormant colony changed since it was saved, like the hours without contact.
+     *
+     * @return true if so.
+     */
+    public boolean isStubDirty()
+    {
+        return isStubDirty;
+    }
+
+    /**
+     * Check if only the stub of the colony is loaded.
+     *
+     * @return true if the colony is dormant.
+     */
+    public boolean isDormant()
+    {
+        return dormant;
+    }
+
+    /**
+     * Get the structures the decoration work orders of a dormant colony build, the work manager of a dormant colony is empty.
+     *
+     * @return the structure names.
+     */
+    @NotNull
+    public Set<String> getDormantStructureNames()
+    {
+        return Collections.unmodifiableSet(dormantStructureNames);
+    }
+
+    /**
+     * Check whether the colony has players or loaded chunks at its center, buildings or citizens, to be called once a minute.
+     *
+     * @return the minutes the colony had neither.
+     */
+    int updateIdleMinutes()
+    {
+        if (dormant || !subscribers.isEmpty() || isAnyChunkLoaded())
+        {
+            idleMinutes = 0;
+        }
+        else
+        {
+            idleMinutes++;
+        }
+        return idleMinutes;
+    }
+
+    private boolean isAnyChunkLoaded()
+    {
+        if (world == null || world.isBlockLoaded(center))
+        {
+            return true;
+        }
+
+        for (@NotNull final BlockPos pos : buildings.keySet())
+        {
+            if (world.isBlockLoaded(pos))
+            {
+                return true;
+            }
+        }
+
+        for (@NotNull final CitizenData citizen : citizens.values())
+        {
+            if (citizen.getCitizenEntity() != null && !ColonyUtils.isCitizenMissingFromWorld(citizen))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean canBeAutoDeleted()
     {
@@ -1790,6 +2398,7 @@ public class Colony implements IColony
         {
             addBuilding(building);
             tileEntity.setBuilding(building);
+            ColonyManager.onBuildingAdded(this, building);
 
             Log.getLogger().info(String.format("Colony %d - new AbstractBuilding for %s at %s",
               getID(),
@@ -1814,7 +2423,7 @@ public class Colony implements IColony
         }
 
         calculateMaxCitizens();
-        ColonyManager.markDirty();
+        markSaveDirty();
 
         return building;
     }
@@ -1858,6 +2467,7 @@ public class Colony implements IColony
     {
         if (buildings.remove(building.getID()) != null)
         {
+            ColonyManager.onBuildingRemoved(this, building);
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(this, building.getID()), player);
@@ -1888,7 +2498,7 @@ public class Colony implements IColony
 
         calculateMaxCitizens();
 
-        ColonyManager.markDirty();
+        markSaveDirty();
     }
 
     /**
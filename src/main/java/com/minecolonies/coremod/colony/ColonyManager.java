@@ -12,19 +12,19 @@ import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.util.AchievementUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
@@ -32,10 +32,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Singleton class that links colonies to minecraft.
@@ -47,16 +46,6 @@ public final class ColonyManager
      */
     private static final String FILENAME_MINECOLONIES_PATH = "minecolonies";
 
-    /**
-     * The file name of the minecolonies.
-     */
-    private static final String FILENAME_MINECOLONIES = "colonies.dat";
-
-    /**
-     * The file name pattern of the minecolonies backup.
-     */
-    private static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.dat";
-
     /**
      * The tag of the colonies.
      */
@@ -85,12 +74,43 @@ public final class ColonyManager
      */
     @NotNull
     private static final ColonyList<ColonyView>     colonyViews           = new ColonyList<>();
+    /**
+     * Grid over the colonies of each world, for position based lookups.
+     */
+    @NotNull
+    private static final ColonySpatialIndex<Colony>     colonyIndex     = new ColonySpatialIndex<>(Configurations.gameplay.workingRangeTownHall);
+    /**
+     * Grid over the colony views, for position based lookups on the client.
+     */
+    @NotNull
+    private static final ColonySpatialIndex<ColonyView> colonyViewIndex = new ColonySpatialIndex<>(Configurations.gameplay.workingRangeTownHall);
+    /**
+     * The colony owning the building at a position, by world.
+     */
+    @NotNull
+    private static final Map<Integer, Map<BlockPos, Colony>> buildingColonies = new HashMap<>();
 
     /**
      * A buffer value to be sure to be outside of the colony.
      */
     private static final int BUFFER = 10;
 
+    /**
+     * Minimum server ticks between two saves of the changed colonies.
+     */
+    private static final int MIN_TICKS_BETWEEN_SAVES = 100;
+
+    /**
+     * Server ticks between two checks for colonies which can become dormant, one minute.
+     */
+    private static final int TICKS_BETWEEN_DORMANCY_CHECKS = 1200;
+
+    /**
+     * Ids of the colonies deleted since the last save, their files are deleted with the next save.
+     */
+    @NotNull
+    private static final Set<Integer> deletedColonies = new HashSet<>();
+
     /**
      * The last colony id.
      */
@@ -103,6 +123,24 @@ public final class ColonyManager
      * Whether the colonyManager should persist data.
      */
     private static boolean saveNeeded;
+    /**
+     * Server ticks since the last save.
+     */
+    private static int     ticksSinceSave;
+    /**
+     * Server ticks since the last check for colonies which can become dormant.
+     */
+    private static int     ticksSinceDormancyCheck;
+    /**
+     * Amount of dormant colonies loaded fully and of colonies made dormant, for monitoring.
+     */
+    private static long    hydrations;
+    private static long    evictions;
+    /**
+     * The files the colonies are saved in, while a world is loaded.
+     */
+    @Nullable
+    private static ColonyStorage storage;
 
     /**
      * Indicate if a schematic have just been downloaded.
@@ -153,6 +191,65 @@ public final class ColonyManager
         if (colony.getDimension() >= 0)
         {
             coloniesByWorld.computeIfAbsent(colony.getDimension(), ArrayList::new).add(colony);
+            colonyIndex.add(colony.getDimension(), colony);
+            addBuildingsByWorld(colony);
+        }
+    }
+
+    private static void addBuildingsByWorld(final Colony colony)
+    {
+        for (@NotNull final BlockPos buildingPos : colony.getBuildings().keySet())
+        {
+            buildingColonies.computeIfAbsent(colony.getDimension(), HashMap::new).put(buildingPos, colony);
+        }
+    }
+
+    private static void removeColonyByWorld(final Colony colony)
+    {
+        final List<Colony> coloniesInWorld = coloniesByWorld.get(colony.getDimension());
+        if (coloniesInWorld != null)
+        {
+            coloniesInWorld.remove(colony);
+        }
+        colonyIndex.remove(colony);
+        removeBuildingsByWorld(colony);
+    }
+
+    private static void removeBuildingsByWorld(final Colony colony)
+    {
+        final Map<BlockPos, Colony> buildingsInWorld = buildingColonies.get(colony.getDimension());
+        if (buildingsInWorld != null)
+        {
+            buildingsInWorld.values().removeIf(owner -> owner == colony);
+        }
+    }
+
+    /**
+     * Called by a colony when it got a new building.
+     *
+     * @param colony   the colony.
+     * @param building the building.
+     */
+    public static void onBuildingAdded(@NotNull final Colony colony, @NotNull final AbstractBuilding building)
+    {
+        if (colony.getDimension() >= 0)
+        {
+            buildingColonies.computeIfAbsent(colony.getDimension(), HashMap::new).put(building.getID(), colony);
+        }
+    }
+
+    /**
+     * Called by a colony when a building got removed.
+     *
+     * @param colony   the colony.
+     * @param building the building.
+     */
+    public static void onBuildingRemoved(@NotNull final Colony colony, @NotNull final AbstractBuilding building)
+    {
+        final Map<BlockPos, Colony> buildingsInWorld = buildingColonies.get(colony.getDimension());
+        if (buildingsInWorld != null)
+        {
+            buildingsInWorld.remove(building.getID(), colony);
         }
     }
 
@@ -208,10 +305,10 @@ public final class ColonyManager
                 }
             }
 
-            MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
             Log.getLogger().info("Deleting colony: " + colony.getID());
             colonies.remove(id);
-            coloniesByWorld.get(colony.getDimension()).remove(colony);
+            deletedColonies.add(id);
+            removeColonyByWorld(colony);
 
             Log.getLogger().info("Done with " + id);
         }
@@ -223,58 +320,164 @@ public final class ColonyManager
     }
 
     /**
-     * Get Colony by UUID.
+     * Get Colony by UUID, with its full state loaded if it was dormant.
      *
      * @param id ID of colony.
      * @return Colony with given ID.
      */
     public static Colony getColony(final int id)
+    {
+        final Colony colony = colonies.get(id);
+        return colony == null ? null : hydrateColony(colony);
+    }
+
+    /**
+     * Get Colony by id without loading the full state of a dormant colony.
+     * Only the stub data of the colony may be used: id, center, dimension, name, permissions, free blocks and the hours without contact.
+     *
+     * @param id ID of colony.
+     * @return Colony with given ID, maybe dormant.
+     */
+    @Nullable
+    public static Colony getColonyOrStub(final int id)
     {
         return colonies.get(id);
     }
 
     /**
-     * Syncs the achievements for all colonies.
+     * Load the full state of a dormant colony from its file, nothing happens if the colony is not dormant.
+     *
+     * @param colony the colony.
+     * @return the same colony.
      */
-    public static void syncAllColoniesAchievements()
+    @NotNull
+    public static Colony hydrateColony(@NotNull final Colony colony)
     {
-        colonies.forEach(AchievementUtils::syncAchievements);
+        if (!colony.isDormant())
+        {
+            return colony;
+        }
+
+        @Nullable final NBTTagCompound compound = getStorage().readColony(colony.getID());
+        if (compound == null)
+        {
+            Log.getLogger().error(String.format("Could not load dormant colony #%d, it stays dormant", colony.getID()));
+            return colony;
+        }
+
+        colony.hydrate(compound);
+        addBuildingsByWorld(colony);
+        hydrations++;
+        return colony;
     }
 
     /**
-     * Get a AbstractBuilding by a World and coordinates.
+     * Reduce a colony nobody is around to its stub, after handing its full state over to be saved.
      *
-     * @param w   World.
-     * @param pos Block position.
-     * @return AbstractBuilding at the given location.
+     * @param colony the colony, not dormant.
      */
-    public static AbstractBuilding getBuilding(@NotNull final World w, @NotNull final BlockPos pos)
+    private static void makeDormant(@NotNull final Colony colony)
     {
-        @Nullable final Colony colony = getColony(w, pos);
-        if (colony != null)
+        @NotNull final NBTTagCompound compound = new NBTTagCompound();
+        colony.writeToNBT(compound);
+        getStorage().writeColony(colony.getID(), compound);
+        colony.clearSaveDirty();
+
+        removeBuildingsByWorld(colony);
+        colony.makeDormant(compound);
+        evictions++;
+    }
+
+    /**
+     * Make the colonies dormant which had no players and no loaded chunks for the configured time, to be called once a minute.
+     */
+    private static void makeIdleColoniesDormant()
+    {
+        if (!Configurations.gameplay.dormantColonies)
         {
-            final AbstractBuilding building = colony.getBuilding(pos);
-            if (building != null)
+            return;
+        }
+
+        for (@NotNull final Colony colony : colonies.getCopyAsList())
+        {
+            if (!colony.isDormant() && colony.updateIdleMinutes() >= Configurations.gameplay.dormantColonyDelay)
             {
-                return building;
+                makeDormant(colony);
             }
         }
+    }
 
-        //  Fallback - there might be a AbstractBuilding for this block, but it's outside of it's owning colony's radius.
-        for (@NotNull final Colony otherColony : getColonies(w))
+    /**
+     * When a player logs in, load the full state of the dormant colonies the player is subscribed to.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerLogin(@NotNull final EntityPlayer player)
+    {
+        for (@NotNull final Colony colony : colonies.getCopyAsList())
         {
-            final AbstractBuilding building = otherColony.getBuilding(pos);
-            if (building != null)
+            if (colony.isDormant() && colony.getPermissions().isSubscriber(player))
             {
-                return building;
+                hydrateColony(colony);
             }
         }
+    }
 
-        return null;
+    /**
+     * Amount of dormant colonies.
+     *
+     * @return the amount.
+     */
+    public static int getDormantColonyCount()
+    {
+        return (int) colonies.stream().filter(Colony::isDormant).count();
+    }
+
+    /**
+     * Amount of times a dormant colony was loaded fully.
+     *
+     * @return the amount.
+     */
+    public static long getHydrations()
+    {
+        return hydrations;
     }
 
     /**
-     * Get colony that contains a given coordinate.
+     * Amount of times a colony was made dormant.
+     *
+     * @return the amount.
+     */
+    public static long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Syncs the achievements for all colonies.
+     */
+    public static void syncAllColoniesAchievements()
+    {
+        colonies.forEach(AchievementUtils::syncAchievements);
+    }
+
+    /**
+     * Get a AbstractBuilding by a World and coordinates.
+     *
+     * @param w   World.
+     * @param pos Block position.
+     * @return AbstractBuilding at the given location.
+     */
+    public static AbstractBuilding getBuilding(@NotNull final World w, @NotNull final BlockPos pos)
+    {
+        //  The building may be outside of it's owning colony's radius, so look up the owner by the building position.
+        final Map<BlockPos, Colony> buildingsInWorld = buildingColonies.get(w.provider.getDimension());
+        @Nullable final Colony colony = buildingsInWorld == null ? null : buildingsInWorld.get(pos);
+        return colony == null ? null : colony.getBuilding(pos);
+    }
+
+    /**
+     * Get colony that contains a given coordinate, with its full state loaded if it was dormant.
      *
      * @param w   World.
      * @param pos coordinates.
@@ -282,13 +485,23 @@ public final class ColonyManager
      */
     public static Colony getColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        final List<Colony> coloniesInWorld = coloniesByWorld.get(w.provider.getDimension());
-        if (coloniesInWorld == null)
-        {
-            return null;
-        }
+        final Colony colony = getColonyOrStub(w, pos);
+        return colony == null ? null : hydrateColony(colony);
+    }
 
-        for (@NotNull final Colony c : coloniesInWorld)
+    /**
+     * Get colony that contains a given coordinate without loading the full state of a dormant colony.
+     * Only the stub data of the colony may be used, see {@link #getColonyOrStub(int)}.
+     *
+     * @param w   World.
+     * @param pos coordinates.
+     * @return Colony at the given location, maybe dormant.
+     */
+    @Nullable
+    public static Colony getColonyOrStub(@NotNull final World w, @NotNull final BlockPos pos)
+    {
+        colonyIndex.setRadius(Configurations.gameplay.workingRangeTownHall);
+        for (@NotNull final Colony c : colonyIndex.getCandidates(w.provider.getDimension(), pos))
         {
             if (c.isCoordInColony(w, pos))
             {
@@ -300,13 +513,58 @@ public final class ColonyManager
     }
 
     /**
-     * Get all colonies in this world.
+     * Get the colonies whose area overlaps a box, ignoring the height.
+     * Dormant colonies are not loaded fully, only their stub data may be used.
+     *
+     * @param w    World.
+     * @param minX the smallest x of the box.
+     * @param minZ the smallest z of the box.
+     * @param maxX the largest x of the box.
+     * @param maxZ the largest z of the box.
+     * @return the colonies.
+     */
+    @NotNull
+    public static List<Colony> getColoniesInArea(@NotNull final World w, final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        colonyIndex.setRadius(Configurations.gameplay.workingRangeTownHall);
+        final long rangeSquared = (long) Configurations.gameplay.workingRangeTownHall * Configurations.gameplay.workingRangeTownHall;
+        final List<Colony> result = new ArrayList<>();
+        for (@NotNull final Colony c : colonyIndex.getCandidates(w.provider.getDimension(), minX, minZ, maxX, maxZ))
+        {
+            //  Distance from the center to the closest point of the box.
+            final long xDiff = c.getCenter().getX() - (long) MathHelper.clamp(c.getCenter().getX(), minX, maxX);
+            final long zDiff = c.getCenter().getZ() - (long) MathHelper.clamp(c.getCenter().getZ(), minZ, maxZ);
+            if (w.equals(c.getWorld()) && xDiff * xDiff + zDiff * zDiff <= rangeSquared)
+            {
+                result.add(c);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get all colonies in this world, with the full state of the dormant ones loaded.
      *
      * @param w World.
      * @return a list of colonies.
      */
     @NotNull
     public static List<Colony> getColonies(@NotNull final World w)
+    {
+        final List<Colony> coloniesInWorld = getColoniesOrStubs(w);
+        coloniesInWorld.forEach(ColonyManager::hydrateColony);
+        return coloniesInWorld;
+    }
+
+    /**
+     * Get all colonies in this world without loading the full state of the dormant ones.
+     * Only the stub data of dormant colonies may be used, see {@link #getColonyOrStub(int)}.
+     *
+     * @param w World.
+     * @return a list of colonies, maybe dormant.
+     */
+    @NotNull
+    public static List<Colony> getColoniesOrStubs(@NotNull final World w)
     {
         final List<Colony> coloniesInWorld = coloniesByWorld.get(w.provider.getDimension());
         if (coloniesInWorld == null)
@@ -317,12 +575,26 @@ public final class ColonyManager
     }
 
     /**
-     * Get all colonies in all worlds.
+     * Get all colonies in all worlds, with the full state of the dormant ones loaded.
      *
      * @return a list of colonies.
      */
     @NotNull
     public static List<Colony> getColonies()
+    {
+        final List<Colony> copy = colonies.getCopyAsList();
+        copy.forEach(ColonyManager::hydrateColony);
+        return copy;
+    }
+
+    /**
+     * Get all colonies in all worlds without loading the full state of the dormant ones.
+     * Only the stub data of dormant colonies may be used, see {@link #getColonyOrStub(int)}.
+     *
+     * @return a list of colonies, maybe dormant.
+     */
+    @NotNull
+    public static List<Colony> getColoniesOrStubs()
     {
         return colonies.getCopyAsList();
     }
@@ -393,7 +665,8 @@ public final class ColonyManager
      */
     private static ColonyView getColonyView(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        for (@NotNull final ColonyView c : colonyViews)
+        colonyViewIndex.setRadius(Configurations.gameplay.workingRangeTownHall);
+        for (@NotNull final ColonyView c : colonyViewIndex.getCandidates(w.provider.getDimension(), pos))
         {
             if (c.isCoordInColony(w, pos))
             {
@@ -451,7 +724,7 @@ public final class ColonyManager
     }
 
     /**
-     * Get closest colony by x,y,z.
+     * Get closest colony by x,y,z, with its full state loaded if it was dormant.
      *
      * @param w   World.
      * @param pos coordinates.
@@ -459,23 +732,8 @@ public final class ColonyManager
      */
     public static Colony getClosestColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        @Nullable Colony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull final Colony c : getColonies(w))
-        {
-            if (c.getDimension() == w.provider.getDimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
-        }
-
-        return closestColony;
+        final Colony colony = colonyIndex.getClosest(w.provider.getDimension(), pos);
+        return colony == null ? null : hydrateColony(colony);
     }
 
     /**
@@ -549,6 +807,7 @@ public final class ColonyManager
         return colonies.stream()
                  .filter(c -> owner.equals(c.getPermissions().getOwner()))
                  .findFirst()
+                 .map(ColonyManager::hydrateColony)
                  .orElse(null);
     }
 
@@ -577,41 +836,98 @@ public final class ColonyManager
             c.onServerTick(event);
         }
 
-        if (saveNeeded)
+        if (event.phase == TickEvent.Phase.END)
         {
-            saveColonies();
+            if (++ticksSinceDormancyCheck >= TICKS_BETWEEN_DORMANCY_CHECKS)
+            {
+                ticksSinceDormancyCheck = 0;
+                makeIdleColoniesDormant();
+            }
+
+            ticksSinceSave++;
+            if (saveNeeded && ticksSinceSave >= MIN_TICKS_BETWEEN_SAVES)
+            {
+                saveColonies(false);
+            }
         }
     }
 
     /**
-     * Save all the Colonies.
+     * Save the Colonies.
+     * Every colony is saved to its own file, the files of deleted colonies are deleted.
+     * The file of a dormant colony holds its full state already, only changes of its stub are written into it.
+     *
+     * @param all true to save all colonies, false to only save the colonies which changed since the last save.
      */
-    private static void saveColonies()
+    private static void saveColonies(final boolean all)
     {
+        final ColonyStorage storage = getStorage();
+        for (@NotNull final Colony colony : colonies)
+        {
+            if (colony.isDormant())
+            {
+                if (colony.isSaveDirty() || (all && colony.isStubDirty()))
+                {
+                    saveDormantColony(storage, colony);
+                }
+            }
+            else if (all || colony.isSaveDirty())
+            {
+                @NotNull final NBTTagCompound colonyTagCompound = new NBTTagCompound();
+                colony.writeToNBT(colonyTagCompound);
+                storage.writeColony(colony.getID(), colonyTagCompound);
+                colony.clearSaveDirty();
+            }
+        }
+
+        if (all)
+        {
+            for (final int id : storage.getColonyIds())
+            {
+                if (colonies.get(id) == null)
+                {
+                    deletedColonies.add(id);
+                }
+            }
+        }
+        deletedColonies.forEach(storage::deleteColony);
+        deletedColonies.clear();
+
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         writeToNBT(compound);
-
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        storage.writeManager(compound);
 
         saveNeeded = false;
+        ticksSinceSave = 0;
     }
 
     /**
-     * Write colonies to NBT data for saving.
+     * Write the stub data of a dormant colony into its file.
      *
-     * @param compound NBT-Tag.
+     * @param storage the storage.
+     * @param colony  the dormant colony.
      */
-    public static void writeToNBT(@NotNull final NBTTagCompound compound)
+    private static void saveDormantColony(@NotNull final ColonyStorage storage, @NotNull final Colony colony)
     {
-        @NotNull final NBTTagList colonyTagList = new NBTTagList();
-        for (@NotNull final Colony colony : colonies)
+        @Nullable final NBTTagCompound colonyTagCompound = storage.readColony(colony.getID());
+        if (colonyTagCompound == null)
         {
-            @NotNull final NBTTagCompound colonyTagCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyTagCompound);
-            colonyTagList.appendTag(colonyTagCompound);
+            Log.getLogger().error(String.format("Could not read dormant colony #%d, not saving it", colony.getID()));
+            return;
         }
-        compound.setTag(TAG_COLONIES, colonyTagList);
+
+        colony.writeStubToNBT(colonyTagCompound);
+        storage.writeColony(colony.getID(), colonyTagCompound);
+        colony.clearSaveDirty();
+    }
+
+    /**
+     * Write the data of the colony manager to NBT data for saving, the colonies are saved separately.
+     *
+     * @param compound NBT-Tag.
+     */
+    public static void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
         if (serverUUID != null)
         {
             compound.setUniqueId(TAG_UUID, serverUUID);
@@ -619,38 +935,29 @@ public final class ColonyManager
     }
 
     /**
-     * Get save location for Minecolonies data, from the world/save directory.
+     * Get the storage of the Minecolonies data, in the world/save directory.
      *
-     * @return Save file for minecolonies.
+     * @return the storage.
      */
     @NotNull
-    private static File getSaveLocation()
+    private static ColonyStorage getStorage()
     {
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, FILENAME_MINECOLONIES);
+        if (storage == null)
+        {
+            storage = new ColonyStorage(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH));
+        }
+        return storage;
     }
 
     /**
-     * Save an NBTTagCompound to a file.  Does so in a safe manner using an
-     * intermediate tmp file.
+     * Get the files the colonies are saved in, for monitoring.
      *
-     * @param file     The destination file to write the data to.
-     * @param compound The NBTTagCompound to write to the file.
+     * @return the storage or null if no world is loaded.
      */
-    private static void saveNBTToPath(@Nullable final File file, @NotNull final NBTTagCompound compound)
+    @Nullable
+    public static ColonyStorage getStorageIfPresent()
     {
-        try
-        {
-            if (file != null)
-            {
-                file.getParentFile().mkdir();
-                CompressedStreamTools.safeWrite(compound, file);
-            }
-        }
-        catch (final IOException exception)
-        {
-            Log.getLogger().error("Exception when saving ColonyManager", exception);
-        }
+        return storage;
     }
 
     /**
@@ -664,6 +971,7 @@ public final class ColonyManager
         {
             //  Player has left the game, clear the Colony View cache
             colonyViews.clear();
+            colonyViewIndex.clear();
         }
     }
 
@@ -675,7 +983,7 @@ public final class ColonyManager
      */
     public static void onWorldTick(@NotNull final TickEvent.WorldTickEvent event)
     {
-        getColonies(event.world).forEach(c -> c.onWorldTick(event));
+        getColoniesOrStubs(event.world).forEach(c -> c.onWorldTick(event));
     }
 
     /**
@@ -693,17 +1001,28 @@ public final class ColonyManager
             {
                 if (!backupColonyData())
                 {
-                    MineColonies.getLogger().error("Failed to save " + FILENAME_MINECOLONIES + " backup!");
+                    MineColonies.getLogger().error("Failed to save colonies backup!");
                 }
 
                 //load the structures when we know where the world is
                 Structures.init();
 
-                @NotNull final File file = getSaveLocation();
-                @Nullable final NBTTagCompound data = loadNBTFromPath(file);
-                if (data != null)
+                final ColonyStorage storage = getStorage();
+                @Nullable final NBTTagCompound data = storage.readManager();
+                if (data != null && data.hasKey(TAG_COLONIES))
                 {
+                    //  Colonies saved by older versions in the manager file, save them to their own files.
                     readFromNBT(data, world);
+                    Log.getLogger().info("Moving the colonies to their own files");
+                    saveColonies(true);
+                }
+                else
+                {
+                    if (data != null)
+                    {
+                        readFromNBT(data, world);
+                    }
+                    readColonies(storage, world);
                 }
                 if (serverUUID == null)
                 {
@@ -718,7 +1037,7 @@ public final class ColonyManager
             }
             ++numWorldsLoaded;
 
-            for (@NotNull final Colony c : getColonies(world))
+            for (@NotNull final Colony c : getColoniesOrStubs(world))
             {
                 c.onWorldLoad(world);
             }
@@ -729,59 +1048,55 @@ public final class ColonyManager
 
     public static boolean backupColonyData()
     {
-        if (numWorldsLoaded > 0 && saveNeeded)
-        {
-            saveColonies();
-        }
-
-        @NotNull final File file = getSaveLocation();
-        @NotNull final File targetFile = getBackupSaveLocation(new Date());
-        if (!file.exists())
-        {
-            return true;
-        }
-        else if (targetFile.exists())
-        {
-            return false;
-        }
+        return backupColonyDataAsync().join();
+    }
 
-        try
-        {
-            Files.copy(file.toPath(), targetFile.toPath());
-        }
-        catch (final IOException e)
+    /**
+     * Save the changed colonies and back up the colony files, the backup is made on the thread writing the files.
+     *
+     * @return the future result, true if the backup was made or there was nothing to back up.
+     */
+    @NotNull
+    public static CompletableFuture<Boolean> backupColonyDataAsync()
+    {
+        if (numWorldsLoaded > 0 && saveNeeded)
         {
-            e.printStackTrace();
-            return false;
+            saveColonies(false);
         }
 
-        return targetFile.exists();
+        return getStorage().backup(new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()));
     }
 
     /**
-     * Load a file and return the data as an NBTTagCompound.
+     * Read the colonies from their own files.
+     * With dormant colonies enabled only their stubs are loaded, the rest is loaded again from the file when needed.
      *
-     * @param file The path to the file.
-     * @return the data from the file as an NBTTagCompound, or null.
+     * @param storage the storage.
+     * @param world   the world.
      */
-    private static NBTTagCompound loadNBTFromPath(@Nullable final File file)
+    private static void readColonies(@NotNull final ColonyStorage storage, @NotNull final World world)
     {
-        try
+        for (final int id : storage.getColonyIds())
         {
-            if (file != null && file.exists())
+            @Nullable final NBTTagCompound colonyCompound = storage.readColony(id);
+            if (colonyCompound != null)
             {
-                return CompressedStreamTools.read(file);
+                @NotNull final Colony colony = Configurations.gameplay.dormantColonies
+                                                 ? Colony.loadDormantColony(colonyCompound, world)
+                                                 : Colony.loadColony(colonyCompound, world);
+                colony.clearSaveDirty();
+                colonies.add(colony);
+
+                addColonyByWorld(colony);
             }
         }
-        catch (final IOException exception)
-        {
-            Log.getLogger().error("Exception when loading ColonyManger", exception);
-        }
-        return null;
+
+        Log.getLogger().info(String.format("Loaded %d colonies, %d of them dormant", colonies.size(), getDormantColonyCount()));
     }
 
     /**
      * Read Colonies from saved NBT data.
+     * Only manager files of older versions hold the colonies, newer ones only the data of the manager.
      *
      * @param compound NBT Tag.
      */
@@ -801,20 +1116,10 @@ public final class ColonyManager
             serverUUID = compound.getUniqueId(TAG_UUID);
         }
 
-        Log.getLogger().info(String.format("Loaded %d colonies", colonies.size()));
-    }
-
-    /**
-     * Get save location for Minecolonies backup data, from the world/save
-     * directory.
-     *
-     * @return Save file for minecolonies.
-     */
-    @NotNull
-    private static File getBackupSaveLocation(final Date date)
-    {
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(date)));
+        if (colonyTags.tagCount() > 0)
+        {
+            Log.getLogger().info(String.format("Loaded %d colonies", colonies.size()));
+        }
     }
 
     /**
@@ -849,20 +1154,32 @@ public final class ColonyManager
         {
             if (world.provider.getDimension() == 0)
             {
-                saveColonies();
+                saveColonies(true);
+                getStorage().flush();
             }
 
 
-            for (@NotNull final Colony c : getColonies(world))
+            for (@NotNull final Colony c : getColoniesOrStubs(world))
             {
                 c.onWorldUnload(world);
             }
+            Pathfinding.clearCache(world);
 
             --numWorldsLoaded;
             if (numWorldsLoaded == 0)
             {
+                if (storage != null)
+                {
+                    storage.close();
+                    storage = null;
+                }
+
                 colonies.clear();
+                deletedColonies.clear();
+                ticksSinceDormancyCheck = 0;
                 coloniesByWorld.clear();
+                colonyIndex.clear();
+                buildingColonies.clear();
             }
         }
     }
@@ -885,7 +1202,9 @@ public final class ColonyManager
             colonyViews.add(view);
         }
 
-        return view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        final IMessage response = view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        colonyViewIndex.add(view.getDimension(), view);
+        return response;
     }
 
     /**
@@ -1087,17 +1406,7 @@ public final class ColonyManager
      */
     public static boolean isCoordinateInAnyColony(@NotNull final World world, final BlockPos pos)
     {
-        for (@NotNull final ColonyView c : colonyViews)
-        {
-            if (c.getDimension() == world.provider.getDimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < (Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + BUFFER))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return colonyViewIndex.isAnyCenterCloser(world.provider.getDimension(), pos,
+          Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + BUFFER);
     }
 }
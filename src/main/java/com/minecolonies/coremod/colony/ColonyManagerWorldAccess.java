@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -19,8 +20,18 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(final World worldIn, final BlockPos pos, final IBlockState oldState, final IBlockState newState, final int flags)
     {
-        //Not needed
+        if (oldState == newState)
+        {
+            return;
+        }
 
+        Pathfinding.onBlockChanged(worldIn, pos, oldState, newState);
+
+        final Colony colony = ColonyManager.getColonyOrStub(worldIn, pos);
+        if (colony != null)
+        {
+            colony.onBlockChanged(pos, oldState, newState);
+        }
     }
 
     @Override
@@ -0,0 +1,401 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Per dimension grid over the colonies, so looking up the colony at or closest to a position does not scan all colonies.
+ * <p>
+ * The grid has cells of 64x64 blocks. Every colony is put into all cells its area overlaps and into the cell of its center.
+ *
+ * @param <T> the colony type, colonies on the server and views on the client.
+ */
+final class ColonySpatialIndex<T extends IColony>
+{
+    /**
+     * Size of a grid cell.
+     */
+    private static final int CELL_SHIFT = 6;
+    private static final int CELL_SIZE  = 1 << CELL_SHIFT;
+
+    /**
+     * Odd multiplier spreading the cell keys over the hash buckets.
+     */
+    private static final long KEY_MIX = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Rings of cells searched for the closest colony before falling back to checking all colonies of the dimension.
+     */
+    private static final int MAX_SEARCH_RINGS = 16;
+
+    /**
+     * Cells overlapped by the area of the colonies.
+     */
+    private final Map<Integer, Map<Long, List<T>>> areaCells   = new HashMap<>();
+    /**
+     * Cells containing the center of the colonies.
+     */
+    private final Map<Integer, Map<Long, List<T>>> centerCells = new HashMap<>();
+    /**
+     * All registered colonies by dimension.
+     */
+    private final Map<Integer, List<T>>            dimensions  = new HashMap<>();
+    /**
+     * Where each colony is registered.
+     */
+    private final Map<T, Registration>             registered  = new IdentityHashMap<>();
+
+    /**
+     * Radius the area cells were computed for.
+     */
+    private int radius;
+
+    /**
+     * Create an index.
+     *
+     * @param radius the radius of the colonies.
+     */
+    ColonySpatialIndex(final int radius)
+    {
+        this.radius = radius;
+    }
+
+    /**
+     * Get the key of a cell. {@link Long#hashCode()} folds the two halves together, so the packed coordinates are mixed first,
+     * else cells with the same x ^ z would share a bucket. Multiplying with an odd number keeps the keys unique.
+     *
+     * @param cellX the x of the cell.
+     * @param cellZ the z of the cell.
+     * @return the key.
+     */
+    private static long getCellKey(final int cellX, final int cellZ)
+    {
+        return (((long) cellX << Integer.SIZE) | (cellZ & 0xFFFFFFFFL)) * KEY_MIX;
+    }
+
+    /**
+     * Add a colony or move it to a new center. Colonies without center are ignored.
+     *
+     * @param dimension the dimension of the colony.
+     * @param colony    the colony.
+     */
+    void add(final int dimension, @NotNull final T colony)
+    {
+        final BlockPos center = colony.getCenter();
+        if (center == null)
+        {
+            return;
+        }
+
+        final Registration existing = registered.get(colony);
+        if (existing != null)
+        {
+            if (existing.dimension == dimension && existing.center.equals(center))
+            {
+                return;
+            }
+            remove(colony);
+        }
+
+        final Registration registration = new Registration(dimension, center.toImmutable());
+        registered.put(colony, registration);
+        dimensions.computeIfAbsent(dimension, d -> new ArrayList<>()).add(colony);
+        forEachCell(registration, dimension, colony, true);
+    }
+
+    /**
+     * Remove a colony.
+     *
+     * @param colony the colony.
+     */
+    void remove(@NotNull final T colony)
+    {
+        final Registration registration = registered.remove(colony);
+        if (registration == null)
+        {
+            return;
+        }
+
+        final List<T> inDimension = dimensions.get(registration.dimension);
+        if (inDimension != null)
+        {
+            inDimension.remove(colony);
+        }
+        forEachCell(registration, registration.dimension, colony, false);
+    }
+
+    /**
+     * Remove all colonies.
+     */
+    void clear()
+    {
+        areaCells.clear();
+        centerCells.clear();
+        dimensions.clear();
+        registered.clear();
+    }
+
+    /**
+     * Change the radius of the colonies, rebuilding the grid if it differs from the current one.
+     *
+     * @param newRadius the radius.
+     */
+    void setRadius(final int newRadius)
+    {
+        if (newRadius == radius)
+        {
+            return;
+        }
+
+        radius = newRadius;
+        areaCells.clear();
+        for (@NotNull final Map.Entry<T, Registration> entry : registered.entrySet())
+        {
+            forEachCell(entry.getValue(), entry.getValue().dimension, entry.getKey(), true);
+        }
+    }
+
+    private void forEachCell(@NotNull final Registration registration, final int dimension, @NotNull final T colony, final boolean add)
+    {
+        final int minCellX = (registration.center.getX() - radius) >> CELL_SHIFT;
+        final int maxCellX = (registration.center.getX() + radius) >> CELL_SHIFT;
+        final int minCellZ = (registration.center.getZ() - radius) >> CELL_SHIFT;
+        final int maxCellZ = (registration.center.getZ() + radius) >> CELL_SHIFT;
+
+        final Map<Long, List<T>> area = areaCells.computeIfAbsent(dimension, d -> new HashMap<>());
+        for (int x = minCellX; x <= maxCellX; x++)
+        {
+            for (int z = minCellZ; z <= maxCellZ; z++)
+            {
+                update(area, getCellKey(x, z), colony, add);
+            }
+        }
+
+        final Map<Long, List<T>> centers = centerCells.computeIfAbsent(dimension, d -> new HashMap<>());
+        update(centers, getCellKey(registration.center.getX() >> CELL_SHIFT, registration.center.getZ() >> CELL_SHIFT), colony, add);
+    }
+
+    private void update(@NotNull final Map<Long, List<T>> cells, final long key, @NotNull final T colony, final boolean add)
+    {
+        if (add)
+        {
+            cells.computeIfAbsent(key, k -> new ArrayList<>(1)).add(colony);
+            return;
+        }
+
+        final List<T> cell = cells.get(key);
+        if (cell != null)
+        {
+            cell.remove(colony);
+            if (cell.isEmpty())
+            {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the colonies whose area may contain a position, callers still have to check the exact area.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the candidates, must not be modified.
+     */
+    @NotNull
+    List<T> getCandidates(final int dimension, @NotNull final BlockPos pos)
+    {
+        final Map<Long, List<T>> area = areaCells.get(dimension);
+        if (area == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<T> cell = area.get(getCellKey(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT));
+        return cell == null ? Collections.emptyList() : cell;
+    }
+
+    /**
+     * Get the colonies whose area may overlap a box, callers still have to check the exact area.
+     *
+     * @param dimension the dimension.
+     * @param minX      the smallest x of the box.
+     * @param minZ      the smallest z of the box.
+     * @param maxX      the largest x of the box.
+     * @param maxZ      the largest z of the box.
+     * @return the candidates, each colony once.
+     */
+    @NotNull
+    List<T> getCandidates(final int dimension, final int minX, final int minZ, final int maxX, final int maxZ)
+    {
+        final Map<Long, List<T>> area = areaCells.get(dimension);
+        if (area == null)
+        {
+            return Collections.emptyList();
+        }
+
+        final List<T> candidates = new ArrayList<>();
+        for (int x = minX >> CELL_SHIFT; x <= maxX >> CELL_SHIFT; x++)
+        {
+            for (int z = minZ >> CELL_SHIFT; z <= maxZ >> CELL_SHIFT; z++)
+            {
+                final List<T> cell = area.get(getCellKey(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (@NotNull final T colony : cell)
+                {
+                    if (!candidates.contains(colony))
+                    {
+                        candidates.add(colony);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Get the colony with the center closest to a position.
+     *
+     * @param dimension the dimension.
+     * @param pos       the position.
+     * @return the colony or null if there is none in the dimension.
+     */
+    @Nullable
+    T getClosest(final int dimension, @NotNull final BlockPos pos)
+    {
+        final Map<Long, List<T>> centers = centerCells.get(dimension);
+        final List<T> all = dimensions.get(dimension);
+        if (centers == null || all == null || all.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        T closest = null;
+        long closestDist = Long.MAX_VALUE;
+
+        for (int ring = 0; ring <= MAX_SEARCH_RINGS; ring++)
+        {
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                for (int z = cellZ - ring; z <= cellZ + ring; z++)
+                {
+                    if (Math.abs(x - cellX) != ring && Math.abs(z - cellZ) != ring)
+                    {
+                        continue;
+                    }
+
+                    final List<T> cell = centers.get(getCellKey(x, z));
+                    if (cell == null)
+                    {
+                        continue;
+                    }
+
+                    for (@NotNull final T colony : cell)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+
+            //  Centers in the next ring are at least ring cells away on one axis.
+            final long minDistNextRing = (long) ring * CELL_SIZE;
+            if (closest != null && closestDist <= minDistNextRing * minDistNextRing)
+            {
+                return closest;
+            }
+        }
+
+        for (@NotNull final T colony : all)
+        {
+            final long dist = colony.getDistanceSquared(pos);
+            if (dist < closestDist)
+            {
+                closest = colony;
+                closestDist = dist;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Check if the center of any colony is closer to a position than a distance.
+     *
+     * @param dimension   the dimension.
+     * @param pos         the position.
+     * @param maxDistance the squared distance.
+     * @return true if so.
+     */
+    boolean isAnyCenterCloser(final int dimension, @NotNull final BlockPos pos, final long maxDistance)
+    {
+        final Map<Long, List<T>> centers = centerCells.get(dimension);
+        if (centers == null)
+        {
+            return false;
+        }
+
+        final int cellRange = (int) (Math.ceil(Math.sqrt(maxDistance)) / CELL_SIZE) + 1;
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+
+        for (int x = cellX - cellRange; x <= cellX + cellRange; x++)
+        {
+            for (int z = cellZ - cellRange; z <= cellZ + cellRange; z++)
+            {
+                final List<T> cell = centers.get(getCellKey(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (@NotNull final T colony : cell)
+                {
+                    if (colony.getDistanceSquared(pos) < maxDistance)
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Amount of indexed colonies.
+     *
+     * @return the amount.
+     */
+    int size()
+    {
+        return registered.size();
+    }
+
+    /**
+     * Dimension and center a colony is registered with.
+     */
+    private static final class Registration
+    {
+        private final int      dimension;
+        @NotNull
+        private final BlockPos center;
+
+        private Registration(final int dimension, @NotNull final BlockPos center)
+        {
+            this.dimension = dimension;
+            this.center = center;
+        }
+    }
+}
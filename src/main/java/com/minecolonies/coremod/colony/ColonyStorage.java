@@ -0,0 +1,464 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The files the colonies are saved in.
+ * <p>
+ * The manager file holds the data of the colony manager, every colony is saved to an own file in the colonies directory, so only
+ * colonies which changed have to be written. All files are written to a temporary file first which then replaces the old file.
+ * Manager files of older versions still hold all colonies, they are read the same way and split up on the next save.
+ * <p>
+ * The data is handed over as NBT snapshots taken on the server thread, compressing and writing them happens on an own thread.
+ * A file waiting to be written which gets new data only gets written once, with the newest data, so at most one write per file
+ * waits in the queue and the queue never grows beyond the amount of files. Writes, deletions and backups all run on the one writer
+ * thread in the order they were asked for, so a file is never written by two threads at once and backups and deletions happen after
+ * the writes asked for before them.
+ * Reading a colony returns a copy of the data still waiting or being written, so a colony saved and loaded again right away
+ * never sees an older file.
+ */
+public final class ColonyStorage
+{
+    /**
+     * The file name of the manager file.
+     */
+    private static final String FILENAME_MANAGER = "colonies.dat";
+
+    /**
+     * The directory holding the colony files.
+     */
+    private static final String DIRECTORY_COLONIES = "colonies";
+
+    /**
+     * The file name pattern of a colony file.
+     */
+    private static final String  FILENAME_COLONY = "colony%d.dat";
+    private static final Pattern COLONY_FILE     = Pattern.compile("colony(\\d+)\\.dat");
+
+    /**
+     * The file name pattern of the backups.
+     */
+    private static final String FILENAME_BACKUP  = "colonies-%s.dat";
+    private static final String DIRECTORY_BACKUP = "colonies-%s";
+
+    /**
+     * Seconds to wait for the pending writes when closing.
+     */
+    private static final int CLOSE_TIMEOUT_SECONDS = 60;
+
+    private final File saveDir;
+
+    /**
+     * The thread compressing and writing the files.
+     */
+    private final ThreadPoolExecutor writer;
+
+    /**
+     * The newest data of the files waiting to be written.
+     */
+    private final Map<File, NBTTagCompound> pending = new HashMap<>();
+
+    /**
+     * The data of the file being written, guarded by the pending map.
+     */
+    private final Map<File, NBTTagCompound> writing = new HashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder  writes        = new LongAdder();
+    private final LongAdder  coalesced     = new LongAdder();
+    private final LongAdder  bytesWritten  = new LongAdder();
+    private final LongAdder  writeNanos    = new LongAdder();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+
+    /**
+     * Create the storage in a directory.
+     *
+     * @param saveDir the directory.
+     */
+    ColonyStorage(@NotNull final File saveDir)
+    {
+        this.saveDir = saveDir;
+        this.writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Colony Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @NotNull
+    private File getManagerFile()
+    {
+        return new File(saveDir, FILENAME_MANAGER);
+    }
+
+    @NotNull
+    private File getColonyDirectory()
+    {
+        return new File(saveDir, DIRECTORY_COLONIES);
+    }
+
+    @NotNull
+    private File getColonyFile(final int id)
+    {
+        return new File(getColonyDirectory(), String.format(FILENAME_COLONY, id));
+    }
+
+    /**
+     * Read the manager file.
+     *
+     * @return the data or null if there is no manager file or it could not be read.
+     */
+    @Nullable
+    NBTTagCompound readManager()
+    {
+        return read(getManagerFile());
+    }
+
+    /**
+     * Write the manager file.
+     *
+     * @param compound the data.
+     */
+    void writeManager(@NotNull final NBTTagCompound compound)
+    {
+        submit(getManagerFile(), compound);
+    }
+
+    /**
+     * Get the ids of the colonies which have a file.
+     *
+     * @return the ids in ascending order.
+     */
+    @NotNull
+    SortedSet<Integer> getColonyIds()
+    {
+        final SortedSet<Integer> ids = new TreeSet<>();
+        final String[] files = getColonyDirectory().list();
+        if (files != null)
+        {
+            for (final String file : files)
+            {
+                final Matcher matcher = COLONY_FILE.matcher(file);
+                if (matcher.matches())
+                {
+                    ids.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Read the file of a colony, or the newer data waiting to be written to it.
+     *
+     * @param id the id of the colony.
+     * @return the data or null if the file could not be read.
+     */
+    @Nullable
+    NBTTagCompound readColony(final int id)
+    {
+        final File file = getColonyFile(id);
+        synchronized (pending)
+        {
+            final NBTTagCompound unwritten = pending.containsKey(file) ? pending.get(file) : writing.get(file);
+            if (unwritten != null)
+            {
+                return unwritten.copy();
+            }
+        }
+        return read(file);
+    }
+
+    /**
+     * Write the file of a colony.
+     *
+     * @param id       the id of the colony.
+     * @param compound the data.
+     */
+    void writeColony(final int id, @NotNull final NBTTagCompound compound)
+    {
+        submit(getColonyFile(id), compound);
+    }
+
+    /**
+     * Delete the file of a colony.
+     *
+     * @param id the id of the colony.
+     */
+    void deleteColony(final int id)
+    {
+        final File file = getColonyFile(id);
+        synchronized (pending)
+        {
+            pending.remove(file);
+        }
+
+        writer.execute(() ->
+        {
+            if (file.exists() && !file.delete())
+            {
+                Log.getLogger().error("Could not delete " + file);
+            }
+        });
+    }
+
+    /**
+     * Hand a copy of the data over to the writer thread, replacing the data of the file if it is still waiting.
+     * The copy is made on the calling thread, so the caller may change the data afterwards.
+     *
+     * @param file     the file.
+     * @param compound the data.
+     */
+    private void submit(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        final NBTTagCompound snapshot = compound.copy();
+        synchronized (pending)
+        {
+            if (pending.put(file, snapshot) != null)
+            {
+                coalesced.increment();
+                return;
+            }
+        }
+
+        writer.execute(() ->
+        {
+            final NBTTagCompound newest;
+            synchronized (pending)
+            {
+                newest = pending.remove(file);
+                if (newest == null)
+                {
+                    return;
+                }
+                writing.put(file, newest);
+            }
+
+            try
+            {
+                write(file, newest);
+            }
+            finally
+            {
+                synchronized (pending)
+                {
+                    writing.remove(file, newest);
+                }
+            }
+        });
+    }
+
+    /**
+     * Copy the manager file and the colony files to backups named by a date, after the pending writes.
+     *
+     * @param date the date of the backup.
+     * @return the future result, true if the backup was made or there was nothing to back up.
+     */
+    @NotNull
+    CompletableFuture<Boolean> backup(@NotNull final String date)
+    {
+        return CompletableFuture.supplyAsync(() -> copyToBackup(date), writer);
+    }
+
+    /**
+     * Wait until the pending writes are done.
+     */
+    void flush()
+    {
+        CompletableFuture.runAsync(() ->
+        {
+            /*
+             * Intentionally left empty, runs after the pending writes.
+             */
+        }, writer).join();
+    }
+
+    /**
+     * Finish the pending writes and stop the writer thread.
+     */
+    void close()
+    {
+        writer.shutdown();
+        try
+        {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS))
+            {
+                Log.getLogger().error("Timed out waiting for the colonies to be saved");
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Log.getLogger().error("Interrupted waiting for the colonies to be saved", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean copyToBackup(@NotNull final String date)
+    {
+        final File managerFile = getManagerFile();
+        if (!managerFile.exists())
+        {
+            return true;
+        }
+
+        final File managerBackup = new File(saveDir, String.format(FILENAME_BACKUP, date));
+        final File colonyBackup = new File(saveDir, String.format(DIRECTORY_BACKUP, date));
+        if (managerBackup.exists() || colonyBackup.exists())
+        {
+            return false;
+        }
+
+        try
+        {
+            Files.copy(managerFile.toPath(), managerBackup.toPath());
+            final SortedSet<Integer> ids = getColonyIds();
+            if (!ids.isEmpty())
+            {
+                Files.createDirectories(colonyBackup.toPath());
+                for (final int id : ids)
+                {
+                    final File colonyFile = getColonyFile(id);
+                    Files.copy(colonyFile.toPath(), new File(colonyBackup, colonyFile.getName()).toPath());
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Exception when backing up the colonies", e);
+            return false;
+        }
+
+        return managerBackup.exists();
+    }
+
+    /**
+     * Load a file and return the data as an NBTTagCompound.
+     *
+     * @param file The path to the file.
+     * @return the data from the file as an NBTTagCompound, or null.
+     */
+    @Nullable
+    private static NBTTagCompound read(@NotNull final File file)
+    {
+        try
+        {
+            if (file.exists())
+            {
+                return CompressedStreamTools.read(file);
+            }
+        }
+        catch (final IOException exception)
+        {
+            Log.getLogger().error("Exception when loading " + file, exception);
+        }
+        return null;
+    }
+
+    /**
+     * Save an NBTTagCompound to a file.  Does so in a safe manner using an
+     * intermediate tmp file.
+     *
+     * @param file     The destination file to write the data to.
+     * @param compound The NBTTagCompound to write to the file.
+     */
+    private void write(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        final long start = System.nanoTime();
+        try
+        {
+            Files.createDirectories(file.getParentFile().toPath());
+            CompressedStreamTools.safeWrite(compound, file);
+        }
+        catch (final IOException | RuntimeException exception)
+        {
+            Log.getLogger().error("Exception when saving " + file, exception);
+            return;
+        }
+
+        final long time = System.nanoTime() - start;
+        writes.increment();
+        writeNanos.add(time);
+        maxWriteNanos.accumulateAndGet(time, Math::max);
+        bytesWritten.add(file.length());
+    }
+
+    /**
+     * Amount of files written.
+     *
+     * @return the amount.
+     */
+    public long getWrites()
+    {
+        return writes.sum();
+    }
+
+    /**
+     * Amount of writes saved because newer data replaced data still waiting to be written.
+     *
+     * @return the amount.
+     */
+    public long getCoalescedWrites()
+    {
+        return coalesced.sum();
+    }
+
+    /**
+     * Size of the files written.
+     *
+     * @return the size in bytes.
+     */
+    public long getBytesWritten()
+    {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * Time spent compressing and writing files.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getWriteNanos()
+    {
+        return writeNanos.sum();
+    }
+
+    /**
+     * Time spent on the slowest write.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getMaxWriteNanos()
+    {
+        return maxWriteNanos.get();
+    }
+
+    /**
+     * Amount of files waiting to be written.
+     *
+     * @return the amount.
+     */
+    public int getPendingWrites()
+    {
+        synchronized (pending)
+        {
+            return pending.size();
+        }
+    }
+}
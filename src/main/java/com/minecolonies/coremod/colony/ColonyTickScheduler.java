@@ -0,0 +1,320 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.configuration.Configurations;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs the tick work of a colony within a time budget per tick, and the deferrable work of each subsystem within its own time slice.
+ * <p>
+ * Work which has to happen every tick is run right away and only measured. Deferrable work, like building cleanup or request retries,
+ * is scheduled and run at the end of the tick while the colony still has budget left. Deferrable work is run in the order it was
+ * scheduled, work not run in a tick stays first in line for the next tick, so with a small budget the subsystems take turns.
+ * A subsystem taking longer than its slice waits until the ticks after have paid back the time, so one slow subsystem can't use up the
+ * budget of the colony tick after tick. Work deferred for {@link #MAX_DEFERRED_TICKS} ticks is run regardless of the budgets.
+ * Only used on the server thread.
+ */
+public class ColonyTickScheduler
+{
+    /**
+     * Ticks deferrable work may be deferred for before it is run even though the budget is exhausted.
+     */
+    static final int MAX_DEFERRED_TICKS = 20;
+
+    private static final long NANOS_PER_MICRO = 1000L;
+
+    private final LongSupplier clock;
+    private final IntSupplier  budgetMicros;
+    private final IntSupplier  subsystemBudgetMicros;
+
+    /**
+     * Deferrable work waiting to run, oldest first, and the same work by name.
+     */
+    private final Deque<Task>       pending       = new ArrayDeque<>();
+    private final Map<String, Task> pendingByName = new HashMap<>();
+
+    /**
+     * Time deferrable subsystems spent beyond their slices and still have to pay back.
+     */
+    private final Map<String, Long> subsystemDebts = new HashMap<>();
+
+    /**
+     * Time spent by subsystem.
+     */
+    private final Map<String, SubsystemTime> times = new TreeMap<>();
+
+    /**
+     * The current tick and the time spent and allowed in it.
+     */
+    private long tick        = 0;
+    private long usedNanos   = 0;
+    private long budgetNanos = 0;
+    private long sliceNanos  = 0;
+
+    /**
+     * Statistics.
+     */
+    private long ticks           = 0;
+    private long overBudgetTicks = 0;
+    private long totalNanos      = 0;
+    private long maxTickNanos    = 0;
+
+    /**
+     * Create a scheduler with the budgets from the config.
+     */
+    public ColonyTickScheduler()
+    {
+        this(System::nanoTime, () -> Configurations.gameplay.colonyTickBudget, () -> Configurations.gameplay.colonySubsystemTickBudget);
+    }
+
+    /**
+     * Create a scheduler.
+     *
+     * @param clock                 the clock in nanoseconds.
+     * @param budgetMicros          the budget of the colony per tick in microseconds.
+     * @param subsystemBudgetMicros the slice of each deferrable subsystem per tick in microseconds.
+     */
+    ColonyTickScheduler(@NotNull final LongSupplier clock, @NotNull final IntSupplier budgetMicros, @NotNull final IntSupplier subsystemBudgetMicros)
+    {
+        this.clock = clock;
+        this.budgetMicros = budgetMicros;
+        this.subsystemBudgetMicros = subsystemBudgetMicros;
+    }
+
+    /**
+     * Start a new tick, to be called before any work of the colony in the tick.
+     */
+    public void startTick()
+    {
+        if (tick > 0)
+        {
+            ticks++;
+            totalNanos += usedNanos;
+            maxTickNanos = Math.max(maxTickNanos, usedNanos);
+            if (usedNanos > budgetNanos)
+            {
+                overBudgetTicks++;
+            }
+        }
+
+        tick++;
+        usedNanos = 0;
+        budgetNanos = budgetMicros.getAsInt() * NANOS_PER_MICRO;
+        sliceNanos = subsystemBudgetMicros.getAsInt() * NANOS_PER_MICRO;
+
+        subsystemDebts.replaceAll((subsystem, debt) -> Math.max(0, debt - sliceNanos));
+        subsystemDebts.values().removeIf(debt -> debt == 0);
+    }
+
+    /**
+     * Run work which has to happen now.
+     *
+     * @param subsystem the name of the subsystem.
+     * @param work      the work.
+     */
+    public void run(@NotNull final String subsystem, @NotNull final Runnable work)
+    {
+        measure(subsystem, work);
+    }
+
+    private long measure(@NotNull final String subsystem, @NotNull final Runnable work)
+    {
+        final long start = clock.getAsLong();
+        work.run();
+        final long time = clock.getAsLong() - start;
+        usedNanos += time;
+        getTime(subsystem).record(time);
+        return time;
+    }
+
+    /**
+     * Schedule deferrable work, replacing work of the same subsystem still waiting to run.
+     *
+     * @param subsystem the name of the subsystem.
+     * @param work      the work.
+     */
+    public void schedule(@NotNull final String subsystem, @NotNull final Runnable work)
+    {
+        final Task waiting = pendingByName.get(subsystem);
+        if (waiting == null)
+        {
+            final Task task = new Task(subsystem, work, tick);
+            pending.addLast(task);
+            pendingByName.put(subsystem, task);
+        }
+        else
+        {
+            waiting.work = work;
+        }
+    }
+
+    /**
+     * Run the deferrable work while budget is left, to be called at the end of the tick.
+     * Work of subsystems which still pay back an earlier slice is skipped, the work behind it may run.
+     */
+    public void runDeferred()
+    {
+        for (final Task task : new ArrayList<>(pending))
+        {
+            final boolean overdue = tick - task.scheduled >= MAX_DEFERRED_TICKS;
+            if (!overdue && (usedNanos >= budgetNanos || subsystemDebts.getOrDefault(task.subsystem, 0L) >= sliceNanos))
+            {
+                continue;
+            }
+
+            pending.remove(task);
+            pendingByName.remove(task.subsystem);
+            final long time = measure(task.subsystem, task.work);
+            subsystemDebts.merge(task.subsystem, time, Long::sum);
+        }
+
+        for (final Task task : pending)
+        {
+            getTime(task.subsystem).deferrals++;
+        }
+    }
+
+    private SubsystemTime getTime(@NotNull final String subsystem)
+    {
+        return times.computeIfAbsent(subsystem, name -> new SubsystemTime());
+    }
+
+    /**
+     * Get the time spent by subsystem.
+     *
+     * @return the times sorted by the name of the subsystem.
+     */
+    @NotNull
+    public Map<String, SubsystemTime> getSubsystemTimes()
+    {
+        return Collections.unmodifiableMap(times);
+    }
+
+    /**
+     * Amount of ticks finished.
+     *
+     * @return the amount.
+     */
+    public long getTicks()
+    {
+        return ticks;
+    }
+
+    /**
+     * Amount of finished ticks which took longer than the budget.
+     *
+     * @return the amount.
+     */
+    public long getOverBudgetTicks()
+    {
+        return overBudgetTicks;
+    }
+
+    /**
+     * Time spent in all finished ticks.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * Time spent in the longest finished tick.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getMaxTickNanos()
+    {
+        return maxTickNanos;
+    }
+
+    /**
+     * Amount of deferrable work waiting to run.
+     *
+     * @return the amount.
+     */
+    public int getPendingCount()
+    {
+        return pending.size();
+    }
+
+    /**
+     * Reset the statistics, work waiting to run stays scheduled.
+     */
+    public void resetStatistics()
+    {
+        ticks = 0;
+        overBudgetTicks = 0;
+        totalNanos = 0;
+        maxTickNanos = 0;
+        times.clear();
+    }
+
+    /**
+     * Time spent by one subsystem.
+     */
+    public static final class SubsystemTime
+    {
+        private long runs      = 0;
+        private long nanos     = 0;
+        private long deferrals = 0;
+
+        private void record(final long time)
+        {
+            runs++;
+            nanos += time;
+        }
+
+        /**
+         * Amount of times the subsystem ran.
+         *
+         * @return the amount.
+         */
+        public long getRuns()
+        {
+            return runs;
+        }
+
+        /**
+         * Time spent in the subsystem.
+         *
+         * @return the time in nanoseconds.
+         */
+        public long getNanos()
+        {
+            return nanos;
+        }
+
+        /**
+         * Amount of ticks the subsystem was deferred for lack of budget.
+         *
+         * @return the amount.
+         */
+        public long getDeferrals()
+        {
+            return deferrals;
+        }
+    }
+
+    /**
+     * Deferrable work waiting to run.
+     */
+    private static final class Task
+    {
+        private final String   subsystem;
+        private final long     scheduled;
+        private       Runnable work;
+
+        private Task(final String subsystem, final Runnable work, final long scheduled)
+        {
+            this.subsystem = subsystem;
+            this.work = work;
+            this.scheduled = scheduled;
+        }
+    }
+}
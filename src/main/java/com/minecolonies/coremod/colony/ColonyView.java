@@ -16,11 +16,14 @@ import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import com.minecolonies.coremod.network.messages.ColonyViewCitizenResyncMessage;
+import com.minecolonies.coremod.network.messages.ColonyViewRequestResyncMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.client.FMLClientHandler;
@@ -36,6 +39,16 @@ import java.util.*;
  */
 public final class ColonyView implements IColony
 {
+    /**
+     * Ticks to wait for the answer to a resync before asking again, in case the answer was lost.
+     */
+    private static final int RESYNC_TIMEOUT_TICKS = 100;
+
+    /**
+     * Marks that no resync is awaited.
+     */
+    private static final long NOT_AWAITING = -1L;
+
     //  General Attributes
     private final int id;
     private final Map<Integer, WorkOrderView>         workOrders  = new HashMap<>();
@@ -99,7 +112,17 @@ public final class ColonyView implements IColony
     /**
      * The request manager on the colony view side.
      */
-    private IRequestManager requestManager;
+    private StandardRequestManager requestManager;
+
+    /**
+     * The tick the full request data was asked for after a missed delta, or {@link #NOT_AWAITING}.
+     */
+    private long requestResyncTick = NOT_AWAITING;
+
+    /**
+     * The tick the full view of a citizen was asked for after a missed inventory delta, by citizen id.
+     */
+    private final Map<Integer, Long> citizenResyncTicks = new HashMap<>();
 
     /**
      * The world.
@@ -134,8 +157,13 @@ public final class ColonyView implements IColony
      * @param colony            Colony to write data about.
      * @param buf               {@link ByteBuf} to write data in.
      * @param isNewSubScription true if this is a new subscription.
+     * @param requestDelta      the changes of the requests since the last update, or null to send all requests.
      */
-    public static void serializeNetworkData(@NotNull final Colony colony, @NotNull final ByteBuf buf, final boolean isNewSubScription)
+    public static void serializeNetworkData(
+                                             @NotNull final Colony colony,
+                                             @NotNull final ByteBuf buf,
+                                             final boolean isNewSubScription,
+                                             @Nullable final NBTTagCompound requestDelta)
     {
         //  General Attributes
         ByteBufUtils.writeUTF8String(buf, colony.getName());
@@ -173,7 +201,8 @@ public final class ColonyView implements IColony
         buf.writeBoolean(colony.isManualHousing());
         //  Citizens are sent as a separate packet
 
-        ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+        buf.writeBoolean(requestDelta == null);
+        ByteBufUtils.writeTag(buf, requestDelta == null ? colony.getRequestManager().serializeNBT() : requestDelta);
     }
 
     /**
@@ -472,11 +501,43 @@ public final class ColonyView implements IColony
         this.lastContactInHours = buf.readInt();
         this.manualHousing = buf.readBoolean();
 
-        this.requestManager = new StandardRequestManager(this);
-        this.requestManager.deserializeNBT(ByteBufUtils.readTag(buf));
+        final boolean isFullRequestData = buf.readBoolean();
+        final NBTTagCompound requestData = ByteBufUtils.readTag(buf);
+        if (isFullRequestData)
+        {
+            this.requestManager = new StandardRequestManager(this);
+            this.requestManager.deserializeNBT(requestData);
+            requestResyncTick = NOT_AWAITING;
+        }
+        else if ((requestManager == null || !requestManager.deserializeDelta(requestData)) && canAskForResync(requestResyncTick))
+        {
+            requestResyncTick = getResyncTick();
+            MineColonies.getNetwork().sendToServer(new ColonyViewRequestResyncMessage(this));
+        }
         return null;
     }
 
+    /**
+     * Check if a resync may be asked for, because none was asked for or the answer did not arrive in time.
+     *
+     * @param askedTick the tick the last resync was asked for, or {@link #NOT_AWAITING}.
+     * @return true if so.
+     */
+    private boolean canAskForResync(final long askedTick)
+    {
+        return askedTick == NOT_AWAITING || getResyncTick() - askedTick >= RESYNC_TIMEOUT_TICKS;
+    }
+
+    /**
+     * Get the current tick to time the resyncs by.
+     *
+     * @return the total time of the world, 0 before the world is known.
+     */
+    private long getResyncTick()
+    {
+        return world == null ? 0 : world.getTotalWorldTime();
+    }
+
     /**
      * Update permissions.
      *
@@ -512,8 +573,8 @@ public final class ColonyView implements IColony
 
     /**
      * Update a ColonyView's citizens given a network data ColonyView update
-     * packet. This uses a full-replacement - citizens do not get updated and
-     * are instead overwritten.
+     * packet. A full view replaces the citizen, a delta only updates the sections
+     * which changed. If the delta does not follow the view, the full view is asked for.
      *
      * @param id  ID of the citizen.
      * @param buf Network data.
@@ -522,12 +583,23 @@ public final class ColonyView implements IColony
     @Nullable
     public IMessage handleColonyViewCitizensMessage(final int id, final ByteBuf buf)
     {
-        final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
-        if (citizen != null)
+        if (buf.readBoolean())
         {
-            citizens.put(citizen.getId(), citizen);
+            final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
+            if (citizen != null)
+            {
+                citizens.put(citizen.getId(), citizen);
+            }
+            citizenResyncTicks.remove(id);
+            return null;
         }
 
+        final CitizenDataView citizen = citizens.get(id);
+        if ((citizen == null || !citizen.deserializeDelta(buf)) && canAskForResync(citizenResyncTicks.getOrDefault(id, NOT_AWAITING)))
+        {
+            citizenResyncTicks.put(id, getResyncTick());
+            MineColonies.getNetwork().sendToServer(new ColonyViewCitizenResyncMessage(this, id));
+        }
         return null;
     }
 
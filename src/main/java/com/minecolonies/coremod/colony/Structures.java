@@ -660,8 +660,16 @@ public final class Structures
 
 
         int countInUseStructures = 0;
-        for (final Colony c : ColonyManager.getColonies())
+        for (final Colony c : ColonyManager.getColoniesOrStubs())
         {
+            for (final String schematicName : c.getDormantStructureNames())
+            {
+                if (md5Set.remove(schematicName))
+                {
+                    countInUseStructures++;
+                }
+            }
+
             for (final AbstractWorkOrder workOrder : c.getWorkManager().getWorkOrders().values())
             {
                 if (workOrder instanceof WorkOrderBuildDecoration)
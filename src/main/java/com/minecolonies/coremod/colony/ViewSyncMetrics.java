@@ -0,0 +1,131 @@
+package com.minecolonies.coremod.colony;
+
+/**
+ * Cost of serializing the views of a colony for its subscribers.
+ * <p>
+ * Every dirty view is serialized once per tick and the payload is sent to all subscribers, so the amount of sent messages can be
+ * larger than the amount of serialized payloads.
+ */
+public final class ViewSyncMetrics
+{
+    private long tickNanos    = 0;
+    private long tickBytes    = 0;
+    private long tickPayloads = 0;
+
+    private long lastTickNanos    = 0;
+    private long lastTickBytes    = 0;
+    private long lastTickPayloads = 0;
+
+    private long syncTicks     = 0;
+    private long totalNanos    = 0;
+    private long totalBytes    = 0;
+    private long totalPayloads = 0;
+    private long totalMessages = 0;
+
+    /**
+     * Record a serialized payload.
+     *
+     * @param nanos time spent serializing.
+     * @param bytes size of the payload.
+     */
+    void onSerialized(final long nanos, final int bytes)
+    {
+        tickNanos += nanos;
+        tickBytes += bytes;
+        tickPayloads++;
+    }
+
+    /**
+     * Record messages sent with a payload.
+     *
+     * @param messages the amount of messages.
+     */
+    void onSent(final int messages)
+    {
+        totalMessages += messages;
+    }
+
+    /**
+     * Finish the tick, ticks which did not serialize anything keep the values of the last tick which did.
+     */
+    void endTick()
+    {
+        if (tickPayloads == 0)
+        {
+            return;
+        }
+
+        lastTickNanos = tickNanos;
+        lastTickBytes = tickBytes;
+        lastTickPayloads = tickPayloads;
+
+        syncTicks++;
+        totalNanos += tickNanos;
+        totalBytes += tickBytes;
+        totalPayloads += tickPayloads;
+
+        tickNanos = 0;
+        tickBytes = 0;
+        tickPayloads = 0;
+    }
+
+    public long getLastTickNanos()
+    {
+        return lastTickNanos;
+    }
+
+    public long getLastTickBytes()
+    {
+        return lastTickBytes;
+    }
+
+    public long getLastTickPayloads()
+    {
+        return lastTickPayloads;
+    }
+
+    public long getSyncTicks()
+    {
+        return syncTicks;
+    }
+
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    public long getTotalBytes()
+    {
+        return totalBytes;
+    }
+
+    public long getTotalPayloads()
+    {
+        return totalPayloads;
+    }
+
+    public long getTotalMessages()
+    {
+        return totalMessages;
+    }
+
+    /**
+     * Average time spent serializing per tick which serialized anything.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getAverageTickNanos()
+    {
+        return syncTicks == 0 ? 0 : (totalNanos / syncTicks);
+    }
+
+    /**
+     * Average bytes serialized per tick which serialized anything.
+     *
+     * @return the amount of bytes.
+     */
+    public long getAverageTickBytes()
+    {
+        return syncTicks == 0 ? 0 : (totalBytes / syncTicks);
+    }
+}
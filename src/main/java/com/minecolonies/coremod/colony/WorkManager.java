@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -171,6 +172,39 @@ public class WorkManager
         compound.setTag(TAG_WORK_ORDERS, list);
     }
 
+    /**
+     * Drop all work orders, when the colony becomes dormant.
+     * They are restored by {@link #readFromNBT(NBTTagCompound)} when the colony is loaded fully again.
+     */
+    public void clear()
+    {
+        workOrders.clear();
+        topWorkOrderId = 0;
+        dirty = false;
+    }
+
+    /**
+     * Read the names of the structures the saved decoration work orders build, without restoring the work orders.
+     *
+     * @param compound Compound to read from.
+     * @return the structure names.
+     */
+    @NotNull
+    public static Set<String> readDecorationStructureNames(@NotNull final NBTTagCompound compound)
+    {
+        final Set<String> names = new HashSet<>();
+        final NBTTagList list = compound.getTagList(TAG_WORK_ORDERS, NBT.TAG_COMPOUND);
+        for (int i = 0; i < list.tagCount(); ++i)
+        {
+            @Nullable final AbstractWorkOrder o = AbstractWorkOrder.createFromNBT(list.getCompoundTagAt(i));
+            if (o instanceof WorkOrderBuildDecoration)
+            {
+                names.add(((WorkOrderBuildDecoration) o).getStructureName());
+            }
+        }
+        return names;
+    }
+
     /**
      * Restore the Work Manager.
      *
@@ -1102,7 +1102,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
 
         buildingLevel = level;
         markDirty();
-        ColonyManager.markDirty();
+        colony.markSaveDirty();
     }
 
     /**
@@ -1416,7 +1416,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
             return ImmutableList.of();
         }
 
-        return ImmutableList.copyOf(citizensByRequests.get(data.getId()).stream().map(getColony().getRequestManager()::getRequestForToken).filter(Objects::nonNull).iterator());
+        return ImmutableList.copyOf(citizensByRequests.get(data.getId()).stream().map(getColony().getRequestManager()::getReadOnlyRequestForToken).filter(Objects::nonNull).iterator());
     }
 
     @SuppressWarnings(RAWTYPES)
@@ -1436,10 +1436,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
                                                                            final TypeToken<R> requestType)
     {
         return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(requestType))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .iterator());
     }
@@ -1458,17 +1455,14 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
         }
 
         return ImmutableList.copyOf(citizensByCompletedRequests.get(data.getId()).stream()
-                                      .map(getColony().getRequestManager()::getRequestForToken).filter(Objects::nonNull).iterator());
+                                      .map(getColony().getRequestManager()::getReadOnlyRequestForToken).filter(Objects::nonNull).iterator());
     }
 
     @SuppressWarnings({GENERIC_WILDCARD, RAWTYPES, UNCHECKED})
     public <R> ImmutableList<IRequest<? extends R>> getCompletedRequestsOfType(@NotNull final CitizenData citizenData, final TypeToken<R> requestType)
     {
         return ImmutableList.copyOf(getCompletedRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(requestType))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .iterator());
     }
@@ -1480,10 +1474,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
                                                                                         final Predicate<IRequest<? extends R>> filter)
     {
         return ImmutableList.copyOf(getCompletedRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(requestType))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .filter(filter)
                                       .iterator());
@@ -1580,10 +1571,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
                                                                                    final Predicate<IRequest<? extends R>> filter)
     {
         return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(requestType))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .filter(filter)
                                       .iterator());
@@ -1650,7 +1638,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
             citizensByRequests.remove(citizenThatRequested);
         }
 
-        final IRequest<?> requestThatCompleted = getColony().getRequestManager().getRequestForToken(token);
+        final IRequest<?> requestThatCompleted = getColony().getRequestManager().getReadOnlyRequestForToken(token);
         openRequests.get(TypeToken.of(requestThatCompleted.getRequest().getClass())).remove(token);
 
         if (openRequests.get(TypeToken.of(requestThatCompleted.getRequest().getClass())).isEmpty())
@@ -1677,7 +1665,7 @@ public abstract class AbstractBuilding implements IRequestResolverProvider, IReq
             citizensByRequests.remove(citizenThatRequested);
         }
 
-        final IRequest<?> requestThatCompleted = getColony().getRequestManager().getRequestForToken(token);
+        final IRequest<?> requestThatCompleted = getColony().getRequestManager().getReadOnlyRequestForToken(token);
         openRequests.get(TypeToken.of(requestThatCompleted.getRequest().getClass())).remove(token);
 
         if (openRequests.get(TypeToken.of(requestThatCompleted.getRequest().getClass())).isEmpty())
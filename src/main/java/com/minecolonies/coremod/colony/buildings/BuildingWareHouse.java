@@ -18,6 +18,7 @@ import com.minecolonies.coremod.colony.requestsystem.resolvers.WarehouseRequestR
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.coremod.tileentities.TileEntityRack;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import com.minecolonies.coremod.tileentities.WarehouseItemIndex;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockContainer;
@@ -32,6 +33,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -82,6 +84,11 @@ public class BuildingWareHouse extends AbstractBuilding
      */
     private int storageUpgrade = 0;
 
+    /**
+     * Index over the items in the racks, built on first use.
+     */
+    private final WarehouseItemIndex itemIndex = new WarehouseItemIndex();
+
     /**
      * Instantiates a new warehouse building.
      *
@@ -249,6 +256,53 @@ public class BuildingWareHouse extends AbstractBuilding
         }
     }
 
+    @Override
+    public void addContainerPosition(@NotNull final BlockPos pos)
+    {
+        super.addContainerPosition(pos);
+        if (itemIndex.isBuilt() && getColony().getWorld() != null)
+        {
+            final TileEntity entity = getColony().getWorld().getTileEntity(pos);
+            if (entity instanceof TileEntityRack)
+            {
+                itemIndex.track((TileEntityRack) entity);
+            }
+        }
+    }
+
+    @Override
+    public void removeContainerPosition(final BlockPos pos)
+    {
+        super.removeContainerPosition(pos);
+        itemIndex.remove(pos);
+    }
+
+    /**
+     * Get the index over the items in the racks of the warehouse, building it if necessary.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public WarehouseItemIndex getItemIndex()
+    {
+        if (!itemIndex.isBuilt() && getColony().getWorld() != null)
+        {
+            itemIndex.build(getColony().getWorld(), getAdditionalCountainers());
+        }
+        return itemIndex;
+    }
+
+    /**
+     * Get the index over the items in the racks of the warehouse without building it.
+     *
+     * @return the index or null if it has not been built yet.
+     */
+    @Nullable
+    public WarehouseItemIndex getItemIndexIfBuilt()
+    {
+        return itemIndex.isBuilt() ? itemIndex : null;
+    }
+
     /**
      * Handles the chest placement.
      *
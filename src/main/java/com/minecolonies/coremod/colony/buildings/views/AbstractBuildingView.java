@@ -25,7 +25,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CITIZEN_BY_REQUEST;
@@ -207,11 +206,7 @@ public abstract class AbstractBuildingView implements IRequester
     public <R> ImmutableList<IRequest<? extends R>> getOpenRequestsOfType(@NotNull final CitizenDataView citizenData, final Class<R> requestType)
     {
         return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          //TODO: Check on the types of this, it is TypeToken and Class, possible mismatch
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(TypeToken.of(requestType)))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .iterator());
     }
@@ -224,7 +219,7 @@ public abstract class AbstractBuildingView implements IRequester
             return ImmutableList.of();
         }
 
-        return ImmutableList.copyOf(citizensByRequests.get(data.getId()).stream().map(getColony().getRequestManager()::getRequestForToken).filter(Objects::nonNull).iterator());
+        return ImmutableList.copyOf(citizensByRequests.get(data.getId()).stream().map(getColony().getRequestManager()::getReadOnlyRequestForToken).filter(Objects::nonNull).iterator());
     }
 
     /**
@@ -244,11 +239,7 @@ public abstract class AbstractBuildingView implements IRequester
                                                                                                final Predicate<IRequest<? extends R>> filter)
     {
         return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          //TODO: Check on the types of this, it is TypeToken and Class, possible mismatch
-                                          return requestTypes.contains(requestType);
-                                      })
+                                      .filter(request -> ReflectionUtils.getCachedSuperClasses(request.getRequestType()).contains(TypeToken.of(requestType)))
                                       .map(request -> (IRequest<? extends R>) request)
                                       .filter(filter)
                                       .iterator());
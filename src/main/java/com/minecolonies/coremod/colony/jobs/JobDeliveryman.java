@@ -155,7 +155,7 @@ public class JobDeliveryman extends AbstractJob
         {
             return null;
         }
-        return getColony().getRequestManager().getRequestForToken(taskQueue.peekFirst());
+        return getColony().getRequestManager().getReadOnlyRequestForToken(taskQueue.peekFirst());
     }
 
     /**
@@ -204,6 +204,24 @@ public class JobDeliveryman extends AbstractJob
         }
     }
 
+    /**
+     * Move tasks to the front of the queue, in the given order.
+     * Tasks which are not in the queue are ignored.
+     *
+     * @param tokens the tokens of the tasks to do first.
+     */
+    public void moveTasksToFront(@NotNull final List<IToken<?>> tokens)
+    {
+        for (int i = tokens.size() - 1; i >= 0; i--)
+        {
+            final IToken<?> token = tokens.get(i);
+            if (taskQueue.remove(token))
+            {
+                taskQueue.addFirst(token);
+            }
+        }
+    }
+
     /**
      * Method to get the task queue of this job.
      *
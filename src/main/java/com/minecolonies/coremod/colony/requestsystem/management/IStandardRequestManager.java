@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -42,6 +43,29 @@ public interface IStandardRequestManager extends IRequestManager
     @NotNull
     Map<TypeToken<?>, Collection<IRequestResolver<?>>> getRequestClassResolverMap();
 
+    /**
+     * Resolvers which can resolve a request type, in the order they are tried during assignment.
+     * Filled lazily and cleared whenever a resolver is registered or removed.
+     *
+     * @return the index by request type.
+     */
+    @NotNull
+    Map<TypeToken<?>, ImmutableList<IRequestResolver<?>>> getRequestTypeResolverIndex();
+
+    /**
+     * Mark a request and its parents as changed, so they are sent with the next view update.
+     *
+     * @param token the token of the request.
+     */
+    void markRequestChanged(@NotNull IToken<?> token);
+
+    /**
+     * Mark a request as removed, so its removal is sent with the next view update.
+     *
+     * @param token the token of the request.
+     */
+    void markRequestRemoved(@NotNull IToken<?> token);
+
     boolean isDataSimulation();
 
     boolean isResolvingSimulation();
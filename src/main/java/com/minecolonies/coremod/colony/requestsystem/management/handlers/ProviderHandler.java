@@ -165,6 +165,7 @@ public final class ProviderHandler
                                 {
                                     cleanUpRequest.addChild(childToken);
                                     childRequest.setParent(cleanUpRequest.getToken());
+                                    manager.markRequestChanged(childToken);
 
                                     //Assign the new followup request if it is not assigned yet.
                                     if (!RequestHandler.isAssigned(manager, cleanUpRequest.getToken()))
@@ -10,8 +10,6 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
@@ -20,7 +18,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -58,6 +55,7 @@ public final class RequestHandler
         LogHandler.log("Registering request: " + request);
 
         manager.getRequestBiMap().put(request.getToken(), request);
+        manager.markRequestChanged(request.getToken());
     }
 
     /**
@@ -120,87 +118,66 @@ public final class RequestHandler
         LogHandler.log("Starting resolver assignment search for request: " + request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
+        manager.markRequestChanged(request.getToken());
 
-        @SuppressWarnings(RAWTYPES) final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final Set<IToken<?>> failedResolvers = new HashSet<>();
-
-        for (@SuppressWarnings(RAWTYPES) final TypeToken requestType : requestTypes)
+        for (final IRequestResolver<?> resolver : ResolverHandler.getResolversForRequestType(manager, request.getRequestType()))
         {
-            if (!manager.getRequestClassResolverMap().containsKey(requestType))
+            //Skip when the resolver is in the blacklist.
+            if (resolverTokenBlackList.contains(resolver.getRequesterId()))
             {
                 continue;
             }
 
-            Collection<IRequestResolver<?>> resolversForRequestType = manager.getRequestClassResolverMap().get(requestType);
-            resolversForRequestType = resolversForRequestType.stream()
-                                        .filter(r -> r.getRequestType().isAssignableFrom(request.getRequestType()))
-                                        .filter(r -> !failedResolvers.contains(r.getRequesterId()))
-                                        .sorted(Comparator.comparing(r -> -1 * r.getPriority()))
-                                        .collect(Collectors.toSet());
-
-            for (final IRequestResolver<?> resolver : resolversForRequestType)
+            //Skip if preliminary check fails
+            if (!resolver.canResolve(manager, request))
             {
-                //Skip when the resolver is in the blacklist.
-                if (resolverTokenBlackList.contains(resolver.getRequesterId()))
-                {
-                    failedResolvers.add(resolver.getRequesterId());
-                    continue;
-                }
-
-                //Skip if preliminary check fails
-                if (!resolver.canResolve(manager, request))
-                {
-                    failedResolvers.add(resolver.getRequesterId());
-                    continue;
-                }
+                continue;
+            }
 
-                @Nullable final List<IToken<?>> attemptResult = resolver.attemptResolve(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+            @Nullable final List<IToken<?>> attemptResult = resolver.attemptResolve(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
 
-                //Skip if attempt failed (aka attemptResult == null)
-                if (attemptResult == null)
-                {
-                    failedResolvers.add(resolver.getRequesterId());
-                    continue;
-                }
+            //Skip if attempt failed (aka attemptResult == null)
+            if (attemptResult == null)
+            {
+                continue;
+            }
 
-                //Successfully found a resolver. Registering
-                LogHandler.log("Finished resolver assignment search for request: " + request + " successfully");
+            //Successfully found a resolver. Registering
+            LogHandler.log("Finished resolver assignment search for request: " + request + " successfully");
 
-                if (!manager.isDataSimulation())
-                {
-                    ResolverHandler.addRequestToResolver(manager, resolver, request);
-                }
+            if (!manager.isDataSimulation())
+            {
+                ResolverHandler.addRequestToResolver(manager, resolver, request);
+            }
 
-                for (final IToken<?> childRequestToken :
-                  attemptResult)
-                {
-                    @SuppressWarnings(RAWTYPES) final IRequest childRequest = RequestHandler.getRequest(manager, childRequestToken);
+            for (final IToken<?> childRequestToken :
+              attemptResult)
+            {
+                @SuppressWarnings(RAWTYPES) final IRequest childRequest = RequestHandler.getRequest(manager, childRequestToken);
 
-                    childRequest.setParent(request.getToken());
-                    request.addChild(childRequest.getToken());
+                childRequest.setParent(request.getToken());
+                request.addChild(childRequest.getToken());
+                manager.markRequestChanged(childRequestToken);
 
-                    if (!isAssigned(manager, childRequestToken))
-                    {
-                        assignRequest(manager, childRequest, resolverTokenBlackList);
-                    }
+                if (!isAssigned(manager, childRequestToken))
+                {
+                    assignRequest(manager, childRequest, resolverTokenBlackList);
                 }
+            }
 
-                if (request.getState().ordinal() < RequestState.IN_PROGRESS.ordinal())
+            if (request.getState().ordinal() < RequestState.IN_PROGRESS.ordinal())
+            {
+                request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+                if (!request.hasChildren())
                 {
-                    request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
-                    if (!request.hasChildren())
+                    if (!manager.isDataSimulation())
                     {
-                        if (!manager.isDataSimulation())
-                        {
-                            resolveRequest(manager, request);
-                        }
+                        resolveRequest(manager, request);
                     }
                 }
-
-                return resolver.getRequesterId();
             }
+
+            return resolver.getRequesterId();
         }
 
         return null;
@@ -267,6 +244,7 @@ public final class RequestHandler
             }
 
             parentRequest.removeChild(request.getToken());
+            manager.markRequestChanged(parentRequest.getToken());
 
             manager.updateRequestState(request.getToken(), RequestState.RECEIVED);
 
@@ -300,6 +278,7 @@ public final class RequestHandler
         if (!manager.getRequestResolverMap().containsKey(token))
         {
             manager.getRequestBiMap().remove(token);
+            manager.markRequestRemoved(token);
             return;
         }
 
@@ -358,6 +337,7 @@ public final class RequestHandler
         if (!manager.getRequestResolverMap().containsKey(token))
         {
             manager.getRequestBiMap().remove(token);
+            manager.markRequestRemoved(token);
             return;
         }
 
@@ -392,6 +372,7 @@ public final class RequestHandler
 
             currentParent.removeChild(target.getToken());
             target.setParent(null);
+            manager.markRequestChanged(currentParent.getToken());
         }
 
         if (newParent != null)
@@ -399,6 +380,7 @@ public final class RequestHandler
             //Switch out the parent, and add the old child to the cleanup request as new child
             newParent.addChild(target.getToken());
             target.setParent(newParent.getToken());
+            manager.markRequestChanged(target.getToken());
 
             //Assign the new parent request if it is not assigned yet.
             if (!RequestHandler.isAssigned(manager, newParent.getToken()))
@@ -438,6 +420,7 @@ public final class RequestHandler
         final IRequestResolver resolver = ResolverHandler.getResolverForRequest(manager, request);
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.IN_PROGRESS);
+        manager.markRequestChanged(request.getToken());
         resolver.resolve(manager, request);
     }
 
@@ -456,6 +439,7 @@ public final class RequestHandler
         getRequest(manager, token);
 
         manager.getRequestBiMap().remove(token);
+        manager.markRequestRemoved(token);
 
         if (isAssigned(manager, token))
         {
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
@@ -21,6 +22,10 @@ import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
  */
 public final class ResolverHandler
 {
+    /**
+     * Order in which the resolvers registered for a single type are tried, highest priority first.
+     */
+    private static final Comparator<IRequestResolver<?>> PRIORITY_ORDER = Comparator.comparingInt(r -> -1 * r.getPriority());
 
     /**
      * Method used to register multiple resolvers simultaneously
@@ -70,17 +75,30 @@ public final class ResolverHandler
 
         manager.getResolverBiMap().put(resolver.getRequesterId(), resolver);
 
-        @SuppressWarnings(RAWTYPES) final Set<TypeToken> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        resolverTypes.remove(TypeConstants.OBJECT);
-        resolverTypes.forEach(c -> {
+        for (@SuppressWarnings(RAWTYPES) final TypeToken c : ReflectionUtils.getCachedSuperClasses(resolver.getRequestType()))
+        {
+            if (c.equals(TypeConstants.OBJECT))
+            {
+                continue;
+            }
+
             if (!manager.getRequestClassResolverMap().containsKey(c))
             {
                 manager.getRequestClassResolverMap().put(c, new ArrayList<>());
             }
 
             LogHandler.log("Registering resolver: " + resolver + " with request type: " + c);
-            manager.getRequestClassResolverMap().get(c).add(resolver);
-        });
+            final List<IRequestResolver<?>> resolvers = (List<IRequestResolver<?>>) manager.getRequestClassResolverMap().get(c);
+
+            //Insert behind all resolvers with the same or a higher priority, keeps the registration order within a priority.
+            int index = resolvers.size();
+            while (index > 0 && PRIORITY_ORDER.compare(resolvers.get(index - 1), resolver) > 0)
+            {
+                index--;
+            }
+            resolvers.add(index, resolver);
+        }
+        manager.getRequestTypeResolverIndex().clear();
 
         return resolver.getRequesterId();
     }
@@ -185,12 +203,62 @@ public final class ResolverHandler
     public static void removeResolverInternal(final IStandardRequestManager manager, final IRequestResolver<?> resolver)
     {
         manager.getResolverBiMap().remove(resolver.getRequesterId());
-        @SuppressWarnings(RAWTYPES) final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
-        requestTypes.forEach(c -> {
+        for (@SuppressWarnings(RAWTYPES) final TypeToken c : ReflectionUtils.getCachedSuperClasses(resolver.getRequestType()))
+        {
+            if (c.equals(TypeConstants.OBJECT))
+            {
+                continue;
+            }
+
             LogHandler.log("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestClassResolverMap().get(c).remove(resolver);
-        });
+        }
+        manager.getRequestTypeResolverIndex().clear();
+    }
+
+    /**
+     * Method used to get the resolvers that can resolve a given request type, in the order they should be tried.
+     * <p>
+     * <p>
+     * Is only used internally.
+     * The resolvers registered for the request type come first, followed by the resolvers of each of its super types.
+     * Within a type they are sorted by priority, highest first. The result is cached until a resolver is registered or removed.
+     * </p>
+     *
+     * @param manager     The manager to get the resolvers from.
+     * @param requestType The type of the request.
+     * @return The resolvers that can resolve the request type.
+     */
+    @SuppressWarnings(RAWTYPES)
+    public static ImmutableList<IRequestResolver<?>> getResolversForRequestType(final IStandardRequestManager manager, final TypeToken<?> requestType)
+    {
+        final ImmutableList<IRequestResolver<?>> cached = manager.getRequestTypeResolverIndex().get(requestType);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final Set<IRequestResolver<?>> resolvers = new LinkedHashSet<>();
+        for (final TypeToken c : ReflectionUtils.getCachedSuperClasses(requestType))
+        {
+            final Collection<IRequestResolver<?>> resolversForType = manager.getRequestClassResolverMap().get(c);
+            if (resolversForType == null || c.equals(TypeConstants.OBJECT))
+            {
+                continue;
+            }
+
+            for (final IRequestResolver<?> resolver : resolversForType)
+            {
+                if (resolver.getRequestType().isAssignableFrom(requestType))
+                {
+                    resolvers.add(resolver);
+                }
+            }
+        }
+
+        final ImmutableList<IRequestResolver<?>> result = ImmutableList.copyOf(resolvers);
+        manager.getRequestTypeResolverIndex().put(requestType, result);
+        return result;
     }
 
     /**
@@ -253,6 +321,7 @@ public final class ResolverHandler
         manager.getRequestResolverMap().put(request.getToken(), resolver.getRequesterId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
+        manager.markRequestChanged(request.getToken());
     }
 
     /**
@@ -284,6 +353,7 @@ public final class ResolverHandler
 
         manager.getResolverRequestMap().get(resolver.getRequesterId()).remove(request.getToken());
         manager.getRequestResolverMap().remove(request.getToken());
+        manager.markRequestChanged(request.getToken());
     }
 
     /**
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.manager;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
@@ -28,6 +29,7 @@ import com.minecolonies.coremod.colony.requestsystem.management.handlers.Provide
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.RequestHandler;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.ResolverHandler;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.requests.ReadOnlyRequest;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -39,6 +41,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -65,6 +68,12 @@ public class StandardRequestManager implements IStandardRequestManager
     private static final String NBT_ASSIGNMENTS = "Assignments";
 
     private static final String NBT_REQUEST = "Request";
+
+    private static final String NBT_VERSION      = "Version";
+    private static final String NBT_BASE_VERSION = "BaseVersion";
+    private static final String NBT_CHANGED      = "Changed";
+    private static final String NBT_REMOVED      = "Removed";
+    private static final String NBT_RESOLVER     = "Resolver";
     ////---------------------------NBTTags-------------------------\\\\
 
     /**
@@ -108,6 +117,12 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     @NotNull
     private final Map<TypeToken<?>, Collection<IRequestResolver<?>>> requestClassResolverMap = new HashMap<>();
+
+    /**
+     * Map that holds the resolvers, sorted for assignment, that can resolve a given request type.
+     */
+    @NotNull
+    private final Map<TypeToken<?>, ImmutableList<IRequestResolver<?>>> requestTypeResolverIndex = new HashMap<>();
     /**
      * Colony of the manager.
      */
@@ -126,6 +141,19 @@ public class StandardRequestManager implements IStandardRequestManager
     @NotNull
     private IRetryingRequestResolver retryingResolver = null;
 
+    /**
+     * Requests changed or removed since the last delta was serialized for the colony views.
+     */
+    @NotNull
+    private final Set<IToken<?>> changedRequests = new HashSet<>();
+    @NotNull
+    private final Set<IToken<?>> removedRequests = new HashSet<>();
+
+    /**
+     * Version of the synced data, every delta moves it up by one so views can detect a missed delta.
+     */
+    private int syncVersion = 0;
+
     public StandardRequestManager(final IColony colony)
     {
         this.colony = colony;
@@ -262,6 +290,16 @@ public class StandardRequestManager implements IStandardRequestManager
 
         return getFactoryController().deserialize(requestData);
     }
+
+    @SuppressWarnings({UNCHECKED, RAWTYPES})
+    @Nullable
+    @Override
+    public IRequest getReadOnlyRequestForToken(@NotNull final IToken<?> token)
+    {
+        final IRequest internalRequest = RequestHandler.getRequestOrNull(this, token);
+
+        return internalRequest == null ? null : new ReadOnlyRequest(internalRequest);
+    }
     @SuppressWarnings(RAWTYPES)
     @NotNull
     @Override
@@ -297,6 +335,7 @@ public class StandardRequestManager implements IStandardRequestManager
         LogHandler.log("Updating request state from:" + token + ". With original state: " + request.getState() + " to : " + state);
 
         request.setState(new WrappedStaticStateRequestManager(this), state);
+        markRequestChanged(token);
 
         if (colony != null)
         {
@@ -388,16 +427,8 @@ public class StandardRequestManager implements IStandardRequestManager
     public NBTTagCompound serializeNBT()
     {
         final NBTTagCompound systemCompound = new NBTTagCompound();
-
-        if (this.playerResolver != null)
-        {
-            systemCompound.setTag(NBT_PLAYER, getFactoryController().serialize(playerResolver));
-        }
-
-        if (this.retryingResolver != null)
-        {
-            systemCompound.setTag(NBT_RETRYING, getFactoryController().serialize(retryingResolver));
-        }
+        systemCompound.setInteger(NBT_VERSION, syncVersion);
+        serializeFallbackResolvers(systemCompound);
 
         final NBTTagList requestIdentityList = new NBTTagList();
         requestBiMap.keySet().forEach(token -> {
@@ -433,6 +464,73 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     @Override
     public void deserializeNBT(final NBTTagCompound nbt)
+    {
+        syncVersion = nbt.getInteger(NBT_VERSION);
+        deserializeFallbackResolvers(nbt);
+
+        final NBTTagList requestIdentityList = nbt.getTagList(NBT_REQUEST_IDENTITY_MAP, Constants.NBT.TAG_COMPOUND);
+        requestBiMap.clear();
+        NBTUtils.streamCompound(requestIdentityList).forEach(identityCompound -> {
+            final IToken<?> token = getFactoryController().deserialize(identityCompound.getCompoundTag(NBT_TOKEN));
+            final IRequest<?> request = getFactoryController().deserialize(identityCompound.getCompoundTag(NBT_REQUEST));
+
+            requestBiMap.put(token, request);
+        });
+
+        final NBTTagList resolverRequestAssignmentList = nbt.getTagList(NBT_RESOLVER_REQUESTS_ASSIGNMENTS, Constants.NBT.TAG_COMPOUND);
+        resolverRequestMap.clear();
+        requestResolverMap.clear();
+        NBTUtils.streamCompound(resolverRequestAssignmentList).forEach(assignmentCompound -> {
+            final IToken<?> token = getFactoryController().deserialize(assignmentCompound.getCompoundTag(NBT_TOKEN));
+            if (!resolverBiMap.containsKey(token))
+            {
+                //Since we use dynamic resolvers some might not exist on the client side.
+                //If we would not do this check it would spam the log.
+                if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER)
+                {
+                    Log.getLogger().error("Unknown resolver found in NBT Data. Something might be going wrong and requests might linger around!");
+                }
+                return;
+            }
+
+            final NBTTagList assignmentsLists = assignmentCompound.getTagList(NBT_ASSIGNMENTS, Constants.NBT.TAG_COMPOUND);
+            final Set<IToken<?>> assignedRequests = NBTUtils.streamCompound(assignmentsLists).map(tokenCompound -> {
+                IToken<?> assignedToken = getFactoryController().deserialize(tokenCompound);
+
+                // Reverse mapping being restored.
+                requestResolverMap.put(assignedToken, token);
+
+                return assignedToken;
+            }).collect(Collectors.toSet());
+
+            resolverRequestMap.put(token, assignedRequests);
+        });
+    }
+
+    /**
+     * Write the player and retrying resolvers.
+     *
+     * @param compound the compound to write to.
+     */
+    private void serializeFallbackResolvers(@NotNull final NBTTagCompound compound)
+    {
+        if (this.playerResolver != null)
+        {
+            compound.setTag(NBT_PLAYER, getFactoryController().serialize(playerResolver));
+        }
+
+        if (this.retryingResolver != null)
+        {
+            compound.setTag(NBT_RETRYING, getFactoryController().serialize(retryingResolver));
+        }
+    }
+
+    /**
+     * Replace the player and retrying resolvers.
+     *
+     * @param nbt the compound to read from.
+     */
+    private void deserializeFallbackResolvers(@NotNull final NBTTagCompound nbt)
     {
         if (playerResolver != null)
         {
@@ -472,44 +570,161 @@ public class StandardRequestManager implements IStandardRequestManager
         {
             ResolverHandler.registerResolver(this, this.retryingResolver);
         }
+    }
 
-        final NBTTagList requestIdentityList = nbt.getTagList(NBT_REQUEST_IDENTITY_MAP, Constants.NBT.TAG_COMPOUND);
-        requestBiMap.clear();
-        NBTUtils.streamCompound(requestIdentityList).forEach(identityCompound -> {
-            final IToken<?> token = getFactoryController().deserialize(identityCompound.getCompoundTag(NBT_TOKEN));
-            final IRequest<?> request = getFactoryController().deserialize(identityCompound.getCompoundTag(NBT_REQUEST));
+    /**
+     * Version of the data last serialized for the colony views.
+     *
+     * @return the version.
+     */
+    public int getSyncVersion()
+    {
+        return syncVersion;
+    }
 
-            requestBiMap.put(token, request);
-        });
+    @Override
+    public void markRequestChanged(@NotNull final IToken<?> token)
+    {
+        //  The parents see the state changes of their children, so they are sent again as well.
+        IToken<?> current = token;
+        for (int depth = 0; current != null && depth <= requestBiMap.size(); depth++)
+        {
+            removedRequests.remove(current);
+            changedRequests.add(current);
 
-        final NBTTagList resolverRequestAssignmentList = nbt.getTagList(NBT_RESOLVER_REQUESTS_ASSIGNMENTS, Constants.NBT.TAG_COMPOUND);
-        resolverRequestMap.clear();
-        requestResolverMap.clear();
-        NBTUtils.streamCompound(resolverRequestAssignmentList).forEach(assignmentCompound -> {
-            final IToken<?> token = getFactoryController().deserialize(assignmentCompound.getCompoundTag(NBT_TOKEN));
-            if (!resolverBiMap.containsKey(token))
+            final IRequest<?> request = requestBiMap.get(current);
+            current = request == null || !request.hasParent() ? null : request.getParent();
+        }
+    }
+
+    @Override
+    public void markRequestRemoved(@NotNull final IToken<?> token)
+    {
+        changedRequests.remove(token);
+        removedRequests.add(token);
+    }
+
+    /**
+     * Serialize the requests changed or removed since the last delta and start tracking the next one.
+     * <p>
+     * Changed requests are sent with their current data, so applying a delta to a view which already has the changes does no harm.
+     *
+     * @return the delta.
+     */
+    @NotNull
+    public NBTTagCompound serializeDelta()
+    {
+        final NBTTagCompound delta = new NBTTagCompound();
+        delta.setInteger(NBT_BASE_VERSION, syncVersion);
+
+        if (!changedRequests.isEmpty() || !removedRequests.isEmpty())
+        {
+            serializeFallbackResolvers(delta);
+
+            final NBTTagList changedList = new NBTTagList();
+            final NBTTagList removedList = new NBTTagList();
+            for (final IToken<?> token : changedRequests)
             {
-                //Since we use dynamic resolvers some might not exist on the client side.
-                //If we would not do this check it would spam the log.
-                if (FMLCommonHandler.instance().getEffectiveSide() == Side.SERVER)
+                final IRequest<?> request = requestBiMap.get(token);
+                if (request == null)
                 {
-                    Log.getLogger().error("Unknown resolver found in NBT Data. Something might be going wrong and requests might linger around!");
+                    removedList.appendTag(getFactoryController().serialize(token));
+                    continue;
                 }
-                return;
+
+                final NBTTagCompound requestCompound = new NBTTagCompound();
+                requestCompound.setTag(NBT_TOKEN, getFactoryController().serialize(token));
+                requestCompound.setTag(NBT_REQUEST, getFactoryController().serialize(request));
+
+                final IToken<?> resolverToken = requestResolverMap.get(token);
+                if (resolverToken != null)
+                {
+                    requestCompound.setTag(NBT_RESOLVER, getFactoryController().serialize(resolverToken));
+                }
+                changedList.appendTag(requestCompound);
             }
+            removedRequests.forEach(token -> removedList.appendTag(getFactoryController().serialize(token)));
 
-            final NBTTagList assignmentsLists = assignmentCompound.getTagList(NBT_ASSIGNMENTS, Constants.NBT.TAG_COMPOUND);
-            final Set<IToken<?>> assignedRequests = NBTUtils.streamCompound(assignmentsLists).map(tokenCompound -> {
-                IToken<?> assignedToken = getFactoryController().deserialize(tokenCompound);
+            delta.setTag(NBT_CHANGED, changedList);
+            delta.setTag(NBT_REMOVED, removedList);
+            discardChanges();
+        }
 
-                // Reverse mapping being restored.
-                requestResolverMap.put(assignedToken, token);
+        delta.setInteger(NBT_VERSION, syncVersion);
+        return delta;
+    }
 
-                return assignedToken;
-            }).collect(Collectors.toSet());
+    /**
+     * Forget the tracked changes, used when no view needs them because new subscribers receive the full data.
+     */
+    public void discardChanges()
+    {
+        if (changedRequests.isEmpty() && removedRequests.isEmpty())
+        {
+            return;
+        }
 
-            resolverRequestMap.put(token, assignedRequests);
+        changedRequests.clear();
+        removedRequests.clear();
+        syncVersion++;
+    }
+
+    /**
+     * Apply a delta written by {@link #serializeDelta()} to the requests of a colony view.
+     *
+     * @param delta the delta.
+     * @return false if the delta does not follow the data of this manager, then the full data has to be requested.
+     */
+    public boolean deserializeDelta(@NotNull final NBTTagCompound delta)
+    {
+        if (delta.getInteger(NBT_BASE_VERSION) != syncVersion)
+        {
+            return false;
+        }
+
+        final int version = delta.getInteger(NBT_VERSION);
+        if (version == syncVersion)
+        {
+            return true;
+        }
+
+        deserializeFallbackResolvers(delta);
+
+        NBTUtils.streamCompound(delta.getTagList(NBT_REMOVED, Constants.NBT.TAG_COMPOUND)).forEach(tokenCompound -> {
+            final IToken<?> token = getFactoryController().deserialize(tokenCompound);
+            requestBiMap.remove(token);
+            unassignSyncedRequest(token);
+        });
+
+        NBTUtils.streamCompound(delta.getTagList(NBT_CHANGED, Constants.NBT.TAG_COMPOUND)).forEach(requestCompound -> {
+            final IToken<?> token = getFactoryController().deserialize(requestCompound.getCompoundTag(NBT_TOKEN));
+            final IRequest<?> request = getFactoryController().deserialize(requestCompound.getCompoundTag(NBT_REQUEST));
+            requestBiMap.forcePut(token, request);
+            unassignSyncedRequest(token);
+
+            if (requestCompound.hasKey(NBT_RESOLVER))
+            {
+                //Like in the full data, assignments to resolvers which only exist on the server are skipped.
+                final IToken<?> resolverToken = getFactoryController().deserialize(requestCompound.getCompoundTag(NBT_RESOLVER));
+                if (resolverBiMap.containsKey(resolverToken))
+                {
+                    resolverRequestMap.computeIfAbsent(resolverToken, t -> new HashSet<>()).add(token);
+                    requestResolverMap.put(token, resolverToken);
+                }
+            }
         });
+
+        syncVersion = version;
+        return true;
+    }
+
+    private void unassignSyncedRequest(@NotNull final IToken<?> token)
+    {
+        final IToken<?> resolverToken = requestResolverMap.remove(token);
+        if (resolverToken != null && resolverRequestMap.containsKey(resolverToken))
+        {
+            resolverRequestMap.get(resolverToken).remove(token);
+        }
     }
 
     @Override
@@ -567,6 +782,13 @@ public class StandardRequestManager implements IStandardRequestManager
         return requestClassResolverMap;
     }
 
+    @Override
+    @NotNull
+    public Map<TypeToken<?>, ImmutableList<IRequestResolver<?>>> getRequestTypeResolverIndex()
+    {
+        return requestTypeResolverIndex;
+    }
+
     @Override
     public boolean isDataSimulation()
     {
@@ -129,6 +129,14 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         return RequestHandler.getRequestOrNull(wrappedManager, token);
     }
 
+    @SuppressWarnings(RAWTYPES)
+    @Nullable
+    @Override
+    public IRequest getReadOnlyRequestForToken(@NotNull final IToken<?> token)
+    {
+        return wrappedManager.getReadOnlyRequestForToken(token);
+    }
+
     /**
      * Method to get a resolver from its token.
      *
@@ -0,0 +1,271 @@
+package com.minecolonies.coremod.colony.requestsystem.requests;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.text.ITextComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read only view on a request of a manager.
+ * <p>
+ * The view is not a copy, it always shows the current data of the request. Methods which would modify the request throw an
+ * {@link UnsupportedOperationException}, the returned requestables and stacks must not be modified either.
+ *
+ * @param <R> The type of request this is.
+ */
+public final class ReadOnlyRequest<R extends IRequestable> implements IRequest<R>
+{
+    @NotNull
+    private final IRequest<R> request;
+
+    /**
+     * Create a view on a request.
+     *
+     * @param request the request.
+     */
+    public ReadOnlyRequest(@NotNull final IRequest<R> request)
+    {
+        this.request = request;
+    }
+
+    private UnsupportedOperationException readOnly()
+    {
+        return new UnsupportedOperationException("Request " + request.getToken() + " is read only. Use the request manager to modify it.");
+    }
+
+    @Override
+    public AssigningStrategy getStrategy()
+    {
+        return request.getStrategy();
+    }
+
+    @Override
+    public <T extends IToken<?>> T getToken()
+    {
+        return request.getToken();
+    }
+
+    @NotNull
+    @Override
+    public TypeToken<? extends R> getRequestType()
+    {
+        return request.getRequestType();
+    }
+
+    @NotNull
+    @Override
+    public RequestState getState()
+    {
+        return request.getState();
+    }
+
+    @Override
+    public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
+    {
+        throw readOnly();
+    }
+
+    @NotNull
+    @Override
+    public IRequester getRequester()
+    {
+        return request.getRequester();
+    }
+
+    @NotNull
+    @Override
+    public R getRequest()
+    {
+        return request.getRequest();
+    }
+
+    @Nullable
+    @Override
+    public R getResult()
+    {
+        return request.getResult();
+    }
+
+    @Override
+    public void setResult(@NotNull final R result)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean hasResult()
+    {
+        return request.hasResult();
+    }
+
+    @Nullable
+    @Override
+    public <T extends IToken<?>> T getParent()
+    {
+        return request.getParent();
+    }
+
+    @Override
+    public <T extends IToken<?>> void setParent(@Nullable final T parent)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean hasParent()
+    {
+        return request.hasParent();
+    }
+
+    @Override
+    public <T extends IToken<?>> void addChild(@NotNull final T child)
+    {
+        throw readOnly();
+    }
+
+    @SafeVarargs
+    @Override
+    public final <T extends IToken<?>> void addChildren(@NotNull final T... children)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public <T extends IToken<?>> void addChildren(@NotNull final Collection<T> children)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public <T extends IToken<?>> void removeChild(@NotNull final T child)
+    {
+        throw readOnly();
+    }
+
+    @SafeVarargs
+    @Override
+    public final <T extends IToken<?>> void removeChildren(@NotNull final T... children)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public <T extends IToken<?>> void removeChildren(@NotNull final Collection<T> children)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean hasChildren()
+    {
+        return request.hasChildren();
+    }
+
+    @NotNull
+    @Override
+    public ImmutableCollection<IToken<?>> getChildren()
+    {
+        return request.getChildren();
+    }
+
+    @Override
+    public void childStateUpdated(@NotNull final IRequestManager manager, @NotNull final IToken<?> child)
+    {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean canBeDelivered()
+    {
+        return request.canBeDelivered();
+    }
+
+    @NotNull
+    @Override
+    public ItemStack getDelivery()
+    {
+        return request.getDelivery();
+    }
+
+    @Override
+    public void setDelivery(@Nullable final ItemStack delivery)
+    {
+        throw readOnly();
+    }
+
+    @NotNull
+    @Override
+    public ITextComponent getShortDisplayString()
+    {
+        return request.getShortDisplayString();
+    }
+
+    @NotNull
+    @Override
+    public ITextComponent getLongDisplayString()
+    {
+        return request.getLongDisplayString();
+    }
+
+    @NotNull
+    @Override
+    public List<ItemStack> getDisplayStacks()
+    {
+        return request.getDisplayStacks();
+    }
+
+    @NotNull
+    @Override
+    public ResourceLocation getDisplayIcon()
+    {
+        return request.getDisplayIcon();
+    }
+
+    @NotNull
+    @Override
+    public <T> Optional<T> getRequestOfType(final Class<T> tClass)
+    {
+        return request.getRequestOfType(tClass);
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        return request.equals(((ReadOnlyRequest<?>) o).request);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return request.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ReadOnlyRequest{" + request + "}";
+    }
+}
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.Delivery;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.TranslationConstants;
@@ -16,6 +17,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.BuildingWareHouse;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
@@ -54,7 +56,9 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
             Colony colony = (Colony) manager.getColony();
             Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
 
-            return wareHouses.stream().anyMatch(wareHouse -> wareHouse.hasMatchinItemStackInWarehouse(itemStack -> requestToCheck.getRequest().matches(itemStack)));
+            final Item item = getRequestedItem(requestToCheck.getRequest());
+
+            return wareHouses.stream().anyMatch(wareHouse -> wareHouse.hasMatchinItemStackInWarehouse(item, itemStack -> requestToCheck.getRequest().matches(itemStack)));
         }
 
         return false;
@@ -76,10 +80,11 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
         Colony colony = (Colony) manager.getColony();
         Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
+        final Item item = getRequestedItem(request.getRequest());
 
         for (TileEntityWareHouse wareHouse : wareHouses)
         {
-            ItemStack matchingStack = wareHouse.getFirstMatchingItemStackInWarehouse(itemStack -> request.getRequest().matches(itemStack));
+            ItemStack matchingStack = wareHouse.getFirstMatchingItemStackInWarehouse(item, itemStack -> request.getRequest().matches(itemStack));
             if (ItemStackUtils.isEmpty(matchingStack))
             {
                 continue;
@@ -87,7 +92,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
             request.setDelivery(matchingStack.copy());
 
-            BlockPos itemStackPos = wareHouse.getPositionOfChestWithItemStack(itemStack -> ItemStack.areItemsEqual(itemStack, matchingStack));
+            BlockPos itemStackPos = wareHouse.getPositionOfChestWithItemStack(matchingStack.getItem(), itemStack -> ItemStack.areItemsEqual(itemStack, matchingStack));
             ILocation itemStackLocation = manager.getFactoryController().getNewInstance(TypeConstants.ILOCATION, itemStackPos, wareHouse.getWorld().provider.getDimension());
 
             Delivery delivery = new Delivery(itemStackLocation, request.getRequester().getRequesterLocation(), matchingStack.copy());
@@ -122,6 +127,23 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
         return null;
     }
 
+    /**
+     * Get the only item a deliverable can match, used to look it up in the item index of the warehouses.
+     *
+     * @param deliverable the deliverable.
+     * @return the item or null if the deliverable may match different items.
+     */
+    @Nullable
+    private static Item getRequestedItem(@NotNull final IDeliverable deliverable)
+    {
+        if (deliverable instanceof Stack && !((Stack) deliverable).isMatchOreDic())
+        {
+            return ((Stack) deliverable).getStack().getItem();
+        }
+
+        return null;
+    }
+
     private static Set<TileEntityWareHouse> getWareHousesInColony(Colony colony)
     {
         return colony.getBuildings().values().stream()
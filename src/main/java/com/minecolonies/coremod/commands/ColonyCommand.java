@@ -27,6 +27,7 @@ public class ColonyCommand extends AbstractSplitCommand
         .put(ColonyTeleportCommand.DESC, new ColonyTeleportCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, ColonyTeleportCommand.DESC))
         .put(DoRaidNowCommand.DESC, new DoRaidNowCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, DoRaidNowCommand.DESC))
         .put(DoRaidTonightCommand.DESC, new DoRaidTonightCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, DoRaidTonightCommand.DESC))
+        .put(ColonyTickTimesCommand.DESC, new ColonyTickTimesCommand(MinecoloniesCommand.DESC, ColonyCommand.DESC, ColonyTickTimesCommand.DESC))
         .build();
 
     /**
@@ -75,7 +75,7 @@ public final class GetColonyAndCitizen
         {
             throw new IllegalArgumentException(UNKNOWN_ERROR);
         }
-        if (colonyId >= 0 && ColonyManager.getColony(colonyId) == null)
+        if (colonyId >= 0 && ColonyManager.getColonyOrStub(colonyId) == null)
         {
             throw new IllegalArgumentException(String.format(NOT_FOUND, "Colony"));
         }
@@ -36,6 +36,7 @@ public class MinecoloniesCommand extends AbstractSplitCommand
         .put(WhoAmICommand.DESC, new WhoAmICommand(DESC))
         .put(WhereAmICommand.DESC, new WhereAmICommand(DESC))
         .put(CheckForAutoDeletesCommand.DESC, new CheckForAutoDeletesCommand(DESC))
+        .put(AIStatisticsCommand.DESC, new AIStatisticsCommand(DESC))
         .build();
 
     /**
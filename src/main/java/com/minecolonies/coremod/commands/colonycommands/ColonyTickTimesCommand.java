@@ -0,0 +1,182 @@
+package com.minecolonies.coremod.commands.colonycommands;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyStorage;
+import com.minecolonies.coremod.colony.ColonyTickScheduler;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the time the colonies spend per tick, how many are dormant and the cost of saving them, the time of one colony by subsystem, or resets the times.
+ */
+public class ColonyTickTimesCommand extends AbstractSingleCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "ticktimes";
+
+    /**
+     * Argument to reset the times.
+     */
+    private static final String RESET = "reset";
+
+    private static final String COLONY_TEXT                = "§2#%d %s: §f%.3f ms/tick, max %.1f ms, %d of %d ticks over budget";
+    private static final String SUBSYSTEM_TEXT             = "  %s: %d runs, %.1f ms, %.3f ms/run, deferred %d times";
+    private static final String PENDING_TEXT               = "  %d subsystems waiting to run";
+    private static final String DORMANT_TEXT               = "§2Colonies: §f%d, %d dormant, %d loaded fully again, %d made dormant";
+    private static final String SAVE_TEXT                  = "§2Saves: §f%d files, %.1f KB, %.1f ms/file, max %.1f ms, %d coalesced, %d pending";
+    private static final String NO_COLONY_FOUND_MESSAGE_ID = "Colony with ID %d not found.";
+    private static final String NO_TICKS_TEXT              = "No colony ticks recorded.";
+    private static final String RESET_TEXT                 = "Colony tick times reset.";
+    private static final double NANOS_PER_MILLI            = 1_000_000D;
+    private static final double BYTES_PER_KILOBYTE         = 1024D;
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyTickTimesCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @NotNull
+    @Override
+    public String getCommandUsage(@NotNull final ICommandSender sender)
+    {
+        return super.getCommandUsage(sender) + "[ColonyId|reset]";
+    }
+
+    @Override
+    public boolean canRankUseCommand(@NotNull final Colony colony, @NotNull final EntityPlayer player)
+    {
+        return false;
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NOT_PERMITTED));
+            return;
+        }
+
+        if (args.length != 0 && RESET.equalsIgnoreCase(args[0]))
+        {
+            for (final Colony colony : ColonyManager.getColoniesOrStubs())
+            {
+                colony.getTickScheduler().resetStatistics();
+            }
+            sender.sendMessage(new TextComponentString(RESET_TEXT));
+            return;
+        }
+
+        final int colonyId = getIthArgument(args, 0, -1);
+        if (colonyId != -1)
+        {
+            final Colony colony = ColonyManager.getColonyOrStub(colonyId);
+            if (colony == null)
+            {
+                sender.sendMessage(new TextComponentString(String.format(NO_COLONY_FOUND_MESSAGE_ID, colonyId)));
+                return;
+            }
+
+            sendColonyTimes(sender, colony);
+            final ColonyTickScheduler scheduler = colony.getTickScheduler();
+            for (final Map.Entry<String, ColonyTickScheduler.SubsystemTime> entry : scheduler.getSubsystemTimes().entrySet())
+            {
+                final ColonyTickScheduler.SubsystemTime time = entry.getValue();
+                final double millis = time.getNanos() / NANOS_PER_MILLI;
+                sender.sendMessage(new TextComponentString(String.format(SUBSYSTEM_TEXT,
+                  entry.getKey(),
+                  time.getRuns(),
+                  millis,
+                  millis / Math.max(1, time.getRuns()),
+                  time.getDeferrals())));
+            }
+            sender.sendMessage(new TextComponentString(String.format(PENDING_TEXT, scheduler.getPendingCount())));
+            return;
+        }
+
+        boolean recorded = false;
+        for (final Colony colony : ColonyManager.getColoniesOrStubs())
+        {
+            if (colony.getTickScheduler().getTicks() > 0)
+            {
+                recorded = true;
+                sendColonyTimes(sender, colony);
+            }
+        }
+
+        if (!recorded)
+        {
+            sender.sendMessage(new TextComponentString(NO_TICKS_TEXT));
+        }
+
+        sender.sendMessage(new TextComponentString(String.format(DORMANT_TEXT,
+          ColonyManager.getColoniesOrStubs().size(),
+          ColonyManager.getDormantColonyCount(),
+          ColonyManager.getHydrations(),
+          ColonyManager.getEvictions())));
+
+        final ColonyStorage storage = ColonyManager.getStorageIfPresent();
+        if (storage != null)
+        {
+            sender.sendMessage(new TextComponentString(String.format(SAVE_TEXT,
+              storage.getWrites(),
+              storage.getBytesWritten() / BYTES_PER_KILOBYTE,
+              storage.getWriteNanos() / NANOS_PER_MILLI / Math.max(1, storage.getWrites()),
+              storage.getMaxWriteNanos() / NANOS_PER_MILLI,
+              storage.getCoalescedWrites(),
+              storage.getPendingWrites())));
+        }
+    }
+
+    private static void sendColonyTimes(@NotNull final ICommandSender sender, @NotNull final Colony colony)
+    {
+        final ColonyTickScheduler scheduler = colony.getTickScheduler();
+        sender.sendMessage(new TextComponentString(String.format(COLONY_TEXT,
+          colony.getID(),
+          colony.getName(),
+          scheduler.getTotalNanos() / NANOS_PER_MILLI / Math.max(1, scheduler.getTicks()),
+          scheduler.getMaxTickNanos() / NANOS_PER_MILLI,
+          scheduler.getOverBudgetTicks(),
+          scheduler.getTicks())));
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        if (args.length == 1 && RESET.startsWith(args[0].toLowerCase()))
+        {
+            return Collections.singletonList(RESET);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
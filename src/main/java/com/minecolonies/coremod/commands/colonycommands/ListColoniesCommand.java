@@ -69,7 +69,7 @@ public class ListColoniesCommand extends AbstractSingleCommand
         }
         else
         {
-            colonies = ColonyManager.getColonies();
+            colonies = ColonyManager.getColoniesOrStubs();
         }
 
         final int colonyCount = colonies.size();
@@ -3,7 +3,11 @@ package com.minecolonies.coremod.commands.colonycommands;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ViewSyncMetrics;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.entity.ai.citizen.guard.ColonyThreatTracker;
+import com.minecolonies.coremod.entity.pathfinding.PassabilityCache;
+import com.minecolonies.structures.helpers.StructureTemplateCache;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
@@ -38,6 +42,12 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE               = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED           = "This colony is unable to be raided";
+    private static final String PATH_CACHE_TEXT            = "§2Path cache: §f%d sections, %.1f%% hits (%d/%d), %d invalidations";
+    private static final String THREAT_TEXT                = "§2Threat tracker: §f%d searches, %d colony scans, %d scans avoided";
+    private static final String VIEW_SYNC_TEXT             = "§2View sync: §f%d payloads for %d messages, last %.3f ms/%d bytes, average %.3f ms/%d bytes";
+    private static final String STRUCTURE_CACHE_TEXT       = "§2Structure cache: §f%s";
+    private static final double PERCENT                    = 100D;
+    private static final double NANOS_PER_MILLI            = 1_000_000D;
 
     /**
      * Initialize this SubCommand with it's parents.
@@ -135,6 +145,31 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
         {
             sender.sendMessage(new TextComponentString(CANNOT_BE_RAIDED));
         }
+
+        final PassabilityCache pathCache = colony.getPassabilityCache();
+        sender.sendMessage(new TextComponentString(String.format(PATH_CACHE_TEXT,
+          pathCache.getSectionCount(),
+          pathCache.getHitRate() * PERCENT,
+          pathCache.getHits(),
+          pathCache.getHits() + pathCache.getMisses(),
+          pathCache.getInvalidations())));
+
+        final ColonyThreatTracker threats = colony.getThreatTrackerIfPresent();
+        if (threats != null)
+        {
+            sender.sendMessage(new TextComponentString(String.format(THREAT_TEXT, threats.getQueries(), threats.getRefreshes(), threats.getScansAvoided())));
+        }
+
+        final ViewSyncMetrics viewSync = colony.getViewSyncMetrics();
+        sender.sendMessage(new TextComponentString(String.format(VIEW_SYNC_TEXT,
+          viewSync.getTotalPayloads(),
+          viewSync.getTotalMessages(),
+          viewSync.getLastTickNanos() / NANOS_PER_MILLI,
+          viewSync.getLastTickBytes(),
+          viewSync.getAverageTickNanos() / NANOS_PER_MILLI,
+          viewSync.getAverageTickBytes())));
+
+        sender.sendMessage(new TextComponentString(String.format(STRUCTURE_CACHE_TEXT, StructureTemplateCache.getStatistics())));
     }
 
     @NotNull
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.entity.ai.util.AIState;
+import com.minecolonies.coremod.entity.ai.util.AITickStatistics;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the time the worker ais spent per state, or resets it.
+ */
+public class AIStatisticsCommand extends AbstractSingleCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "aistats";
+
+    /**
+     * Argument to reset the statistics.
+     */
+    private static final String RESET = "reset";
+
+    private static final String AI_TEXT         = "§2%s: §f%.1f ms";
+    private static final String STATE_TEXT      = "  %s: %d ticks, %.1f ms, %.3f ms/tick";
+    private static final String NO_STATS_TEXT   = "No ai ticks recorded.";
+    private static final String RESET_TEXT      = "Ai statistics reset.";
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public AIStatisticsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public boolean canRankUseCommand(@NotNull final Colony colony, @NotNull final EntityPlayer player)
+    {
+        return false;
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (sender instanceof EntityPlayer && !isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString("Must be OP to use command"));
+            return;
+        }
+
+        if (args.length != 0 && RESET.equalsIgnoreCase(args[0]))
+        {
+            AITickStatistics.resetAll();
+            sender.sendMessage(new TextComponentString(RESET_TEXT));
+            return;
+        }
+
+        boolean recorded = false;
+        for (final Map.Entry<String, AITickStatistics> entry : AITickStatistics.getAll().entrySet())
+        {
+            final AITickStatistics statistics = entry.getValue();
+            if (statistics.getTotalNanos() == 0)
+            {
+                continue;
+            }
+
+            recorded = true;
+            sender.sendMessage(new TextComponentString(String.format(AI_TEXT, entry.getKey(), statistics.getTotalNanos() / NANOS_PER_MILLI)));
+            for (final AIState state : AIState.values())
+            {
+                final long ticks = statistics.getTicks(state);
+                if (ticks > 0)
+                {
+                    final double millis = statistics.getNanos(state) / NANOS_PER_MILLI;
+                    sender.sendMessage(new TextComponentString(String.format(STATE_TEXT, state, ticks, millis, millis / ticks)));
+                }
+            }
+        }
+
+        if (!recorded)
+        {
+            sender.sendMessage(new TextComponentString(NO_STATS_TEXT));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        if (args.length == 1 && RESET.startsWith(args[0].toLowerCase()))
+        {
+            return Collections.singletonList(RESET);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
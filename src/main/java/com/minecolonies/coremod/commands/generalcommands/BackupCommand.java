@@ -39,9 +39,9 @@ public class BackupCommand extends AbstractSingleCommand
 
         if (isPlayerOpped(sender))
         {
-            server.addScheduledTask(() ->
+            server.addScheduledTask(() -> ColonyManager.backupColonyDataAsync().thenAccept(success -> server.addScheduledTask(() ->
             {
-                if (ColonyManager.backupColonyData())
+                if (success)
                 {
                     sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
                 }
@@ -49,7 +49,7 @@ public class BackupCommand extends AbstractSingleCommand
                 {
                     sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
                 }
-            });
+            })));
         }
         else
         {
@@ -56,7 +56,7 @@ public class CheckForAutoDeletesCommand extends AbstractSingleCommand
             return;
         }
 
-        final List<Colony> colonies = ColonyManager.getColonies();
+        final List<Colony> colonies = ColonyManager.getColoniesOrStubs();
 
         final List<Colony> coloniesToDelete = new ArrayList<>();
 
@@ -123,7 +123,7 @@ public class RandomTeleportCommand extends AbstractSingleCommand
             }
 
             /* Check for a close by colony*/
-            if (ColonyManager.getColony(sender.getEntityWorld(), new BlockPos(x, STARTING_Y, z)) != null)
+            if (ColonyManager.getColonyOrStub(sender.getEntityWorld(), new BlockPos(x, STARTING_Y, z)) != null)
             {
                 continue;
             }
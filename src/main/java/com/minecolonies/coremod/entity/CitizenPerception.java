@@ -0,0 +1,191 @@
+package com.minecolonies.coremod.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.item.EntityXPOrb;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Finds the items and experience orbs around the citizens of a world.
+ * <p>
+ * The item and orb entities of a chunk section are collected once per tick, on the first query touching the section, and shared by all
+ * citizens querying around it in the same tick, instead of every citizen searching the chunks around it.
+ * Only used on the server thread.
+ */
+public final class CitizenPerception
+{
+    /**
+     * The perception by world, dropped when the world unloads as it references the world and its entities.
+     */
+    private static final Map<World, CitizenPerception> BY_WORLD = new HashMap<>();
+
+    /**
+     * Size of the chunk sections the entities are collected by.
+     */
+    private static final int SECTION_SHIFT = 4;
+    private static final int MAX_SECTION   = 15;
+
+    /**
+     * Distance the position of an entity may have to its bounding box, the same as the world uses.
+     */
+    private static final double MAX_ENTITY_RADIUS = 2.0D;
+
+    private final World world;
+
+    /**
+     * The tick the sections were collected in.
+     */
+    private long tick = Long.MIN_VALUE;
+
+    /**
+     * The entities of the sections collected in this tick, by packed section position.
+     */
+    private final Map<Long, Section> sections = new HashMap<>();
+
+    private CitizenPerception(@NotNull final World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Get the perception of a world.
+     *
+     * @param world the world.
+     * @return the perception.
+     */
+    @NotNull
+    public static CitizenPerception get(@NotNull final World world)
+    {
+        return BY_WORLD.computeIfAbsent(world, CitizenPerception::new);
+    }
+
+    /**
+     * Drop the perception of a world which is unloaded.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        if (!world.isRemote)
+        {
+            BY_WORLD.remove(world);
+        }
+    }
+
+    /**
+     * Get the items in an area.
+     *
+     * @param area the area.
+     * @return the items which are alive and intersect the area.
+     */
+    @NotNull
+    public List<EntityItem> getItems(@NotNull final AxisAlignedBB area)
+    {
+        return find(area, true);
+    }
+
+    /**
+     * Get the experience orbs in an area.
+     *
+     * @param area the area.
+     * @return the orbs which are alive and intersect the area.
+     */
+    @NotNull
+    public List<EntityXPOrb> getXPOrbs(@NotNull final AxisAlignedBB area)
+    {
+        return find(area, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> List<T> find(@NotNull final AxisAlignedBB area, final boolean items)
+    {
+        final long now = world.getTotalWorldTime();
+        if (now != tick)
+        {
+            tick = now;
+            sections.clear();
+        }
+
+        final int minX = MathHelper.floor(area.minX - MAX_ENTITY_RADIUS) >> SECTION_SHIFT;
+        final int maxX = MathHelper.floor(area.maxX + MAX_ENTITY_RADIUS) >> SECTION_SHIFT;
+        final int minY = MathHelper.clamp(MathHelper.floor(area.minY - MAX_ENTITY_RADIUS) >> SECTION_SHIFT, 0, MAX_SECTION);
+        final int maxY = MathHelper.clamp(MathHelper.floor(area.maxY + MAX_ENTITY_RADIUS) >> SECTION_SHIFT, 0, MAX_SECTION);
+        final int minZ = MathHelper.floor(area.minZ - MAX_ENTITY_RADIUS) >> SECTION_SHIFT;
+        final int maxZ = MathHelper.floor(area.maxZ + MAX_ENTITY_RADIUS) >> SECTION_SHIFT;
+
+        List<T> found = Collections.emptyList();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                for (int y = minY; y <= maxY; y++)
+                {
+                    final Section section = getSection(x, y, z);
+                    if (section == null)
+                    {
+                        break;
+                    }
+
+                    for (final Entity entity : items ? section.items : section.orbs)
+                    {
+                        if (!entity.isDead && area.intersectsWith(entity.getEntityBoundingBox()))
+                        {
+                            if (found.isEmpty())
+                            {
+                                found = new ArrayList<>();
+                            }
+                            found.add((T) entity);
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Get the items and orbs of a chunk section, collecting them if this is the first query of the tick touching the section.
+     *
+     * @return the section or null if the chunk is not loaded.
+     */
+    private Section getSection(final int x, final int y, final int z)
+    {
+        final long key = ((long) x << 36) ^ ((long) (z & 0xFFFFFFF) << 4) ^ y;
+        Section section = sections.get(key);
+        if (section == null)
+        {
+            final Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+            if (chunk == null)
+            {
+                return null;
+            }
+
+            section = new Section();
+            for (final EntityItem item : chunk.getEntityLists()[y].getByClass(EntityItem.class))
+            {
+                section.items.add(item);
+            }
+            for (final EntityXPOrb orb : chunk.getEntityLists()[y].getByClass(EntityXPOrb.class))
+            {
+                section.orbs.add(orb);
+            }
+            sections.put(key, section);
+        }
+        return section;
+    }
+
+    /**
+     * The items and orbs of a chunk section.
+     */
+    private static final class Section
+    {
+        private final List<Entity> items = new ArrayList<>();
+        private final List<Entity> orbs  = new ArrayList<>();
+    }
+}
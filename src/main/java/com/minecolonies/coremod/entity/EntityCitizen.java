@@ -186,6 +186,10 @@ public class EntityCitizen extends EntityAgeable implements INpc
      * 20 ticks or also: once a second.
      */
     private static final int    TICKS_20                   = 20;
+    /**
+     * Ticks between two searches for experience orbs around the citizen.
+     */
+    private static final int    GATHER_XP_TICKS            = 5;
     /**
      * This times the citizen id is the personal offset of the citizen.
      */
@@ -537,7 +541,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
 
         if (hasChanged)
         {
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.SECTION_STATUS);
         }
     }
 
@@ -555,7 +559,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
         }
 
         latestStatus[0] = status;
-        citizenData.markDirty();
+        citizenData.markDirty(CitizenData.SECTION_STATUS);
     }
 
     /**
@@ -968,7 +972,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
     {
         if (recentlyHit > 0)
         {
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.SECTION_HEALTH);
         }
         if (CompatibilityUtils.getWorld(this).isRemote)
         {
@@ -1081,24 +1085,16 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     private void pickupItems()
     {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o :
-          CompatibilityUtils.getWorld(this).
-                                             getEntitiesWithinAABB(EntityItem.class,
-                                               new AxisAlignedBB(getPosition()).expand(2.0F, 1.0F, 2.0F)))
+        if (!canPickUpLoot())
         {
-            if (o instanceof EntityItem)
-            {
-                retList.add((EntityItem) o);
-            }
+            return;
         }
 
-        retList.stream()
-          .filter(Objects::nonNull)
-          .filter(item -> !item.isDead)
-          .filter(item -> canPickUpLoot())
-          .forEach(this::tryPickupEntityItem);
+        for (final EntityItem item : CitizenPerception.get(CompatibilityUtils.getWorld(this))
+                                       .getItems(new AxisAlignedBB(getPosition()).expand(2.0F, 1.0F, 2.0F)))
+        {
+            tryPickupEntityItem(item);
+        }
     }
 
     private void cleanupChatMessages()
@@ -1143,7 +1139,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
                         }
                     }
                     this.citizenData.setName(name);
-                    this.citizenData.markDirty();
+                    this.citizenData.markDirty(CitizenData.SECTION_CORE);
                     super.setCustomNameTag(name);
                 }
                 return;
@@ -1218,6 +1214,11 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     public void gatherXp()
     {
+        if (CompatibilityUtils.getWorld(this).isRemote || getOffsetTicks() % GATHER_XP_TICKS != 0)
+        {
+            return;
+        }
+
         for (@NotNull final EntityXPOrb orb : getXPOrbsOnGrid())
         {
             addExperience(orb.getXpValue() / 2.0D);
@@ -1230,8 +1231,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     public void tryToEat()
     {
-        final int slot = InventoryUtils.findFirstSlotInProviderWith(this,
-          itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.getItem() instanceof ItemFood);
+        final int slot = getInventoryCitizen().getFirstFoodSlot();
 
         if (slot == -1)
         {
@@ -1244,7 +1244,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
             final int heal = ((ItemFood) stack.getItem()).getHealAmount(stack);
             citizenData.increaseSaturation(heal);
             getCitizenData().getInventory().decrStackSize(slot, 1);
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.SECTION_CORE);
         }
     }
 
@@ -1266,7 +1266,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
             }
 
             heal(healAmount);
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.SECTION_HEALTH);
         }
     }
 
@@ -1299,7 +1299,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
     {
         @NotNull final AxisAlignedBB bb = new AxisAlignedBB(posX - 2, posY - 2, posZ - 2, posX + 2, posY + 2, posZ + 2);
 
-        return CompatibilityUtils.getWorld(this).getEntitiesWithinAABB(EntityXPOrb.class, bb);
+        return CitizenPerception.get(CompatibilityUtils.getWorld(this)).getXPOrbs(bb);
     }
 
     /**
@@ -1371,7 +1371,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
                 citizenData.increaseLevel();
             }
             this.updateLevel();
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.SECTION_CORE);
         }
     }
 
@@ -1767,7 +1767,7 @@ public class EntityCitizen extends EntityAgeable implements INpc
                 final double decreaseBy = buildingWorker == null || buildingWorker.getBuildingLevel() == 0 ? 0.1
                                             : (SATURATION_DECREASE_FACTOR * Math.pow(2, buildingWorker.getBuildingLevel() - 1.0));
                 citizenData.decreaseSaturation(decreaseBy);
-                citizenData.markDirty();
+                citizenData.markDirty(CitizenData.SECTION_CORE);
             }
 
             setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.sleeping"));
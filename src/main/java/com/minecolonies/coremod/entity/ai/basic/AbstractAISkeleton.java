@@ -6,13 +6,13 @@ import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.ai.util.AITickStatistics;
 import com.minecolonies.coremod.entity.ai.util.ChatSpamFilter;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.*;
 
 import static com.minecolonies.coremod.entity.EntityCitizen.Status.IDLE;
 
@@ -27,7 +27,8 @@ import static com.minecolonies.coremod.entity.EntityCitizen.Status.IDLE;
 public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAIBase
 {
 
-    private static final int MUTEX_MASK = 3;
+    private static final int        MUTEX_MASK = 3;
+    private static final AITarget[] NO_TARGETS = new AITarget[0];
     @NotNull
     protected final J                   job;
     @NotNull
@@ -37,6 +38,26 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     protected final ChatSpamFilter      chatSpamFilter;
     @NotNull
     private final   ArrayList<AITarget> targetList;
+    /**
+     * The targets to check in each state, in the order of registration.
+     * Contains the targets matching the state and the targets matching all states.
+     */
+    @NotNull
+    private final Map<AIState, AITarget[]> targetsByState = new EnumMap<>(AIState.class);
+    /**
+     * The targets to check in states without own targets.
+     */
+    @NotNull
+    private AITarget[] anyStateTargets = NO_TARGETS;
+    /**
+     * Set when targets were registered since the arrays were built.
+     */
+    private boolean targetsChanged = false;
+    /**
+     * The tick times of all ais of this class.
+     */
+    @NotNull
+    private final AITickStatistics statistics;
     /**
      * The current state the ai is in.
      * Used to compare to state matching targets.
@@ -58,6 +79,7 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
         this.world = CompatibilityUtils.getWorld(this.worker);
         this.chatSpamFilter = new ChatSpamFilter(worker);
         this.state = AIState.INIT;
+        this.statistics = AITickStatistics.get(getClass());
     }
 
     /**
@@ -68,6 +90,43 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     private void registerTarget(final AITarget target)
     {
         targetList.add(target);
+        targetsChanged = true;
+    }
+
+    /**
+     * Sort the registered targets by the state they match on.
+     */
+    private void buildTargetArrays()
+    {
+        final List<AITarget> anyState = new ArrayList<>();
+        final Set<AIState> states = EnumSet.noneOf(AIState.class);
+        for (final AITarget target : targetList)
+        {
+            if (target.getState() == null)
+            {
+                anyState.add(target);
+            }
+            else
+            {
+                states.add(target.getState());
+            }
+        }
+
+        targetsByState.clear();
+        for (final AIState targetState : states)
+        {
+            final List<AITarget> targets = new ArrayList<>();
+            for (final AITarget target : targetList)
+            {
+                if (target.getState() == null || target.getState() == targetState)
+                {
+                    targets.add(target);
+                }
+            }
+            targetsByState.put(targetState, targets.toArray(new AITarget[targets.size()]));
+        }
+        anyStateTargets = anyState.toArray(new AITarget[anyState.size()]);
+        targetsChanged = false;
     }
 
     /**
@@ -126,7 +185,27 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     @Override
     public final void updateTask()
     {
-        targetList.stream().anyMatch(this::checkOnTarget);
+        if (targetsChanged)
+        {
+            buildTargetArrays();
+        }
+
+        final AIState tickState = state;
+        final long start = System.nanoTime();
+
+        final AITarget[] targets = tickState == null ? anyStateTargets : targetsByState.getOrDefault(tickState, anyStateTargets);
+        for (final AITarget target : targets)
+        {
+            if (checkOnTarget(target))
+            {
+                break;
+            }
+        }
+
+        if (tickState != null)
+        {
+            statistics.record(tickState, System.nanoTime() - start);
+        }
     }
 
     /**
@@ -144,8 +223,8 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
 
     /**
      * Checks on one target to see if it has to be executed.
-     * It first checks for the state of the ai.
-     * If that matches it tests the predicate if the ai
+     * The target matches the state of the ai already.
+     * It tests the predicate if the ai
      * wants to run the target.
      * And if that's a yes, runs the target.
      * Tester and target are both error-checked
@@ -156,10 +235,6 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
      */
     private boolean checkOnTarget(@NotNull final AITarget target)
     {
-        if (state != target.getState() && target.getState() != null)
-        {
-            return false;
-        }
         try
         {
             if (!target.test())
@@ -0,0 +1,227 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Plans the trips of a deliveryman over several stops.
+ * <p>
+ * The stops are split into trips of at most the capacity of the worker, each trip starting and ending at the warehouse. A trip is filled by
+ * walking to the nearest stop left, then its order is improved by 2-opt, reversing parts of the route as long as that makes it shorter.
+ */
+public final class DeliveryRoutePlanner
+{
+    /**
+     * The most 2-opt passes over one trip, each pass is quadratic in the number of stops.
+     */
+    private static final int MAX_IMPROVEMENT_PASSES = 16;
+
+    /**
+     * Improvements smaller than this are ignored, so rounding can't make the passes swap back and forth.
+     */
+    private static final double MIN_IMPROVEMENT = 1.0E-6D;
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private DeliveryRoutePlanner()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Split the stops into trips from the start and order the stops of each trip.
+     *
+     * @param start    the position every trip starts and ends at.
+     * @param stops    the stops to visit.
+     * @param position gets the position of a stop.
+     * @param capacity the most stops of one trip.
+     * @param <T>      the type of the stops.
+     * @return the trips in the order they should be done, each with its stops in route order.
+     */
+    @NotNull
+    public static <T> List<List<T>> planTrips(
+                                               @NotNull final BlockPos start,
+                                               @NotNull final List<T> stops,
+                                               @NotNull final Function<T, BlockPos> position,
+                                               final int capacity)
+    {
+        final int tripSize = Math.max(1, capacity);
+        final List<T> left = new ArrayList<>(stops);
+        final List<List<T>> trips = new ArrayList<>();
+        while (!left.isEmpty())
+        {
+            final List<T> trip = new ArrayList<>();
+            BlockPos current = start;
+            while (trip.size() < tripSize && !left.isEmpty())
+            {
+                final T nearest = removeNearest(current, left, position);
+                trip.add(nearest);
+                current = position.apply(nearest);
+            }
+            trips.add(improve(start, trip, position));
+        }
+        return trips;
+    }
+
+    /**
+     * Order all stops into one trip from the start.
+     *
+     * @param start    the position the trip starts and ends at.
+     * @param stops    the stops to visit.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     * @return the stops in route order.
+     */
+    @NotNull
+    public static <T> List<T> planRoute(@NotNull final BlockPos start, @NotNull final List<T> stops, @NotNull final Function<T, BlockPos> position)
+    {
+        if (stops.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+        return planTrips(start, stops, position, stops.size()).get(0);
+    }
+
+    /**
+     * Get the length of a trip from the start over all stops and back to the start.
+     *
+     * @param start    the position the trip starts and ends at.
+     * @param route    the stops in route order.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     * @return the length in blocks.
+     */
+    public static <T> double getTripLength(@NotNull final BlockPos start, @NotNull final List<T> route, @NotNull final Function<T, BlockPos> position)
+    {
+        double length = 0;
+        BlockPos current = start;
+        for (final T stop : route)
+        {
+            final BlockPos next = position.apply(stop);
+            length += distance(current, next);
+            current = next;
+        }
+        return length + distance(current, start);
+    }
+
+    /**
+     * Remove the stop nearest to a position from the list.
+     *
+     * @param from     the position.
+     * @param stops    the stops left, not empty.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     * @return the nearest stop.
+     */
+    private static <T> T removeNearest(@NotNull final BlockPos from, @NotNull final List<T> stops, @NotNull final Function<T, BlockPos> position)
+    {
+        int nearest = 0;
+        double nearestDistance = Double.MAX_VALUE;
+        for (int i = 0; i < stops.size(); i++)
+        {
+            final double distance = from.distanceSq(position.apply(stops.get(i)));
+            if (distance < nearestDistance)
+            {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+        return stops.remove(nearest);
+    }
+
+    /**
+     * Improve the order of a trip by 2-opt.
+     * <p>
+     * The route is the start, the stops and the start again. Reversing the stops from i to k replaces the edges (i-1, i) and (k, k+1) by
+     * (i-1, k) and (i, k+1), which is done whenever that is shorter.
+     *
+     * @param start    the position the trip starts and ends at.
+     * @param trip     the stops of the trip.
+     * @param position gets the position of a stop.
+     * @param <T>      the type of the stops.
+     * @return the stops in the improved order.
+     */
+    @NotNull
+    private static <T> List<T> improve(@NotNull final BlockPos start, @NotNull final List<T> trip, @NotNull final Function<T, BlockPos> position)
+    {
+        final int stops = trip.size();
+        if (stops < 2)
+        {
+            return trip;
+        }
+
+        final BlockPos[] points = new BlockPos[stops + 2];
+        points[0] = start;
+        points[stops + 1] = start;
+        for (int i = 0; i < stops; i++)
+        {
+            points[i + 1] = position.apply(trip.get(i));
+        }
+
+        final double[][] distances = new double[stops + 2][stops + 2];
+        for (int i = 0; i < points.length; i++)
+        {
+            for (int j = i + 1; j < points.length; j++)
+            {
+                distances[i][j] = distance(points[i], points[j]);
+                distances[j][i] = distances[i][j];
+            }
+        }
+
+        //  order[i] is the index in points of the i-th point of the route.
+        final int[] order = new int[stops + 2];
+        for (int i = 0; i < order.length; i++)
+        {
+            order[i] = i;
+        }
+
+        boolean improved = true;
+        for (int pass = 0; improved && pass < MAX_IMPROVEMENT_PASSES; pass++)
+        {
+            improved = false;
+            for (int i = 1; i < stops; i++)
+            {
+                for (int k = i + 1; k <= stops; k++)
+                {
+                    final double change = distances[order[i - 1]][order[k]] + distances[order[i]][order[k + 1]]
+                                            - distances[order[i - 1]][order[i]] - distances[order[k]][order[k + 1]];
+                    if (change < -MIN_IMPROVEMENT)
+                    {
+                        reverse(order, i, k);
+                        improved = true;
+                    }
+                }
+            }
+        }
+
+        final List<T> route = new ArrayList<>(stops);
+        for (int i = 1; i <= stops; i++)
+        {
+            route.add(trip.get(order[i] - 1));
+        }
+        return route;
+    }
+
+    private static void reverse(@NotNull final int[] order, final int from, final int to)
+    {
+        for (int i = from, j = to; i < j; i++, j--)
+        {
+            final int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+    }
+
+    private static double distance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        return Math.sqrt(from.distanceSq(to));
+    }
+}
@@ -27,12 +27,11 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
 
@@ -71,6 +70,11 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     private static final int SLOT_HAND = 0;
 
+    /**
+     * The most stops of one gathering or delivery trip.
+     */
+    private static final int MAX_TRIP_STOPS = 8;
+
     /**
      * Warehouse the deliveryman is assigned to.
      */
@@ -81,6 +85,26 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
      */
     private BlockPos gatherTarget = null;
 
+    /**
+     * The buildings left to gather at after the gather target, in route order.
+     */
+    private final Deque<BlockPos> gatherRoute = new ArrayDeque<>();
+
+    /**
+     * To check if the dman gathered anything since he left the warehouse.
+     */
+    private boolean hasGatheredOnTrip = false;
+
+    /**
+     * The tokens of the deliveries of the current delivery trip.
+     */
+    private final Set<IToken<?>> deliveryTrip = new HashSet<>();
+
+    /**
+     * The tokens of the deliveries of the current trip which items still have to be taken from the warehouse.
+     */
+    private final Deque<IToken<?>> tripItemsToGather = new ArrayDeque<>();
+
     /**
      * Amount of stacks left to gather from the inventory at the gathering step.
      */
@@ -122,7 +146,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
     }
 
     /**
-     * Gather items from a random hut which the hut doesn't need.
+     * Gather items the huts don't need, walking a route over several huts.
      *
      * @return the next state to go to.
      */
@@ -130,7 +154,11 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
     {
         if (gatherTarget == null)
         {
-            gatherTarget = getRandomBuilding();
+            if (gatherRoute.isEmpty())
+            {
+                planGatherRoute();
+            }
+            gatherTarget = gatherRoute.poll();
         }
 
         if (gatherTarget == null)
@@ -152,6 +180,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
             if (building == null)
             {
                 gatherTarget = null;
+                releaseGatherRoute();
                 return START_WORKING;
             }
             if (gatherFromBuilding(building) || cannotHoldMoreItems())
@@ -162,17 +191,25 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                 if (hasGathered)
                 {
                     this.hasGathered = false;
+                    this.hasGatheredOnTrip = true;
                     building.alterPickUpPriority(1);
                 }
                 else
                 {
                     building.alterPickUpPriority(-1);
+                }
 
-                    if (job.getCurrentTask() == null)
-                    {
-                        gatherTarget = null;
-                        return GATHERING;
-                    }
+                gatherTarget = null;
+                //Deliveries go first, so the route is only continued while there are none.
+                if (!gatherRoute.isEmpty() && !cannotHoldMoreItems() && job.getCurrentTask() == null)
+                {
+                    return GATHERING;
+                }
+                releaseGatherRoute();
+
+                if (!hasGatheredOnTrip && job.getCurrentTask() == null)
+                {
+                    return GATHERING;
                 }
                 return DUMPING;
             }
@@ -182,6 +219,67 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         return START_WORKING;
     }
 
+    /**
+     * Plan the route over the next huts to gather at.
+     * The huts are picked by their pick up priority, as many as the worker can carry from, then ordered by the shortest route from the
+     * warehouse.
+     */
+    private void planGatherRoute()
+    {
+        final BuildingWareHouse wareHouse = getWareHouse();
+        if (wareHouse == null)
+        {
+            return;
+        }
+
+        final List<BlockPos> stops = new ArrayList<>();
+        for (int i = 0; i < getTripCapacity(); i++)
+        {
+            final BlockPos pos = getRandomBuilding();
+            if (pos == null)
+            {
+                break;
+            }
+            if (!stops.contains(pos))
+            {
+                stops.add(pos);
+            }
+        }
+        gatherRoute.addAll(DeliveryRoutePlanner.planRoute(wareHouse.getLocation(), stops, Function.identity()));
+    }
+
+    /**
+     * Drop the huts left on the gathering route, so other deliverymen can gather at them.
+     */
+    private void releaseGatherRoute()
+    {
+        final Colony colony = worker.getColony();
+        for (final BlockPos pos : gatherRoute)
+        {
+            final AbstractBuilding building = colony == null ? null : colony.getBuilding(pos);
+            if (building != null)
+            {
+                building.setBeingGathered(false);
+            }
+        }
+        gatherRoute.clear();
+    }
+
+    /**
+     * Get the most stops of one trip.
+     * It follows the amount of stacks the worker can hold, see {@link #cannotHoldMoreItems()}.
+     *
+     * @return the amount of stops.
+     */
+    private int getTripCapacity()
+    {
+        if (getOwnBuilding().getBuildingLevel() >= getOwnBuilding().getMaxBuildingLevel())
+        {
+            return MAX_TRIP_STOPS;
+        }
+        return (int) Math.max(1, Math.min(MAX_TRIP_STOPS, Math.pow(2, getOwnBuilding().getBuildingLevel() - 1.0D)));
+    }
+
     /**
      * Gets a random building from his colony.
      *
@@ -333,6 +431,10 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
 
         getWareHouse().getTileEntity().dumpInventoryIntoWareHouse(worker.getInventoryCitizen());
         gatherTarget = null;
+        hasGatheredOnTrip = false;
+        releaseGatherRoute();
+        deliveryTrip.clear();
+        tripItemsToGather.clear();
         worker.setHeldItem(SLOT_HAND);
 
         if (job.getReturning())
@@ -413,9 +515,16 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
             return DELIVERY;
         }
 
+        final IRequest<? extends Delivery> request = job.getCurrentTask();
         final InvWrapper workerInventory = new InvWrapper(worker.getInventoryCitizen());
         for (int i = 0; i < new InvWrapper(worker.getInventoryCitizen()).getSlots(); i++)
         {
+            //The worker may carry the items of the next stops of the trip too.
+            if (request != null && !request.getRequest().getStack().isItemEqualIgnoreDurability(workerInventory.getStackInSlot(i)))
+            {
+                continue;
+            }
+
             final ItemStack stack = workerInventory.extractItem(i, Integer.MAX_VALUE, false);
             if (ItemStackUtils.isEmpty(stack))
             {
@@ -471,6 +580,13 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         deliveryHut.setBuildingToDeliver(null);
         job.finishRequest(true);
 
+        if (continuesDeliveryTrip())
+        {
+            job.setReturning(false);
+            return DELIVERY;
+        }
+        deliveryTrip.clear();
+
         gatherTarget = buildingToDeliver.getInDimensionLocation();
         setDelay(WAIT_DELAY);
         return GATHERING;
@@ -495,9 +611,13 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
                     return DUMPING;
                 }
                 ((BuildingDeliveryman) ownBuilding).setBuildingToDeliver(request.getRequest().getTarget());
-                if (InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
-                  itemStack -> request.getRequest().getStack().isItemEqualIgnoreDurability(itemStack)))
+                if (isCarrying(request))
                 {
+                    if (gatherNextTripItem())
+                    {
+                        setDelay(DUMP_AND_GATHER_DELAY);
+                        return PREPARE_DELIVERY;
+                    }
                     return DELIVERY;
                 }
 
@@ -543,7 +663,7 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         if (isInTileEntity(tileEntity, request.getRequest().getStack()))
         {
             setDelay(DUMP_AND_GATHER_DELAY);
-            return DELIVERY;
+            return PREPARE_DELIVERY;
         }
 
         ((BuildingDeliveryman) getOwnBuilding()).setBuildingToDeliver(null);
@@ -579,12 +699,124 @@ public class EntityAIWorkDeliveryman extends AbstractEntityAIInteract<JobDeliver
         }
         else
         {
+            planDeliveryTrip();
             ((BuildingDeliveryman) ownBuilding).setBuildingToDeliver(job.getCurrentTask().getRequest().getTarget());
         }
 
         return PREPARE_DELIVERY;
     }
 
+    /**
+     * Plan the next delivery trip over the queued deliveries.
+     * <p>
+     * The deliveries are split into trips of as many stops as the worker can carry stacks for, by nearness, and the trip with the current
+     * delivery is done next, in route order. Deliveries of an item another delivery of the trip already carries wait for a later trip, so
+     * the worker can tell the items of each stop apart.
+     */
+    private void planDeliveryTrip()
+    {
+        deliveryTrip.clear();
+        tripItemsToGather.clear();
+
+        final IRequest<? extends Delivery> current = job.getCurrentTask();
+        final List<IRequest<? extends Delivery>> candidates = new ArrayList<>();
+        for (final IToken<?> token : job.getTaskQueue())
+        {
+            final IRequest<? extends Delivery> request = getDeliveryRequest(token);
+            if (request != null
+                  && request.getRequest().getTarget().isReachableFromLocation(worker.getLocation())
+                  && candidates.stream().noneMatch(other -> other.getRequest().getStack().isItemEqualIgnoreDurability(request.getRequest().getStack())))
+            {
+                candidates.add(request);
+            }
+        }
+        if (current == null || candidates.size() < 2)
+        {
+            return;
+        }
+
+        final List<List<IRequest<? extends Delivery>>> trips = DeliveryRoutePlanner.planTrips(getWareHouse().getLocation(),
+          candidates,
+          request -> request.getRequest().getTarget().getInDimensionLocation(),
+          getTripCapacity());
+        for (final List<IRequest<? extends Delivery>> trip : trips)
+        {
+            final List<IToken<?>> tokens = new ArrayList<>();
+            trip.forEach(request -> tokens.add(request.getToken()));
+            if (tokens.contains(current.getToken()))
+            {
+                job.moveTasksToFront(tokens);
+                deliveryTrip.addAll(tokens);
+                tripItemsToGather.addAll(tokens.subList(1, tokens.size()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Take the item of the next delivery of the trip from the warehouse.
+     * Deliveries which item can't be found are left for a later trip.
+     *
+     * @return false if there was nothing left to take.
+     */
+    private boolean gatherNextTripItem()
+    {
+        final IToken<?> token = tripItemsToGather.poll();
+        if (token == null)
+        {
+            return false;
+        }
+
+        final IRequest<? extends Delivery> request = getDeliveryRequest(token);
+        if (request != null && job.getTaskQueue().contains(token))
+        {
+            final ILocation location = request.getRequest().getStart();
+            if (location.isReachableFromLocation(worker.getLocation())
+                  && isInTileEntity(world.getTileEntity(location.getInDimensionLocation()), request.getRequest().getStack()))
+            {
+                return true;
+            }
+        }
+        deliveryTrip.remove(token);
+        return true;
+    }
+
+    /**
+     * Check if the next delivery belongs to the current trip and the worker carries its item.
+     *
+     * @return true if the worker should go on to the next delivery.
+     */
+    private boolean continuesDeliveryTrip()
+    {
+        final IRequest<? extends Delivery> next = job.getCurrentTask();
+        return next != null && deliveryTrip.contains(next.getToken()) && isCarrying(next);
+    }
+
+    /**
+     * Check if the worker carries the item of a delivery.
+     *
+     * @param request the delivery.
+     * @return true if the item is in his inventory.
+     */
+    private boolean isCarrying(@NotNull final IRequest<? extends Delivery> request)
+    {
+        return InventoryUtils.hasItemInItemHandler(new InvWrapper(worker.getInventoryCitizen()),
+          itemStack -> request.getRequest().getStack().isItemEqualIgnoreDurability(itemStack));
+    }
+
+    /**
+     * Get a queued delivery without copying it.
+     *
+     * @param token the token of the delivery.
+     * @return the delivery or null if it doesn't exist anymore.
+     */
+    @Nullable
+    @SuppressWarnings(UNCHECKED)
+    private IRequest<? extends Delivery> getDeliveryRequest(@NotNull final IToken<?> token)
+    {
+        return job.getColony().getRequestManager().getReadOnlyRequestForToken(token);
+    }
+
     /**
      * Check if the deliveryman code should be executed.
      * More concretely if he has a warehouse to work at.
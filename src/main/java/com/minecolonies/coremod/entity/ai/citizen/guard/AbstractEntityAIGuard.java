@@ -9,26 +9,25 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
-import com.minecolonies.coremod.entity.ai.mobs.util.BarbarianUtils;
+import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.monster.EntityMob;
-import net.minecraft.entity.monster.EntitySlime;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Tuple;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -325,6 +324,7 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
                     if (worker.getColony() != null && worker.getColony().getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK))
                     {
                         targetEntity = (EntityLivingBase) entity;
+                        getThreatTracker().claim(worker, targetEntity);
                         worker.getNavigator().clearPathEntity();
                         return AIState.GUARD_HUNT_DOWN_TARGET;
                     }
@@ -338,6 +338,7 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
 
                     worker.getNavigator().clearPathEntity();
                     targetEntity = (EntityLivingBase) entity;
+                    getThreatTracker().claim(worker, targetEntity);
                     return AIState.GUARD_HUNT_DOWN_TARGET;
                 }
             }
@@ -363,17 +364,21 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         if (huntDownlastAttacker())
         {
             targetEntity = this.worker.getLastAttacker();
+            getThreatTracker().claim(worker, targetEntity);
             return AIState.GUARD_HUNT_DOWN_TARGET;
         }
 
+        final List<EntityLivingBase> threats = getThreatTracker().getThreats(worker, currentSearchDistance, HEIGHT_DETECTION_RANGE);
         if (targetEntity == null)
         {
-            targetEntity = BarbarianUtils.getClosestBarbarianToEntity(this.worker, currentSearchDistance);
+            targetEntity = getClosestBarbarian(threats);
+            if (targetEntity != null)
+            {
+                getThreatTracker().claim(worker, targetEntity);
+            }
         }
 
-        entityList = CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityMob.class, this.getTargetableArea(currentSearchDistance));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntitySlime.class, this.getTargetableArea(currentSearchDistance)));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityPlayer.class, this.getTargetableArea(currentSearchDistance)));
+        entityList = new ArrayList<>(threats);
 
         if (targetEntity != null && targetEntity.isEntityAlive() && worker.getEntitySenses().canSee(targetEntity))
         {
@@ -409,9 +414,58 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         return false;
     }
 
-    private AxisAlignedBB getTargetableArea(final double range)
+    /**
+     * Renew the claim of the guard on its target, called on every hunt tick so the claim does not expire while hunting.
+     * The claim is released when the target died or the guard has none.
+     */
+    protected void renewTargetClaim()
+    {
+        if (targetEntity != null && targetEntity.isEntityAlive())
+        {
+            getThreatTracker().claim(worker, targetEntity);
+        }
+        else
+        {
+            getThreatTracker().release(worker);
+        }
+    }
+
+    /**
+     * Release the claim of the guard on its target, when it stops hunting it.
+     */
+    protected void releaseTargetClaim()
+    {
+        getThreatTracker().release(worker);
+    }
+
+    /**
+     * Get the threat tracker of the colony of the guard.
+     *
+     * @return the tracker.
+     */
+    @NotNull
+    private ColonyThreatTracker getThreatTracker()
     {
-        return this.worker.getEntityBoundingBox().expand(range, HEIGHT_DETECTION_RANGE, range);
+        return getOwnBuilding().getColony().getThreatTracker();
+    }
+
+    /**
+     * Find the closest living barbarian in a list sorted by distance.
+     *
+     * @param threats the threats around the guard, nearest first.
+     * @return the barbarian or null if there is none.
+     */
+    @Nullable
+    private static EntityLivingBase getClosestBarbarian(@NotNull final List<EntityLivingBase> threats)
+    {
+        for (final EntityLivingBase threat : threats)
+        {
+            if (threat instanceof AbstractEntityBarbarian && threat.isEntityAlive())
+            {
+                return threat;
+            }
+        }
+        return null;
     }
 
     /**
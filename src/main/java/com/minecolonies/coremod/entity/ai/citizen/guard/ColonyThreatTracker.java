@@ -0,0 +1,233 @@
+package com.minecolonies.coremod.entity.ai.citizen.guard;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.monster.EntitySlime;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Colony scoped list of the entities the guards may attack, shared by all guards of the colony.
+ * <p>
+ * Instead of every guard searching the world for mobs, slimes and players on each search, the tracker searches the whole colony at most
+ * once every {@link #REFRESH_TICKS} ticks, and only while guards are searching. Guards get the threats around them nearest first.
+ * A guard claims the target it hunts, threats already hunted by {@link #MAX_GUARDS_PER_TARGET} other guards are offered last, so the
+ * guards spread over the attackers during a raid. Only used on the server thread.
+ */
+public class ColonyThreatTracker
+{
+    /**
+     * Ticks the found threats are reused for.
+     */
+    private static final int REFRESH_TICKS = 5;
+
+    /**
+     * World searches a guard did for each target search without the tracker: barbarians, mobs, slimes and players.
+     */
+    private static final int SEARCHES_PER_QUERY = 4;
+
+    /**
+     * Distance around the colony threats are tracked in, covering the maximum vision of the guards at its border.
+     */
+    private static final int SEARCH_MARGIN = 40;
+
+    /**
+     * Amount of guards hunting the same threat before other guards prefer other threats.
+     */
+    private static final int MAX_GUARDS_PER_TARGET = 2;
+
+    /**
+     * Ticks until the claim of a guard expires if it does not claim again.
+     */
+    private static final int CLAIM_TICKS = 100;
+
+    private final World    world;
+    private final BlockPos center;
+
+    /**
+     * The threats found in the last search.
+     */
+    @NotNull
+    private List<EntityLivingBase> threats     = Collections.emptyList();
+    private long                   lastRefresh = Long.MIN_VALUE;
+
+    /**
+     * The targets claimed by the guards, by entity id of the guard.
+     */
+    private final Map<Integer, Claim> claims = new HashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private long queries   = 0;
+    private long refreshes = 0;
+
+    /**
+     * Create a tracker for the threats in and around a colony.
+     *
+     * @param world  the world of the colony.
+     * @param center the center of the colony.
+     */
+    public ColonyThreatTracker(@NotNull final World world, @NotNull final BlockPos center)
+    {
+        this.world = world;
+        this.center = center;
+    }
+
+    /**
+     * Check if an entity may be attacked by guards, players still have to be checked for the permissions.
+     *
+     * @param entity the entity.
+     * @return true if so.
+     */
+    public static boolean isThreat(@Nullable final Entity entity)
+    {
+        return entity instanceof EntityMob || entity instanceof EntitySlime || entity instanceof EntityPlayer;
+    }
+
+    /**
+     * Get the threats around a guard.
+     *
+     * @param guard       the guard.
+     * @param range       the horizontal distance to search in.
+     * @param heightRange the vertical distance to search in.
+     * @return the threats, nearest first, threats hunted by enough other guards at the end.
+     */
+    @NotNull
+    public List<EntityLivingBase> getThreats(@NotNull final EntityCitizen guard, final double range, final double heightRange)
+    {
+        queries++;
+        final long now = world.getTotalWorldTime();
+        if (now - lastRefresh >= REFRESH_TICKS || now < lastRefresh)
+        {
+            refresh(now);
+        }
+
+        final AxisAlignedBB area = guard.getEntityBoundingBox().expand(range, heightRange, range);
+        final List<EntityLivingBase> free = new ArrayList<>();
+        final List<EntityLivingBase> hunted = new ArrayList<>();
+        for (final EntityLivingBase threat : threats)
+        {
+            if (threat.isDead || world.getEntityByID(threat.getEntityId()) != threat || !area.intersectsWith(threat.getEntityBoundingBox()))
+            {
+                continue;
+            }
+
+            if (getHuntingGuards(threat, guard) >= MAX_GUARDS_PER_TARGET)
+            {
+                hunted.add(threat);
+            }
+            else
+            {
+                free.add(threat);
+            }
+        }
+
+        final Comparator<Entity> byDistance = Comparator.comparingDouble(guard::getDistanceSqToEntity);
+        free.sort(byDistance);
+        hunted.sort(byDistance);
+        free.addAll(hunted);
+        return free;
+    }
+
+    private void refresh(final long now)
+    {
+        refreshes++;
+        lastRefresh = now;
+
+        final int range = Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + SEARCH_MARGIN;
+        final AxisAlignedBB colonyArea = new AxisAlignedBB(center.getX() - range, 0, center.getZ() - range,
+                                                            center.getX() + range, world.getHeight(), center.getZ() + range);
+        threats = world.getEntitiesWithinAABB(EntityLivingBase.class, colonyArea, ColonyThreatTracker::isThreat);
+
+        claims.values().removeIf(claim -> now - claim.tick > CLAIM_TICKS);
+    }
+
+    private int getHuntingGuards(@NotNull final Entity threat, @NotNull final EntityCitizen guard)
+    {
+        int hunting = 0;
+        for (final Map.Entry<Integer, Claim> entry : claims.entrySet())
+        {
+            if (entry.getValue().target == threat.getEntityId() && entry.getKey() != guard.getEntityId())
+            {
+                hunting++;
+            }
+        }
+        return hunting;
+    }
+
+    /**
+     * Claim the target a guard hunts, replacing its former claim.
+     *
+     * @param guard  the guard.
+     * @param target the target.
+     */
+    public void claim(@NotNull final EntityCitizen guard, @NotNull final Entity target)
+    {
+        claims.put(guard.getEntityId(), new Claim(target.getEntityId(), world.getTotalWorldTime()));
+    }
+
+    /**
+     * Release the claim of a guard.
+     *
+     * @param guard the guard.
+     */
+    public void release(@NotNull final EntityCitizen guard)
+    {
+        claims.remove(guard.getEntityId());
+    }
+
+    /**
+     * Amount of target searches of the guards.
+     *
+     * @return the amount.
+     */
+    public long getQueries()
+    {
+        return queries;
+    }
+
+    /**
+     * Amount of times the colony was searched for threats.
+     *
+     * @return the amount.
+     */
+    public long getRefreshes()
+    {
+        return refreshes;
+    }
+
+    /**
+     * Amount of world searches the guards would have done without the tracker, minus the searches of the tracker.
+     *
+     * @return the amount.
+     */
+    public long getScansAvoided()
+    {
+        return queries * SEARCHES_PER_QUERY - refreshes;
+    }
+
+    /**
+     * The target of a guard.
+     */
+    private static final class Claim
+    {
+        private final int  target;
+        private final long tick;
+
+        private Claim(final int target, final long tick)
+        {
+            this.target = target;
+            this.tick = tick;
+        }
+    }
+}
@@ -143,10 +143,12 @@ public class EntityAIMeleeGuard extends AbstractEntityAIGuard
         {
             targetEntity = this.worker.getLastAttacker();
         }
+        renewTargetClaim();
 
         if (targetEntity != null && (!targetEntity.isEntityAlive() || checkForToolOrWeapon(ToolType.SWORD)))
         {
             targetEntity = null;
+            releaseTargetClaim();
             worker.addExperience(EXP_PER_MOD_DEATH);
             worker.setAIMoveSpeed((float) 1.0D);
             return AIState.GUARD_GATHERING;
@@ -175,6 +177,7 @@ public class EntityAIMeleeGuard extends AbstractEntityAIGuard
 
         if (shouldReturnToTarget(targetEntity.getPosition(), FOLLOW_RANGE))
         {
+            releaseTargetClaim();
             return AIState.GUARD_PATROL;
         }
 
@@ -198,6 +198,7 @@ public class EntityAIRangeGuard extends AbstractEntityAIGuard implements IRanged
         {
             targetEntity = this.worker.getLastAttacker();
         }
+        renewTargetClaim();
 
         if (targetEntity == null)
         {
@@ -207,6 +208,7 @@ public class EntityAIRangeGuard extends AbstractEntityAIGuard implements IRanged
         if (!targetEntity.isEntityAlive() || checkForToolOrWeapon(ToolType.BOW))
         {
             targetEntity = null;
+            releaseTargetClaim();
             worker.addExperience(EXP_PER_MOD_DEATH);
             worker.setAIMoveSpeed((float) 1.0D);
             this.onKilledEntity(targetEntity);
@@ -232,6 +234,7 @@ public class EntityAIRangeGuard extends AbstractEntityAIGuard implements IRanged
 
         if (shouldReturnToTarget(targetEntity.getPosition(), FOLLOW_RANGE + MAX_ATTACK_DISTANCE))
         {
+            releaseTargetClaim();
             return AIState.GUARD_PATROL;
         }
 
@@ -291,8 +291,9 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         }
         else
         {
-            job.tree = new Tree(world, pathResult.treeLocation);
-            job.tree.findLogs(world);
+            final TreeCache treeCache = getOwnBuilding().getColony().getTreeCache();
+            job.tree = new Tree(world, pathResult.treeLocation, treeCache);
+            job.tree.findLogs(world, treeCache);
         }
         pathResult = null;
 
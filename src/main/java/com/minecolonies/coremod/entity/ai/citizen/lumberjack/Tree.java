@@ -12,7 +12,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
@@ -21,9 +20,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -67,9 +68,15 @@ public class Tree
     private static final int LEAVES_WIDTH = 4;
 
     /**
-     * Max size a tree should have.
+     * Highest y a leaf can be at.
      */
-    private static final int MAX_TREE_SIZE = 256;
+    private static final int MAX_LEAF_HEIGHT = 255;
+
+    /**
+     * Order of the leaves, they are cut starting at the end.
+     */
+    private static final Comparator<BlockPos> LEAF_ORDER =
+      Comparator.comparingInt(BlockPos::getX).thenComparingInt(BlockPos::getY).thenComparingInt(BlockPos::getZ);
 
     /**
      * The location of the tree stump.
@@ -136,8 +143,9 @@ public class Tree
      *
      * @param world The world where the tree is in.
      * @param log   the position of the found log.
+     * @param cache the tree cache of the colony, or null.
      */
-    public Tree(@NotNull final World world, @NotNull final BlockPos log)
+    public Tree(@NotNull final World world, @NotNull final BlockPos log, @Nullable final TreeCache cache)
     {
         final Block block = BlockPosUtil.getBlock(world, log);
         final BlockPos leaf = new BlockPos(log.getX() + 1, log.getY() + 5, log.getZ());
@@ -149,7 +157,7 @@ public class Tree
             location = log;
             topLog = log;
 
-            addAndSearch(world, log);
+            addAndSearch(world, log, cache);
             addAndSearch(world);
 
             checkTree(world, topLog);
@@ -195,80 +203,55 @@ public class Tree
      * @param world      the world.
      * @param pos        The coordinates.
      * @param treesToCut the trees the lumberjack is supposed to cut.
+     * @param cache      the tree cache of the colony, or null.
+     * @param canStore   checks if a tree found in the world may be stored in the cache.
      * @return true if the log is part of a tree.
      */
-    public static boolean checkTree(@NotNull final IBlockAccess world, final BlockPos pos, final Map<ItemStorage, Boolean> treesToCut)
+    public static boolean checkTree(
+                                     @NotNull final IBlockAccess world,
+                                     final BlockPos pos,
+                                     final Map<ItemStorage, Boolean> treesToCut,
+                                     @Nullable final TreeCache cache,
+                                     @NotNull final Predicate<TreeCache.TreeScan> canStore)
     {
         //Is the first block a log?
-        final IBlockState state = world.getBlockState(pos);
-        final Block block = state.getBlock();
-        if (!block.isWood(world, pos) && !Compatibility.isSlimeBlock(block))
+        if (!TreeCache.isLog(world, pos, world.getBlockState(pos)))
         {
             return false;
         }
 
-        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos, new LinkedList<>(), null, null);
+        final TreeCache.TreeScan logs = getLogs(world, pos, cache, canStore);
 
         //Get base log, should already be base log.
-        final BlockPos basePos = baseAndTOp.getFirst();
+        final IBlockState ground = world.getBlockState(logs.getBottomLog().down());
 
         //Make sure tree is on solid ground and tree is not build above cobblestone.
-        return world.getBlockState(basePos.down()).getMaterial().isSolid()
-                 && world.getBlockState(basePos.down()).getBlock() != Blocks.COBBLESTONE
-                 && hasEnoughLeavesAndIsSupposedToCut(world, baseAndTOp.getSecond(), treesToCut);
+        return ground.getMaterial().isSolid()
+                 && ground.getBlock() != Blocks.COBBLESTONE
+                 && hasEnoughLeavesAndIsSupposedToCut(world, logs.getTopLog(), treesToCut);
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Get all logs connected to a log, from the cache if possible.
      *
-     * @param world The world the log is in.
-     * @param log   the log to add.
-     * @return a tuple containing, first: bottom log and second: top log.
+     * @param world    the world the log is in.
+     * @param log      the log.
+     * @param cache    the tree cache of the colony, or null.
+     * @param canStore checks if a tree found in the world may be stored in the cache.
+     * @return the logs of the tree.
      */
     @NotNull
-    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(
-                                                                 @NotNull final IBlockAccess world,
-                                                                 @NotNull final BlockPos log,
-                                                                 @NotNull final LinkedList<BlockPos> woodenBlocks,
-                                                                 final BlockPos bottomLog,
-                                                                 final BlockPos topLog)
+    private static TreeCache.TreeScan getLogs(
+                                               @NotNull final IBlockAccess world,
+                                               @NotNull final BlockPos log,
+                                               @Nullable final TreeCache cache,
+                                               @NotNull final Predicate<TreeCache.TreeScan> canStore)
     {
-        BlockPos bottom = bottomLog == null ? log : bottomLog;
-        BlockPos top = topLog == null ? log : topLog;
-
-        if (woodenBlocks.size() >= MAX_TREE_SIZE)
-        {
-            return new Tuple<>(bottom, top);
-        }
-
-        if (log.getY() < bottom.getY())
-        {
-            bottom = log;
-        }
-
-        if (log.getY() > top.getY())
-        {
-            top = log;
-        }
-
-        woodenBlocks.add(log);
-        for (int y = -1; y <= 1; y++)
+        if (cache == null)
         {
-            for (int x = -1; x <= 1; x++)
-            {
-                for (int z = -1; z <= 1; z++)
-                {
-                    final BlockPos temp = log.add(x, y, z);
-                    final Block block = world.getBlockState(temp).getBlock();
-                    if ((block.isWood(null, temp) || Compatibility.isSlimeBlock(block)) && !woodenBlocks.contains(temp))
-                    {
-                        return getBottomAndTopLog(world, temp, woodenBlocks, bottom, top);
-                    }
-                }
-            }
+            return TreeCache.scan(log, pos -> TreeCache.isLog(world, pos, world.getBlockState(pos)));
         }
-
-        return new Tuple<>(bottom, top);
+        return cache.getTree(world, log, canStore);
     }
 
     /**
@@ -412,10 +395,11 @@ public class Tree
      * Searches all logs that belong to the tree.
      *
      * @param world The world where the blocks are in.
+     * @param cache the tree cache of the colony, or null.
      */
-    public void findLogs(@NotNull final World world)
+    public void findLogs(@NotNull final World world, @Nullable final TreeCache cache)
     {
-        addAndSearch(world, location);
+        addAndSearch(world, location, cache);
         woodBlocks.sort((c1, c2) -> (int) (c1.distanceSq(location) - c2.distanceSq(location)));
         if (getStumpLocations().isEmpty())
         {
@@ -441,85 +425,64 @@ public class Tree
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Adds a log and all logs connected to it.
      *
      * @param world The world the log is in.
      * @param log   the log to add.
+     * @param cache the tree cache of the colony, or null.
      */
-    private void addAndSearch(@NotNull final World world, @NotNull final BlockPos log)
+    private void addAndSearch(@NotNull final World world, @NotNull final BlockPos log, @Nullable final TreeCache cache)
     {
-        if (woodBlocks.size() >= MAX_TREE_SIZE)
+        final TreeCache.TreeScan logs = getLogs(world, log, cache, scan -> true);
+        for (int i = 0; i < logs.getLogCount(); i++)
         {
-            return;
+            woodBlocks.add(logs.getLog(i));
         }
 
-        if (log.getY() < location.getY())
+        if (logs.getBottomLog().getY() < location.getY())
         {
-            location = log;
+            location = logs.getBottomLog();
         }
 
-        if (log.getY() > topLog.getY())
+        if (logs.getTopLog().getY() > topLog.getY())
         {
-            topLog = log;
-        }
-
-        woodBlocks.add(log);
-        for (int y = -1; y <= 1; y++)
-        {
-            for (int x = -1; x <= 1; x++)
-            {
-                for (int z = -1; z <= 1; z++)
-                {
-                    final BlockPos temp = log.add(x, y, z);
-                    final Block block = BlockPosUtil.getBlock(world, temp);
-                    if ((block.isWood(null, temp) || Compatibility.isSlimeBlock(block)) && !woodBlocks.contains(temp))
-                    {
-                        addAndSearch(world, temp);
-                    }
-                }
-            }
+            topLog = logs.getTopLog();
         }
     }
 
     /**
-     * Adds a leaf and searches for further leaves.
+     * Adds the leaves around the tree, from two blocks above the stump up to the top of the canopy.
+     * The canopy ends at the first layer above the top log without leaves.
      *
      * @param world The world the leaf is in.
      */
     private void addAndSearch(@NotNull final World world)
     {
-        int locXMin = location.getX() - LEAVES_WIDTH;
-        int locXMax = location.getX() + LEAVES_WIDTH;
-        final int locYMin = location.getY() + 2;
-        int locZMin = location.getZ() - LEAVES_WIDTH;
-        int locZMax = location.getZ() + LEAVES_WIDTH;
-        int temp;
-        if (locXMin > locXMax)
-        {
-            temp = locXMax;
-            locXMax = locXMin;
-            locXMin = temp;
-        }
-        if (locZMin > locZMax)
-        {
-            temp = locZMax;
-            locZMax = locZMin;
-            locZMin = temp;
-        }
-        for (int locX = locXMin; locX <= locXMax; locX++)
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        final List<BlockPos> found = new ArrayList<>();
+        for (int locY = location.getY() + 2; locY <= MAX_LEAF_HEIGHT; locY++)
         {
-            for (int locY = locYMin; locY <= MAX_TREE_SIZE; locY++)
+            boolean layerHasLeaves = false;
+            for (int locX = location.getX() - LEAVES_WIDTH; locX <= location.getX() + LEAVES_WIDTH; locX++)
             {
-                for (int locZ = locZMin; locZ <= locZMax; locZ++)
+                for (int locZ = location.getZ() - LEAVES_WIDTH; locZ <= location.getZ() + LEAVES_WIDTH; locZ++)
                 {
-                    final BlockPos leaf = new BlockPos(locX, locY, locZ);
-                    if (world.getBlockState(leaf).getMaterial() == Material.LEAVES)
+                    if (world.getBlockState(pos.setPos(locX, locY, locZ)).getMaterial() == Material.LEAVES)
                     {
-                        leaves.add(leaf);
+                        found.add(pos.toImmutable());
+                        layerHasLeaves = true;
                     }
                 }
             }
+
+            if (!layerHasLeaves && locY > topLog.getY())
+            {
+                break;
+            }
         }
+
+        found.sort(LEAF_ORDER);
+        leaves.addAll(found);
     }
 
     /**
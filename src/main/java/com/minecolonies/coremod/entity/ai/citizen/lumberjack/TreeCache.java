@@ -0,0 +1,487 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.compatibility.Compatibility;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Colony scoped cache of the logs of the trees found by the lumberjacks, shared by the tree search on the path finding threads and the
+ * lumberjack cutting the tree.
+ * <p>
+ * The logs of a tree are found by an iterative flood fill over the 26 neighbours of each log. The result is stored under every log of
+ * the tree, in 16x16x16 chunk sections, so looking up any log of a known tree is a single map access. When a log is placed or removed
+ * all sections around it are dropped and the trees in them are marked as outdated, which also hides them in the other sections. Only
+ * trees within the colony are stored, as only changes within the colony are reported.
+ */
+public class TreeCache
+{
+    /**
+     * Max amount of logs of a tree.
+     */
+    public static final int MAX_TREE_SIZE = 256;
+
+    /**
+     * Values used to compute the section keys.
+     */
+    private static final int  SECTION_SHIFT  = 4;
+    private static final int  SECTION_MASK   = 0xF;
+    private static final int  COORD_BITS     = 26;
+    private static final long COORD_MASK     = (1L << COORD_BITS) - 1;
+    private static final int  SECTION_Y_BITS = 4;
+
+    /**
+     * All sections are dropped when the cache grows beyond this amount, the trees are found again on demand.
+     */
+    private static final int MAX_SECTIONS = 4096;
+
+    /**
+     * The cached trees of each section by section key, and within the section by the packed position of their logs.
+     */
+    private final Map<Long, Map<Long, TreeScan>> sections = new ConcurrentHashMap<>();
+
+    /**
+     * Counts the log changes, a tree found while a log changed is not stored.
+     */
+    private final AtomicLong changeCount = new AtomicLong();
+
+    /**
+     * The area covered by the cache, only changes within it are reported.
+     */
+    private final int  centerX;
+    private final int  centerZ;
+    private final long rangeSquared;
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Create a cache for the trees within a radius around a center.
+     *
+     * @param center the center of the colony.
+     * @param range  the radius of the colony.
+     */
+    public TreeCache(@NotNull final BlockPos center, final int range)
+    {
+        this.centerX = center.getX();
+        this.centerZ = center.getZ();
+        this.rangeSquared = (long) range * range;
+    }
+
+    /**
+     * Check if a block is a log a tree can consist of.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @param state the state of the block.
+     * @return true if so.
+     */
+    public static boolean isLog(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        return block.isWood(world, pos) || Compatibility.isSlimeBlock(block);
+    }
+
+    /**
+     * Get the logs of the tree a log belongs to, searching them if they are not cached.
+     * May be called from any thread.
+     *
+     * @param world    the world to read from.
+     * @param log      the position of a log.
+     * @param canStore checks if a found tree may be stored, for example because the world was only read partially.
+     * @return the logs of the tree.
+     */
+    @NotNull
+    public TreeScan getTree(@NotNull final IBlockAccess world, @NotNull final BlockPos log, @NotNull final Predicate<TreeScan> canStore)
+    {
+        return getTree(log, pos -> isLog(world, pos, world.getBlockState(pos)), canStore);
+    }
+
+    /**
+     * Get the logs of the tree a log belongs to, searching them if they are not cached.
+     *
+     * @param log      the position of a log.
+     * @param isLog    checks if there is a log at a position.
+     * @param canStore checks if a found tree may be stored.
+     * @return the logs of the tree.
+     */
+    @NotNull
+    TreeScan getTree(@NotNull final BlockPos log, @NotNull final Predicate<BlockPos> isLog, @NotNull final Predicate<TreeScan> canStore)
+    {
+        final long key = log.toLong();
+        final Map<Long, TreeScan> section = sections.get(getSectionKey(log.getX(), log.getY(), log.getZ()));
+        final TreeScan cached = section == null ? null : section.get(key);
+        if (cached != null && !cached.outdated)
+        {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final long changesBefore = changeCount.get();
+        final TreeScan scan = scan(log, isLog);
+        if (isInRange(scan) && canStore.test(scan))
+        {
+            store(scan, changesBefore);
+        }
+        return scan;
+    }
+
+    /**
+     * Check if the area read to find a tree is covered by the cache.
+     *
+     * @param scan the tree.
+     * @return true if so.
+     */
+    private boolean isInRange(@NotNull final TreeScan scan)
+    {
+        final BlockPos min = scan.getMinCorner();
+        final BlockPos max = scan.getMaxCorner();
+        return isInRange(min.getX(), min.getZ()) && isInRange(min.getX(), max.getZ()) && isInRange(max.getX(), min.getZ()) && isInRange(max.getX(), max.getZ());
+    }
+
+    private boolean isInRange(final int x, final int z)
+    {
+        final long dx = (long) x - centerX;
+        final long dz = (long) z - centerZ;
+        return dx * dx + dz * dz <= rangeSquared;
+    }
+
+    private synchronized void store(@NotNull final TreeScan scan, final long changesBefore)
+    {
+        if (changeCount.get() != changesBefore)
+        {
+            return;
+        }
+
+        if (sections.size() >= MAX_SECTIONS)
+        {
+            sections.clear();
+        }
+
+        for (final long log : scan.logs)
+        {
+            final BlockPos pos = BlockPos.fromLong(log);
+            sections.computeIfAbsent(getSectionKey(pos.getX(), pos.getY(), pos.getZ()), sectionKey -> new ConcurrentHashMap<>()).put(log, scan);
+        }
+    }
+
+    /**
+     * Drop the trees which may be connected to a changed log.
+     *
+     * @param pos the position of the log.
+     */
+    public synchronized void invalidate(@NotNull final BlockPos pos)
+    {
+        changeCount.incrementAndGet();
+
+        //A new log connects to the logs in all its neighbours, which may lie in other sections.
+        for (int x = (pos.getX() - 1) >> SECTION_SHIFT; x <= (pos.getX() + 1) >> SECTION_SHIFT; x++)
+        {
+            for (int y = (pos.getY() - 1) >> SECTION_SHIFT; y <= (pos.getY() + 1) >> SECTION_SHIFT; y++)
+            {
+                for (int z = (pos.getZ() - 1) >> SECTION_SHIFT; z <= (pos.getZ() + 1) >> SECTION_SHIFT; z++)
+                {
+                    final Map<Long, TreeScan> section = sections.remove(getSectionKey(x << SECTION_SHIFT, y << SECTION_SHIFT, z << SECTION_SHIFT));
+                    if (section != null)
+                    {
+                        invalidations.increment();
+                        for (final TreeScan scan : section.values())
+                        {
+                            scan.outdated = true;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop all cached trees.
+     */
+    public synchronized void clear()
+    {
+        changeCount.incrementAndGet();
+        sections.clear();
+    }
+
+    /**
+     * Amount of trees served from the cache.
+     *
+     * @return the hits.
+     */
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Amount of trees which had to be searched.
+     *
+     * @return the misses.
+     */
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Amount of sections dropped due to log changes.
+     *
+     * @return the invalidations.
+     */
+    public long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * Amount of currently cached sections.
+     *
+     * @return the amount.
+     */
+    public int getSectionCount()
+    {
+        return sections.size();
+    }
+
+    /**
+     * Find the logs connected to a log, up to {@link #MAX_TREE_SIZE} logs.
+     *
+     * @param log   the position of the first log.
+     * @param isLog checks if there is a log at a position, gets a mutable position which must not be kept.
+     * @return the logs of the tree.
+     */
+    @NotNull
+    static TreeScan scan(@NotNull final BlockPos log, @NotNull final Predicate<BlockPos> isLog)
+    {
+        final long[] found = new long[MAX_TREE_SIZE];
+        final PositionSet visited = new PositionSet(MAX_TREE_SIZE);
+        final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+
+        found[0] = log.toLong();
+        visited.add(found[0]);
+        int size = 1;
+
+        int bottomIndex = 0;
+        int topIndex = 0;
+        int minX = log.getX();
+        int maxX = log.getX();
+        int minZ = log.getZ();
+        int maxZ = log.getZ();
+
+        //The found logs are the queue of the breadth first search, the logs before next are expanded already.
+        for (int next = 0; next < size && size < MAX_TREE_SIZE; next++)
+        {
+            final BlockPos current = BlockPos.fromLong(found[next]);
+            for (int y = -1; y <= 1 && size < MAX_TREE_SIZE; y++)
+            {
+                for (int x = -1; x <= 1 && size < MAX_TREE_SIZE; x++)
+                {
+                    for (int z = -1; z <= 1 && size < MAX_TREE_SIZE; z++)
+                    {
+                        neighbour.setPos(current.getX() + x, current.getY() + y, current.getZ() + z);
+                        final long packed = neighbour.toLong();
+                        if (visited.contains(packed) || !isLog.test(neighbour))
+                        {
+                            continue;
+                        }
+
+                        visited.add(packed);
+                        if (neighbour.getY() < BlockPos.fromLong(found[bottomIndex]).getY())
+                        {
+                            bottomIndex = size;
+                        }
+                        if (neighbour.getY() > BlockPos.fromLong(found[topIndex]).getY())
+                        {
+                            topIndex = size;
+                        }
+                        minX = Math.min(minX, neighbour.getX());
+                        maxX = Math.max(maxX, neighbour.getX());
+                        minZ = Math.min(minZ, neighbour.getZ());
+                        maxZ = Math.max(maxZ, neighbour.getZ());
+                        found[size++] = packed;
+                    }
+                }
+            }
+        }
+
+        final long[] logs = new long[size];
+        System.arraycopy(found, 0, logs, 0, size);
+        return new TreeScan(logs, BlockPos.fromLong(found[bottomIndex]), BlockPos.fromLong(found[topIndex]), minX, maxX, minZ, maxZ);
+    }
+
+    private static long getSectionKey(final int x, final int y, final int z)
+    {
+        final long sectionX = (x >> SECTION_SHIFT) & COORD_MASK;
+        final long sectionZ = (z >> SECTION_SHIFT) & COORD_MASK;
+        final long sectionY = (y >> SECTION_SHIFT) & SECTION_MASK;
+        return (sectionX << (COORD_BITS + SECTION_Y_BITS)) | (sectionZ << SECTION_Y_BITS) | sectionY;
+    }
+
+    /**
+     * The logs of one tree.
+     */
+    public static final class TreeScan
+    {
+        private final long[]   logs;
+        private final BlockPos bottomLog;
+        private final BlockPos topLog;
+        private final int      minX;
+        private final int      maxX;
+        private final int      minZ;
+        private final int      maxZ;
+
+        /**
+         * Set when a log of the tree changed.
+         */
+        private volatile boolean outdated = false;
+
+        private TreeScan(
+                          @NotNull final long[] logs,
+                          @NotNull final BlockPos bottomLog,
+                          @NotNull final BlockPos topLog,
+                          final int minX,
+                          final int maxX,
+                          final int minZ,
+                          final int maxZ)
+        {
+            this.logs = logs;
+            this.bottomLog = bottomLog;
+            this.topLog = topLog;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+        }
+
+        /**
+         * Amount of logs of the tree.
+         *
+         * @return the amount.
+         */
+        public int getLogCount()
+        {
+            return logs.length;
+        }
+
+        /**
+         * Get a log of the tree, in the order they were found.
+         *
+         * @param index the index of the log.
+         * @return the position.
+         */
+        @NotNull
+        public BlockPos getLog(final int index)
+        {
+            return BlockPos.fromLong(logs[index]);
+        }
+
+        /**
+         * The lowest log of the tree.
+         *
+         * @return the position.
+         */
+        @NotNull
+        public BlockPos getBottomLog()
+        {
+            return bottomLog;
+        }
+
+        /**
+         * The highest log of the tree.
+         *
+         * @return the position.
+         */
+        @NotNull
+        public BlockPos getTopLog()
+        {
+            return topLog;
+        }
+
+        /**
+         * The lowest corner of the area read to find the tree, the logs and their neighbours.
+         *
+         * @return the position, only x and z are used.
+         */
+        @NotNull
+        public BlockPos getMinCorner()
+        {
+            return new BlockPos(minX - 1, bottomLog.getY() - 1, minZ - 1);
+        }
+
+        /**
+         * The highest corner of the area read to find the tree, the logs and their neighbours.
+         *
+         * @return the position, only x and z are used.
+         */
+        @NotNull
+        public BlockPos getMaxCorner()
+        {
+            return new BlockPos(maxX + 1, topLog.getY() + 1, maxZ + 1);
+        }
+    }
+
+    /**
+     * Open addressing set of packed positions, sized for a fixed amount of entries.
+     */
+    private static final class PositionSet
+    {
+        private final long[]    keys;
+        private final boolean[] used;
+        private final int       mask;
+
+        private PositionSet(final int maxSize)
+        {
+            final int capacity = Integer.highestOneBit(maxSize) << 2;
+            this.keys = new long[capacity];
+            this.used = new boolean[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private boolean contains(final long key)
+        {
+            for (int slot = hash(key); used[slot]; slot = (slot + 1) & mask)
+            {
+                if (keys[slot] == key)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(final long key)
+        {
+            int slot = hash(key);
+            while (used[slot])
+            {
+                if (keys[slot] == key)
+                {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            used[slot] = true;
+            keys[slot] = key;
+        }
+
+        private int hash(final long key)
+        {
+            final long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed >>> 32) & mask;
+        }
+    }
+}
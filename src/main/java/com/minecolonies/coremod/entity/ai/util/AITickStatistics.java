@@ -0,0 +1,124 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time spent in the ticks of the worker ai, per ai class and state.
+ * Only updated on the server thread, read by the admin command.
+ */
+public final class AITickStatistics
+{
+    /**
+     * The statistics by simple name of the ai class.
+     */
+    private static final Map<String, AITickStatistics> BY_AI = new ConcurrentHashMap<>();
+
+    /**
+     * Ticks and nanoseconds spent by ordinal of the state.
+     */
+    private final long[] ticks = new long[AIState.values().length];
+    private final long[] nanos = new long[AIState.values().length];
+
+    private AITickStatistics()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the statistics of an ai class.
+     *
+     * @param ai the class of the ai.
+     * @return the statistics, shared by all ais of the class.
+     */
+    @NotNull
+    public static AITickStatistics get(@NotNull final Class<?> ai)
+    {
+        return BY_AI.computeIfAbsent(ai.getSimpleName(), name -> new AITickStatistics());
+    }
+
+    /**
+     * Get the statistics of all ai classes which ran so far.
+     *
+     * @return the statistics sorted by the name of the ai class.
+     */
+    @NotNull
+    public static Map<String, AITickStatistics> getAll()
+    {
+        return new TreeMap<>(BY_AI);
+    }
+
+    /**
+     * Reset the statistics of all ai classes.
+     */
+    public static void resetAll()
+    {
+        for (final AITickStatistics statistics : BY_AI.values())
+        {
+            statistics.reset();
+        }
+    }
+
+    /**
+     * Record one tick.
+     *
+     * @param state the state the ai was in when the tick started.
+     * @param time  the time spent in nanoseconds.
+     */
+    public void record(@NotNull final AIState state, final long time)
+    {
+        ticks[state.ordinal()]++;
+        nanos[state.ordinal()] += time;
+    }
+
+    private void reset()
+    {
+        for (int i = 0; i < ticks.length; i++)
+        {
+            ticks[i] = 0;
+            nanos[i] = 0;
+        }
+    }
+
+    /**
+     * Amount of ticks recorded in a state.
+     *
+     * @param state the state.
+     * @return the amount.
+     */
+    public long getTicks(@NotNull final AIState state)
+    {
+        return ticks[state.ordinal()];
+    }
+
+    /**
+     * Time recorded in a state.
+     *
+     * @param state the state.
+     * @return the time in nanoseconds.
+     */
+    public long getNanos(@NotNull final AIState state)
+    {
+        return nanos[state.ordinal()];
+    }
+
+    /**
+     * Time recorded in all states.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        long total = 0;
+        for (final long time : nanos)
+        {
+            total += time;
+        }
+        return total;
+    }
+}
@@ -25,8 +25,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
  * Represents a build task for the Structure AI.
@@ -188,12 +186,17 @@ public class Structure
      * The internal structure loaded.
      */
     @Nullable
-    private final StructureWrapper structure;
+    private final StructureWrapper   structure;
     /**
      * the targetWorld to build the structure in.
      */
-    private final World            targetWorld;
-    private       Stage            stage;
+    private final World              targetWorld;
+    private       Stage              stage;
+    /**
+     * The positions which need work in the current stage, created when the stage is advanced the first time.
+     */
+    @Nullable
+    private       StructureBuildPlan plan;
 
     /**
      * Create a new building task.
@@ -350,43 +353,79 @@ public class Structure
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.structure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                      || structureBlock.worldBlock == Blocks.AIR);
-            case BUILD:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         && structureBlock.block == Blocks.AIR
-                                                                                         && !structureBlock.metadata.getMaterial().isSolid());
             case SPAWN:
-                return advanceBlocks(this.structure::decrementBlock, structureBlock ->
-                                                                       structureBlock.entity == null);
+                return advanceBlocks(false);
+            case BUILD:
             case DECORATE:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                         || structureBlock.metadata.getMaterial().isSolid());
+                return advanceBlocks(true);
             default:
                 return Result.NEW_BLOCK;
         }
     }
 
     /**
-     * Advance many blocks until either moveOneBlock or checkIfApplies return false
-     * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
+     * Check if a block needs no work in a stage.
+     *
+     * @param stage          the stage.
+     * @param structureBlock the block.
+     * @return true if the block can be skipped.
+     */
+    private static boolean isSkipped(@NotNull final Stage stage, @NotNull final StructureBlock structureBlock)
+    {
+        switch (stage)
+        {
+            case CLEAR:
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         || structureBlock.worldBlock == Blocks.AIR;
+            case BUILD:
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         && structureBlock.block == Blocks.AIR
+                         && !structureBlock.metadata.getMaterial().isSolid();
+            case SPAWN:
+                return structureBlock.entity == null;
+            case DECORATE:
+                return structureBlock.doesStructureBlockEqualWorldBlock()
+                         || structureBlock.metadata.getMaterial().isSolid();
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Advance to the next block of the build plan of the stage which needs work,
+     * or until we reached the maximum of checked blocks in maxBlocksCheckedByBuilder.
+     * <p>
+     * The plan is created when a stage is advanced the first time, each block of the plan is checked again before it is returned.
      *
-     * @param moveOneBlock   this will be called to advance the structure one block.
-     * @param checkIfApplies this will be evaluated to check if we should skip a block.
+     * @param ascending if the stage works from the lowest to the highest block.
      * @return a Result enum specifying the result
      */
     @NotNull
-    private Result advanceBlocks(@NotNull final Supplier<Boolean> moveOneBlock, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    private Result advanceBlocks(final boolean ascending)
     {
+        if (plan == null || plan.getStage() != stage)
+        {
+            if (plan != null)
+            {
+                plan.discard();
+            }
+            final Stage planStage = stage;
+            plan = StructureBuildPlan.create(targetWorld, structure, planStage, ascending, structureBlock -> isSkipped(planStage, structureBlock));
+        }
+
         for (int i = 0; i < Configurations.gameplay.maxBlocksCheckedByBuilder; i++)
         {
-            if (!moveOneBlock.get())
+            final BlockPos next = plan.getNextPosition(structure.getLocalPosition());
+            if (next == null)
             {
+                structure.reset();
+                plan.discard();
+                plan = null;
                 return Result.AT_END;
             }
-            if (!checkIfApplies.apply(getCurrentBlock()))
+
+            structure.setLocalPosition(next);
+            if (!isSkipped(stage, getCurrentBlock()))
             {
                 return Result.NEW_BLOCK;
             }
@@ -0,0 +1,272 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.coremod.util.StructureWrapper;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The positions of a structure which need work in one stage of the build.
+ * <p>
+ * The plan is created once per stage by comparing the structure with the world, reading the blocks chunk by chunk and the entities of the
+ * whole area at once. Blocks changed in the area afterwards are reported by {@link #onBlockChanged(World, BlockPos)} and checked again when
+ * the builder gets to them, so each step only has to look at the next position of the plan.
+ */
+public final class StructureBuildPlan
+{
+    /**
+     * All plans in use, plans of builders which stopped are dropped by the garbage collector.
+     */
+    private static final Set<StructureBuildPlan> ACTIVE_PLANS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * The local position before the first block.
+     */
+    private static final BlockPos NULL_POS = new BlockPos(-1, -1, -1);
+
+    private final World           world;
+    private final Structure.Stage stage;
+
+    /**
+     * The world position of the local position 0, 0, 0.
+     */
+    private final BlockPos origin;
+    private final int      width;
+    private final int      height;
+    private final int      length;
+
+    /**
+     * If the plan is worked through from the lowest to the highest position.
+     */
+    private final boolean ascending;
+
+    /**
+     * The positions which needed work when the plan was created, by index.
+     */
+    private final BitSet work;
+
+    /**
+     * The positions changed since the plan was created, by index.
+     */
+    private final BitSet changed = new BitSet();
+
+    private StructureBuildPlan(
+                                @NotNull final World world,
+                                @NotNull final Structure.Stage stage,
+                                @NotNull final StructureWrapper structure,
+                                final boolean ascending)
+    {
+        this.world = world;
+        this.stage = stage;
+        this.origin = structure.getOffsetPosition();
+        this.width = structure.getWidth();
+        this.height = structure.getHeight();
+        this.length = structure.getLength();
+        this.ascending = ascending;
+        this.work = new BitSet(width * height * length);
+    }
+
+    /**
+     * Create the plan of a stage and start tracking changes for it.
+     *
+     * @param world     the world the structure is built in.
+     * @param structure the structure.
+     * @param stage     the stage.
+     * @param ascending if the stage works from the lowest to the highest position.
+     * @param skip      checks if a block needs no work in the stage.
+     * @return the plan.
+     */
+    @NotNull
+    public static StructureBuildPlan create(
+                                             @NotNull final World world,
+                                             @NotNull final StructureWrapper structure,
+                                             @NotNull final Structure.Stage stage,
+                                             final boolean ascending,
+                                             @NotNull final Predicate<Structure.StructureBlock> skip)
+    {
+        final StructureBuildPlan plan = new StructureBuildPlan(world, stage, structure, ascending);
+        plan.fill(structure.structure(), skip);
+        ACTIVE_PLANS.add(plan);
+        return plan;
+    }
+
+    private void fill(@NotNull final StructureProxy proxy, @NotNull final Predicate<Structure.StructureBlock> skip)
+    {
+        final Set<BlockPos> entityPositions = getEntityPositions();
+        final Map<Long, Chunk> chunks = new HashMap<>();
+        final BlockPos.MutableBlockPos worldPos = new BlockPos.MutableBlockPos();
+
+        for (int y = 0; y < height; y++)
+        {
+            for (int z = 0; z < length; z++)
+            {
+                for (int x = 0; x < width; x++)
+                {
+                    final BlockPos local = new BlockPos(x, y, z);
+                    final Template.BlockInfo info = proxy.getBlockInfo(local);
+                    if (info == null)
+                    {
+                        continue;
+                    }
+
+                    worldPos.setPos(origin.getX() + x, origin.getY() + y, origin.getZ() + z);
+                    final IBlockState worldState = getChunk(chunks, worldPos).getBlockState(worldPos);
+
+                    //The item is not needed to decide if a block needs work.
+                    final Structure.StructureBlock block = new Structure.StructureBlock(info.blockState.getBlock(),
+                      worldPos.toImmutable(),
+                      info.blockState,
+                      proxy.getEntityinfo(local),
+                      null,
+                      worldState.getBlock(),
+                      worldState,
+                      entityPositions.contains(worldPos));
+
+                    if (!skip.test(block))
+                    {
+                        work.set(getIndex(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private Chunk getChunk(@NotNull final Map<Long, Chunk> chunks, @NotNull final BlockPos pos)
+    {
+        return chunks.computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> world.getChunkFromBlockCoords(pos));
+    }
+
+    /**
+     * Get the positions of the entities in the area the builder has to check, the same entities a check of a single block looks for.
+     *
+     * @return the block positions.
+     */
+    @NotNull
+    private Set<BlockPos> getEntityPositions()
+    {
+        final Set<BlockPos> positions = new HashSet<>();
+        final AxisAlignedBB area = new AxisAlignedBB(origin, origin.add(width, height, length));
+        for (@NotNull final Entity entity : world.getEntitiesWithinAABB(Entity.class,
+          area,
+          entity -> !(entity instanceof EntityLiving || entity instanceof EntityPlayer || entity instanceof EntityItem)))
+        {
+            //Entities can intersect several blocks, like paintings.
+            final AxisAlignedBB box = entity.getEntityBoundingBox();
+            for (final BlockPos pos : BlockPos.getAllInBox(new BlockPos(box.minX, box.minY, box.minZ), new BlockPos(box.maxX, box.maxY, box.maxZ)))
+            {
+                positions.add(pos.toImmutable());
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Mark a changed block in all plans containing it, to check it again when the builder gets to it.
+     *
+     * @param world the world of the block.
+     * @param pos   the position of the block.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        for (@NotNull final StructureBuildPlan plan : ACTIVE_PLANS)
+        {
+            if (plan.world == world)
+            {
+                plan.markChanged(pos);
+            }
+        }
+    }
+
+    private void markChanged(@NotNull final BlockPos pos)
+    {
+        final int x = pos.getX() - origin.getX();
+        final int y = pos.getY() - origin.getY();
+        final int z = pos.getZ() - origin.getZ();
+        if (x >= 0 && y >= 0 && z >= 0 && x < width && y < height && z < length)
+        {
+            changed.set(getIndex(x, y, z));
+        }
+    }
+
+    /**
+     * Stop tracking changes for the plan.
+     */
+    public void discard()
+    {
+        ACTIVE_PLANS.remove(this);
+    }
+
+    /**
+     * Get the stage the plan was made for.
+     *
+     * @return the stage.
+     */
+    @NotNull
+    public Structure.Stage getStage()
+    {
+        return stage;
+    }
+
+    /**
+     * Get the next position after the current one which may need work, in the order of the stage.
+     *
+     * @param current the current local position of the builder.
+     * @return the next local position or null if there is none.
+     */
+    @Nullable
+    public BlockPos getNextPosition(@NotNull final BlockPos current)
+    {
+        final int next;
+        if (ascending)
+        {
+            final int from = current.equals(NULL_POS) ? 0 : (getIndex(current.getX(), current.getY(), current.getZ()) + 1);
+            next = min(work.nextSetBit(from), changed.nextSetBit(from));
+        }
+        else
+        {
+            final int from = current.equals(NULL_POS) ? (width * height * length - 1) : (getIndex(current.getX(), current.getY(), current.getZ()) - 1);
+            next = from < 0 ? -1 : Math.max(work.previousSetBit(from), changed.previousSetBit(from));
+        }
+
+        if (next < 0)
+        {
+            return null;
+        }
+
+        changed.clear(next);
+        return new BlockPos(next % width, next / (width * length), (next / width) % length);
+    }
+
+    private static int min(final int first, final int second)
+    {
+        if (first < 0)
+        {
+            return second;
+        }
+        if (second < 0)
+        {
+            return first;
+        }
+        return Math.min(first, second);
+    }
+
+    private int getIndex(final int x, final int y, final int z)
+    {
+        return (y * length + z) * width + x;
+    }
+}
@@ -5,9 +5,9 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.blocks.BlockConstructionTape;
-import com.minecolonies.coremod.blocks.BlockConstructionTapeCorner;
 import com.minecolonies.coremod.blocks.BlockHutField;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -50,6 +50,17 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final   int      MAX_Y                 = 256;
     private static final   int      MIN_Y                 = 0;
 
+    /**
+     * Conversion factors used for the search speed output.
+     */
+    private static final double NANOS_PER_SECOND  = 1_000_000_000D;
+    private static final double MILLIS_PER_SECOND = 1_000D;
+
+    /**
+     * Returned by getCachedFlags if the shared cache can't be used for a position.
+     */
+    private static final int NO_CACHED_FLAGS = -1;
+
     /**
      * Additional cost of jumping and dropping - base 1.
      */
@@ -97,8 +108,32 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess world;
     protected final  PathResult   result;
     private final    int          maxRange;
-    private final Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    /**
+     * Shared passability cache of the colony the job starts in, or null.
+     */
+    @Nullable
+    private final PassabilityCache   passabilityCache;
+    /**
+     * Area in which the chunk cache of this job holds real world data and the shared cache may be filled.
+     */
+    private final int                cacheMinX;
+    private final int                cacheMinZ;
+    private final int                cacheMaxX;
+    private final int                cacheMaxZ;
+    /**
+     * The passability cache used by the running search, null if this job may not use it.
+     */
+    @Nullable
+    private       PassabilityCache   activeCache                  = null;
+    /**
+     * Open and closed sets of the search, created on the thread executing the search.
+     */
+    private       INodeStore         nodes                        = null;
+    /**
+     * Sections the search may expand into, null to search the whole range.
+     */
+    @Nullable
+    private       SearchCorridor     corridor                     = null;
     //  Debug Rendering
     protected     boolean            debugDrawEnabled             = false;
     @Nullable
@@ -109,6 +144,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected     Set<Node>          debugNodesPath               = null;
     //  Job rules/configuration
     private       boolean            allowSwimming                = true;
+    @NotNull
+    private       PathPriority       priority                     = PathPriority.NORMAL;
     //  May be faster, but can produce strange results
     private       boolean            allowJumpPointSearchTypeWalk = false;
     private       int                totalNodesAdded              = 0;
@@ -146,6 +183,12 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
 
+        this.cacheMinX = minX;
+        this.cacheMinZ = minZ;
+        this.cacheMaxX = maxX;
+        this.cacheMaxZ = maxZ;
+        this.passabilityCache = getPassabilityCache(world, start);
+
         this.start = new BlockPos(start);
         this.maxRange = range;
 
@@ -162,6 +205,25 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
     }
 
+    /**
+     * Get the shared passability cache of the colony at a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the cache or null if there is no colony or the cache is disabled.
+     */
+    @Nullable
+    private static PassabilityCache getPassabilityCache(final World world, @NotNull final BlockPos pos)
+    {
+        if (!Configurations.pathfinding.pathfindingUsePassabilityCache || world == null || world.isRemote)
+        {
+            return null;
+        }
+
+        final Colony colony = ColonyManager.getColonyOrStub(world, pos);
+        return colony == null ? null : colony.getPassabilityCache();
+    }
+
     private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
     {
         return currentNode.isLadder() && (dPos.getY() >= 0 || dPos.getX() != 0 || dPos.getZ() != 0);
@@ -335,9 +397,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
+    private boolean calculateSwimming(@NotNull final BlockPos pos, @Nullable final Node node)
     {
-        return (node == null) ? world.getBlockState(pos.down()).getMaterial().isLiquid() : node.isSwimming();
+        return (node == null) ? isLiquid(pos.down()) : node.isSwimming();
     }
 
     public PathResult getResult()
@@ -345,6 +407,38 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the order in which the job is executed.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Set the order in which the job is executed, must be called before enqueuing it.
+     *
+     * @param priority the priority.
+     */
+    public void setPriority(@NotNull final PathPriority priority)
+    {
+        this.priority = priority;
+    }
+
+    /**
+     * Get the key identifying equal requests, which allows to share the path between callers.
+     *
+     * @return the key or null if the result of the job may not be shared.
+     */
+    @Nullable
+    PathRequestKey getRequestKey()
+    {
+        return null;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -355,16 +449,49 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         try
         {
+            activeCache = canUsePassabilityCache() ? passabilityCache : null;
             return search();
         }
         catch (final RuntimeException e)
         {
             Log.getLogger().debug(e);
         }
+        finally
+        {
+            releaseNodes();
+        }
 
         return null;
     }
 
+    /**
+     * Create the node store used by this job, depending on the configured search engine.
+     * Pooled nodes are not used when debug drawing, as the debug renderer keeps the nodes of the last search.
+     *
+     * @return the node store.
+     */
+    @NotNull
+    private INodeStore createNodeStore()
+    {
+        if (Configurations.pathfinding.pathfindingUseIndexedSearch && !debugDrawEnabled)
+        {
+            return IndexedNodeStore.forCurrentThread();
+        }
+        return new DefaultNodeStore();
+    }
+
+    /**
+     * Return the nodes of this job to the store, nodes must not be accessed afterwards.
+     */
+    private void releaseNodes()
+    {
+        if (nodes != null)
+        {
+            nodes.release();
+            nodes = null;
+        }
+    }
+
     /**
      * Perform the search.
      *
@@ -373,18 +500,22 @@ public abstract class AbstractPathJob implements Callable<Path>
     @Nullable
     protected Path search()
     {
+        releaseNodes();
+        nodes = createNodeStore();
+        final long startTime = System.nanoTime();
+
         Node bestNode = getAndSetupStartNode();
 
         double bestNodeResultScore = getNodeResultScore(bestNode);
 
-        while (!nodesOpen.isEmpty())
+        while (nodes.hasOpen())
         {
             if (Thread.currentThread().isInterrupted())
             {
                 return null;
             }
 
-            final Node currentNode = nodesOpen.poll();
+            final Node currentNode = nodes.pollOpen();
 
             totalNodesVisited++;
             currentNode.setCounterVisited(totalNodesVisited);
@@ -415,10 +546,26 @@ public abstract class AbstractPathJob implements Callable<Path>
         @NotNull final Path path = finalizePath(bestNode);
 
         handleDebugDraw();
+        logSearchSpeed(startTime);
 
         return path;
     }
 
+    /**
+     * Log the amount of nodes the search handled per second.
+     *
+     * @param startTime the nano time the search started at.
+     */
+    private void logSearchSpeed(final long startTime)
+    {
+        if (Configurations.pathfinding.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+        {
+            final double seconds = Math.max(System.nanoTime() - startTime, 1L) / NANOS_PER_SECOND;
+            Log.getLogger().info(String.format("Search with %s visited %d nodes in %.3f ms (%.0f nodes/s)",
+              nodes.getClass().getSimpleName(), totalNodesVisited, seconds * MILLIS_PER_SECOND, totalNodesVisited / seconds));
+        }
+    }
+
     private void handleDebugOptions(final Node currentNode)
     {
         if (debugDrawEnabled)
@@ -513,20 +660,19 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = nodes.createNode(null, start, 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
             startNode.setLadder();
         }
-        else if (world.getBlockState(start).getMaterial().isLiquid())
+        else if (isLiquid(start))
         {
             startNode.setSwimming();
         }
 
-        nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodes.addOpen(computeNodeKey(start), startNode);
 
         ++totalNodesAdded;
 
@@ -668,10 +814,15 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         BlockPos pos = parent.pos.add(dPos);
 
+        if (corridor != null && !corridor.contains(pos.getX(), pos.getZ()))
+        {
+            return false;
+        }
+
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
         int nodeKey = computeNodeKey(pos);
-        Node node = nodesVisited.get(nodeKey);
+        Node node = nodes.getVisited(nodeKey);
 
         //  Can we traverse into this node?  Fix the y up
         final int newY = getGroundHeight(parent, pos);
@@ -690,7 +841,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             //  Has this node been visited?
             pos = new BlockPos(pos.getX(), newY, pos.getZ());
             nodeKey = computeNodeKey(pos);
-            node = nodesVisited.get(nodeKey);
+            node = nodes.getVisited(nodeKey);
             if (nodeClosed(node))
             {
                 //  Early out on previously visited and closed nodes
@@ -699,8 +850,8 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
 
-        final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean isSwimming = calculateSwimming(pos, node);
+        final boolean onRoad = isPathBlock(pos.down());
         //  Cost may have changed due to a jump up or drop
         final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
@@ -717,8 +868,6 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -741,8 +890,7 @@ public abstract class AbstractPathJob implements Callable<Path>
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
-        nodesVisited.put(nodeKey, node);
+        node = nodes.createNode(parent, pos, cost, heuristic, score);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
@@ -759,6 +907,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         totalNodesAdded++;
         node.setCounterAdded(totalNodesAdded);
+        nodes.addOpen(nodeKey, node);
         return node;
     }
 
@@ -770,7 +919,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (node.isClosed())
         {
             return true;
         }
@@ -780,7 +929,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
-        return false;
+        return !nodes.updateOpen(node);
     }
 
     /**
@@ -800,15 +949,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Now check the block we want to move to
-        final IBlockState target = world.getBlockState(pos);
-        if (!isPassable(target))
+        if (!isPassable(pos))
         {
-            return handleTargeNotPassable(parent, pos, target);
+            return handleTargeNotPassable(parent, pos);
         }
 
         //  Do we have something to stand on in the target space?
-        final IBlockState below = world.getBlockState(pos.down());
-        final SurfaceType walkability = isWalkableSurface(below);
+        final BlockPos below = pos.down();
+        final SurfaceType walkability = getSurfaceType(below);
         if (walkability == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -822,16 +970,16 @@ public abstract class AbstractPathJob implements Callable<Path>
         return handleNotStanding(parent, pos, below);
     }
 
-    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState below)
+    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final BlockPos below)
     {
         final boolean isSwimming = parent != null && parent.isSwimming();
 
-        if (below.getMaterial().isLiquid())
+        if (isLiquid(below))
         {
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if (isLadder(below))
         {
             return pos.getY();
         }
@@ -848,9 +996,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return -1;
         }
 
-        final BlockPos down = pos.down(2);
-        final IBlockState below = world.getBlockState(down);
-        if (isWalkableSurface(below) == SurfaceType.WALKABLE)
+        if (getSurfaceType(pos.down(2)) == SurfaceType.WALKABLE)
         {
             //  Level path
             return pos.getY() - 1;
@@ -859,7 +1005,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final IBlockState below, final boolean isSwimming)
+    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final BlockPos below, final boolean isSwimming)
     {
         if (isSwimming)
         {
@@ -867,7 +1013,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return pos.getY();
         }
 
-        if (allowSwimming && below.getMaterial() == Material.WATER)
+        if (allowSwimming && isWater(below))
         {
             //  This is water, and we are allowed to swim
             return pos.getY();
@@ -877,11 +1023,11 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState target)
+    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos)
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
-        if (!canJump || isWalkableSurface(target) != SurfaceType.WALKABLE)
+        if (!canJump || getSurfaceType(pos) != SurfaceType.WALKABLE)
         {
             return -1;
         }
@@ -909,45 +1055,108 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (parent != null)
+        if (parent != null && isLiquid(parent.pos.down()) && !isPassable(pos))
         {
-            final IBlockState hereState = world.getBlockState(parent.pos.down());
-            if (hereState.getMaterial().isLiquid() && !isPassable(pos))
-            {
-                return true;
-            }
+            return true;
         }
         return false;
     }
 
     /**
-     * Is the space passable.
+     * Restrict the following searches to a set of sections.
      *
-     * @param block the block we are checking.
-     * @return true if the block does not block movement.
+     * @param corridor the sections or null to search the whole range.
      */
-    protected boolean isPassable(@NotNull final IBlockState block)
+    void setSearchCorridor(@Nullable final SearchCorridor corridor)
+    {
+        this.corridor = corridor;
+    }
+
+    /**
+     * Check if a column is within the area the job has world data for.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    boolean isInSearchArea(final int x, final int z)
     {
-        if (block.getMaterial() != Material.AIR)
+        return x >= cacheMinX && x <= cacheMaxX && z >= cacheMinZ && z <= cacheMaxZ;
+    }
+
+    /**
+     * Find the highest position in a column an entity can stand at, without swimming or climbing.
+     *
+     * @param x    the x coordinate.
+     * @param z    the z coordinate.
+     * @param maxY the highest y to check.
+     * @param minY the lowest y to check.
+     * @return the y of the feet or -1 if there is no such position.
+     */
+    int getStandingHeight(final int x, final int z, final int maxY, final int minY)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        boolean headFree = isPassable(pos.setPos(x, Math.min(maxY + 1, MAX_Y - 1), z));
+        for (int y = Math.min(maxY, MAX_Y - 2); y > Math.max(minY, MIN_Y); y--)
         {
-            if (block.getMaterial().blocksMovement())
+            final boolean feetFree = isPassable(pos.setPos(x, y, z));
+            if (headFree && feetFree && getSurfaceType(pos.setPos(x, y - 1, z)) == SurfaceType.WALKABLE)
             {
-                return block.getBlock() instanceof BlockDoor
-                         || block.getBlock() instanceof BlockFenceGate
-                         || block.getBlock() instanceof BlockConstructionTape
-                         || block.getBlock() instanceof BlockConstructionTapeCorner;
-            }
-            else if (block.getMaterial().isLiquid())
-            {
-                return false;
+                return y;
             }
+            headFree = feetFree;
         }
+        return -1;
+    }
 
+    /**
+     * Whether the job may read and fill the shared passability cache of the colony.
+     * Jobs overriding {@link #isPassable(IBlockState)} or {@link #isWalkableSurface(IBlockState)} must return false.
+     *
+     * @return true if so.
+     */
+    protected boolean canUsePassabilityCache()
+    {
         return true;
     }
 
+    /**
+     * Get the packed block properties from the shared passability cache.
+     *
+     * @param pos the position.
+     * @return the flags or NO_CACHED_FLAGS if the cache can't be used for the position.
+     */
+    private int getCachedFlags(@NotNull final BlockPos pos)
+    {
+        if (activeCache == null
+              || pos.getX() < cacheMinX || pos.getX() > cacheMaxX
+              || pos.getZ() < cacheMinZ || pos.getZ() > cacheMaxZ
+              || !activeCache.isInRange(pos))
+        {
+            return NO_CACHED_FLAGS;
+        }
+
+        return activeCache.getFlags(world, pos);
+    }
+
+    /**
+     * Is the space passable.
+     *
+     * @param block the block we are checking.
+     * @return true if the block does not block movement.
+     */
+    protected boolean isPassable(@NotNull final IBlockState block)
+    {
+        return PassabilityCache.isPassable(block);
+    }
+
     protected boolean isPassable(final BlockPos pos)
     {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
+        {
+            return (flags & PassabilityCache.FLAG_PASSABLE) != 0;
+        }
         return isPassable(world.getBlockState(pos));
     }
 
@@ -960,21 +1169,35 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     protected SurfaceType isWalkableSurface(@NotNull final IBlockState blockState)
     {
-        final Block block = blockState.getBlock();
-        if (block instanceof BlockFence
-              || block instanceof BlockFenceGate
-              || block instanceof BlockWall
-              || block instanceof BlockHutField)
+        return getSurfaceType(PassabilityCache.computeSurfaceFlags(blockState));
+    }
+
+    /**
+     * Is the block at the position solid and can be stood upon.
+     *
+     * @param pos the position.
+     * @return the surface type.
+     */
+    @NotNull
+    private SurfaceType getSurfaceType(@NotNull final BlockPos pos)
+    {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
         {
-            return SurfaceType.NOT_PASSABLE;
+            return getSurfaceType(flags);
         }
+        return isWalkableSurface(world.getBlockState(pos));
+    }
 
-        if (block instanceof BlockConstructionTape || block instanceof BlockConstructionTapeCorner)
+    @NotNull
+    private static SurfaceType getSurfaceType(final int flags)
+    {
+        if ((flags & PassabilityCache.FLAG_SURFACE_BLOCKED) != 0)
         {
-            return SurfaceType.DROPABLE;
+            return SurfaceType.NOT_PASSABLE;
         }
 
-        if (blockState.getMaterial().isSolid())
+        if ((flags & PassabilityCache.FLAG_SURFACE_WALKABLE) != 0)
         {
             return SurfaceType.WALKABLE;
         }
@@ -982,6 +1205,54 @@ public abstract class AbstractPathJob implements Callable<Path>
         return SurfaceType.DROPABLE;
     }
 
+    /**
+     * Is the block at the position a liquid.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isLiquid(@NotNull final BlockPos pos)
+    {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
+        {
+            return (flags & PassabilityCache.FLAG_LIQUID) != 0;
+        }
+        return world.getBlockState(pos).getMaterial().isLiquid();
+    }
+
+    /**
+     * Is the block at the position water.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isWater(@NotNull final BlockPos pos)
+    {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
+        {
+            return (flags & PassabilityCache.FLAG_WATER) != 0;
+        }
+        return world.getBlockState(pos).getMaterial() == Material.WATER;
+    }
+
+    /**
+     * Is the block at the position a path block.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isPathBlock(@NotNull final BlockPos pos)
+    {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
+        {
+            return (flags & PassabilityCache.FLAG_PATH_BLOCK) != 0;
+        }
+        return BlockUtils.isPathBlock(world.getBlockState(pos).getBlock());
+    }
+
     /**
      * Is the block a ladder.
      *
@@ -996,6 +1267,11 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isLadder(final BlockPos pos)
     {
+        final int flags = getCachedFlags(pos);
+        if (flags != NO_CACHED_FLAGS)
+        {
+            return (flags & PassabilityCache.FLAG_LADDER) != 0;
+        }
         return isLadder(world.getBlockState(pos).getBlock(), pos);
     }
 
@@ -1009,6 +1285,16 @@ public abstract class AbstractPathJob implements Callable<Path>
         return allowSwimming;
     }
 
+    /**
+     * Getter for the maximum path range.
+     *
+     * @return the range.
+     */
+    protected int getMaxRange()
+    {
+        return maxRange;
+    }
+
     /**
      * Setter for the allowSwimming.
      *
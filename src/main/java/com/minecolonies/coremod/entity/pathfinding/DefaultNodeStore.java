@@ -0,0 +1,77 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Node store backed by a {@link PriorityQueue} and a {@link HashMap}, allocating a new node for every position.
+ */
+class DefaultNodeStore implements INodeStore
+{
+    /**
+     * Initial capacity of the open set.
+     */
+    private static final int INITIAL_CAPACITY = 500;
+
+    private final Queue<Node>        nodesOpen    = new PriorityQueue<>(INITIAL_CAPACITY);
+    private final Map<Integer, Node> nodesVisited = new HashMap<>();
+
+    @NotNull
+    @Override
+    public Node createNode(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        return new Node(parent, pos, cost, heuristic, score);
+    }
+
+    @Nullable
+    @Override
+    public Node getVisited(final int key)
+    {
+        return nodesVisited.get(key);
+    }
+
+    @Override
+    public void addOpen(final int key, @NotNull final Node node)
+    {
+        nodesVisited.put(key, node);
+        nodesOpen.offer(node);
+    }
+
+    @Override
+    public boolean updateOpen(@NotNull final Node node)
+    {
+        if (!nodesOpen.remove(node))
+        {
+            return false;
+        }
+
+        nodesOpen.offer(node);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public Node pollOpen()
+    {
+        return nodesOpen.poll();
+    }
+
+    @Override
+    public boolean hasOpen()
+    {
+        return !nodesOpen.isEmpty();
+    }
+
+    @Override
+    public void release()
+    {
+        nodesOpen.clear();
+        nodesVisited.clear();
+    }
+}
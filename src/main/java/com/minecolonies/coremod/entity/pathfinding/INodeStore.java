@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Open and closed set bookkeeping of the A* search in an {@link AbstractPathJob}.
+ */
+interface INodeStore
+{
+    /**
+     * Create a new node, this might reuse a previously released node.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the node.
+     */
+    @NotNull
+    Node createNode(@Nullable Node parent, @NotNull BlockPos pos, double cost, double heuristic, double score);
+
+    /**
+     * Get a node which was already added to the search.
+     *
+     * @param key the node key.
+     * @return the node or null if it has not been visited yet.
+     */
+    @Nullable
+    Node getVisited(int key);
+
+    /**
+     * Register a new node as visited and add it to the open set.
+     *
+     * @param key  the node key.
+     * @param node the node.
+     */
+    void addOpen(int key, @NotNull Node node);
+
+    /**
+     * Notify the store that the score of an open node has been reduced.
+     *
+     * @param node the node which was updated.
+     * @return false if the node was not open anymore.
+     */
+    boolean updateOpen(@NotNull Node node);
+
+    /**
+     * Remove the node with the lowest score from the open set.
+     *
+     * @return the node or null if the open set is empty.
+     */
+    @Nullable
+    Node pollOpen();
+
+    /**
+     * Checks if there are open nodes left.
+     *
+     * @return true if so.
+     */
+    boolean hasOpen();
+
+    /**
+     * Release all nodes of this store after the search finished.
+     */
+    void release();
+}
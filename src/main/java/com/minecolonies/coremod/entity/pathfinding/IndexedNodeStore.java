@@ -0,0 +1,97 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Node store using a primitive keyed index, an indexed heap supporting decrease-key and pooled nodes.
+ * One instance exists per path finding thread and is reused by all jobs executed on it.
+ */
+final class IndexedNodeStore implements INodeStore
+{
+    /**
+     * The store of the current thread.
+     */
+    private static final ThreadLocal<IndexedNodeStore> STORES = ThreadLocal.withInitial(IndexedNodeStore::new);
+
+    private final NodeIndex nodesVisited = new NodeIndex();
+    private final NodeHeap  nodesOpen    = new NodeHeap();
+    private final NodePool  pool         = new NodePool();
+
+    /**
+     * Used to detect two jobs sharing the store, e.g. a job started from within another job.
+     */
+    private boolean inUse = false;
+
+    private IndexedNodeStore()
+    {
+        //Use forCurrentThread.
+    }
+
+    /**
+     * Get the store of the current thread, falling back to a new one if it is in use already.
+     *
+     * @return an unused store.
+     */
+    @NotNull
+    static IndexedNodeStore forCurrentThread()
+    {
+        IndexedNodeStore store = STORES.get();
+        if (store.inUse)
+        {
+            store = new IndexedNodeStore();
+        }
+        store.inUse = true;
+        return store;
+    }
+
+    @NotNull
+    @Override
+    public Node createNode(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        return pool.obtain(parent, pos, cost, heuristic, score);
+    }
+
+    @Nullable
+    @Override
+    public Node getVisited(final int key)
+    {
+        return nodesVisited.get(key);
+    }
+
+    @Override
+    public void addOpen(final int key, @NotNull final Node node)
+    {
+        nodesVisited.put(key, node);
+        nodesOpen.offer(node);
+    }
+
+    @Override
+    public boolean updateOpen(@NotNull final Node node)
+    {
+        return nodesOpen.decreaseKey(node);
+    }
+
+    @Nullable
+    @Override
+    public Node pollOpen()
+    {
+        return nodesOpen.poll();
+    }
+
+    @Override
+    public boolean hasOpen()
+    {
+        return !nodesOpen.isEmpty();
+    }
+
+    @Override
+    public void release()
+    {
+        nodesOpen.clear();
+        nodesVisited.clear();
+        pool.releaseAll();
+        inUse = false;
+    }
+}
@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of nodes which stores the position of each node inside of the node itself.
+ * This allows to decrease the key of a queued node in O(log n) instead of removing and re-adding it.
+ */
+class NodeHeap
+{
+    /**
+     * Initial capacity of the heap.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * The nodes, the root of the heap is at index 0.
+     */
+    private Node[] heap = new Node[INITIAL_CAPACITY];
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node to add, must not be queued already.
+     */
+    void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+
+        heap[size] = node;
+        node.setHeapIndex(size);
+        siftUp(size++);
+    }
+
+    /**
+     * Remove the node with the lowest score.
+     *
+     * @return the node or null if the heap is empty.
+     */
+    @Nullable
+    Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        result.setHeapIndex(-1);
+
+        final Node last = heap[--size];
+        heap[size] = null;
+        if (size > 0)
+        {
+            heap[0] = last;
+            last.setHeapIndex(0);
+            siftDown(0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Restore the heap order after the score of a queued node has been reduced.
+     *
+     * @param node the node.
+     * @return false if the node is not queued.
+     */
+    boolean decreaseKey(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        if (index < 0 || index >= size || heap[index] != node)
+        {
+            return false;
+        }
+
+        siftUp(index);
+        return true;
+    }
+
+    /**
+     * Checks if the heap is empty.
+     *
+     * @return true if so.
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Amount of queued nodes.
+     *
+     * @return the size.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, keeping the allocated capacity.
+     */
+    void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    private void siftUp(final int start)
+    {
+        int index = start;
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    private void siftDown(final int start)
+    {
+        int index = start;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < size && heap[right].compareTo(heap[child]) < 0)
+            {
+                child = right;
+            }
+
+            if (node.compareTo(heap[child]) <= 0)
+            {
+                break;
+            }
+
+            heap[index] = heap[child];
+            heap[index].setHeapIndex(index);
+            index = child;
+        }
+
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
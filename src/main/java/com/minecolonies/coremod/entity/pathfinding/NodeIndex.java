@@ -0,0 +1,131 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive node keys to nodes, avoids boxing the keys.
+ */
+class NodeIndex
+{
+    /**
+     * Initial capacity, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Golden ratio constant used to spread the keys.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * Bits to keep after spreading the key.
+     */
+    private static final int INT_BITS = 32;
+
+    private int[]  keys   = new int[INITIAL_CAPACITY];
+    private Node[] values = new Node[INITIAL_CAPACITY];
+    private int    shift  = INT_BITS - Integer.numberOfTrailingZeros(INITIAL_CAPACITY);
+    private int    size   = 0;
+
+    /**
+     * Get the node stored for a key.
+     *
+     * @param key the key.
+     * @return the node or null.
+     */
+    @Nullable
+    Node get(final int key)
+    {
+        final int mask = values.length - 1;
+        int slot = slot(key);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return null;
+    }
+
+    /**
+     * Store a node for a key, replacing a previous node.
+     *
+     * @param key  the key.
+     * @param node the node.
+     */
+    void put(final int key, @NotNull final Node node)
+    {
+        if ((size + 1) * 2 > values.length)
+        {
+            grow();
+        }
+
+        final int mask = values.length - 1;
+        int slot = slot(key);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = node;
+        size++;
+    }
+
+    /**
+     * Amount of stored nodes.
+     *
+     * @return the size.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, keeping the allocated capacity.
+     */
+    void clear()
+    {
+        if (size > 0)
+        {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    private int slot(final int key)
+    {
+        return (key * HASH_MULTIPLIER) >>> shift;
+    }
+
+    private void grow()
+    {
+        final int[] oldKeys = keys;
+        final Node[] oldValues = values;
+
+        keys = new int[oldKeys.length * 2];
+        values = new Node[oldValues.length * 2];
+        shift--;
+        size = 0;
+
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
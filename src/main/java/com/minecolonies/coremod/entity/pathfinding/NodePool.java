@@ -0,0 +1,72 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pool of nodes which is reused by all jobs running on the same path finding thread.
+ */
+class NodePool
+{
+    /**
+     * Maximum amount of nodes which stay allocated between two jobs.
+     */
+    private static final int MAX_RETAINED_NODES = 1 << 16;
+
+    /**
+     * All nodes allocated by this pool.
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Index of the next free node.
+     */
+    private int next = 0;
+
+    /**
+     * Obtain a node, reusing a released one if possible.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the initialized node.
+     */
+    @NotNull
+    Node obtain(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        if (next < nodes.size())
+        {
+            final Node node = nodes.get(next++);
+            node.init(parent, pos, cost, heuristic, score);
+            return node;
+        }
+
+        final Node node = new Node(parent, pos, cost, heuristic, score);
+        nodes.add(node);
+        next++;
+        return node;
+    }
+
+    /**
+     * Release all nodes handed out so far, they must not be used by the caller anymore.
+     */
+    void releaseAll()
+    {
+        if (nodes.size() > MAX_RETAINED_NODES)
+        {
+            nodes.subList(MAX_RETAINED_NODES, nodes.size()).clear();
+        }
+
+        for (final Node node : nodes)
+        {
+            node.parent = null;
+        }
+        next = 0;
+    }
+}
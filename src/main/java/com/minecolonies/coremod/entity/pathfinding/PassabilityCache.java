@@ -0,0 +1,306 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.BlockConstructionTape;
+import com.minecolonies.coremod.blocks.BlockConstructionTapeCorner;
+import com.minecolonies.coremod.blocks.BlockHutField;
+import net.minecraft.block.*;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Colony scoped cache of the block properties the path finder needs, shared by all path jobs running in the colony.
+ * <p>
+ * The properties are packed into one byte per block and stored in 16x16x16 chunk sections which are filled lazily by the path
+ * finding threads. On a block change the complete section is replaced by a new, empty version, so a path job which read a block
+ * before the change can never write stale data into the current version.
+ */
+public class PassabilityCache
+{
+    /**
+     * Flags of the packed block properties.
+     */
+    public static final int FLAG_KNOWN            = 0x01;
+    public static final int FLAG_PASSABLE         = 0x02;
+    public static final int FLAG_SURFACE_WALKABLE = 0x04;
+    public static final int FLAG_SURFACE_BLOCKED  = 0x08;
+    public static final int FLAG_LADDER           = 0x10;
+    public static final int FLAG_LIQUID           = 0x20;
+    public static final int FLAG_WATER            = 0x40;
+    public static final int FLAG_PATH_BLOCK       = 0x80;
+
+    /**
+     * Values used to compute the section keys and indices.
+     */
+    private static final int  SECTION_SHIFT  = 4;
+    private static final int  SECTION_MASK   = 0xF;
+    private static final int  SECTION_VOLUME = 1 << (SECTION_SHIFT * 3);
+    private static final int  COORD_BITS     = 26;
+    private static final long COORD_MASK     = (1L << COORD_BITS) - 1;
+    private static final int  SECTION_Y_BITS = 4;
+    private static final int  MAX_Y          = 255;
+    private static final int  MIN_Y          = 0;
+
+    /**
+     * The sections of the cache by their key.
+     */
+    private final Map<Long, Section> sections = new ConcurrentHashMap<>();
+
+    /**
+     * The area covered by the cache, same as {@link com.minecolonies.coremod.colony.Colony#isCoordInColony}.
+     */
+    private final int  centerX;
+    private final int  centerZ;
+    private final long rangeSquared;
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Create a cache for the blocks within a radius around a center.
+     *
+     * @param center the center of the colony.
+     * @param range  the radius of the colony.
+     */
+    public PassabilityCache(@NotNull final BlockPos center, final int range)
+    {
+        this.centerX = center.getX();
+        this.centerZ = center.getZ();
+        this.rangeSquared = (long) range * range;
+    }
+
+    /**
+     * Compute the packed properties of a block state.
+     *
+     * @param world the world to check the ladder property in.
+     * @param pos   the position of the block.
+     * @param state the block state.
+     * @return the packed flags.
+     */
+    public static int computeFlags(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        final Material material = state.getMaterial();
+        int flags = FLAG_KNOWN;
+
+        if (isPassable(state))
+        {
+            flags |= FLAG_PASSABLE;
+        }
+
+        flags |= computeSurfaceFlags(state);
+
+        if (block.isLadder(state, world, pos, null))
+        {
+            flags |= FLAG_LADDER;
+        }
+
+        if (material.isLiquid())
+        {
+            flags |= FLAG_LIQUID;
+        }
+
+        if (material == Material.WATER)
+        {
+            flags |= FLAG_WATER;
+        }
+
+        if (BlockUtils.isPathBlock(block))
+        {
+            flags |= FLAG_PATH_BLOCK;
+        }
+
+        return flags;
+    }
+
+    /**
+     * Default surface rule of the path finder.
+     *
+     * @param state the block state.
+     * @return {@link #FLAG_SURFACE_WALKABLE} if it can be stood upon, {@link #FLAG_SURFACE_BLOCKED} if it can neither be stood upon
+     * nor dropped into, else 0.
+     */
+    public static int computeSurfaceFlags(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        if (block instanceof BlockFence
+              || block instanceof BlockFenceGate
+              || block instanceof BlockWall
+              || block instanceof BlockHutField)
+        {
+            return FLAG_SURFACE_BLOCKED;
+        }
+
+        if (block instanceof BlockConstructionTape || block instanceof BlockConstructionTapeCorner)
+        {
+            return 0;
+        }
+
+        return state.getMaterial().isSolid() ? FLAG_SURFACE_WALKABLE : 0;
+    }
+
+    /**
+     * Default passability rule of the path finder.
+     *
+     * @param state the block state.
+     * @return true if the block does not block movement.
+     */
+    public static boolean isPassable(@NotNull final IBlockState state)
+    {
+        if (state.getMaterial() != Material.AIR)
+        {
+            if (state.getMaterial().blocksMovement())
+            {
+                return state.getBlock() instanceof BlockDoor
+                         || state.getBlock() instanceof BlockFenceGate
+                         || state.getBlock() instanceof BlockConstructionTape
+                         || state.getBlock() instanceof BlockConstructionTapeCorner;
+            }
+            else if (state.getMaterial().isLiquid())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if a position is covered by this cache.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isInRange(@NotNull final BlockPos pos)
+    {
+        final long dx = (long) pos.getX() - centerX;
+        final long dz = (long) pos.getZ() - centerZ;
+        return pos.getY() >= MIN_Y && pos.getY() <= MAX_Y && dx * dx + dz * dz <= rangeSquared;
+    }
+
+    /**
+     * Get the packed properties of the block at a position, reading the block from the world if it is not cached yet.
+     * May be called from any thread; the position must be in range.
+     *
+     * @param world the world to read from.
+     * @param pos   the position.
+     * @return the packed flags.
+     */
+    public int getFlags(@NotNull final IBlockAccess world, @NotNull final BlockPos pos)
+    {
+        final Section section = sections.computeIfAbsent(getSectionKey(pos), key -> new Section());
+        final int index = ((pos.getY() & SECTION_MASK) << (SECTION_SHIFT * 2)) | ((pos.getZ() & SECTION_MASK) << SECTION_SHIFT) | (pos.getX() & SECTION_MASK);
+
+        final int cached = section.data[index] & 0xFF;
+        if (cached != 0)
+        {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final int flags = computeFlags(world, pos, world.getBlockState(pos));
+        section.data[index] = (byte) flags;
+        return flags;
+    }
+
+    /**
+     * Drop the section containing a position.
+     *
+     * @param pos the position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        if (sections.remove(getSectionKey(pos)) != null)
+        {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drop all cached sections.
+     */
+    public void clear()
+    {
+        sections.clear();
+    }
+
+    /**
+     * Amount of cached lookups.
+     *
+     * @return the hits.
+     */
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Amount of lookups which had to read the world.
+     *
+     * @return the misses.
+     */
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Amount of sections dropped due to block changes.
+     *
+     * @return the invalidations.
+     */
+    public long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * The share of lookups served from the cache.
+     *
+     * @return the hit rate between 0 and 1.
+     */
+    public double getHitRate()
+    {
+        final long hitCount = getHits();
+        final long total = hitCount + getMisses();
+        return total == 0 ? 0 : ((double) hitCount / total);
+    }
+
+    /**
+     * Amount of currently cached sections.
+     *
+     * @return the amount.
+     */
+    public int getSectionCount()
+    {
+        return sections.size();
+    }
+
+    private static long getSectionKey(@NotNull final BlockPos pos)
+    {
+        final long x = (pos.getX() >> SECTION_SHIFT) & COORD_MASK;
+        final long z = (pos.getZ() >> SECTION_SHIFT) & COORD_MASK;
+        final long y = (pos.getY() >> SECTION_SHIFT) & SECTION_MASK;
+        return (x << (COORD_BITS + SECTION_Y_BITS)) | (z << SECTION_Y_BITS) | y;
+    }
+
+    /**
+     * One version of a 16x16x16 section, 0 marks a not yet cached block.
+     */
+    private static final class Section
+    {
+        private final byte[] data = new byte[SECTION_VOLUME];
+    }
+}
@@ -1,12 +1,16 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.entity.ai.citizen.lumberjack.Tree;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeCache;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 
@@ -31,6 +35,12 @@ public class PathJobFindTree extends AbstractPathJob
      */
     private final Map<ItemStorage, Boolean> treesToCut;
 
+    /**
+     * The tree cache of the colony of the lumberjack, or null.
+     */
+    @Nullable
+    private final TreeCache treeCache;
+
     /**
      * AbstractPathJob constructor.
      *
@@ -50,6 +60,9 @@ public class PathJobFindTree extends AbstractPathJob
         super(world, start, start, range, new TreePathResult());
         this.treesToCut = treesToCut;
         hutLocation = home;
+
+        final Colony colony = world == null || world.isRemote ? null : ColonyManager.getColonyOrStub(world, home);
+        this.treeCache = colony == null ? null : colony.getTreeCache();
     }
 
     /**
@@ -103,7 +116,7 @@ public class PathJobFindTree extends AbstractPathJob
 
     private boolean isTree(final BlockPos pos)
     {
-        if (Tree.checkTree(world, pos, treesToCut))
+        if (Tree.checkTree(world, pos, treesToCut, treeCache, this::isInSearchArea))
         {
             getResult().treeLocation = pos;
             return true;
@@ -112,6 +125,19 @@ public class PathJobFindTree extends AbstractPathJob
         return false;
     }
 
+    /**
+     * Check if a tree was read completely from the world data of this job, only those trees may be shared.
+     *
+     * @param tree the logs of the tree.
+     * @return true if so.
+     */
+    private boolean isInSearchArea(@NotNull final TreeCache.TreeScan tree)
+    {
+        final BlockPos min = tree.getMinCorner();
+        final BlockPos max = tree.getMaxCorner();
+        return isInSearchArea(min.getX(), min.getZ()) && isInSearchArea(max.getX(), max.getZ());
+    }
+
     @Override
     protected double getNodeResultScore(final Node n)
     {
@@ -123,4 +149,11 @@ public class PathJobFindTree extends AbstractPathJob
     {
         return super.isPassable(block) || block.getMaterial() == Material.LEAVES;
     }
+
+    @Override
+    protected boolean canUsePassabilityCache()
+    {
+        //  Leaves are passable for the lumberjack, the shared cache doesn't know that.
+        return false;
+    }
 }
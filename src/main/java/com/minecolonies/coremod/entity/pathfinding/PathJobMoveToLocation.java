@@ -1,13 +1,19 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
 import net.minecraft.pathfinding.Path;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Job that handles moving to a location.
  */
@@ -17,8 +23,23 @@ public class PathJobMoveToLocation extends AbstractPathJob
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float  DESTINATION_SLACK_ADJACENT = 3.1F;
     private static final double TIE_BREAKER                = 1.001D;
+    /**
+     * Trips shorter than this are searched directly, without planning a coarse route first.
+     */
+    private static final int    MIN_HIERARCHICAL_DISTANCE  = 48;
     @NotNull
     private final BlockPos destination;
+    private final int      dimension;
+    /**
+     * Portal cache of the colony if the trip is long and starts and ends inside of it, else null.
+     */
+    @Nullable
+    private final SectionPortalCache portalCache;
+    /**
+     * Sections containing way points or buildings of the colony between start and destination.
+     */
+    @NotNull
+    private final Set<Long>          seedSections = new HashSet<>();
     // 0 = exact match
     private float destinationSlack = DESTINATION_SLACK_NONE;
 
@@ -35,6 +56,46 @@ public class PathJobMoveToLocation extends AbstractPathJob
         super(world, start, end, range);
 
         this.destination = new BlockPos(end);
+        this.dimension = world.provider.getDimension();
+        this.portalCache = getPortalCache(world, start, end);
+    }
+
+    /**
+     * Get the portal cache for the hierarchical search and collect the way points of the colony as seeds for the route.
+     *
+     * @param world the world.
+     * @param start the start of the trip.
+     * @param end   the end of the trip.
+     * @return the cache or null if the trip should be searched directly.
+     */
+    @Nullable
+    private SectionPortalCache getPortalCache(final World world, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        if (!Configurations.pathfinding.pathfindingUseHierarchicalSearch
+              || world.isRemote
+              || BlockPosUtil.getDistance2D(start, end) < MIN_HIERARCHICAL_DISTANCE)
+        {
+            return null;
+        }
+
+        final Colony colony = ColonyManager.getColonyOrStub(world, start);
+        if (colony == null || !colony.isCoordInColony(world, end))
+        {
+            return null;
+        }
+
+        for (@NotNull final BlockPos wayPoint : colony.getWayPoints(start, end))
+        {
+            seedSections.add(SectionPortalCache.getSectionKey(wayPoint));
+        }
+        return colony.getPortalCache();
+    }
+
+    @NotNull
+    @Override
+    PathRequestKey getRequestKey()
+    {
+        return new PathRequestKey(dimension, start, destination, getMaxRange(), getClass(), isAllowedSwimming());
     }
 
     /**
@@ -58,9 +119,58 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        if (portalCache != null)
+        {
+            final Path path = searchHierarchical(portalCache);
+            if (path != null)
+            {
+                return path;
+            }
+        }
+
         return super.search();
     }
 
+    /**
+     * Plan a coarse route over the portals between the sections and search the path only within the sections along it.
+     *
+     * @param portals the portal cache.
+     * @return the path or null if the route could not be refined to the destination.
+     */
+    @Nullable
+    private Path searchHierarchical(@NotNull final SectionPortalCache portals)
+    {
+        final SectionRoutePlanner planner = new SectionRoutePlanner(this, portals, seedSections);
+        final SearchCorridor corridor = planner.plan(start, destination);
+
+        if (Configurations.pathfinding.pathfindingDebugVerbosity > DEBUG_VERBOSITY_NONE)
+        {
+            Log.getLogger().info(String.format("Coarse route: %d portals expanded, corridor of %d sections",
+              planner.getExpandedPortals(), corridor == null ? 0 : corridor.size()));
+        }
+
+        if (corridor == null)
+        {
+            return null;
+        }
+
+        setSearchCorridor(corridor);
+        try
+        {
+            final Path path = super.search();
+            if (path != null && getResult().getPathReachesDestination())
+            {
+                return path;
+            }
+        }
+        finally
+        {
+            setSearchCorridor(null);
+        }
+
+        return null;
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
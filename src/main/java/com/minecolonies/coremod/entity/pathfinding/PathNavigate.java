@@ -4,8 +4,11 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
+import com.minecolonies.coremod.entity.ai.mobs.barbarians.AbstractEntityBarbarian;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.*;
@@ -173,11 +176,43 @@ public class PathNavigate extends PathNavigateGround
         this.originalDestination = dest;
         this.walkSpeed = speed;
 
+        job.setPriority(getPathPriority(job));
         future = Pathfinding.enqueue(job);
         pathResult = job.getResult();
         return pathResult;
     }
 
+    /**
+     * Guards and barbarians are served first, idle citizens walking around last.
+     *
+     * @param job the job to get the priority for.
+     * @return the priority.
+     */
+    @NotNull
+    private PathPriority getPathPriority(@NotNull final AbstractPathJob job)
+    {
+        if (entity instanceof AbstractEntityBarbarian)
+        {
+            return PathPriority.HIGH;
+        }
+
+        if (entity instanceof EntityCitizen)
+        {
+            final AbstractJob colonyJob = ((EntityCitizen) entity).getColonyJob();
+            if (colonyJob instanceof JobGuard)
+            {
+                return PathPriority.HIGH;
+            }
+
+            if (colonyJob == null && job instanceof PathJobMoveToLocation)
+            {
+                return PathPriority.LOW;
+            }
+        }
+
+        return PathPriority.NORMAL;
+    }
+
     @Override
     public boolean setPath(@NotNull final Path path, final double speed)
     {
@@ -215,13 +250,14 @@ public class PathNavigate extends PathNavigateGround
 
             try
             {
-                if (future.get() == null)
+                final Path path = future.get();
+                if (path == null)
                 {
                     future = null;
                     return;
                 }
 
-                setPath(future.get(), walkSpeed);
+                setPath(path, walkSpeed);
 
                 pathResult.setPathLength(getPath().getCurrentPathLength());
                 pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Order in which queued path jobs are executed, jobs of the same priority run in the order they were enqueued.
+ */
+public enum PathPriority
+{
+    /**
+     * Guards and barbarians responding to a fight.
+     */
+    HIGH,
+
+    /**
+     * Citizens doing their work.
+     */
+    NORMAL,
+
+    /**
+     * Idle trips like wandering around, these are dropped when the path finder is overloaded.
+     */
+    LOW
+}
@@ -0,0 +1,94 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies path requests which result in the same path, used to share running jobs and cached paths.
+ */
+final class PathRequestKey
+{
+    private final int                              dimension;
+    @NotNull
+    private final BlockPos                         start;
+    @NotNull
+    private final BlockPos                         end;
+    private final int                              range;
+    @NotNull
+    private final Class<? extends AbstractPathJob> jobType;
+    private final boolean                          allowSwimming;
+    private final int                              hash;
+
+    /**
+     * Create the key of a request.
+     *
+     * @param dimension     the dimension the path is in.
+     * @param start         the start of the path.
+     * @param end           the destination of the path.
+     * @param range         the maximum range of the path.
+     * @param jobType       the type of the job computing it.
+     * @param allowSwimming if the path may lead through water.
+     */
+    PathRequestKey(
+                    final int dimension,
+                    @NotNull final BlockPos start,
+                    @NotNull final BlockPos end,
+                    final int range,
+                    @NotNull final Class<? extends AbstractPathJob> jobType,
+                    final boolean allowSwimming)
+    {
+        this.dimension = dimension;
+        this.start = start.toImmutable();
+        this.end = end.toImmutable();
+        this.range = range;
+        this.jobType = jobType;
+        this.allowSwimming = allowSwimming;
+
+        int result = dimension;
+        result = 31 * result + this.start.hashCode();
+        result = 31 * result + this.end.hashCode();
+        result = 31 * result + range;
+        result = 31 * result + jobType.hashCode();
+        result = 31 * result + (allowSwimming ? 1 : 0);
+        this.hash = result;
+    }
+
+    int getDimension()
+    {
+        return dimension;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+
+        final PathRequestKey that = (PathRequestKey) o;
+        return hash == that.hash
+                 && dimension == that.dimension
+                 && range == that.range
+                 && allowSwimming == that.allowSwimming
+                 && jobType == that.jobType
+                 && start.equals(that.start)
+                 && end.equals(that.end);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s[%d: %s -> %s, range=%d, swim=%b]", jobType.getSimpleName(), dimension, start, end, range, allowSwimming);
+    }
+}
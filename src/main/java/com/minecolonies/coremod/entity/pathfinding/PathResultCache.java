@@ -0,0 +1,244 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small least recently used cache of paths which reached their destination.
+ * <p>
+ * A path is dropped as soon as a block next to one of its points changes. Paths are computed on the path finding threads while the
+ * world keeps changing, so the most recent block changes are remembered and a finished path is only stored if none of the changes
+ * since the job was enqueued touched it.
+ */
+final class PathResultCache
+{
+    /**
+     * Amount of block changes remembered to validate paths which were computed while the world changed.
+     */
+    private static final int RECENT_CHANGES = 256;
+
+    /**
+     * Paths are dropped after this time, to pick up changes which do not cause block updates like moved entities.
+     */
+    private static final long MAX_AGE_MILLIS = 30_000L;
+
+    /**
+     * Blocks around a path point which affect walking over it: the ground below, the feet and head space and the space to jump.
+     */
+    private static final int TOUCH_RANGE_XZ   = 1;
+    private static final int TOUCH_RANGE_UP   = 2;
+    private static final int TOUCH_RANGE_DOWN = 1;
+
+    private final Map<PathRequestKey, Entry> entries;
+
+    private final int[]      recentDimensions = new int[RECENT_CHANGES];
+    private final BlockPos[] recentPositions  = new BlockPos[RECENT_CHANGES];
+    private       long       changeCount      = 0;
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Create a cache.
+     *
+     * @param maxSize maximum amount of cached paths.
+     */
+    PathResultCache(final int maxSize)
+    {
+        this.entries = new LinkedHashMap<PathRequestKey, Entry>(maxSize, 0.75F, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<PathRequestKey, Entry> eldest)
+            {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param key the request.
+     * @return a new path instance or null if none is cached.
+     */
+    @Nullable
+    synchronized Path get(@NotNull final PathRequestKey key)
+    {
+        final Entry entry = entries.get(key);
+        if (entry == null || System.currentTimeMillis() - entry.created > MAX_AGE_MILLIS)
+        {
+            if (entry != null)
+            {
+                entries.remove(key);
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.toPath();
+    }
+
+    /**
+     * The current change counter, to be passed to {@link #put} once the path is computed.
+     *
+     * @return the counter.
+     */
+    synchronized long getChangeCount()
+    {
+        return changeCount;
+    }
+
+    /**
+     * Store a computed path, unless a block along it changed since the job was enqueued.
+     *
+     * @param key         the request.
+     * @param path        the path.
+     * @param changeCount the value of {@link #getChangeCount()} when the job was enqueued.
+     */
+    synchronized void put(@NotNull final PathRequestKey key, @NotNull final Path path, final long changeCount)
+    {
+        if (this.changeCount - changeCount > RECENT_CHANGES)
+        {
+            return;
+        }
+
+        final Entry entry = new Entry(path);
+        for (long i = changeCount; i < this.changeCount; i++)
+        {
+            final int index = (int) (i % RECENT_CHANGES);
+            if (recentDimensions[index] == key.getDimension() && entry.isTouchedBy(recentPositions[index]))
+            {
+                return;
+            }
+        }
+
+        entries.put(key, entry);
+    }
+
+    /**
+     * Drop all paths running next to a changed block.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    synchronized void onBlockChanged(final int dimension, @NotNull final BlockPos pos)
+    {
+        final int index = (int) (changeCount % RECENT_CHANGES);
+        recentDimensions[index] = dimension;
+        recentPositions[index] = pos.toImmutable();
+        changeCount++;
+
+        final Iterator<Map.Entry<PathRequestKey, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext())
+        {
+            final Map.Entry<PathRequestKey, Entry> entry = it.next();
+            if (entry.getKey().getDimension() == dimension && entry.getValue().isTouchedBy(pos))
+            {
+                it.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Drop all paths of a dimension.
+     *
+     * @param dimension the dimension.
+     */
+    synchronized void clear(final int dimension)
+    {
+        entries.keySet().removeIf(key -> key.getDimension() == dimension);
+    }
+
+    synchronized int size()
+    {
+        return entries.size();
+    }
+
+    long getHits()
+    {
+        return hits.sum();
+    }
+
+    long getMisses()
+    {
+        return misses.sum();
+    }
+
+    long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * The points of a cached path and their bounding box.
+     */
+    private static final class Entry
+    {
+        private final PathPoint[] points;
+        private final long        created = System.currentTimeMillis();
+        private       int         minX    = Integer.MAX_VALUE;
+        private       int         minY    = Integer.MAX_VALUE;
+        private       int         minZ    = Integer.MAX_VALUE;
+        private       int         maxX    = Integer.MIN_VALUE;
+        private       int         maxY    = Integer.MIN_VALUE;
+        private       int         maxZ    = Integer.MIN_VALUE;
+
+        private Entry(@NotNull final Path path)
+        {
+            points = new PathPoint[path.getCurrentPathLength()];
+            for (int i = 0; i < points.length; i++)
+            {
+                final PathPoint point = path.getPathPointFromIndex(i);
+                points[i] = point;
+                minX = Math.min(minX, point.xCoord);
+                minY = Math.min(minY, point.yCoord);
+                minZ = Math.min(minZ, point.zCoord);
+                maxX = Math.max(maxX, point.xCoord);
+                maxY = Math.max(maxY, point.yCoord);
+                maxZ = Math.max(maxZ, point.zCoord);
+            }
+        }
+
+        @NotNull
+        private Path toPath()
+        {
+            return new Path(points.clone());
+        }
+
+        private boolean isTouchedBy(@NotNull final BlockPos pos)
+        {
+            if (pos.getX() < minX - TOUCH_RANGE_XZ || pos.getX() > maxX + TOUCH_RANGE_XZ
+                  || pos.getZ() < minZ - TOUCH_RANGE_XZ || pos.getZ() > maxZ + TOUCH_RANGE_XZ
+                  || pos.getY() < minY - TOUCH_RANGE_DOWN || pos.getY() > maxY + TOUCH_RANGE_UP)
+            {
+                return false;
+            }
+
+            for (@NotNull final PathPoint point : points)
+            {
+                final int dy = pos.getY() - point.yCoord;
+                if (Math.abs(pos.getX() - point.xCoord) <= TOUCH_RANGE_XZ
+                      && Math.abs(pos.getZ() - point.zCoord) <= TOUCH_RANGE_XZ
+                      && dy >= -TOUCH_RANGE_DOWN && dy <= TOUCH_RANGE_UP)
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A path job queued in the path finding executor, ordered by priority and then by the time it was enqueued.
+ */
+final class PathTask extends FutureTask<Path> implements Comparable<PathTask>
+{
+    /**
+     * Counter keeping jobs of the same priority in FIFO order.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @NotNull
+    private final AbstractPathJob job;
+    @Nullable
+    private final PathRequestKey  key;
+    private final long            sequence    = SEQUENCE.getAndIncrement();
+    private final long            changeCount;
+    @NotNull
+    private       PathPriority    priority;
+
+    /**
+     * Amount of callers waiting for the result, guarded by the path finding lock.
+     */
+    private int subscribers = 1;
+
+    /**
+     * Create a task for a job.
+     *
+     * @param job         the job.
+     * @param key         the key to share the result by, or null if it can not be shared.
+     * @param changeCount the change counter of the path cache at the time of enqueuing.
+     */
+    PathTask(@NotNull final AbstractPathJob job, @Nullable final PathRequestKey key, final long changeCount)
+    {
+        super(job);
+        this.job = job;
+        this.key = key;
+        this.changeCount = changeCount;
+        this.priority = job.getPriority();
+    }
+
+    @NotNull
+    AbstractPathJob getJob()
+    {
+        return job;
+    }
+
+    @Nullable
+    PathRequestKey getKey()
+    {
+        return key;
+    }
+
+    long getChangeCount()
+    {
+        return changeCount;
+    }
+
+    @NotNull
+    PathPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Change the priority, only allowed while the task is not in the queue.
+     *
+     * @param priority the new priority.
+     */
+    void setPriority(@NotNull final PathPriority priority)
+    {
+        this.priority = priority;
+    }
+
+    int addSubscriber()
+    {
+        return ++subscribers;
+    }
+
+    int removeSubscriber()
+    {
+        return --subscribers;
+    }
+
+    @Override
+    protected void done()
+    {
+        Pathfinding.onTaskDone(this);
+    }
+
+    @Override
+    public int compareTo(@NotNull final PathTask other)
+    {
+        final int byPriority = priority.compareTo(other.priority);
+        if (byPriority != 0)
+        {
+            return byPriority;
+        }
+        return Long.compare(sequence, other.sequence);
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        return this == o;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Long.hashCode(sequence);
+    }
+}
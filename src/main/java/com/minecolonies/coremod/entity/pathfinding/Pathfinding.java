@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.Log;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.GlStateManager;
@@ -11,26 +12,51 @@ import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
 import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
 
 /**
  * Static class the handles all the Pathfinding.
+ * <p>
+ * Jobs are executed by priority. Jobs requesting the same path while it is still computing share one search, and paths which
+ * reached their destination are kept in a small cache until a block along them changes.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    private static final BlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
     private static final ThreadPoolExecutor executor;
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        final int threads = Math.max(1, Configurations.pathfinding.pathfindingMaxThreadCount);
+        executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, jobQueue);
+        executor.allowCoreThreadTimeOut(true);
     }
+
+    /**
+     * Guards the running jobs and their subscribers.
+     */
+    private static final Object                        lock    = new Object();
+    private static final Map<PathRequestKey, PathTask> running = new HashMap<>();
+
+    /**
+     * Cache of complete paths, null if disabled.
+     */
+    @Nullable
+    private static final PathResultCache cache = Configurations.pathfinding.pathfindingPathCacheSize > 0
+                                                   ? new PathResultCache(Configurations.pathfinding.pathfindingPathCacheSize) : null;
+
     private Pathfinding()
     {
         //Hides default constructor.
@@ -38,13 +64,168 @@ public final class Pathfinding
 
     /**
      * Add a job to the queue for processing.
+     * Returns a cached path or joins a running job if an equal path was requested before.
      *
      * @param job PathJob
      * @return a Future containing the Path
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return executor.submit(job);
+        final PathRequestKey key = Configurations.pathfinding.pathfindingCoalesceRequests ? job.getRequestKey() : null;
+        if (key != null && cache != null)
+        {
+            final Path path = cache.get(key);
+            if (path != null)
+            {
+                job.getResult().setPathReachesDestination(true);
+                return CompletableFuture.completedFuture(path);
+            }
+        }
+
+        if (job.getPriority() == PathPriority.LOW && jobQueue.size() >= Configurations.pathfinding.pathfindingMaxQueuedLowPriorityJobs)
+        {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (key == null)
+        {
+            final PathTask task = new PathTask(job, null, 0);
+            executor.execute(task);
+            return task;
+        }
+
+        synchronized (lock)
+        {
+            final PathTask existing = running.get(key);
+            if (existing != null && !existing.isDone())
+            {
+                existing.addSubscriber();
+                raisePriority(existing, job.getPriority());
+                return new SharedPathFuture(existing, job.getResult());
+            }
+
+            final PathTask task = new PathTask(job, key, cache == null ? 0 : cache.getChangeCount());
+            running.put(key, task);
+            executor.execute(task);
+            return new SharedPathFuture(task, job.getResult());
+        }
+    }
+
+    /**
+     * Move a queued task forward if a caller with a higher priority joins it.
+     *
+     * @param task     the task.
+     * @param priority the priority of the new caller.
+     */
+    private static void raisePriority(@NotNull final PathTask task, @NotNull final PathPriority priority)
+    {
+        if (priority.compareTo(task.getPriority()) < 0 && jobQueue.remove(task))
+        {
+            task.setPriority(priority);
+            executor.execute(task);
+        }
+    }
+
+    /**
+     * Called when a caller stops waiting for a shared task, cancels the task if nobody waits for it anymore.
+     *
+     * @param task                  the task.
+     * @param mayInterruptIfRunning if the thread running the task may be interrupted.
+     */
+    static void unsubscribe(@NotNull final PathTask task, final boolean mayInterruptIfRunning)
+    {
+        synchronized (lock)
+        {
+            if (task.removeSubscriber() <= 0)
+            {
+                task.cancel(mayInterruptIfRunning);
+            }
+        }
+    }
+
+    /**
+     * Called by a task once it finished or got cancelled.
+     *
+     * @param task the task.
+     */
+    static void onTaskDone(@NotNull final PathTask task)
+    {
+        final PathRequestKey key = task.getKey();
+        if (key == null)
+        {
+            return;
+        }
+
+        synchronized (lock)
+        {
+            running.remove(key, task);
+        }
+
+        if (cache == null || task.isCancelled() || !task.getJob().getResult().getPathReachesDestination())
+        {
+            return;
+        }
+
+        try
+        {
+            final Path path = task.get();
+            if (path != null)
+            {
+                cache.put(key, path, task.getChangeCount());
+            }
+        }
+        catch (@NotNull InterruptedException | ExecutionException e)
+        {
+            Log.getLogger().catching(e);
+        }
+    }
+
+    /**
+     * Called when a block changed, drops the cached paths leading along it.
+     *
+     * @param world    the world the change happened in.
+     * @param pos      the position of the block.
+     * @param oldState the old state.
+     * @param newState the new state.
+     */
+    public static void onBlockChanged(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState)
+    {
+        if (cache == null || PassabilityCache.computeFlags(world, pos, oldState) == PassabilityCache.computeFlags(world, pos, newState))
+        {
+            return;
+        }
+
+        cache.onBlockChanged(world.provider.getDimension(), pos);
+    }
+
+    /**
+     * Drop the cached paths of a world which is unloaded.
+     *
+     * @param world the world.
+     */
+    public static void clearCache(@NotNull final World world)
+    {
+        if (cache != null)
+        {
+            cache.clear(world.provider.getDimension());
+        }
+    }
+
+    /**
+     * Create a path with the same points, as every following entity needs its own path.
+     *
+     * @param path the path to copy.
+     * @return the new path.
+     */
+    @NotNull
+    static Path copyPath(@NotNull final Path path)
+    {
+        final PathPoint[] points = new PathPoint[path.getCurrentPathLength()];
+        for (int i = 0; i < points.length; i++)
+        {
+            points[i] = path.getPathPointFromIndex(i);
+        }
+        return new Path(points);
     }
 
     /**
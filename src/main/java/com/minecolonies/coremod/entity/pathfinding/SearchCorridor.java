@@ -0,0 +1,91 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+
+/**
+ * The 16x16 sections a refining search may expand into, the sections of a coarse route plus their neighbours.
+ */
+final class SearchCorridor
+{
+    private static final int SECTION_SHIFT = 4;
+
+    private final int       minSectionX;
+    private final int       minSectionZ;
+    private final int       width;
+    private final int       depth;
+    private final boolean[] sections;
+
+    /**
+     * Create a corridor around a route.
+     *
+     * @param route the sections of the route, packed by {@link SectionPortalCache#getSectionKey(int, int)}.
+     * @param slack amount of sections added around each route section.
+     */
+    SearchCorridor(@NotNull final Collection<Long> route, final int slack)
+    {
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (final long key : route)
+        {
+            minX = Math.min(minX, SectionPortalCache.getSectionX(key));
+            minZ = Math.min(minZ, SectionPortalCache.getSectionZ(key));
+            maxX = Math.max(maxX, SectionPortalCache.getSectionX(key));
+            maxZ = Math.max(maxZ, SectionPortalCache.getSectionZ(key));
+        }
+
+        this.minSectionX = minX - slack;
+        this.minSectionZ = minZ - slack;
+        this.width = maxX - minX + 1 + 2 * slack;
+        this.depth = maxZ - minZ + 1 + 2 * slack;
+        this.sections = new boolean[width * depth];
+
+        for (final long key : route)
+        {
+            final int x = SectionPortalCache.getSectionX(key) - minSectionX;
+            final int z = SectionPortalCache.getSectionZ(key) - minSectionZ;
+            for (int dx = -slack; dx <= slack; dx++)
+            {
+                for (int dz = -slack; dz <= slack; dz++)
+                {
+                    sections[(x + dx) * depth + z + dz] = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if a column is part of the corridor.
+     *
+     * @param x the x coordinate of the block.
+     * @param z the z coordinate of the block.
+     * @return true if so.
+     */
+    boolean contains(final int x, final int z)
+    {
+        final int sectionX = (x >> SECTION_SHIFT) - minSectionX;
+        final int sectionZ = (z >> SECTION_SHIFT) - minSectionZ;
+        return sectionX >= 0 && sectionX < width && sectionZ >= 0 && sectionZ < depth && sections[sectionX * depth + sectionZ];
+    }
+
+    /**
+     * Amount of sections in the corridor.
+     *
+     * @return the amount.
+     */
+    int size()
+    {
+        int count = 0;
+        for (final boolean section : sections)
+        {
+            if (section)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
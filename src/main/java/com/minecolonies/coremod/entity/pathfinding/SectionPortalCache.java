@@ -0,0 +1,420 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Colony scoped cache of the walkable crossings (portals) between neighbouring 16x16 sections, used to plan long trips on a coarse
+ * level before refining them block by block.
+ * <p>
+ * Portals are searched within a height band around the height the route arrives at, so the borders are cached per band. For each
+ * section and band the cache also keeps which standing positions are connected inside of the section, so a route only leaves a
+ * section through portals reachable from where it entered. All bands of a section and of its four borders are dropped when a block
+ * in the section changes its path finding properties.
+ * <p>
+ * Like the {@link PassabilityCache}, a result is stored into the map of bands taken before it was computed. An invalidation drops
+ * that map and the next lookup starts a new, empty version, so a path job which read the section before the change can never store
+ * stale portals into the current version.
+ */
+public class SectionPortalCache
+{
+    /**
+     * Size of the sections and the height bands.
+     */
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_SIZE  = 1 << SECTION_SHIFT;
+    private static final int BAND_SHIFT    = 3;
+    private static final int BAND_HEIGHT   = 1 << BAND_SHIFT;
+
+    /**
+     * Blocks searched above and below a band for a position to stand at.
+     */
+    private static final int BAND_WINDOW = 8;
+
+    /**
+     * Maximum height difference between the two sides of a crossing and between two cells of the same portal.
+     */
+    private static final int MAX_STEP = 1;
+
+    /**
+     * Values used to pack section and border keys.
+     */
+    private static final int  COORD_BITS = 22;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+    private static final int  SIGN_SHIFT = Long.SIZE - COORD_BITS;
+
+    private static final Portal[] NO_PORTALS = new Portal[0];
+
+    /**
+     * The portals of each border by border key and height band.
+     */
+    private final Map<Long, Map<Integer, Portal[]>> borders = new ConcurrentHashMap<>();
+
+    /**
+     * The connected areas of each section by section key and height band.
+     */
+    private final Map<Long, Map<Integer, SectionLayout>> layouts = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics.
+     */
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Pack the coordinates of a section.
+     *
+     * @param sectionX the x coordinate of the section.
+     * @param sectionZ the z coordinate of the section.
+     * @return the key.
+     */
+    static long getSectionKey(final int sectionX, final int sectionZ)
+    {
+        return ((sectionX & COORD_MASK) << COORD_BITS) | (sectionZ & COORD_MASK);
+    }
+
+    static int getSectionX(final long key)
+    {
+        return (int) ((key << (SIGN_SHIFT - COORD_BITS)) >> SIGN_SHIFT);
+    }
+
+    static int getSectionZ(final long key)
+    {
+        return (int) ((key << SIGN_SHIFT) >> SIGN_SHIFT);
+    }
+
+    /**
+     * Get the section key of a position.
+     *
+     * @param pos the position.
+     * @return the key.
+     */
+    static long getSectionKey(@NotNull final BlockPos pos)
+    {
+        return getSectionKey(pos.getX() >> SECTION_SHIFT, pos.getZ() >> SECTION_SHIFT);
+    }
+
+    private static long getBorderKey(final int lowSectionX, final int lowSectionZ, final boolean alongX)
+    {
+        return (getSectionKey(lowSectionX, lowSectionZ) << 1) | (alongX ? 1 : 0);
+    }
+
+    /**
+     * Get the portals between a section and its neighbour in positive x or z direction.
+     *
+     * @param job         the job used to read the world.
+     * @param lowSectionX the x coordinate of the section.
+     * @param lowSectionZ the z coordinate of the section.
+     * @param alongX      true for the neighbour in positive x direction, false for positive z.
+     * @param y           the height the route arrives at.
+     * @return the portals, the low side of each portal being in the given section.
+     */
+    @NotNull
+    Portal[] getPortals(@NotNull final AbstractPathJob job, final int lowSectionX, final int lowSectionZ, final boolean alongX, final int y)
+    {
+        final long key = getBorderKey(lowSectionX, lowSectionZ, alongX);
+        final int band = y >> BAND_SHIFT;
+
+        final Map<Integer, Portal[]> cachedBands = borders.get(key);
+        final Portal[] cached = cachedBands == null ? null : cachedBands.get(band);
+        if (cached != null)
+        {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final int lowX = (lowSectionX << SECTION_SHIFT) + (alongX ? SECTION_SIZE - 1 : 0);
+        final int lowZ = (lowSectionZ << SECTION_SHIFT) + (alongX ? 0 : SECTION_SIZE - 1);
+        final int stepX = alongX ? 0 : 1;
+        final int stepZ = alongX ? 1 : 0;
+
+        if (!job.isInSearchArea(lowX, lowZ)
+              || !job.isInSearchArea(lowX + stepX * (SECTION_SIZE - 1) + stepZ, lowZ + stepZ * (SECTION_SIZE - 1) + stepX))
+        {
+            //  Only part of the border is readable by this job, don't cache the result.
+            return NO_PORTALS;
+        }
+
+        //  Taken before computing, an invalidation meanwhile drops the map, so a stale result is stored into the dropped one.
+        final Map<Integer, Portal[]> bands = borders.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        final Portal[] portals = computePortals(job, lowX, lowZ, stepX, stepZ, band);
+        bands.put(band, portals);
+        return portals;
+    }
+
+    /**
+     * Scan the cells along a border and merge neighbouring crossings of similar height into one portal.
+     */
+    @NotNull
+    private static Portal[] computePortals(@NotNull final AbstractPathJob job, final int lowX, final int lowZ, final int stepX, final int stepZ, final int band)
+    {
+        final int maxY = (band << BAND_SHIFT) + BAND_HEIGHT - 1 + BAND_WINDOW;
+        final int minY = (band << BAND_SHIFT) - BAND_WINDOW;
+        final int highX = lowX + stepZ;
+        final int highZ = lowZ + stepX;
+
+        final Portal[] found = new Portal[SECTION_SIZE];
+        int count = 0;
+        int runStart = -1;
+        final int[] lowHeights = new int[SECTION_SIZE];
+        final int[] highHeights = new int[SECTION_SIZE];
+
+        for (int i = 0; i <= SECTION_SIZE; i++)
+        {
+            boolean crossable = false;
+            if (i < SECTION_SIZE)
+            {
+                final int lowY = job.getStandingHeight(lowX + i * stepX, lowZ + i * stepZ, maxY, minY);
+                final int highY = lowY < 0 ? -1 : job.getStandingHeight(highX + i * stepX, highZ + i * stepZ, lowY + MAX_STEP, lowY - MAX_STEP - 1);
+                crossable = highY >= 0 && (runStart < 0 || Math.abs(lowY - lowHeights[i - 1]) <= MAX_STEP);
+                lowHeights[i] = lowY;
+                highHeights[i] = highY;
+
+                if (crossable && runStart < 0)
+                {
+                    runStart = i;
+                    continue;
+                }
+            }
+
+            if (!crossable && runStart >= 0)
+            {
+                final int middle = (runStart + i - 1) / 2;
+                found[count++] = new Portal(
+                  new BlockPos(lowX + middle * stepX, lowHeights[middle], lowZ + middle * stepZ),
+                  new BlockPos(highX + middle * stepX, highHeights[middle], highZ + middle * stepZ));
+
+                //  A crossing at a different height starts a new run.
+                runStart = i < SECTION_SIZE && highHeights[i] >= 0 ? i : -1;
+            }
+        }
+
+        if (count == 0)
+        {
+            return NO_PORTALS;
+        }
+
+        final Portal[] portals = new Portal[count];
+        System.arraycopy(found, 0, portals, 0, count);
+        return portals;
+    }
+
+    /**
+     * Get the connected areas of a section.
+     *
+     * @param job      the job used to read the world.
+     * @param sectionX the x coordinate of the section.
+     * @param sectionZ the z coordinate of the section.
+     * @param y        the height the route arrives at.
+     * @return the layout or null if the section is not completely readable by the job.
+     */
+    @Nullable
+    SectionLayout getLayout(@NotNull final AbstractPathJob job, final int sectionX, final int sectionZ, final int y)
+    {
+        final long key = getSectionKey(sectionX, sectionZ);
+        final int band = y >> BAND_SHIFT;
+
+        final Map<Integer, SectionLayout> cachedBands = layouts.get(key);
+        final SectionLayout cached = cachedBands == null ? null : cachedBands.get(band);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final int minX = sectionX << SECTION_SHIFT;
+        final int minZ = sectionZ << SECTION_SHIFT;
+        if (!job.isInSearchArea(minX, minZ) || !job.isInSearchArea(minX + SECTION_SIZE - 1, minZ + SECTION_SIZE - 1))
+        {
+            return null;
+        }
+
+        final Map<Integer, SectionLayout> bands = layouts.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        final SectionLayout layout = new SectionLayout(job, minX, minZ, (band << BAND_SHIFT) + BAND_HEIGHT - 1 + BAND_WINDOW, (band << BAND_SHIFT) - BAND_WINDOW);
+        bands.put(band, layout);
+        return layout;
+    }
+
+    /**
+     * Drop the portals of all borders of the section containing a position.
+     *
+     * @param pos the position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final int sectionX = pos.getX() >> SECTION_SHIFT;
+        final int sectionZ = pos.getZ() >> SECTION_SHIFT;
+
+        boolean removed = borders.remove(getBorderKey(sectionX, sectionZ, true)) != null;
+        removed |= borders.remove(getBorderKey(sectionX, sectionZ, false)) != null;
+        removed |= borders.remove(getBorderKey(sectionX - 1, sectionZ, true)) != null;
+        removed |= borders.remove(getBorderKey(sectionX, sectionZ - 1, false)) != null;
+        removed |= layouts.remove(getSectionKey(sectionX, sectionZ)) != null;
+
+        if (removed)
+        {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drop all cached portals.
+     */
+    public void clear()
+    {
+        borders.clear();
+        layouts.clear();
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    public long getInvalidations()
+    {
+        return invalidations.sum();
+    }
+
+    /**
+     * Amount of borders with cached portals.
+     *
+     * @return the amount.
+     */
+    public int getBorderCount()
+    {
+        return borders.size();
+    }
+
+    /**
+     * The standing positions of a section within one height band, grouped into areas connected by walking.
+     */
+    static final class SectionLayout
+    {
+        /**
+         * Component of positions whose connection is unknown.
+         */
+        static final int UNKNOWN = -1;
+
+        private final int   minX;
+        private final int   minZ;
+        private final int[] heights    = new int[SECTION_SIZE * SECTION_SIZE];
+        private final int[] components = new int[SECTION_SIZE * SECTION_SIZE];
+
+        private SectionLayout(@NotNull final AbstractPathJob job, final int minX, final int minZ, final int maxY, final int minY)
+        {
+            this.minX = minX;
+            this.minZ = minZ;
+
+            for (int i = 0; i < heights.length; i++)
+            {
+                heights[i] = job.getStandingHeight(minX + (i >> SECTION_SHIFT), minZ + (i & (SECTION_SIZE - 1)), maxY, minY);
+                components[i] = UNKNOWN;
+            }
+
+            final int[] queue = new int[heights.length];
+            int component = 0;
+            for (int i = 0; i < heights.length; i++)
+            {
+                if (heights[i] >= 0 && components[i] == UNKNOWN)
+                {
+                    fill(i, component++, queue);
+                }
+            }
+        }
+
+        /**
+         * Flood fill the area connected to a cell.
+         */
+        private void fill(final int first, final int component, @NotNull final int[] queue)
+        {
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = first;
+            components[first] = component;
+
+            while (head < tail)
+            {
+                final int cell = queue[head++];
+                final int x = cell >> SECTION_SHIFT;
+                final int z = cell & (SECTION_SIZE - 1);
+
+                if (x > 0)
+                {
+                    tail = visit(cell, cell - SECTION_SIZE, component, queue, tail);
+                }
+                if (x < SECTION_SIZE - 1)
+                {
+                    tail = visit(cell, cell + SECTION_SIZE, component, queue, tail);
+                }
+                if (z > 0)
+                {
+                    tail = visit(cell, cell - 1, component, queue, tail);
+                }
+                if (z < SECTION_SIZE - 1)
+                {
+                    tail = visit(cell, cell + 1, component, queue, tail);
+                }
+            }
+        }
+
+        private int visit(final int from, final int to, final int component, @NotNull final int[] queue, final int tail)
+        {
+            if (heights[to] < 0 || components[to] != UNKNOWN || Math.abs(heights[to] - heights[from]) > MAX_STEP)
+            {
+                return tail;
+            }
+
+            components[to] = component;
+            queue[tail] = to;
+            return tail + 1;
+        }
+
+        /**
+         * Get the connected area of a position.
+         *
+         * @param pos the position, must be in the section.
+         * @return the area or {@link #UNKNOWN} if the position is not a standing position of this band.
+         */
+        int getComponent(@NotNull final BlockPos pos)
+        {
+            final int index = ((pos.getX() - minX) << SECTION_SHIFT) | (pos.getZ() - minZ);
+            if (index < 0 || index >= heights.length || heights[index] != pos.getY())
+            {
+                return UNKNOWN;
+            }
+            return components[index];
+        }
+    }
+
+    /**
+     * A walkable crossing between two neighbouring sections.
+     */
+    static final class Portal
+    {
+        /**
+         * Standing positions on the side of the section with the lower and the higher coordinates.
+         */
+        @NotNull
+        final BlockPos low;
+        @NotNull
+        final BlockPos high;
+
+        private Portal(@NotNull final BlockPos low, @NotNull final BlockPos high)
+        {
+            this.low = low;
+            this.high = high;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Plans a coarse route over the portals between 16x16 sections, the refining search is then limited to the sections along it.
+ */
+final class SectionRoutePlanner
+{
+    /**
+     * Maximum amount of portals expanded before giving up on the coarse route.
+     */
+    private static final int MAX_EXPANDED_PORTALS = 4096;
+
+    /**
+     * Cost factor of sections containing way points, makes routes prefer roads and buildings.
+     */
+    private static final double SEED_SECTION_COST = 0.5D;
+
+    /**
+     * Cost of crossing a portal.
+     */
+    private static final double PORTAL_COST = 1D;
+
+    /**
+     * Sections added around the route, gives the refining search room to go around obstacles on the borders.
+     */
+    private static final int CORRIDOR_SLACK = 1;
+
+    @NotNull
+    private final AbstractPathJob    job;
+    @NotNull
+    private final SectionPortalCache portals;
+    @NotNull
+    private final Set<Long>          seedSections;
+
+    private int expandedPortals = 0;
+
+    /**
+     * Layout of the section of the node being expanded and the connected area the node is in.
+     */
+    @Nullable
+    private SectionPortalCache.SectionLayout layout    = null;
+    private int                              component = SectionPortalCache.SectionLayout.UNKNOWN;
+
+    /**
+     * Create a planner.
+     *
+     * @param job          the job reading the world.
+     * @param portals      the portal cache of the colony.
+     * @param seedSections sections preferred by the route.
+     */
+    SectionRoutePlanner(@NotNull final AbstractPathJob job, @NotNull final SectionPortalCache portals, @NotNull final Set<Long> seedSections)
+    {
+        this.job = job;
+        this.portals = portals;
+        this.seedSections = seedSections;
+    }
+
+    /**
+     * Plan a route between two positions.
+     *
+     * @param start the start.
+     * @param end   the destination.
+     * @return the corridor around the route or null if no route was found.
+     */
+    @Nullable
+    SearchCorridor plan(@NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final long endSection = SectionPortalCache.getSectionKey(end);
+        final PriorityQueue<RouteNode> open = new PriorityQueue<>();
+        final Map<BlockPos, Double> bestCosts = new HashMap<>();
+
+        open.add(new RouteNode(null, start, SectionPortalCache.getSectionKey(start), 0, distance(start, end)));
+        bestCosts.put(start, 0D);
+
+        while (!open.isEmpty() && expandedPortals < MAX_EXPANDED_PORTALS)
+        {
+            final RouteNode node = open.poll();
+            if (node.cost > bestCosts.get(node.pos))
+            {
+                continue;
+            }
+
+            if (node.section == endSection)
+            {
+                return new SearchCorridor(node.getSections(), CORRIDOR_SLACK);
+            }
+
+            expandedPortals++;
+            final int sectionX = SectionPortalCache.getSectionX(node.section);
+            final int sectionZ = SectionPortalCache.getSectionZ(node.section);
+            layout = portals.getLayout(job, sectionX, sectionZ, node.pos.getY());
+            component = layout == null ? SectionPortalCache.SectionLayout.UNKNOWN : layout.getComponent(node.pos);
+
+            //  Positive x, negative x, positive z, negative z.
+            expand(node, portals.getPortals(job, sectionX, sectionZ, true, node.pos.getY()), true, sectionX + 1, sectionZ, end, open, bestCosts);
+            expand(node, portals.getPortals(job, sectionX - 1, sectionZ, true, node.pos.getY()), false, sectionX - 1, sectionZ, end, open, bestCosts);
+            expand(node, portals.getPortals(job, sectionX, sectionZ, false, node.pos.getY()), true, sectionX, sectionZ + 1, end, open, bestCosts);
+            expand(node, portals.getPortals(job, sectionX, sectionZ - 1, false, node.pos.getY()), false, sectionX, sectionZ - 1, end, open, bestCosts);
+        }
+
+        return null;
+    }
+
+    /**
+     * Amount of portals expanded by the last plan.
+     *
+     * @return the amount.
+     */
+    int getExpandedPortals()
+    {
+        return expandedPortals;
+    }
+
+    private void expand(
+                         @NotNull final RouteNode node,
+                         @NotNull final SectionPortalCache.Portal[] borderPortals,
+                         final boolean leavingLowSide,
+                         final int nextSectionX,
+                         final int nextSectionZ,
+                         @NotNull final BlockPos end,
+                         @NotNull final PriorityQueue<RouteNode> open,
+                         @NotNull final Map<BlockPos, Double> bestCosts)
+    {
+        final double sectionCost = seedSections.contains(node.section) ? SEED_SECTION_COST : 1D;
+        final long nextSection = SectionPortalCache.getSectionKey(nextSectionX, nextSectionZ);
+
+        for (@NotNull final SectionPortalCache.Portal portal : borderPortals)
+        {
+            final BlockPos exit = leavingLowSide ? portal.low : portal.high;
+            final BlockPos entry = leavingLowSide ? portal.high : portal.low;
+            if (!isReachable(exit))
+            {
+                continue;
+            }
+
+            final double cost = node.cost + distance(node.pos, exit) * sectionCost + PORTAL_COST;
+            final Double best = bestCosts.get(entry);
+            if (best != null && best <= cost)
+            {
+                continue;
+            }
+
+            bestCosts.put(entry, cost);
+            open.add(new RouteNode(node, entry, nextSection, cost, cost + distance(entry, end)));
+        }
+    }
+
+    /**
+     * Check if an exit of the current section is connected to where the node entered it, unknown connections are assumed to exist.
+     *
+     * @param exit the exit.
+     * @return false if the exit is known to be unreachable.
+     */
+    private boolean isReachable(@NotNull final BlockPos exit)
+    {
+        if (layout == null || component == SectionPortalCache.SectionLayout.UNKNOWN)
+        {
+            return true;
+        }
+
+        final int exitComponent = layout.getComponent(exit);
+        return exitComponent == SectionPortalCache.SectionLayout.UNKNOWN || exitComponent == component;
+    }
+
+    private static double distance(@NotNull final BlockPos a, @NotNull final BlockPos b)
+    {
+        return Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY()) + Math.abs(a.getZ() - b.getZ());
+    }
+
+    /**
+     * A position the route enters a section at.
+     */
+    private static final class RouteNode implements Comparable<RouteNode>
+    {
+        @Nullable
+        private final RouteNode parent;
+        @NotNull
+        private final BlockPos  pos;
+        private final long      section;
+        private final double    cost;
+        private final double    score;
+
+        private RouteNode(@Nullable final RouteNode parent, @NotNull final BlockPos pos, final long section, final double cost, final double score)
+        {
+            this.parent = parent;
+            this.pos = pos;
+            this.section = section;
+            this.cost = cost;
+            this.score = score;
+        }
+
+        @NotNull
+        private List<Long> getSections()
+        {
+            final List<Long> sections = new ArrayList<>();
+            for (RouteNode node = this; node != null; node = node.parent)
+            {
+                sections.add(node.section);
+            }
+            return sections;
+        }
+
+        @Override
+        public int compareTo(@NotNull final RouteNode other)
+        {
+            return Double.compare(score, other.score);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The view of one caller on a path task which may be shared with other callers requesting the same path.
+ * Every caller receives its own {@link Path} instance, as the path keeps the progress of the entity following it.
+ */
+final class SharedPathFuture implements Future<Path>
+{
+    @NotNull
+    private final    PathTask   task;
+    @NotNull
+    private final    PathResult result;
+    private volatile boolean    cancelled = false;
+
+    /**
+     * Create the view of a caller.
+     *
+     * @param task   the shared task.
+     * @param result the result of the caller, receives the outcome of the task.
+     */
+    SharedPathFuture(@NotNull final PathTask task, @NotNull final PathResult result)
+    {
+        this.task = task;
+        this.result = result;
+    }
+
+    /**
+     * Stops waiting for the path, the task itself is only cancelled if nobody else waits for it.
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning)
+    {
+        if (cancelled || task.isDone())
+        {
+            return false;
+        }
+
+        cancelled = true;
+        Pathfinding.unsubscribe(task, mayInterruptIfRunning);
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled()
+    {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone()
+    {
+        return cancelled || task.isDone();
+    }
+
+    @Nullable
+    @Override
+    public Path get() throws InterruptedException, ExecutionException
+    {
+        checkCancelled();
+        return copyResult(task.get());
+    }
+
+    @Nullable
+    @Override
+    public Path get(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+    {
+        checkCancelled();
+        return copyResult(task.get(timeout, unit));
+    }
+
+    private void checkCancelled()
+    {
+        if (cancelled)
+        {
+            throw new CancellationException();
+        }
+    }
+
+    @Nullable
+    private Path copyResult(@Nullable final Path path)
+    {
+        final PathResult taskResult = task.getJob().getResult();
+        if (taskResult == result)
+        {
+            return path;
+        }
+
+        result.setPathReachesDestination(taskResult.getPathReachesDestination());
+        return path == null ? null : Pathfinding.copyPath(path);
+    }
+}
@@ -11,6 +11,9 @@ import com.minecolonies.coremod.blocks.BlockHutTownHall;
 import com.minecolonies.coremod.blocks.BlockHutWareHouse;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.entity.CitizenPerception;
+import com.minecolonies.coremod.entity.ai.util.StructureBuildPlan;
+import com.minecolonies.coremod.util.BulkStructurePlacer;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSilverfish;
 import net.minecraft.client.Minecraft;
@@ -109,6 +112,21 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event when a block changed and notifies its neighbours.
+     * Marks the block for the builders which build at its position.
+     *
+     * @param event {@link net.minecraftforge.event.world.BlockEvent.NeighborNotifyEvent}
+     */
+    @SubscribeEvent
+    public void onBlockChanged(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            StructureBuildPlan.onBlockChanged(event.getWorld(), event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item.
      * Event gets cancelled when player has no permission. Event gets cancelled
@@ -399,7 +417,8 @@ public class EventHandler
 
     /**
      * Gets called when world unloads.
-     * Calls {@link ColonyManager#onWorldUnload(World)}
+     * Calls {@link ColonyManager#onWorldUnload(World)} and drops the structures still queued for placement and the citizen perception
+     * of the world.
      *
      * @param event {@link net.minecraftforge.event.world.WorldEvent.Unload}
      */
@@ -407,5 +426,7 @@ public class EventHandler
     public void onWorldUnload(@NotNull final WorldEvent.Unload event)
     {
         ColonyManager.onWorldUnload(event.getWorld());
+        BulkStructurePlacer.onWorldUnload(event.getWorld());
+        CitizenPerception.onWorldUnload(event.getWorld());
     }
 }
@@ -5,6 +5,7 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
+import com.minecolonies.coremod.util.BulkStructurePlacer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.common.config.Config;
 import net.minecraftforge.common.config.ConfigManager;
@@ -45,7 +46,8 @@ public class FMLEventHandler
 
     /**
      * Called when the world ticks.
-     * Calls {@link ColonyManager#onWorldTick(TickEvent.WorldTickEvent)}.
+     * Calls {@link ColonyManager#onWorldTick(TickEvent.WorldTickEvent)}
+     * and continues the structures pasted over several ticks.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent}.
      */
@@ -53,6 +55,10 @@ public class FMLEventHandler
     public void onWorldTick(final TickEvent.WorldTickEvent event)
     {
         ColonyManager.onWorldTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            BulkStructurePlacer.onWorldTick(event.world);
+        }
     }
 
     /**
@@ -68,6 +74,7 @@ public class FMLEventHandler
         {
             MineColonies.getNetwork().sendTo(new ServerUUIDMessage(), (EntityPlayerMP) event.player);
             MineColonies.getNetwork().sendTo(new ColonyStylesMessage(), (EntityPlayerMP) event.player);
+            ColonyManager.onPlayerLogin(event.player);
             ColonyManager.syncAllColoniesAchievements();
         }
     }
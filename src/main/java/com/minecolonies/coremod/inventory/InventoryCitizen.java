@@ -6,6 +6,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ItemStackHelper;
+import net.minecraft.item.ItemFood;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -65,6 +66,15 @@ public class InventoryCitizen implements IInventory
      * Updated after the inventory has been changed.
      */
     private boolean inventoryChanged = false;
+    /**
+     * Counts the changes of the slots, used to invalidate the cached food slot.
+     */
+    private int changeCount = 0;
+    /**
+     * The first slot containing food, as found at the change count below.
+     */
+    private int foodSlot            = NO_SLOT;
+    private int foodSlotChangeCount = -1;
     /**
      * The citizen which owns the inventory.
      */
@@ -146,6 +156,35 @@ public class InventoryCitizen implements IInventory
         return false;
     }
 
+    /**
+     * Find the first slot containing food.
+     * The slot is cached until a slot of the inventory is replaced, the cached slot is checked to still hold food on every call.
+     *
+     * @return the slot or -1 if there is no food.
+     */
+    public int getFirstFoodSlot()
+    {
+        if (foodSlotChangeCount != changeCount || (foodSlot != NO_SLOT && !isFood(getStackInSlot(foodSlot))))
+        {
+            foodSlot = NO_SLOT;
+            for (int i = 0; i < getSizeInventory(); i++)
+            {
+                if (isFood(getStackInSlot(i)))
+                {
+                    foodSlot = i;
+                    break;
+                }
+            }
+            foodSlotChangeCount = changeCount;
+        }
+        return foodSlot;
+    }
+
+    private static boolean isFood(final ItemStack stack)
+    {
+        return !ItemStackUtils.isEmpty(stack) && stack.getItem() instanceof ItemFood;
+    }
+
     /**
      * Returns the item that is currently being held by citizen.
      *
@@ -277,6 +316,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public ItemStack decrStackSize(final int index, final int count)
     {
+        changeCount++;
         List<ItemStack> list = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist : this.allInventories)
@@ -302,6 +342,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public ItemStack removeStackFromSlot(final int index)
     {
+        changeCount++;
         NonNullList<ItemStack> nonnulllist = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist1 : this.allInventories)
@@ -336,6 +377,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public void setInventorySlotContents(final int index, final ItemStack stack)
     {
+        changeCount++;
         NonNullList<ItemStack> nonnulllist = null;
         int tempIndex = index;
         for (final NonNullList<ItemStack> nonnulllist1 : this.allInventories)
@@ -374,9 +416,10 @@ public class InventoryCitizen implements IInventory
     public void markDirty()
     {
         this.inventoryChanged = true;
+        this.changeCount++;
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(CitizenData.SECTION_INVENTORY);
         }
     }
 
@@ -492,6 +535,7 @@ public class InventoryCitizen implements IInventory
     @Override
     public void clear()
     {
+        changeCount++;
         for (final List<ItemStack> list : this.allInventories)
         {
             list.clear();
@@ -550,6 +594,7 @@ public class InventoryCitizen implements IInventory
      */
     public void readFromNBT(final NBTTagList nbtTagListIn)
     {
+        changeCount++;
         this.mainInventory.clear();
         this.armorInventory.clear();
         this.offHandInventory.clear();
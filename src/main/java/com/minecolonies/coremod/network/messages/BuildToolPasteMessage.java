@@ -178,7 +178,7 @@ public class BuildToolPasteMessage extends AbstractMessage<BuildToolPasteMessage
                 handleHut(CompatibilityUtils.getWorld(player), player, sn, message.rotation, message.pos, message.mirror);
             }
             StructureWrapper.loadAndPlaceStructureWithRotation(player.world, message.structureName,
-              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete);
+              message.pos, message.rotation, message.mirror ? Mirror.FRONT_BACK : Mirror.NONE, message.complete, true);
         }
         else if(message.freeMode !=  null )
         {
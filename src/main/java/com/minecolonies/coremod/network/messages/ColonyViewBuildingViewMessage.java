@@ -32,14 +32,17 @@ public class ColonyViewBuildingViewMessage implements IMessage, IMessageHandler<
     /**
      * Creates a message to handle colony views.
      *
+     * The payload is written by {@link AbstractBuilding#serializeToView(ByteBuf)} and may be shared by the messages to all
+     * subscribers, it is not modified when the message is sent.
+     *
      * @param building AbstractBuilding to add or update a view.
+     * @param payload  the serialized view.
      */
-    public ColonyViewBuildingViewMessage(@NotNull final AbstractBuilding building)
+    public ColonyViewBuildingViewMessage(@NotNull final AbstractBuilding building, @NotNull final ByteBuf payload)
     {
         this.colonyId = building.getColony().getID();
         this.buildingId = building.getID();
-        this.buildingData = Unpooled.buffer();
-        building.serializeToView(this.buildingData);
+        this.buildingData = payload;
     }
 
     @Override
@@ -56,7 +59,7 @@ public class ColonyViewBuildingViewMessage implements IMessage, IMessageHandler<
     {
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
-        buf.writeBytes(buildingData);
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Nullable
@@ -0,0 +1,70 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Send a message to the server to ask for the full view of a citizen after the view missed an inventory delta.
+ */
+public class ColonyViewCitizenResyncMessage extends AbstractMessage<ColonyViewCitizenResyncMessage, IMessage>
+{
+    /**
+     * The id of the colony.
+     */
+    private int colonyId;
+
+    /**
+     * The id of the citizen.
+     */
+    private int citizenId;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewCitizenResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a resync message.
+     *
+     * @param colony    the view of the colony.
+     * @param citizenId the id of the citizen.
+     */
+    public ColonyViewCitizenResyncMessage(@NotNull final ColonyView colony, final int citizenId)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.citizenId = citizenId;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        citizenId = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(citizenId);
+    }
+
+    @Override
+    public void messageOnServerThread(final ColonyViewCitizenResyncMessage message, final EntityPlayerMP player)
+    {
+        final Colony colony = ColonyManager.getColony(message.colonyId);
+        if (colony != null)
+        {
+            colony.requestCitizenResync(player, message.citizenId);
+        }
+    }
+}
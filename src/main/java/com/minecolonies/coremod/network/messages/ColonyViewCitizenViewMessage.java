@@ -4,7 +4,6 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -31,15 +30,19 @@ public class ColonyViewCitizenViewMessage implements IMessage, IMessageHandler<C
     /**
      * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
      *
+     * The payload is written by {@link CitizenData#serializeViewNetworkData(ByteBuf)}, or by
+     * {@link CitizenData#serializeViewNetworkDelta(ByteBuf)} for the changed sections only, and may be shared by the messages to all
+     * subscribers, it is not modified when the message is sent.
+     *
      * @param colony  Colony of the citizen
      * @param citizen Citizen data of the citizen to update view
+     * @param payload the serialized view.
      */
-    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final CitizenData citizen)
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final CitizenData citizen, @NotNull final ByteBuf payload)
     {
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
-        this.citizenBuffer = Unpooled.buffer();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        this.citizenBuffer = payload;
     }
 
     @Override
@@ -55,7 +58,7 @@ public class ColonyViewCitizenViewMessage implements IMessage, IMessageHandler<C
     {
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
-        buf.writeBytes(citizenBuffer);
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
     }
 
     @Nullable
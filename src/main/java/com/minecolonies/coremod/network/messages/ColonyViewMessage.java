@@ -5,7 +5,6 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -31,16 +30,19 @@ public class ColonyViewMessage implements IMessage, IMessageHandler<ColonyViewMe
 
     /**
      * Add or Update a ColonyView on the client.
+     * <p>
+     * The payload is written by {@link ColonyView#serializeNetworkData(Colony, ByteBuf, boolean)} and may be shared by the messages
+     * to all subscribers, it is not modified when the message is sent.
      *
      * @param colony            Colony of the view to update.
      * @param isNewSubscription Boolean whether or not this is a new subscription.
+     * @param payload           the serialized view.
      */
-    public ColonyViewMessage(@NotNull final Colony colony, final boolean isNewSubscription)
+    public ColonyViewMessage(@NotNull final Colony colony, final boolean isNewSubscription, @NotNull final ByteBuf payload)
     {
         this.colonyId = colony.getID();
         this.isNewSubscription = isNewSubscription;
-        this.colonyBuffer = Unpooled.buffer();
-        ColonyView.serializeNetworkData(colony, colonyBuffer, isNewSubscription);
+        this.colonyBuffer = payload;
     }
 
     @Override
@@ -56,7 +58,7 @@ public class ColonyViewMessage implements IMessage, IMessageHandler<ColonyViewMe
     {
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
-        buf.writeBytes(colonyBuffer);
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Nullable
@@ -0,0 +1,61 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Send a message to the server to ask for the full request data of a colony after the view missed a delta.
+ */
+public class ColonyViewRequestResyncMessage extends AbstractMessage<ColonyViewRequestResyncMessage, IMessage>
+{
+    /**
+     * The id of the colony.
+     */
+    private int colonyId;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewRequestResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a resync message.
+     *
+     * @param colony the view of the colony.
+     */
+    public ColonyViewRequestResyncMessage(@NotNull final ColonyView colony)
+    {
+        super();
+        this.colonyId = colony.getID();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+    }
+
+    @Override
+    public void messageOnServerThread(final ColonyViewRequestResyncMessage message, final EntityPlayerMP player)
+    {
+        final Colony colony = ColonyManager.getColony(message.colonyId);
+        if (colony != null)
+        {
+            colony.requestRequestResync(player);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Removes the blocks and entities inside of colonies from an explosion.
+ * <p>
+ * The colonies overlapping the bounds of the explosion are looked up once, every affected position is then checked against their centers
+ * with plain integer math in a single pass over the lists.
+ */
+public final class ColonyExplosionFilter
+{
+    private final int[] centerX;
+    private final int[] centerZ;
+    private final long  rangeSquared;
+
+    /**
+     * Create a filter for colonies.
+     *
+     * @param centers the centers of the colonies.
+     * @param range   the radius of the colonies.
+     */
+    public ColonyExplosionFilter(@NotNull final List<BlockPos> centers, final int range)
+    {
+        this.centerX = new int[centers.size()];
+        this.centerZ = new int[centers.size()];
+        for (int i = 0; i < centers.size(); i++)
+        {
+            centerX[i] = centers.get(i).getX();
+            centerZ[i] = centers.get(i).getZ();
+        }
+        this.rangeSquared = (long) range * range;
+    }
+
+    /**
+     * Remove the blocks and entities inside of any colony of a world from an explosion.
+     *
+     * @param world    the world of the explosion.
+     * @param range    the radius of the colonies.
+     * @param blocks   the affected blocks.
+     * @param entities the affected entities.
+     */
+    public static void filter(@NotNull final World world, final int range, @NotNull final List<BlockPos> blocks, @NotNull final List<Entity> entities)
+    {
+        if (blocks.isEmpty() && entities.isEmpty())
+        {
+            return;
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (@NotNull final BlockPos pos : blocks)
+        {
+            minX = Math.min(minX, pos.getX());
+            minZ = Math.min(minZ, pos.getZ());
+            maxX = Math.max(maxX, pos.getX());
+            maxZ = Math.max(maxZ, pos.getZ());
+        }
+        for (@NotNull final Entity entity : entities)
+        {
+            minX = Math.min(minX, MathHelper.floor(entity.posX));
+            minZ = Math.min(minZ, MathHelper.floor(entity.posZ));
+            maxX = Math.max(maxX, MathHelper.floor(entity.posX));
+            maxZ = Math.max(maxZ, MathHelper.floor(entity.posZ));
+        }
+
+        final List<Colony> colonies = ColonyManager.getColoniesInArea(world, minX, minZ, maxX, maxZ);
+        if (colonies.isEmpty())
+        {
+            return;
+        }
+
+        final List<BlockPos> centers = new ArrayList<>(colonies.size());
+        for (@NotNull final Colony colony : colonies)
+        {
+            centers.add(colony.getCenter());
+        }
+
+        final ColonyExplosionFilter filter = new ColonyExplosionFilter(centers, range);
+        filter.filterBlocks(blocks);
+        entities.removeIf(entity -> entity.getEntityWorld() == world && filter.isProtected(MathHelper.floor(entity.posX), MathHelper.floor(entity.posZ)));
+    }
+
+    /**
+     * Check if a column is inside of any of the colonies.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    public boolean isProtected(final int x, final int z)
+    {
+        for (int i = 0; i < centerX.length; i++)
+        {
+            final long xDiff = (long) centerX[i] - x;
+            final long zDiff = (long) centerZ[i] - z;
+            if (xDiff * xDiff + zDiff * zDiff <= rangeSquared)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the blocks inside of any of the colonies from a list in a single pass.
+     *
+     * @param blocks the blocks.
+     */
+    public void filterBlocks(@NotNull final List<BlockPos> blocks)
+    {
+        blocks.removeIf(pos -> isProtected(pos.getX(), pos.getZ()));
+    }
+}
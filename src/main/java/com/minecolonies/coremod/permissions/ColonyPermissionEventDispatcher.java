@@ -0,0 +1,237 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives the events the colonies check permissions on and passes each one to the {@link ColonyPermissionEventHandler} of the colony
+ * it happens in, so an event only costs a lookup in the colony index instead of a check by every colony.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * Get the handler of the colony at a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the position is in no colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        @Nullable final Colony colony = ColonyManager.getColonyOrStub(world, pos);
+        return colony == null ? null : colony.getEventHandler();
+    }
+
+    /**
+     * Get the handler of the colony a player is in, fake players are replaced by the player they act for.
+     *
+     * @param playerIn the player.
+     * @param world    the world.
+     * @return the handler or null if the player is in no colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final EntityPlayer playerIn, @NotNull final World world)
+    {
+        @NotNull final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(playerIn, world);
+        return getHandler(player.getEntityWorld(), player.getPosition());
+    }
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler, removes all blocks and entities inside of colonies from the explosion.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.enableColonyProtection || !Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        ColonyExplosionFilter.filter(event.getWorld(), Configurations.gameplay.workingRangeTownHall, event.getAffectedBlocks(), event.getAffectedEntities());
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler, also receives the entity interactions which are handled by the handlers below.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        if (event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getPlayer(), event.getPlayer().getEntityWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        @Nullable final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
@@ -12,6 +12,16 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface IPlacementHandler
 {
+    /**
+     * Check if this handler is responsible for placing a block, it ignores all others.
+     *
+     * @param world      receives the world.
+     * @param pos        the position.
+     * @param blockState the blockState.
+     * @return true if so.
+     */
+    boolean canHandle(@NotNull World world, @NotNull BlockPos pos, @NotNull IBlockState blockState);
+
     /**
      * Method used to handle the processing of a Placement of a block.
      *
@@ -78,6 +78,27 @@ public final class PlacementHandlers
          */
     }
 
+    /**
+     * Check if a block would be placed by the air or general handler when there is no placer,
+     * blocks for which this is true can be set without going through the handlers.
+     *
+     * @param world      the world.
+     * @param pos        the position.
+     * @param blockState the block to place.
+     * @return true if the first handler applying to the block is the air or general handler.
+     */
+    public static boolean isPlacedByGeneralHandler(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+    {
+        for (final IPlacementHandler handler : handlers)
+        {
+            if (handler.canHandle(world, pos, blockState))
+            {
+                return handler instanceof AirPlacementHandler || handler instanceof GeneralBlockPlacementHandler;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check the placers inventory for the items in the itemList and remove it of the list if found.
      *
@@ -116,12 +137,18 @@ public final class PlacementHandlers
     //If he woudln't count the bracket spaces we'd be under 25 easily.
     public static class FireplacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockFire;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState, @Nullable final AbstractEntityAIStructure<?> placer,
                               final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockFire))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -172,12 +199,18 @@ public final class PlacementHandlers
 
     public static class GrassPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() == Blocks.GRASS;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (blockState.getBlock() != Blocks.GRASS)
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -209,12 +242,18 @@ public final class PlacementHandlers
 
     public static class DoorPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockDoor;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockDoor))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -244,12 +283,18 @@ public final class PlacementHandlers
 
     public static class BedPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockBed;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockBed))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -284,12 +329,18 @@ public final class PlacementHandlers
 
     public static class DoublePlantPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockDoublePlant;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockDoublePlant))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -321,15 +372,21 @@ public final class PlacementHandlers
 
     public static class SpecialBlockPlacementAttemptHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockEndPortal
+                     || blockState.getBlock() instanceof BlockMobSpawner
+                     || blockState.getBlock() instanceof BlockDragonEgg
+                     || blockState.getBlock() instanceof BlockPortal;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (blockState instanceof BlockEndPortal
-                  || blockState instanceof BlockMobSpawner
-                  || blockState instanceof BlockDragonEgg
-                  || blockState instanceof BlockPortal)
+            if (canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.ACCEPT;
             }
@@ -339,12 +396,18 @@ public final class PlacementHandlers
 
     public static class FlowerPotPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockFlowerPot;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState, @Nullable final AbstractEntityAIStructure<?> placer,
                               final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockFlowerPot))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -382,12 +445,18 @@ public final class PlacementHandlers
 
     public static class AirPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockAir;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (blockState.getBlock() instanceof BlockAir)
+            if (canHandle(world, pos, blockState))
             {
                 if (placer != null)
                 {
@@ -419,12 +488,18 @@ public final class PlacementHandlers
 
     public static class BlockGrassPathPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockGrassPath;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockGrassPath))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -458,16 +533,22 @@ public final class PlacementHandlers
 
     public static class StairBlockPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            //Workaround as long as we didn't rescan all of our buildings since BlockStairs now have different metadata values.
+            final IBlockState worldState = world.getBlockState(pos);
+            return blockState.getBlock() instanceof BlockStairs
+                     && worldState.getBlock() == blockState.getBlock()
+                     && worldState.getValue(BlockStairs.FACING) == blockState.getValue(BlockStairs.FACING);
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            //Workaround as long as we didn't rescan all of our buildings since BlockStairs now have different metadata values.
-            if (blockState.getBlock() instanceof BlockStairs
-                  && world.getBlockState(pos).getBlock() instanceof BlockStairs
-                  && world.getBlockState(pos).getValue(BlockStairs.FACING) == blockState.getValue(BlockStairs.FACING)
-                  && blockState.getBlock() == world.getBlockState(pos).getBlock())
+            if (canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.ACCEPT;
             }
@@ -478,12 +559,18 @@ public final class PlacementHandlers
 
     public static class BlockSolidSubstitutionPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockSolidSubstitution;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockSolidSubstitution))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -522,6 +609,12 @@ public final class PlacementHandlers
 
     public static class GeneralBlockPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return true;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
@@ -562,12 +655,18 @@ public final class PlacementHandlers
 
     public static class WayPointBlockPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockWaypoint;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockWaypoint))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -597,12 +696,18 @@ public final class PlacementHandlers
 
     public static class ChestPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockChest;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockChest))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -637,12 +742,18 @@ public final class PlacementHandlers
 
     public static class RackPlacementHandler implements IPlacementHandler
     {
+        @Override
+        public boolean canHandle(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState)
+        {
+            return blockState.getBlock() instanceof BlockMinecoloniesRack;
+        }
+
         @Override
         public Object handle(
                               @NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState blockState,
                               @Nullable final AbstractEntityAIStructure<?> placer, final boolean infiniteResources, final boolean complete)
         {
-            if (!(blockState.getBlock() instanceof BlockMinecoloniesRack))
+            if (!canHandle(world, pos, blockState))
             {
                 return ActionProcessingResult.IGNORE;
             }
@@ -5,6 +5,10 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.RackType;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.colony.buildings.BuildingWareHouse;
 import com.minecolonies.coremod.entity.ai.item.handling.ItemStorage;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -23,6 +27,7 @@ import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -91,6 +96,11 @@ public class TileEntityRack extends TileEntity
      * 1 = 1*9 additional slots, and so on.
      */
     private int size = 0;
+    /**
+     * Index of the warehouse the rack belongs to, null if the rack is not indexed.
+     */
+    @Nullable
+    private WarehouseItemIndex itemIndex = null;
     /**
      * The inventory of the tileEntity.
      */
@@ -258,10 +268,55 @@ public class TileEntityRack extends TileEntity
             content.put(storage, amount);
         }
 
+        if (itemIndex != null)
+        {
+            itemIndex.update(this);
+        }
+
         updateBlockState();
         markDirty();
     }
 
+    /**
+     * Set the index of the warehouse the rack belongs to.
+     *
+     * @param itemIndex the index or null.
+     */
+    void setItemIndex(@Nullable final WarehouseItemIndex itemIndex)
+    {
+        this.itemIndex = itemIndex;
+    }
+
+    @Override
+    public void onLoad()
+    {
+        super.onLoad();
+        if (world == null || world.isRemote)
+        {
+            return;
+        }
+
+        //Replace the unloaded rack in the index of the warehouse, if it has been built already.
+        @Nullable final Colony colony = ColonyManager.getColony(world, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        for (@NotNull final AbstractBuilding building : colony.getBuildings().values())
+        {
+            if (building instanceof BuildingWareHouse && building.getAdditionalCountainers().contains(pos))
+            {
+                final WarehouseItemIndex index = ((BuildingWareHouse) building).getItemIndexIfBuilt();
+                if (index != null)
+                {
+                    index.track(this);
+                }
+                return;
+            }
+        }
+    }
+
     /**
      * Update the blockState of the rack.
      * Switch between connected, single, full and empty texture.
@@ -3,7 +3,9 @@ package com.minecolonies.coremod.tileentities;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.coremod.colony.buildings.BuildingWareHouse;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
@@ -12,9 +14,9 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL;
 
@@ -32,7 +34,19 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
      */
     public boolean hasMatchinItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        return !ItemStackUtils.isEmpty(getFirstMatchingItemStackInWarehouse(itemStackSelectionPredicate));
+        return hasMatchinItemStackInWarehouse(null, itemStackSelectionPredicate);
+    }
+
+    /**
+     * Method used to check if this warehouse holds any of the requested itemstacks.
+     *
+     * @param item                        The item the predicate accepts, null if it may accept any item.
+     * @param itemStackSelectionPredicate The predicate to check with.
+     * @return True when the warehouse holds a stack, false when not.
+     */
+    public boolean hasMatchinItemStackInWarehouse(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        return !ItemStackUtils.isEmpty(getFirstMatchingItemStackInWarehouse(item, itemStackSelectionPredicate));
     }
 
     /**
@@ -44,13 +58,30 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
     @Nullable
     public ItemStack getFirstMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        if (getBuilding() != null)
+        return getFirstMatchingItemStackInWarehouse(null, itemStackSelectionPredicate);
+    }
+
+    /**
+     * Method to get the first matching ItemStack in the Warehouse.
+     * The racks are looked up in the item index of the warehouse, only the hut itself and other containers are searched.
+     *
+     * @param item                        The item the predicate accepts, null if it may accept any item.
+     * @param itemStackSelectionPredicate The predicate to select the ItemStack with.
+     * @return The first matching ItemStack.
+     */
+    @Nullable
+    public ItemStack getFirstMatchingItemStackInWarehouse(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        if (getBuilding() instanceof BuildingWareHouse)
         {
-            Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            final WarehouseItemIndex index = ((BuildingWareHouse) getBuilding()).getItemIndex();
+            final ItemStack indexedStack = index.getFirstMatchingItemStack(item, itemStackSelectionPredicate);
+            if (indexedStack != null)
+            {
+                return indexedStack;
+            }
 
-            return tileEntities.stream()
+            return getNotIndexedContainers(index).stream()
                      .map(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate))
                      .filter(itemStacks -> !itemStacks.isEmpty())
                      .map(itemStacks -> itemStacks.get(0))
@@ -67,23 +98,67 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
      * @return the position or null.
      */
     @Nullable
+    @Override
     public BlockPos getPositionOfChestWithItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        if (getBuilding() != null)
+        return getPositionOfChestWithItemStack(null, itemStackSelectionPredicate);
+    }
+
+    /**
+     * Check for a certain item and return the position of the chest containing it.
+     *
+     * @param item                        the item the predicate accepts, null if it may accept any item.
+     * @param itemStackSelectionPredicate the stack to search for.
+     * @return the position or null.
+     */
+    @Nullable
+    public BlockPos getPositionOfChestWithItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        if (getBuilding() instanceof BuildingWareHouse)
         {
-            Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(t -> t == null);
-            tileEntities.add(this);
+            final WarehouseItemIndex index = ((BuildingWareHouse) getBuilding()).getItemIndex();
+            final BlockPos rackPos = index.getPositionOfRackWithItemStack(item, itemStackSelectionPredicate);
+            if (rackPos != null)
+            {
+                return rackPos;
+            }
 
-            return tileEntities.stream()
+            return getNotIndexedContainers(index).stream()
                      .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(tileEntity -> tileEntity.getPos())
+                     .map(TileEntity::getPos)
                      .findFirst().orElse(null);
         }
 
         return null;
     }
 
+    /**
+     * Get the hut and the containers of the warehouse which are not racks in the item index.
+     *
+     * @param index the item index.
+     * @return the tile entities.
+     */
+    @NotNull
+    private List<TileEntity> getNotIndexedContainers(@NotNull final WarehouseItemIndex index)
+    {
+        final List<TileEntity> tileEntities = new ArrayList<>();
+        tileEntities.add(this);
+        for (@NotNull final BlockPos pos : getBuilding().getAdditionalCountainers())
+        {
+            if (index.isTracked(pos))
+            {
+                continue;
+            }
+
+            final TileEntity tileEntity = getWorld().getTileEntity(pos);
+            if (tileEntity != null && tileEntity != this)
+            {
+                tileEntities.add(tileEntity);
+            }
+        }
+        return tileEntities;
+    }
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
@@ -0,0 +1,346 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index over the items in the racks of a warehouse, so requests can be checked without going through every slot of every rack.
+ * <p>
+ * Racks push their content to the index whenever it changes. For each rack the index keeps one entry per kind of item (item, damage and
+ * NBT) holding the largest stack of that kind and the total amount. Predicates are tested against the largest stack, which gives the same
+ * result as testing every slot as long as a predicate accepting a stack also accepts larger stacks of the same kind.
+ */
+public final class WarehouseItemIndex
+{
+    /**
+     * The racks which push their content to the index.
+     */
+    private final Map<BlockPos, TileEntityRack>    racks         = new HashMap<>();
+    /**
+     * The kinds of items in each rack.
+     */
+    private final Map<BlockPos, List<IndexedStack>> contentByRack = new HashMap<>();
+    /**
+     * The racks containing an item.
+     */
+    private final Map<Item, Set<BlockPos>>          racksByItem   = new HashMap<>();
+
+    /**
+     * If all racks of the warehouse have been added since the index was created.
+     */
+    private boolean built = false;
+
+    /**
+     * Add all racks at the given positions, only done once.
+     *
+     * @param world      the world of the warehouse.
+     * @param containers the positions of the containers of the warehouse.
+     */
+    public void build(@NotNull final World world, @NotNull final Collection<BlockPos> containers)
+    {
+        if (built)
+        {
+            return;
+        }
+
+        built = true;
+        for (@NotNull final BlockPos pos : containers)
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity instanceof TileEntityRack)
+            {
+                track((TileEntityRack) entity);
+            }
+        }
+    }
+
+    /**
+     * Check if the index has been built.
+     *
+     * @return true if so.
+     */
+    public boolean isBuilt()
+    {
+        return built;
+    }
+
+    /**
+     * Start indexing a rack or replace the rack indexed at its position, for example after the chunk of the rack was reloaded.
+     *
+     * @param rack the rack.
+     */
+    public void track(@NotNull final TileEntityRack rack)
+    {
+        final BlockPos pos = rack.getPos().toImmutable();
+        final TileEntityRack previous = racks.put(pos, rack);
+        if (previous != null && previous != rack)
+        {
+            previous.setItemIndex(null);
+        }
+
+        rack.setItemIndex(this);
+        update(rack);
+    }
+
+    /**
+     * Check if a position is indexed as rack.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isTracked(@NotNull final BlockPos pos)
+    {
+        return racks.containsKey(pos);
+    }
+
+    /**
+     * Stop indexing the rack at a position.
+     *
+     * @param pos the position.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        final TileEntityRack rack = racks.remove(pos);
+        if (rack != null)
+        {
+            rack.setItemIndex(null);
+        }
+        removeContent(pos);
+    }
+
+    /**
+     * Update the content of a rack, called by the rack whenever its inventory changed.
+     *
+     * @param rack the rack.
+     */
+    void update(@NotNull final TileEntityRack rack)
+    {
+        final BlockPos pos = rack.getPos();
+        if (racks.get(pos) != rack)
+        {
+            return;
+        }
+
+        removeContent(pos);
+
+        final List<IndexedStack> content = new ArrayList<>();
+        for (int slot = 0; slot < rack.getInventory().getSlots(); slot++)
+        {
+            final ItemStack stack = rack.getInventory().getStackInSlot(slot);
+            if (ItemStackUtils.isEmpty(stack))
+            {
+                continue;
+            }
+
+            final IndexedStack existing = getKind(content, stack);
+            if (existing == null)
+            {
+                content.add(new IndexedStack(pos, stack.copy()));
+            }
+            else
+            {
+                existing.add(stack);
+            }
+        }
+
+        if (content.isEmpty())
+        {
+            return;
+        }
+
+        final BlockPos key = pos.toImmutable();
+        contentByRack.put(key, content);
+        for (@NotNull final IndexedStack indexed : content)
+        {
+            racksByItem.computeIfAbsent(indexed.stack.getItem(), item -> new LinkedHashSet<>()).add(key);
+        }
+    }
+
+    @Nullable
+    private static IndexedStack getKind(@NotNull final List<IndexedStack> content, @NotNull final ItemStack stack)
+    {
+        for (@NotNull final IndexedStack indexed : content)
+        {
+            if (ItemStackUtils.compareItemStacksIgnoreStackSize(indexed.stack, stack))
+            {
+                return indexed;
+            }
+        }
+        return null;
+    }
+
+    private void removeContent(@NotNull final BlockPos pos)
+    {
+        final List<IndexedStack> content = contentByRack.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (@NotNull final IndexedStack indexed : content)
+        {
+            final Set<BlockPos> positions = racksByItem.get(indexed.stack.getItem());
+            if (positions != null)
+            {
+                positions.remove(pos);
+                if (positions.isEmpty())
+                {
+                    racksByItem.remove(indexed.stack.getItem());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the largest stack of the first kind of item matching a predicate.
+     *
+     * @param item                        the item the predicate accepts or null if it may accept any item.
+     * @param itemStackSelectionPredicate the predicate.
+     * @return a copy of the stack or null if no rack contains a matching stack.
+     */
+    @Nullable
+    public ItemStack getFirstMatchingItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        final IndexedStack match = find(item, itemStackSelectionPredicate);
+        return match == null ? null : match.stack.copy();
+    }
+
+    /**
+     * Get the position of the first rack containing a stack matching a predicate.
+     *
+     * @param item                        the item the predicate accepts or null if it may accept any item.
+     * @param itemStackSelectionPredicate the predicate.
+     * @return the position or null if no rack contains a matching stack.
+     */
+    @Nullable
+    public BlockPos getPositionOfRackWithItemStack(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        final IndexedStack match = find(item, itemStackSelectionPredicate);
+        return match == null ? null : match.pos;
+    }
+
+    /**
+     * Get the total amount of matching items in the racks.
+     *
+     * @param item                        the item the predicate accepts or null if it may accept any item.
+     * @param itemStackSelectionPredicate the predicate.
+     * @return the amount.
+     */
+    public int getItemCount(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        int count = 0;
+        for (@NotNull final IndexedStack indexed : getCandidates(item))
+        {
+            if (itemStackSelectionPredicate.test(indexed.stack))
+            {
+                count += indexed.count;
+            }
+        }
+        return count;
+    }
+
+    @Nullable
+    private IndexedStack find(@Nullable final Item item, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
+    {
+        List<BlockPos> brokenRacks = null;
+        IndexedStack match = null;
+        for (@NotNull final IndexedStack indexed : getCandidates(item))
+        {
+            if (!itemStackSelectionPredicate.test(indexed.stack))
+            {
+                continue;
+            }
+
+            //Racks which have been broken since they were indexed.
+            final TileEntityRack rack = racks.get(indexed.pos);
+            if (rack == null || rack.isInvalid())
+            {
+                if (brokenRacks == null)
+                {
+                    brokenRacks = new ArrayList<>();
+                }
+                brokenRacks.add(indexed.pos);
+                continue;
+            }
+
+            match = indexed;
+            break;
+        }
+
+        if (brokenRacks != null)
+        {
+            brokenRacks.forEach(this::remove);
+        }
+        return match;
+    }
+
+    @NotNull
+    private List<IndexedStack> getCandidates(@Nullable final Item item)
+    {
+        final Collection<BlockPos> positions;
+        if (item == null)
+        {
+            positions = contentByRack.keySet();
+        }
+        else
+        {
+            positions = racksByItem.getOrDefault(item, Collections.emptySet());
+        }
+
+        final List<IndexedStack> candidates = new ArrayList<>();
+        for (@NotNull final BlockPos pos : positions)
+        {
+            for (@NotNull final IndexedStack indexed : contentByRack.get(pos))
+            {
+                if (item == null || indexed.stack.getItem() == item)
+                {
+                    candidates.add(indexed);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * One kind of item in a rack.
+     */
+    private static final class IndexedStack
+    {
+        @NotNull
+        private final BlockPos  pos;
+        /**
+         * The largest stack of the kind.
+         */
+        @NotNull
+        private       ItemStack stack;
+        /**
+         * The total amount of items of the kind.
+         */
+        private       int       count;
+
+        private IndexedStack(@NotNull final BlockPos pos, @NotNull final ItemStack stack)
+        {
+            this.pos = pos.toImmutable();
+            this.stack = stack;
+            this.count = ItemStackUtils.getSize(stack);
+        }
+
+        private void add(@NotNull final ItemStack other)
+        {
+            count += ItemStackUtils.getSize(other);
+            if (ItemStackUtils.getSize(other) > ItemStackUtils.getSize(stack))
+            {
+                stack = other.copy();
+            }
+        }
+    }
+}
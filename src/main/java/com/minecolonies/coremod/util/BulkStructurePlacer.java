@@ -0,0 +1,440 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.entity.ai.util.StructureBuildPlan;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import com.minecolonies.coremod.placementhandlers.IPlacementHandler;
+import com.minecolonies.coremod.placementhandlers.PlacementHandlers;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.placementhandlers.IPlacementHandler.ActionProcessingResult.IGNORE;
+
+/**
+ * Places a whole structure into the world at once, used when pasting structures.
+ * <p>
+ * Blocks without special placement handler are written directly into the sections of their chunk without notifying their neighbours,
+ * every chunk is then relit and sent to the players once. Large structures can be placed over several ticks, placing at most
+ * {@link com.minecolonies.api.configuration.Configurations.Gameplay#maxBlocksPlacedPerTick} blocks per tick.
+ */
+public final class BulkStructurePlacer
+{
+    /**
+     * Size of a chunk section.
+     */
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_MASK  = 15;
+
+    /**
+     * The placements waiting for the next world tick.
+     */
+    private static final List<BulkStructurePlacer> PENDING = new LinkedList<>();
+
+    /**
+     * The steps of the placement, in order.
+     */
+    private enum Step
+    {
+        SOLID,
+        DELAYED,
+        ENTITIES,
+        DONE
+    }
+
+    private final World          world;
+    private final StructureProxy structure;
+    private final BlockPos       pos;
+    private final boolean        complete;
+
+    /**
+     * The blocks which have to be placed after the solid blocks, as they may need support.
+     */
+    private final List<BlockPos> delayedBlocks = new ArrayList<>();
+
+    /**
+     * The changed sections by the lowest corner of their chunk since the last update of the clients.
+     */
+    private final Map<BlockPos, Integer> changedSections = new HashMap<>();
+
+    /**
+     * The changed blocks which emit light or emitted light before.
+     */
+    private final List<BlockPos> lightChanges = new ArrayList<>();
+
+    /**
+     * The blocks set directly since the last update of the clients, with the state they had before.
+     */
+    private final Map<BlockPos, IBlockState> changedBlocks = new LinkedHashMap<>();
+
+    private Step step  = Step.SOLID;
+    private int  index = 0;
+
+    /**
+     * Create a new placement.
+     *
+     * @param world     the world to place in.
+     * @param structure the rotated structure.
+     * @param pos       the world position of the lowest corner.
+     * @param complete  paste it complete (with structure blocks) or without.
+     */
+    public BulkStructurePlacer(@NotNull final World world, @NotNull final StructureProxy structure, @NotNull final BlockPos pos, final boolean complete)
+    {
+        this.world = world;
+        this.structure = structure;
+        this.pos = pos;
+        this.complete = complete;
+    }
+
+    /**
+     * Place the whole structure right away.
+     */
+    public void placeAll()
+    {
+        place(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Place the structure over the next world ticks.
+     */
+    public void queue()
+    {
+        PENDING.add(this);
+    }
+
+    /**
+     * Continue the queued placements of a world, called at the end of each world tick.
+     *
+     * @param world the world.
+     */
+    public static void onWorldTick(@NotNull final World world)
+    {
+        if (world.isRemote || PENDING.isEmpty())
+        {
+            return;
+        }
+
+        int budget = Math.max(1, Configurations.gameplay.maxBlocksPlacedPerTick);
+        final Iterator<BulkStructurePlacer> iterator = PENDING.iterator();
+        while (budget > 0 && iterator.hasNext())
+        {
+            final BulkStructurePlacer placer = iterator.next();
+            if (placer.world != world)
+            {
+                continue;
+            }
+
+            budget -= placer.place(budget);
+            if (placer.isDone())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drop the queued placements of a world which is unloaded, they would keep the world loaded otherwise.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        PENDING.removeIf(placer -> placer.world == world);
+    }
+
+    /**
+     * Check if the structure has been placed completely.
+     *
+     * @return true if so.
+     */
+    public boolean isDone()
+    {
+        return step == Step.DONE;
+    }
+
+    /**
+     * Place the next blocks of the structure.
+     *
+     * @param budget the maximum amount of blocks to place.
+     * @return the amount of positions handled.
+     */
+    private int place(final int budget)
+    {
+        int handled = 0;
+        final int volume = structure.getWidth() * structure.getHeight() * structure.getLength();
+
+        try
+        {
+            while (handled < budget && step == Step.SOLID)
+            {
+                if (index >= volume)
+                {
+                    step = Step.DELAYED;
+                    index = 0;
+                    break;
+                }
+                placeSolid(getLocalPosition(index++));
+                handled++;
+            }
+
+            while (handled < budget && step == Step.DELAYED)
+            {
+                if (index >= delayedBlocks.size())
+                {
+                    step = Step.ENTITIES;
+                    break;
+                }
+                placeBlock(delayedBlocks.get(index++));
+                handled++;
+            }
+        }
+        finally
+        {
+            updateChunks();
+        }
+
+        if (step == Step.ENTITIES && handled < budget)
+        {
+            spawnEntities();
+            step = Step.DONE;
+        }
+        return handled;
+    }
+
+    @NotNull
+    private BlockPos getLocalPosition(final int localIndex)
+    {
+        final int width = structure.getWidth();
+        final int length = structure.getLength();
+        return new BlockPos(localIndex % width, localIndex / (width * length), (localIndex / width) % length);
+    }
+
+    /**
+     * Place a block if it is solid, remember it for later if not.
+     *
+     * @param localPos the position in the structure.
+     */
+    private void placeSolid(@NotNull final BlockPos localPos)
+    {
+        final IBlockState localState = structure.getBlockState(localPos);
+        final Block localBlock = localState.getBlock();
+
+        if ((localBlock == ModBlocks.blockSubstitution && !complete) || localBlock instanceof AbstractBlockHut)
+        {
+            return;
+        }
+
+        if (!localState.getMaterial().isSolid())
+        {
+            delayedBlocks.add(localPos);
+            return;
+        }
+
+        placeBlock(localPos);
+    }
+
+    /**
+     * Place a block with its tile entity.
+     *
+     * @param localPos the position in the structure.
+     */
+    private void placeBlock(@NotNull final BlockPos localPos)
+    {
+        final IBlockState localState = structure.getBlockState(localPos);
+        final BlockPos worldPos = pos.add(localPos);
+
+        final boolean direct = PlacementHandlers.isPlacedByGeneralHandler(world, worldPos, localState);
+        if (direct)
+        {
+            setBlockStateDirect(worldPos, localState);
+        }
+        else
+        {
+            handleBlockPlacement(worldPos, localState);
+        }
+
+        final NBTTagCompound tileEntityData = structure.getBlockInfo(localPos).tileentityData;
+        if (tileEntityData != null)
+        {
+            final TileEntity entity = TileEntity.create(world, tileEntityData);
+            world.setTileEntity(worldPos, entity);
+            if (!direct)
+            {
+                world.markBlockRangeForRenderUpdate(worldPos, worldPos);
+            }
+        }
+    }
+
+    private void handleBlockPlacement(@NotNull final BlockPos worldPos, @NotNull final IBlockState localState)
+    {
+        for (final IPlacementHandler handlers : PlacementHandlers.handlers)
+        {
+            final Object result = handlers.handle(world, worldPos, localState, null, true, complete);
+            if (!(result instanceof IPlacementHandler.ActionProcessingResult) || result != IGNORE)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Set a block in the section of its chunk, without updating the neighbours, the light or the clients.
+     * The caches watching block changes are told about it by {@link #notifyChangedBlocks()}.
+     *
+     * @param worldPos the position.
+     * @param state    the block.
+     */
+    private void setBlockStateDirect(@NotNull final BlockPos worldPos, @NotNull final IBlockState state)
+    {
+        if (worldPos.getY() < 0 || worldPos.getY() >= world.getHeight())
+        {
+            return;
+        }
+
+        final Chunk chunk = world.getChunkFromBlockCoords(worldPos);
+        final IBlockState oldState = chunk.getBlockState(worldPos);
+        if (oldState == state)
+        {
+            return;
+        }
+
+        final boolean lightChanged = oldState.getLightValue(world, worldPos) > 0 || state.getLightValue(world, worldPos) > 0;
+        if (oldState.getBlock().hasTileEntity(oldState))
+        {
+            world.removeTileEntity(worldPos);
+        }
+
+        final ExtendedBlockStorage section = chunk.getBlockStorageArray()[worldPos.getY() >> SECTION_SHIFT];
+        if (section == Chunk.NULL_BLOCK_STORAGE)
+        {
+            //Let the chunk create the section and its light data.
+            chunk.setBlockState(worldPos, state);
+        }
+        else
+        {
+            section.set(worldPos.getX() & SECTION_MASK, worldPos.getY() & SECTION_MASK, worldPos.getZ() & SECTION_MASK, state);
+        }
+
+        if (lightChanged)
+        {
+            lightChanges.add(worldPos);
+        }
+        changedBlocks.putIfAbsent(worldPos, oldState);
+        final BlockPos chunkOrigin = new BlockPos(worldPos.getX() & ~SECTION_MASK, 0, worldPos.getZ() & ~SECTION_MASK);
+        changedSections.merge(chunkOrigin, 1 << (worldPos.getY() >> SECTION_SHIFT), (first, second) -> first | second);
+    }
+
+    /**
+     * Relight the changed chunks and send them to the players watching them.
+     */
+    private void updateChunks()
+    {
+        notifyChangedBlocks();
+
+        for (final BlockPos chunkOrigin : changedSections.keySet())
+        {
+            final Chunk chunk = world.getChunkFromBlockCoords(chunkOrigin);
+            chunk.generateSkylightMap();
+            chunk.resetRelightChecks();
+            chunk.setChunkModified();
+        }
+
+        for (final BlockPos lightPos : lightChanges)
+        {
+            world.checkLight(lightPos);
+        }
+
+        if (world instanceof WorldServer)
+        {
+            for (final Map.Entry<BlockPos, Integer> entry : changedSections.entrySet())
+            {
+                final BlockPos chunkOrigin = entry.getKey();
+                final PlayerChunkMapEntry watchers =
+                  ((WorldServer) world).getPlayerChunkMap().getEntry(chunkOrigin.getX() >> SECTION_SHIFT, chunkOrigin.getZ() >> SECTION_SHIFT);
+                if (watchers != null)
+                {
+                    watchers.sendPacket(new SPacketChunkData(world.getChunkFromBlockCoords(chunkOrigin), entry.getValue()));
+                }
+            }
+        }
+
+        changedSections.clear();
+        lightChanges.clear();
+    }
+
+    /**
+     * Tell the caches watching block changes about the blocks set directly, as neither the world listeners nor the neighbour
+     * notification have seen them.
+     */
+    private void notifyChangedBlocks()
+    {
+        if (world.isRemote)
+        {
+            changedBlocks.clear();
+            return;
+        }
+
+        for (final Map.Entry<BlockPos, IBlockState> entry : changedBlocks.entrySet())
+        {
+            final BlockPos worldPos = entry.getKey();
+            final IBlockState oldState = entry.getValue();
+            final IBlockState newState = world.getBlockState(worldPos);
+            if (oldState == newState)
+            {
+                continue;
+            }
+
+            Pathfinding.onBlockChanged(world, worldPos, oldState, newState);
+            final Colony colony = ColonyManager.getColonyOrStub(world, worldPos);
+            if (colony != null)
+            {
+                colony.onBlockChanged(worldPos, oldState, newState);
+            }
+            StructureBuildPlan.onBlockChanged(world, worldPos);
+        }
+        changedBlocks.clear();
+    }
+
+    private void spawnEntities()
+    {
+        for (int localIndex = 0; localIndex < structure.getWidth() * structure.getHeight() * structure.getLength(); localIndex++)
+        {
+            final Template.EntityInfo info = structure.getEntityinfo(getLocalPosition(localIndex));
+            if (info == null)
+            {
+                continue;
+            }
+
+            try
+            {
+                final Entity entity = EntityList.createEntityFromNBT(info.entityData, world);
+                entity.setUniqueId(UUID.randomUUID());
+                world.spawnEntity(entity);
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().info("Couldn't restore entitiy", e);
+            }
+        }
+    }
+}
@@ -5,24 +5,17 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.BlockWaypoint;
 import com.minecolonies.coremod.blocks.ModBlocks;
-import com.minecolonies.coremod.placementhandlers.IPlacementHandler;
-import com.minecolonies.coremod.placementhandlers.PlacementHandlers;
 import com.minecolonies.structures.helpers.StructureProxy;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.BlockStairs;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityList;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -30,11 +23,7 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
-
-import static com.minecolonies.coremod.placementhandlers.IPlacementHandler.ActionProcessingResult.IGNORE;
 
 /**
  * Interface for using the structure codebase.
@@ -108,12 +97,41 @@ public final class StructureWrapper
                                                           final World worldObj, @NotNull final String name,
                                                           @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
                                                           final boolean complete)
+    {
+        loadAndPlaceStructureWithRotation(worldObj, name, pos, rotations, mirror, complete, false);
+    }
+
+    /**
+     * Load a structure into this world
+     * and place it in the right position and rotation.
+     *
+     * @param worldObj  the world to load it in
+     * @param name      the structures name
+     * @param pos       coordinates
+     * @param rotations number of times rotated
+     * @param mirror    the mirror used.
+     * @param complete  paste it complete (with structure blocks) or without
+     * @param spread    place it over several ticks instead of all at once.
+     */
+    public static void loadAndPlaceStructureWithRotation(
+                                                          final World worldObj, @NotNull final String name,
+                                                          @NotNull final BlockPos pos, final int rotations, @NotNull final Mirror mirror,
+                                                          final boolean complete, final boolean spread)
     {
         try
         {
             @NotNull final StructureWrapper structureWrapper = new StructureWrapper(worldObj, name);
             structureWrapper.rotate(rotations, worldObj, pos, mirror);
-            structureWrapper.placeStructure(pos.subtract(structureWrapper.getOffset()), complete);
+
+            final BulkStructurePlacer placer = structureWrapper.createPlacer(pos.subtract(structureWrapper.getOffset()), complete);
+            if (spread)
+            {
+                placer.queue();
+            }
+            else
+            {
+                placer.placeAll();
+            }
         }
         catch (final IllegalStateException e)
         {
@@ -135,97 +153,17 @@ public final class StructureWrapper
     }
 
     /**
-     * Place a structure into the world.
+     * Create the placement of the structure into the world.
      *
      * @param pos      coordinates
      * @param complete paste it complete (with structure blocks) or without
+     * @return the placement.
      */
-    private void placeStructure(@NotNull final BlockPos pos, final boolean complete)
+    @NotNull
+    private BulkStructurePlacer createPlacer(@NotNull final BlockPos pos, final boolean complete)
     {
         setLocalPosition(pos);
-
-        @NotNull final List<BlockPos> delayedBlocks = new ArrayList<>();
-
-        //structure.getBlockInfo()[0].pos
-        for (int j = 0; j < structure.getHeight(); j++)
-        {
-            for (int k = 0; k < structure.getLength(); k++)
-            {
-                for (int i = 0; i < structure.getWidth(); i++)
-                {
-                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
-                    final IBlockState localState = this.structure.getBlockState(localPos);
-                    final Block localBlock = localState.getBlock();
-
-                    final BlockPos worldPos = pos.add(localPos);
-
-                    if ((localBlock == ModBlocks.blockSubstitution && !complete) || localBlock instanceof AbstractBlockHut)
-                    {
-                        continue;
-                    }
-
-                    if (localState.getMaterial().isSolid())
-                    {
-                        handleBlockPlacement(worldPos, localState, complete);
-                    }
-                    else
-                    {
-                        delayedBlocks.add(localPos);
-                        continue;
-                    }
-
-                    final NBTTagCompound tileEntityData = this.structure.getBlockInfo(localPos).tileentityData;
-                    if (tileEntityData != null)
-                    {
-                        final TileEntity entity = TileEntity.create(world, tileEntityData);
-                        world.setTileEntity(worldPos, entity);
-                        world.markBlockRangeForRenderUpdate(worldPos, worldPos);
-                    }
-                }
-            }
-        }
-
-        for (@NotNull final BlockPos coords : delayedBlocks)
-        {
-            final IBlockState localState = this.structure.getBlockState(coords);
-            final BlockPos newWorldPos = pos.add(coords);
-
-            handleBlockPlacement(newWorldPos, localState, complete);
-
-            final NBTTagCompound tileEntityData = this.structure.getBlockInfo(coords).tileentityData;
-            if (tileEntityData != null)
-            {
-                final TileEntity entity = TileEntity.create(world, tileEntityData);
-                world.setTileEntity(newWorldPos, entity);
-                world.markBlockRangeForRenderUpdate(newWorldPos, newWorldPos);
-            }
-        }
-
-        for (int j = 0; j < structure.getHeight(); j++)
-        {
-            for (int k = 0; k < structure.getLength(); k++)
-            {
-                for (int i = 0; i < structure.getWidth(); i++)
-                {
-                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
-                    final Template.EntityInfo info = this.structure.getEntityinfo(localPos);
-
-                    if (info != null)
-                    {
-                        try
-                        {
-                            final Entity entity = EntityList.createEntityFromNBT(info.entityData, world);
-                            entity.setUniqueId(UUID.randomUUID());
-                            world.spawnEntity(entity);
-                        }
-                        catch (final RuntimeException e)
-                        {
-                            Log.getLogger().info("Couldn't restore entitiy", e);
-                        }
-                    }
-                }
-            }
-        }
+        return new BulkStructurePlacer(world, structure, pos, complete);
     }
 
     /**
@@ -236,18 +174,6 @@ public final class StructureWrapper
         return structure.getOffset();
     }
 
-    private void handleBlockPlacement(final BlockPos pos, final IBlockState localState, final boolean complete)
-    {
-        for (final IPlacementHandler handlers : PlacementHandlers.handlers)
-        {
-            final Object result = handlers.handle(world, pos, localState, null, true, complete);
-            if (!(result instanceof IPlacementHandler.ActionProcessingResult) || result != IGNORE)
-            {
-                return;
-            }
-        }
-    }
-
     /**
      * Load a structure into this world
      * and place it in the right position and rotation.
@@ -269,7 +195,7 @@ public final class StructureWrapper
             structureWrapper.rotate(rotations, worldObj, pos, mirror);
             if (structureWrapper.checkForFreeSpace(pos))
             {
-                structureWrapper.placeStructure(pos, false);
+                structureWrapper.createPlacer(pos, false).placeAll();
                 return true;
             }
             return false;
@@ -89,11 +89,6 @@ public class Structure
      */
     private static final int BUFFER_SIZE = 1024;
 
-    /**
-     * Required Datafixer
-     */
-    private final DataFixer fixer;
-
     /**
      * List of models.
      */
@@ -121,14 +116,30 @@ public class Structure
      */
     public Structure(@Nullable final World world, final String structureName, final PlacementSettings settings)
     {
-        String correctStructureName = structureName;
         if (world == null || world.isRemote)
         {
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
 
+        final StructureTemplateCache.LoadedTemplate loadedTemplate = StructureTemplateCache.getTemplate(structureName);
+        if (loadedTemplate != null)
+        {
+            this.template = loadedTemplate.getTemplate();
+            this.md5 = loadedTemplate.getMD5();
+        }
+    }
+
+    /**
+     * Read the template of a structure from disk or the jar.
+     *
+     * @param structureName name of the structure (at stored location).
+     * @return the template with its md5 hash or null if it could not be loaded.
+     */
+    @Nullable
+    static StructureTemplateCache.LoadedTemplate loadTemplate(final String structureName)
+    {
+        String correctStructureName = structureName;
         InputStream inputStream = null;
         try
         {
@@ -151,17 +162,18 @@ public class Structure
             if (inputStream == null)
             {
                 Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName));
-                return;
+                return null;
             }
 
             try
             {
-                this.md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
-                this.template = readTemplateFromStream(inputStream, fixer);
+                final String md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
+                return new StructureTemplateCache.LoadedTemplate(readTemplateFromStream(inputStream, DataFixesManager.createFixer()), md5);
             }
             catch (final IOException e)
             {
                 Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName), e);
+                return null;
             }
         }
         finally
@@ -409,7 +421,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
     }
 
     public static byte[] compress(final byte[] data)
@@ -473,6 +484,17 @@ public class Structure
         return md5.compareTo(otherMD5) == 0;
     }
 
+    /**
+     * Get the md5 hash of the file the structure was loaded from.
+     *
+     * @return the hash or null if the template is missing.
+     */
+    @Nullable
+    public String getMD5()
+    {
+        return md5;
+    }
+
     /**
      * Checks if the template is null.
      *
@@ -0,0 +1,197 @@
+package com.minecolonies.structures.helpers;
+
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.gen.structure.template.PlacementSettings;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The blocks of a structure for one rotation and mirror, placed in an array by their position.
+ * <p>
+ * Layouts are shared between all users of the same structure, they must not be modified.
+ */
+final class StructureLayout
+{
+    /**
+     * The blocks by their position.
+     */
+    private final Template.BlockInfo[][][] blocks;
+
+    /**
+     * The size of the structure.
+     */
+    private final BlockPos size;
+
+    /**
+     * The position of the hut block or the center of a decoration.
+     */
+    private final BlockPos offset;
+
+    /**
+     * The amount the blocks have been moved to have no negative positions after rotating.
+     */
+    private final BlockPos minPos;
+
+    private StructureLayout(@NotNull final Template.BlockInfo[][][] blocks, @NotNull final BlockPos size, final BlockPos offset, @NotNull final BlockPos minPos)
+    {
+        this.blocks = blocks;
+        this.size = size;
+        this.offset = offset;
+        this.minPos = minPos;
+    }
+
+    /**
+     * Create the layout of a structure as it was saved.
+     *
+     * @param structure the structure.
+     * @return the layout.
+     */
+    @NotNull
+    static StructureLayout unrotated(@NotNull final Structure structure)
+    {
+        final BlockPos size = structure.getSize(Rotation.NONE);
+        final Template.BlockInfo[][][] blocks = new Template.BlockInfo[size.getX()][size.getY()][size.getZ()];
+        BlockPos offset = null;
+
+        for (final Template.BlockInfo info : structure.getBlockInfo())
+        {
+            final BlockPos tempPos = info.pos;
+            blocks[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
+
+            if (info.blockState.getBlock() instanceof AbstractBlockHut)
+            {
+                offset = info.pos;
+            }
+        }
+
+        return new StructureLayout(blocks, size, offset, BlockPos.ORIGIN);
+    }
+
+    /**
+     * Create the layout of a rotated and mirrored structure.
+     *
+     * @param structure the structure.
+     * @param rotation  the rotation.
+     * @param mirror    the mirror.
+     * @return the layout.
+     */
+    @NotNull
+    static StructureLayout rotated(@NotNull final Structure structure, @NotNull final Rotation rotation, @NotNull final Mirror mirror)
+    {
+        final PlacementSettings settings = new PlacementSettings().setRotation(rotation).setMirror(mirror);
+        final BlockPos size = structure.getSize(rotation);
+        final Template.BlockInfo[][][] blocks = new Template.BlockInfo[size.getX()][size.getY()][size.getZ()];
+        final Template.BlockInfo[] blockInfo = structure.getBlockInfoWithSettings(settings);
+
+        int minX = 0;
+        int minY = 0;
+        int minZ = 0;
+
+        for (final Template.BlockInfo info : blockInfo)
+        {
+            final BlockPos tempPos = info.pos;
+            minX = Math.min(minX, tempPos.getX());
+            minY = Math.min(minY, tempPos.getY());
+            minZ = Math.min(minZ, tempPos.getZ());
+        }
+
+        minX = Math.abs(minX);
+        minY = Math.abs(minY);
+        minZ = Math.abs(minZ);
+        BlockPos offset = null;
+
+        for (final Template.BlockInfo info : blockInfo)
+        {
+            final BlockPos tempPos = info.pos;
+            blocks[tempPos.getX() + minX][tempPos.getY() + minY][tempPos.getZ() + minZ] = info;
+
+            if (info.blockState.getBlock() instanceof AbstractBlockHut)
+            {
+                offset = info.pos.add(minX, minY, minZ);
+            }
+        }
+
+        if (offset == null)
+        {
+            offset = getDecorationOffset(size, rotation).add(minX, minY, minZ);
+        }
+
+        return new StructureLayout(blocks, size, offset, new BlockPos(minX, minY, minZ));
+    }
+
+    /**
+     * Calculates the offset of a structure without hut block, which is its center.
+     *
+     * @param size     the rotated size of the structure.
+     * @param rotation the rotation.
+     * @return the offset.
+     */
+    @NotNull
+    private static BlockPos getDecorationOffset(@NotNull final BlockPos size, @NotNull final Rotation rotation)
+    {
+        BlockPos tempSize = size;
+        if (rotation == Rotation.CLOCKWISE_90)
+        {
+            tempSize = new BlockPos(-size.getX(), size.getY(), size.getZ());
+        }
+        if (rotation == Rotation.CLOCKWISE_180)
+        {
+            tempSize = new BlockPos(-size.getX(), size.getY(), -size.getZ());
+        }
+        if (rotation == Rotation.COUNTERCLOCKWISE_90)
+        {
+            tempSize = new BlockPos(size.getX(), size.getY(), -size.getZ());
+        }
+
+        return new BlockPos(tempSize.getX() / 2, 0, tempSize.getZ() / 2);
+    }
+
+    /**
+     * Get the blocks by their position, the array must not be modified.
+     *
+     * @return the blocks.
+     */
+    Template.BlockInfo[][][] getBlocks()
+    {
+        return blocks;
+    }
+
+    BlockPos getOffset()
+    {
+        return offset;
+    }
+
+    BlockPos getMinPos()
+    {
+        return minPos;
+    }
+
+    int getWidth()
+    {
+        return size.getX();
+    }
+
+    int getHeight()
+    {
+        return size.getY();
+    }
+
+    int getLength()
+    {
+        return size.getZ();
+    }
+
+    /**
+     * Get the amount of positions of the layout, used to limit the memory of the cache.
+     * Air takes a place in the array as well, so the memory grows with the volume.
+     *
+     * @return the amount.
+     */
+    int getVolume()
+    {
+        return getWidth() * getHeight() * getLength();
+    }
+}
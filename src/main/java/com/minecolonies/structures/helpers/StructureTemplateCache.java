@@ -0,0 +1,199 @@
+package com.minecolonies.structures.helpers;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Structures;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.Rotation;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process wide cache of loaded structures, shared by the builders, the server side placement and the build tool.
+ * <p>
+ * Templates are cached by name and md5 hash, so a changed schematic is loaded again. The layouts of the blocks are cached per rotation and
+ * mirror as well. Templates are weighed by their blocks and layouts by their volume, both including air, as air takes memory in
+ * both. The caches share {@link com.minecolonies.api.configuration.Configurations.Gameplay#maxCachedSchematicBlocks}, each dropping
+ * its least recently used entries once it holds more than half of them. The caches are cleared when the server stops, their use
+ * is shown by the colony info command.
+ */
+public final class StructureTemplateCache
+{
+    /**
+     * Separates the parts of the keys.
+     */
+    private static final char KEY_SEPARATOR = '|';
+
+    /**
+     * Marks the layout of a structure as it was saved.
+     */
+    private static final String UNROTATED = "unrotated";
+
+    /**
+     * The caches the configured blocks are split between.
+     */
+    private static final int CACHES = 2;
+
+    /**
+     * The loaded templates.
+     */
+    private static final WeightedLruCache<String, LoadedTemplate> TEMPLATES =
+      new WeightedLruCache<>(StructureTemplateCache::getMaxBlocksPerCache, loaded -> loaded.getTemplate().blocks.size());
+
+    /**
+     * The layouts of the blocks.
+     */
+    private static final WeightedLruCache<String, StructureLayout> LAYOUTS =
+      new WeightedLruCache<>(StructureTemplateCache::getMaxBlocksPerCache, StructureLayout::getVolume);
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private StructureTemplateCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the blocks each cache may hold.
+     *
+     * @return the configured blocks split between the caches.
+     */
+    private static int getMaxBlocksPerCache()
+    {
+        return Configurations.gameplay.maxCachedSchematicBlocks / CACHES;
+    }
+
+    /**
+     * Get the template of a structure, loading it if it is not cached.
+     * <p>
+     * Structures without known md5 hash are loaded every time, as a changed file could not be detected.
+     *
+     * @param structureName name of the structure (at stored location).
+     * @return the template or null if it could not be loaded.
+     */
+    @Nullable
+    static LoadedTemplate getTemplate(@NotNull final String structureName)
+    {
+        final String md5 = Structures.getMD5(structureName);
+        if (md5 == null)
+        {
+            return Structure.loadTemplate(structureName);
+        }
+
+        return TEMPLATES.get(structureName + KEY_SEPARATOR + md5, key ->
+        {
+            final long start = System.nanoTime();
+            final LoadedTemplate loaded = Structure.loadTemplate(structureName);
+            Log.getLogger().debug(String.format("Loaded template %s in %d ms", structureName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            return loaded;
+        });
+    }
+
+    /**
+     * Get the layout of a structure as it was saved.
+     *
+     * @param structureName the name of the structure.
+     * @param structure     the loaded structure.
+     * @return the layout.
+     */
+    @NotNull
+    static StructureLayout getUnrotatedLayout(@NotNull final String structureName, @NotNull final Structure structure)
+    {
+        if (structure.getMD5() == null)
+        {
+            return StructureLayout.unrotated(structure);
+        }
+        return LAYOUTS.get(structureName + KEY_SEPARATOR + structure.getMD5() + KEY_SEPARATOR + UNROTATED, key -> StructureLayout.unrotated(structure));
+    }
+
+    /**
+     * Get the layout of a rotated and mirrored structure.
+     *
+     * @param structureName the name of the structure.
+     * @param structure     the loaded structure.
+     * @param rotation      the rotation.
+     * @param mirror        the mirror.
+     * @return the layout.
+     */
+    @NotNull
+    static StructureLayout getRotatedLayout(
+                                             @NotNull final String structureName,
+                                             @NotNull final Structure structure,
+                                             @NotNull final Rotation rotation,
+                                             @NotNull final Mirror mirror)
+    {
+        if (structure.getMD5() == null)
+        {
+            return StructureLayout.rotated(structure, rotation, mirror);
+        }
+        return LAYOUTS.get(structureName + KEY_SEPARATOR + structure.getMD5() + KEY_SEPARATOR + rotation + KEY_SEPARATOR + mirror,
+          key -> StructureLayout.rotated(structure, rotation, mirror));
+    }
+
+    /**
+     * Remove all cached structures.
+     */
+    public static void clear()
+    {
+        TEMPLATES.clear();
+        LAYOUTS.clear();
+    }
+
+    /**
+     * Describe the use of the caches, for example to log it.
+     *
+     * @return the description.
+     */
+    @NotNull
+    public static String getStatistics()
+    {
+        return String.format("Templates: %s, Layouts: %s", describe(TEMPLATES), describe(LAYOUTS));
+    }
+
+    @NotNull
+    private static String describe(@NotNull final WeightedLruCache<?, ?> cache)
+    {
+        return String.format("%d entries with %d blocks, %d hits, %d misses, %d evictions, %d ms loading",
+          cache.size(),
+          cache.getWeight(),
+          cache.getHits(),
+          cache.getMisses(),
+          cache.getEvictions(),
+          TimeUnit.NANOSECONDS.toMillis(cache.getLoadTime()));
+    }
+
+    /**
+     * A template with the md5 hash of the file it was read from, shared by all structures loaded from the same file.
+     */
+    static final class LoadedTemplate
+    {
+        @NotNull
+        private final Template template;
+        @Nullable
+        private final String   md5;
+
+        LoadedTemplate(@NotNull final Template template, @Nullable final String md5)
+        {
+            this.template = template;
+            this.md5 = md5;
+        }
+
+        @NotNull
+        Template getTemplate()
+        {
+            return template;
+        }
+
+        @Nullable
+        String getMD5()
+        {
+            return md5;
+        }
+    }
+}
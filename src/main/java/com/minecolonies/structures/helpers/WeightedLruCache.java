@@ -0,0 +1,175 @@
+package com.minecolonies.structures.helpers;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Least recently used cache bounded by the summed weight of its values.
+ * <p>
+ * Values are loaded outside of the lock, two threads missing the same key at once may both load it. Loaders returning null are not cached.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+final class WeightedLruCache<K, V>
+{
+    /**
+     * The entries in access order, the eldest first.
+     */
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Supplies the maximum summed weight, may change while the cache is used.
+     */
+    private final IntSupplier maxWeight;
+
+    /**
+     * Calculates the weight of a value.
+     */
+    private final ToIntFunction<V> weigher;
+
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long loadTime;
+
+    /**
+     * Create a new cache.
+     *
+     * @param maxWeight supplies the maximum summed weight of the values.
+     * @param weigher   calculates the weight of a value.
+     */
+    WeightedLruCache(@NotNull final IntSupplier maxWeight, @NotNull final ToIntFunction<V> weigher)
+    {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /**
+     * Get the value of a key, loading it if it is not cached.
+     *
+     * @param key    the key.
+     * @param loader loads the value on a miss.
+     * @return the value or null if the loader returned null.
+     */
+    @Nullable
+    V get(@NotNull final K key, @NotNull final Function<K, V> loader)
+    {
+        synchronized (this)
+        {
+            final Entry<V> entry = entries.get(key);
+            if (entry != null)
+            {
+                hits++;
+                return entry.value;
+            }
+            misses++;
+        }
+
+        final long start = System.nanoTime();
+        final V value = loader.apply(key);
+        final long duration = System.nanoTime() - start;
+
+        synchronized (this)
+        {
+            loadTime += duration;
+            if (value != null)
+            {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    private void put(@NotNull final K key, @NotNull final V value)
+    {
+        final int max = maxWeight.getAsInt();
+        final int valueWeight = weigher.applyAsInt(value);
+        if (valueWeight > max)
+        {
+            return;
+        }
+
+        final Entry<V> previous = entries.put(key, new Entry<>(value, valueWeight));
+        if (previous != null)
+        {
+            weight -= previous.weight;
+        }
+        weight += valueWeight;
+
+        final Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (weight > max && iterator.hasNext())
+        {
+            weight -= iterator.next().getValue().weight;
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Remove all values.
+     */
+    synchronized void clear()
+    {
+        entries.clear();
+        weight = 0;
+    }
+
+    synchronized int size()
+    {
+        return entries.size();
+    }
+
+    synchronized long getWeight()
+    {
+        return weight;
+    }
+
+    synchronized long getHits()
+    {
+        return hits;
+    }
+
+    synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    synchronized long getEvictions()
+    {
+        return evictions;
+    }
+
+    /**
+     * Get the time spent in the loader.
+     *
+     * @return the time in nanoseconds.
+     */
+    synchronized long getLoadTime()
+    {
+        return loadTime;
+    }
+
+    /**
+     * A value with its weight.
+     */
+    private static final class Entry<V>
+    {
+        private final V   value;
+        private final int weight;
+
+        private Entry(final V value, final int weight)
+        {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -5,11 +5,13 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.TypeConstants;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Set;
 import java.util.UUID;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test for the {@link ReflectionUtils} class.
@@ -28,4 +30,18 @@ public class ReflectionUtilsTest
         });
         assertEquals(2, interfaceTypes.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getCachedSuperClasses()
+    {
+        @SuppressWarnings(RAWTYPES) final Set<TypeToken> types = ReflectionUtils.getCachedSuperClasses(TypeConstants.STANDARDTOKEN);
+        assertEquals(new ArrayList<>(ReflectionUtils.getSuperClasses(TypeConstants.STANDARDTOKEN)), new ArrayList<>(types));
+        assertSame(types, ReflectionUtils.getCachedSuperClasses(TypeConstants.STANDARDTOKEN));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getCachedSuperClassesIsImmutable()
+    {
+        ReflectionUtils.getCachedSuperClasses(TypeConstants.STANDARDTOKEN).remove(TypeConstants.OBJECT);
+    }
+}
@@ -0,0 +1,265 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.permissions.IPermissions;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the lookup of the colony of a permission event through the {@link ColonySpatialIndex}, as the permission event dispatcher
+ * does it, with every colony checking the event itself, as the handlers registered per colony did it, with 500 colonies loaded.
+ */
+public class ColonyEventLookupTest
+{
+    private static final int  COLONIES_X  = 25;
+    private static final int  COLONIES_Z  = 20;
+    private static final int  RADIUS      = 200;
+    private static final int  SPACING     = 500;
+    private static final int  DIMENSION   = 0;
+    private static final int  EVENTS      = 20_000;
+    private static final int  ROUNDS      = 20;
+    private static final int  MIN_SPEEDUP = 4;
+    private static final long SEED        = 42L;
+
+    private ColonySpatialIndex<IColony> index;
+    private List<IColony>               colonies;
+    private BlockPos[]                  events;
+
+    @Before
+    public void setup()
+    {
+        index = new ColonySpatialIndex<>(RADIUS);
+        colonies = new ArrayList<>();
+        for (int x = 0; x < COLONIES_X; x++)
+        {
+            for (int z = 0; z < COLONIES_Z; z++)
+            {
+                final IColony colony = new TestColony(colonies.size(), new BlockPos(x * SPACING, 64, z * SPACING));
+                colonies.add(colony);
+                index.add(DIMENSION, colony);
+            }
+        }
+
+        //  Events all over the colonies, inside of them and between them.
+        final Random random = new Random(SEED);
+        events = new BlockPos[EVENTS];
+        for (int i = 0; i < EVENTS; i++)
+        {
+            events[i] = new BlockPos(random.nextInt(COLONIES_X * SPACING) - SPACING / 2, 64, random.nextInt(COLONIES_Z * SPACING) - SPACING / 2);
+        }
+    }
+
+    /**
+     * Every colony checks the event, the way every colony had an own handler on the event bus.
+     *
+     * @return the id of the colony containing each event, -1 for none.
+     */
+    private int[] lookupPerColony()
+    {
+        final int[] found = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++)
+        {
+            found[i] = -1;
+            for (final IColony colony : colonies)
+            {
+                if (colony.isCoordInColony(null, events[i]))
+                {
+                    found[i] = colony.getID();
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Only the candidates of the index check the event, the way the dispatcher finds the handler.
+     *
+     * @return the id of the colony containing each event, -1 for none.
+     */
+    private int[] lookupThroughIndex()
+    {
+        final int[] found = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++)
+        {
+            found[i] = -1;
+            for (final IColony colony : index.getCandidates(DIMENSION, events[i]))
+            {
+                if (colony.isCoordInColony(null, events[i]))
+                {
+                    found[i] = colony.getID();
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Test
+    public void testIndexFindsTheSameColonies()
+    {
+        final int[] expected = lookupPerColony();
+        final int[] actual = lookupThroughIndex();
+
+        int inColony = 0;
+        for (int i = 0; i < EVENTS; i++)
+        {
+            assertEquals(expected[i], actual[i]);
+            inColony += actual[i] >= 0 ? 1 : 0;
+        }
+        assertTrue(inColony > 0 && inColony < EVENTS);
+    }
+
+    @Test
+    public void testIndexHandlesMoreEventsPerSecond()
+    {
+        long perColonyNanos = Long.MAX_VALUE;
+        long indexNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            final long perColonyStart = System.nanoTime();
+            lookupPerColony();
+            perColonyNanos = Math.min(perColonyNanos, System.nanoTime() - perColonyStart);
+
+            final long indexStart = System.nanoTime();
+            lookupThroughIndex();
+            indexNanos = Math.min(indexNanos, System.nanoTime() - indexStart);
+        }
+
+        assertTrue("per colony " + perColonyNanos + " ns, index " + indexNanos + " ns for " + EVENTS + " events",
+          indexNanos * MIN_SPEEDUP < perColonyNanos);
+    }
+
+    /**
+     * A colony which only knows its center, checking positions the same way the {@link Colony} does.
+     */
+    private static final class TestColony implements IColony
+    {
+        private final int      id;
+        private final BlockPos center;
+
+        private TestColony(final int id, final BlockPos center)
+        {
+            this.id = id;
+            this.center = center;
+        }
+
+        @Override
+        public BlockPos getCenter()
+        {
+            return center;
+        }
+
+        @Override
+        public String getName()
+        {
+            return "Colony " + id;
+        }
+
+        @Override
+        public IPermissions getPermissions()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean isCoordInColony(final World w, final BlockPos pos)
+        {
+            //  Perform a 2D distance calculation, so pass center.posY as the Y
+            return getDistanceSquared(new BlockPos(pos.getX(), center.getY(), pos.getZ())) <= (long) RADIUS * RADIUS;
+        }
+
+        @Override
+        public long getDistanceSquared(final BlockPos pos)
+        {
+            final long dx = (long) center.getX() - pos.getX();
+            final long dz = (long) center.getZ() - pos.getZ();
+            return dx * dx + dz * dz;
+        }
+
+        @Override
+        public boolean hasTownHall()
+        {
+            return true;
+        }
+
+        @Override
+        public int getID()
+        {
+            return id;
+        }
+
+        @Override
+        public boolean hasWarehouse()
+        {
+            return false;
+        }
+
+        @Override
+        public int getLastContactInHours()
+        {
+            return 0;
+        }
+
+        @Override
+        public World getWorld()
+        {
+            return null;
+        }
+
+        @Override
+        public IRequestManager getRequestManager()
+        {
+            return null;
+        }
+
+        @Override
+        public boolean hasWillRaidTonight()
+        {
+            return false;
+        }
+
+        @Override
+        public void markDirty()
+        {
+            /*
+             * Intentionally left empty.
+             */
+        }
+
+        @Override
+        public boolean canBeAutoDeleted()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isCanHaveBarbEvents()
+        {
+            return false;
+        }
+
+        @Override
+        public boolean isHasRaidBeenCalculated()
+        {
+            return false;
+        }
+
+        @Override
+        public IRequester getRequesterBuildingForPosition(@NotNull final BlockPos pos)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link ColonySpatialIndex}.
+ */
+public class ColonySpatialIndexTest
+{
+    private static final int  RADIUS    = 200;
+    private static final int  SPACING   = 500;
+    private static final int  GRID_SIZE = 20;
+    private static final int  DIMENSION = 0;
+    private static final int  QUERIES   = 500;
+    private static final long SEED      = 42L;
+
+    private ColonySpatialIndex<IColony> index;
+    private List<IColony>               colonies;
+
+    @Before
+    public void setup()
+    {
+        index = new ColonySpatialIndex<>(RADIUS);
+        colonies = new ArrayList<>();
+        for (int x = 0; x < GRID_SIZE; x++)
+        {
+            for (int z = 0; z < GRID_SIZE; z++)
+            {
+                final IColony colony = mockColony(x * SPACING - GRID_SIZE * SPACING / 2, z * SPACING - GRID_SIZE * SPACING / 2);
+                colonies.add(colony);
+                index.add(DIMENSION, colony);
+            }
+        }
+    }
+
+    private static IColony mockColony(final int x, final int z)
+    {
+        final IColony colony = mock(IColony.class);
+        final BlockPos center = new BlockPos(x, 64, z);
+        when(colony.getCenter()).thenReturn(center);
+        when(colony.getDistanceSquared(any(BlockPos.class))).thenAnswer(invocation -> distanceSquared(center, (BlockPos) invocation.getArguments()[0]));
+        return colony;
+    }
+
+    private static long distanceSquared(final BlockPos a, final BlockPos b)
+    {
+        final long dx = a.getX() - b.getX();
+        final long dz = a.getZ() - b.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    private BlockPos randomPos(final Random random)
+    {
+        final int extent = GRID_SIZE * SPACING;
+        return new BlockPos(random.nextInt(extent) - extent / 2, 64, random.nextInt(extent) - extent / 2);
+    }
+
+    @Test
+    public void testCandidatesContainColonyAndStaySmall()
+    {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < QUERIES; i++)
+        {
+            final BlockPos pos = randomPos(random);
+            final List<IColony> candidates = index.getCandidates(DIMENSION, pos);
+
+            //  The work per lookup depends on the colony density, not on the amount of colonies.
+            assertTrue(candidates.size() <= 1);
+            for (final IColony colony : colonies)
+            {
+                if (colony.getDistanceSquared(pos) <= (long) RADIUS * RADIUS)
+                {
+                    assertTrue(candidates.contains(colony));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAreaCandidatesContainOverlappingColonies()
+    {
+        final IColony colony = colonies.get(GRID_SIZE + 1);
+        final BlockPos center = colony.getCenter();
+
+        //  A box between four colonies overlaps the bounds of all of them.
+        final int half = SPACING / 2;
+        final List<IColony> candidates = index.getCandidates(DIMENSION, center.getX() + half - 100, center.getZ() + half - 100, center.getX() + half + 100, center.getZ() + half + 100);
+        assertTrue(candidates.contains(colony));
+        assertTrue(candidates.contains(colonies.get(GRID_SIZE + 2)));
+        assertTrue(candidates.contains(colonies.get(2 * GRID_SIZE + 1)));
+        assertTrue(candidates.contains(colonies.get(2 * GRID_SIZE + 2)));
+        assertEquals(candidates.size(), candidates.stream().distinct().count());
+
+        assertTrue(index.getCandidates(DIMENSION + 1, center.getX(), center.getZ(), center.getX(), center.getZ()).isEmpty());
+    }
+
+    @Test
+    public void testClosestMatchesLinearScan()
+    {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < QUERIES; i++)
+        {
+            final BlockPos pos = randomPos(random);
+            long best = Long.MAX_VALUE;
+            for (final IColony colony : colonies)
+            {
+                best = Math.min(best, colony.getDistanceSquared(pos));
+            }
+
+            final IColony closest = index.getClosest(DIMENSION, pos);
+            assertNotNull(closest);
+            assertEquals(best, closest.getDistanceSquared(pos));
+        }
+
+        //  Far outside of the grid the index falls back to a scan.
+        assertNotNull(index.getClosest(DIMENSION, new BlockPos(1_000_000, 64, 1_000_000)));
+        assertNull(index.getClosest(DIMENSION + 1, BlockPos.ORIGIN));
+    }
+
+    @Test
+    public void testIsAnyCenterCloser()
+    {
+        final IColony colony = colonies.get(0);
+        final BlockPos center = colony.getCenter();
+
+        assertTrue(index.isAnyCenterCloser(DIMENSION, center.add(10, 0, 0), 101));
+        assertFalse(index.isAnyCenterCloser(DIMENSION, center.add(10, 0, 0), 100));
+        assertFalse(index.isAnyCenterCloser(DIMENSION + 1, center, 100));
+    }
+
+    @Test
+    public void testRemoveAndMove()
+    {
+        final IColony colony = colonies.get(0);
+        final BlockPos center = colony.getCenter();
+        assertTrue(index.getCandidates(DIMENSION, center).contains(colony));
+
+        index.remove(colony);
+        assertFalse(index.getCandidates(DIMENSION, center).contains(colony));
+        assertEquals(colonies.size() - 1, index.size());
+
+        index.add(DIMENSION + 1, colony);
+        assertTrue(index.getCandidates(DIMENSION + 1, center).contains(colony));
+        assertFalse(index.getCandidates(DIMENSION, center).contains(colony));
+        assertSame(colony, index.getClosest(DIMENSION + 1, BlockPos.ORIGIN));
+    }
+}
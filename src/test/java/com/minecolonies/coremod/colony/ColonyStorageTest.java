@@ -0,0 +1,152 @@
+package com.minecolonies.coremod.colony;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ColonyStorage} in a temporary directory.
+ */
+public class ColonyStorageTest
+{
+    private static final String TAG_VALUE     = "value";
+    private static final String DATE          = "2017-01-01_00.00.00";
+    private static final int    MANY_COLONIES = 600;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File          saveDir;
+    private ColonyStorage storage;
+
+    @Before
+    public void setup()
+    {
+        saveDir = new File(folder.getRoot(), "minecolonies");
+        storage = new ColonyStorage(saveDir);
+    }
+
+    @After
+    public void teardown()
+    {
+        storage.close();
+    }
+
+    private static NBTTagCompound compound(final int value)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(TAG_VALUE, value);
+        return compound;
+    }
+
+    @Test
+    public void testColoniesAreWrittenToOwnFiles()
+    {
+        storage.writeColony(1, compound(1));
+        storage.writeColony(12, compound(12));
+        storage.flush();
+
+        assertArrayEquals(new Integer[] {1, 12}, storage.getColonyIds().toArray(new Integer[0]));
+        assertEquals(12, storage.readColony(12).getInteger(TAG_VALUE));
+        assertNull(storage.readColony(2));
+    }
+
+    @Test
+    public void testRewritingOneColonyKeepsTheOthers()
+    {
+        storage.writeColony(1, compound(1));
+        storage.writeColony(2, compound(2));
+        storage.writeColony(2, compound(3));
+        storage.flush();
+
+        assertEquals(1, storage.readColony(1).getInteger(TAG_VALUE));
+        assertEquals(3, storage.readColony(2).getInteger(TAG_VALUE));
+    }
+
+    @Test
+    public void testReadingReturnsTheNewestData()
+    {
+        storage.writeColony(1, compound(1));
+        storage.flush();
+        storage.writeColony(1, compound(2));
+
+        final NBTTagCompound read = storage.readColony(1);
+        assertEquals(2, read.getInteger(TAG_VALUE));
+        read.setInteger(TAG_VALUE, 3);
+        storage.flush();
+
+        assertEquals(2, storage.readColony(1).getInteger(TAG_VALUE));
+    }
+
+    @Test
+    public void testChangesAfterWritingAreNotSaved()
+    {
+        final NBTTagCompound compound = compound(1);
+        storage.writeColony(1, compound);
+        compound.setInteger(TAG_VALUE, 2);
+        storage.flush();
+
+        assertEquals(1, storage.readColony(1).getInteger(TAG_VALUE));
+    }
+
+    @Test
+    public void testManyColoniesAreWrittenInOrder()
+    {
+        for (int id = 1; id <= MANY_COLONIES; id++)
+        {
+            storage.writeColony(id, compound(id));
+            storage.writeColony(id, compound(-id));
+        }
+        storage.deleteColony(1);
+        storage.flush();
+
+        assertEquals(MANY_COLONIES - 1, storage.getColonyIds().size());
+        assertEquals(-MANY_COLONIES, storage.readColony(MANY_COLONIES).getInteger(TAG_VALUE));
+        assertNull(storage.readColony(1));
+    }
+
+    @Test
+    public void testDeletedColonyIsGone()
+    {
+        storage.writeColony(1, compound(1));
+        storage.writeColony(2, compound(2));
+        storage.deleteColony(1);
+        storage.flush();
+
+        assertArrayEquals(new Integer[] {2}, storage.getColonyIds().toArray(new Integer[0]));
+    }
+
+    @Test
+    public void testBackupCopiesManagerAndColonies()
+    {
+        assertTrue(storage.backup(DATE).join());
+
+        storage.writeManager(compound(0));
+        storage.writeColony(1, compound(1));
+
+        assertTrue(storage.backup(DATE).join());
+        assertFalse(storage.backup(DATE).join());
+
+        assertTrue(new File(saveDir, "colonies-" + DATE + ".dat").exists());
+        assertTrue(new File(new File(saveDir, "colonies-" + DATE), "colony1.dat").exists());
+    }
+
+    @Test
+    public void testWritesAreCounted()
+    {
+        storage.writeColony(1, compound(1));
+        storage.writeColony(2, compound(2));
+        storage.flush();
+
+        assertEquals(2, storage.getWrites() + storage.getCoalescedWrites());
+        assertTrue(storage.getBytesWritten() > 0);
+        assertEquals(0, storage.getPendingWrites());
+    }
+}
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.colony;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link ColonyTickScheduler} with a clock advanced by the work itself.
+ */
+public class ColonyTickSchedulerTest
+{
+    private static final int  BUDGET_MICROS = 1000;
+    private static final int  SLICE_MICROS  = 500;
+    private static final long MICRO         = 1000L;
+
+    private long                now;
+    private List<String>        ran;
+    private ColonyTickScheduler scheduler;
+
+    @Before
+    public void setup()
+    {
+        now = 0;
+        ran = new ArrayList<>();
+        scheduler = new ColonyTickScheduler(() -> now, () -> BUDGET_MICROS, () -> SLICE_MICROS);
+    }
+
+    private Runnable work(final String name, final int micros)
+    {
+        return () ->
+        {
+            ran.add(name);
+            now += micros * MICRO;
+        };
+    }
+
+    @Test
+    public void testDeferredWorkRunsWithinBudget()
+    {
+        scheduler.startTick();
+        scheduler.run("buildings", work("buildings", 200));
+        scheduler.schedule("cleanup", work("cleanup", 100));
+        scheduler.schedule("waypoints", work("waypoints", 100));
+        scheduler.runDeferred();
+
+        assertEquals(3, ran.size());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testSameWorkIsOnlyScheduledOnce()
+    {
+        scheduler.startTick();
+        scheduler.run("buildings", work("buildings", 2000));
+        scheduler.schedule("requests", work("requests", 100));
+        scheduler.schedule("requests", work("requests", 100));
+        scheduler.runDeferred();
+
+        assertEquals(1, scheduler.getPendingCount());
+        assertEquals(1, scheduler.getSubsystemTimes().get("requests").getDeferrals());
+    }
+
+    @Test
+    public void testSubsystemsTakeTurnsWhenBudgetIsExhausted()
+    {
+        final String[] subsystems = {"cleanup", "waypoints", "requests"};
+        for (int i = 0; i < subsystems.length; i++)
+        {
+            scheduler.startTick();
+            scheduler.run("buildings", work("buildings", 900));
+            for (final String subsystem : subsystems)
+            {
+                scheduler.schedule(subsystem, work(subsystem, 200));
+            }
+            scheduler.runDeferred();
+        }
+
+        for (final String subsystem : subsystems)
+        {
+            assertEquals(1, scheduler.getSubsystemTimes().get(subsystem).getRuns());
+        }
+        assertEquals(subsystems.length - 1, scheduler.getOverBudgetTicks());
+    }
+
+    @Test
+    public void testDeferredWorkRunsAfterMaxDeferredTicks()
+    {
+        for (int i = 0; i <= ColonyTickScheduler.MAX_DEFERRED_TICKS; i++)
+        {
+            scheduler.startTick();
+            scheduler.run("buildings", work("buildings", 2000));
+            scheduler.schedule("cleanup", work("cleanup", 100));
+            scheduler.runDeferred();
+        }
+
+        assertEquals(1, scheduler.getSubsystemTimes().get("cleanup").getRuns());
+        assertEquals(ColonyTickScheduler.MAX_DEFERRED_TICKS, scheduler.getSubsystemTimes().get("cleanup").getDeferrals());
+    }
+
+    @Test
+    public void testSlowSubsystemWaitsUntilItsSliceIsPaidBack()
+    {
+        final int ticks = 6;
+        for (int i = 0; i < ticks; i++)
+        {
+            scheduler.startTick();
+            scheduler.schedule("waypoints", work("waypoints", 100));
+            scheduler.schedule("cleanup", work("cleanup", 3 * SLICE_MICROS));
+            scheduler.runDeferred();
+        }
+
+        //  In the tick cleanup runs again, it uses up the budget of the colony before the waypoints get their turn.
+        assertEquals(ticks - 1, scheduler.getSubsystemTimes().get("waypoints").getRuns());
+        assertEquals(2, scheduler.getSubsystemTimes().get("cleanup").getRuns());
+        assertEquals(ticks - 2, scheduler.getSubsystemTimes().get("cleanup").getDeferrals());
+    }
+}
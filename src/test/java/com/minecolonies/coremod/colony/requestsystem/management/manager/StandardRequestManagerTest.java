@@ -27,6 +27,7 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControllerInitializer;
 import com.minecolonies.coremod.colony.requestsystem.requests.AbstractRequest;
 import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequestFactories;
+import com.sun.management.ThreadMXBean;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.text.ITextComponent;
@@ -37,14 +38,21 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
 
 public class StandardRequestManagerTest
 {
+    /**
+     * Lookups done to measure the allocations, and how much less the read only lookup has to allocate.
+     */
+    private static final int ALLOCATION_CALLS  = 10_000;
+    private static final int ALLOCATION_FACTOR = 10;
 
     private StandardRequestManager   requestManager;
     private IRequestResolverProvider provider;
@@ -144,6 +152,90 @@ public class StandardRequestManagerTest
         assertNull(requestManager.getRequestForToken(token));
     }
 
+    @Test
+    public void deltaSync() throws Exception
+    {
+        requestManager.onProviderAddedToColony(provider);
+
+        final StandardRequestManager view = new StandardRequestManager();
+        view.deserializeNBT(requestManager.serializeNBT());
+
+        final IToken<?> token = requestManager.createAndAssignRequest(TestRequester.INSTANCE, new StringRequestable("Hello"));
+        assertTrue(view.deserializeDelta(requestManager.serializeDelta()));
+        assertEquals(RequestState.COMPLETED, view.getRequestForToken(token).getState());
+        assertEquals(requestManager.getSyncVersion(), view.getSyncVersion());
+
+        requestManager.updateRequestState(token, RequestState.RECEIVED);
+        assertTrue(view.deserializeDelta(requestManager.serializeDelta()));
+        assertNull(view.getRequestForToken(token));
+
+        //A view which missed a delta has to ask for the full data.
+        final IToken<?> missedToken = requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable("Missed"));
+        requestManager.serializeDelta();
+        requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable("Test 2"));
+        assertFalse(view.deserializeDelta(requestManager.serializeDelta()));
+
+        view.deserializeNBT(requestManager.serializeNBT());
+        assertNotNull(view.getRequestForToken(missedToken));
+        assertTrue(view.deserializeDelta(requestManager.serializeDelta()));
+    }
+
+    @Test
+    public void readOnlyRequest() throws Exception
+    {
+        requestManager.onProviderAddedToColony(provider);
+
+        final IToken<?> token = requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable("Hello"));
+        final IRequest<?> readOnly = requestManager.getReadOnlyRequestForToken(token);
+        assertEquals(requestManager.getRequestForToken(token).getRequest(), readOnly.getRequest());
+
+        //The view is not a copy, it follows the request.
+        requestManager.assignRequest(token);
+        assertEquals(RequestState.COMPLETED, readOnly.getState());
+
+        try
+        {
+            readOnly.setState(requestManager, RequestState.CANCELLED);
+            fail("Read only requests must not be modified.");
+        }
+        catch (final UnsupportedOperationException expected)
+        {
+            assertEquals(RequestState.COMPLETED, requestManager.getRequestForToken(token).getState());
+        }
+    }
+
+    @Test
+    public void readOnlyRequestAllocations() throws Exception
+    {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof ThreadMXBean && ((ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final ThreadMXBean threads = (ThreadMXBean) bean;
+
+        requestManager.onProviderAddedToColony(provider);
+        final IToken<?> token = requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable("Hello"));
+
+        final long copyBytes = getAllocatedBytesPerCall(threads, () -> requestManager.getRequestForToken(token));
+        final long readOnlyBytes = getAllocatedBytesPerCall(threads, () -> requestManager.getReadOnlyRequestForToken(token));
+
+        assertTrue(readOnlyBytes * ALLOCATION_FACTOR < copyBytes);
+    }
+
+    private static long getAllocatedBytesPerCall(@NotNull final ThreadMXBean threads, @NotNull final Runnable call)
+    {
+        for (int i = 0; i < ALLOCATION_CALLS; i++)
+        {
+            call.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long start = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ALLOCATION_CALLS; i++)
+        {
+            call.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - start) / ALLOCATION_CALLS;
+    }
+
     @Test
     public void onProviderModificationTest() throws Exception
     {
@@ -0,0 +1,144 @@
+package com.minecolonies.coremod.entity.ai.citizen.deliveryman;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link DeliveryRoutePlanner}, with a simulated day of a deliveryman in a colony of 60 huts.
+ */
+public class DeliveryRoutePlannerTest
+{
+    private static final int    HUTS             = 60;
+    private static final int    COLONY_RADIUS    = 80;
+    private static final int    GROUND           = 64;
+    private static final int    CAPACITY         = 8;
+    private static final int    QUEUED           = 16;
+    private static final int    TICKS_PER_DAY    = 24000;
+    private static final double BLOCKS_PER_TICK  = 0.2D;
+    private static final int    TICKS_PER_STOP   = 20;
+    private static final int    TICKS_PER_ITEM   = 3;
+    private static final long   SEED             = 42L;
+    private static final int    SQUARE_SIZE      = 10;
+    private static final double DELTA            = 1.0E-9D;
+
+    private static final BlockPos WAREHOUSE = new BlockPos(0, GROUND, 0);
+
+    @Test
+    public void testTripsVisitEveryStopOnceWithinCapacity()
+    {
+        final List<BlockPos> huts = createHuts(new Random(SEED));
+        final List<List<BlockPos>> trips = DeliveryRoutePlanner.planTrips(WAREHOUSE, huts, Function.identity(), CAPACITY);
+
+        final List<BlockPos> visited = new ArrayList<>();
+        for (final List<BlockPos> trip : trips)
+        {
+            assertTrue(trip.size() <= CAPACITY);
+            visited.addAll(trip);
+        }
+        assertEquals(HUTS, visited.size());
+        assertEquals(new HashSet<>(huts), new HashSet<>(visited));
+    }
+
+    @Test
+    public void testCrossingRouteIsUntangled()
+    {
+        final BlockPos corner = new BlockPos(SQUARE_SIZE, GROUND, 0);
+        final BlockPos opposite = new BlockPos(0, GROUND, SQUARE_SIZE);
+        final BlockPos far = new BlockPos(SQUARE_SIZE, GROUND, SQUARE_SIZE);
+
+        final List<BlockPos> route = DeliveryRoutePlanner.planRoute(WAREHOUSE, Arrays.asList(corner, opposite, far), Function.identity());
+
+        assertEquals(3, route.size());
+        assertEquals(4 * SQUARE_SIZE, DeliveryRoutePlanner.getTripLength(WAREHOUSE, route, Function.identity()), DELTA);
+    }
+
+    @Test
+    public void testRouteIsNotLongerThanTheQueueOrder()
+    {
+        final Random random = new Random(SEED);
+        for (int i = 0; i < HUTS; i++)
+        {
+            final List<BlockPos> stops = createHuts(random).subList(0, CAPACITY);
+            final List<BlockPos> route = DeliveryRoutePlanner.planRoute(WAREHOUSE, stops, Function.identity());
+
+            assertTrue(DeliveryRoutePlanner.getTripLength(WAREHOUSE, route, Function.identity())
+                         <= DeliveryRoutePlanner.getTripLength(WAREHOUSE, stops, Function.identity()) + DELTA);
+        }
+    }
+
+    @Test
+    public void testPlannedTripsCompleteMoreDeliveriesPerDay()
+    {
+        final List<BlockPos> huts = createHuts(new Random(SEED));
+
+        final int singleDeliveries = simulateDay(huts, 1);
+        final int plannedDeliveries = simulateDay(huts, CAPACITY);
+
+        assertTrue(singleDeliveries > 0);
+        assertTrue("planned " + plannedDeliveries + " single " + singleDeliveries, plannedDeliveries >= 2 * singleDeliveries);
+    }
+
+    /**
+     * Simulate one in-game day of a deliveryman with a full queue of deliveries to random huts.
+     * Each trip takes the items at the warehouse, walks the route and hands over the items at each stop.
+     *
+     * @return the deliveries completed within the day.
+     */
+    private static int simulateDay(final List<BlockPos> huts, final int capacity)
+    {
+        final Random random = new Random(SEED);
+        final LinkedList<BlockPos> queue = new LinkedList<>();
+        int ticks = 0;
+        int completed = 0;
+        while (true)
+        {
+            while (queue.size() < QUEUED)
+            {
+                queue.add(huts.get(random.nextInt(huts.size())));
+            }
+
+            final BlockPos current = queue.getFirst();
+            List<BlockPos> trip = Collections.singletonList(current);
+            for (final List<BlockPos> planned : DeliveryRoutePlanner.planTrips(WAREHOUSE, new ArrayList<>(queue), Function.identity(), capacity))
+            {
+                if (planned.contains(current))
+                {
+                    trip = planned;
+                    break;
+                }
+            }
+
+            final double walked = DeliveryRoutePlanner.getTripLength(WAREHOUSE, trip, Function.identity());
+            ticks += (int) Math.ceil(walked / BLOCKS_PER_TICK) + trip.size() * (TICKS_PER_STOP + TICKS_PER_ITEM) + TICKS_PER_STOP;
+            if (ticks > TICKS_PER_DAY)
+            {
+                return completed;
+            }
+
+            for (final BlockPos stop : trip)
+            {
+                queue.remove(stop);
+            }
+            completed += trip.size();
+        }
+    }
+
+    private static List<BlockPos> createHuts(final Random random)
+    {
+        final List<BlockPos> huts = new ArrayList<>();
+        while (huts.size() < HUTS)
+        {
+            final BlockPos hut = new BlockPos(random.nextInt(2 * COLONY_RADIUS) - COLONY_RADIUS, GROUND, random.nextInt(2 * COLONY_RADIUS) - COLONY_RADIUS);
+            if (!huts.contains(hut) && !hut.equals(WAREHOUSE))
+            {
+                huts.add(hut);
+            }
+        }
+        return huts;
+    }
+}
@@ -0,0 +1,216 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link TreeCache} on a synthetic forest of large two by two trees.
+ */
+public class TreeCacheTest
+{
+    private static final int GROUND         = 64;
+    private static final int TRUNK_HEIGHT   = 24;
+    private static final int BRANCH_LENGTH  = 3;
+    private static final int TREE_DISTANCE  = 12;
+    private static final int FOREST_SIZE    = 6;
+    private static final int COLONY_RANGE   = 200;
+    private static final int LOGS_PER_TREE  = 4 * TRUNK_HEIGHT + 4 * BRANCH_LENGTH;
+    private static final int NEIGHBOURS     = 26;
+    private static final int ROUNDS         = 20;
+    private static final int MIN_SPEEDUP    = 4;
+
+    private Set<BlockPos> logs;
+    private int           reads;
+    private TreeCache     cache;
+
+    @Before
+    public void setup()
+    {
+        logs = new HashSet<>();
+        for (int x = 0; x < FOREST_SIZE; x++)
+        {
+            for (int z = 0; z < FOREST_SIZE; z++)
+            {
+                addTree(x * TREE_DISTANCE, z * TREE_DISTANCE);
+            }
+        }
+        reads = 0;
+        cache = new TreeCache(BlockPos.ORIGIN, COLONY_RANGE);
+    }
+
+    /**
+     * Add a tree with a two by two trunk like dark oak and jungle trees, with a branch to each side at the top.
+     */
+    private void addTree(final int x, final int z)
+    {
+        for (int y = 0; y < TRUNK_HEIGHT; y++)
+        {
+            logs.add(new BlockPos(x, GROUND + y, z));
+            logs.add(new BlockPos(x + 1, GROUND + y, z));
+            logs.add(new BlockPos(x, GROUND + y, z + 1));
+            logs.add(new BlockPos(x + 1, GROUND + y, z + 1));
+        }
+
+        final int top = GROUND + TRUNK_HEIGHT - 1;
+        for (int i = 1; i <= BRANCH_LENGTH; i++)
+        {
+            logs.add(new BlockPos(x - i, top + i, z));
+            logs.add(new BlockPos(x + 1 + i, top + i, z + 1));
+            logs.add(new BlockPos(x + 1, top + i, z - i));
+            logs.add(new BlockPos(x, top + i, z + 1 + i));
+        }
+    }
+
+    private final Predicate<BlockPos> isLog = pos ->
+    {
+        reads++;
+        return logs.contains(new BlockPos(pos.getX(), pos.getY(), pos.getZ()));
+    };
+
+    @Test
+    public void testScanFindsWholeTreeWithBoundedReads()
+    {
+        final TreeCache.TreeScan tree = TreeCache.scan(new BlockPos(1, GROUND + TRUNK_HEIGHT / 2, 1), isLog);
+
+        assertEquals(LOGS_PER_TREE, tree.getLogCount());
+        assertEquals(GROUND, tree.getBottomLog().getY());
+        assertEquals(GROUND + TRUNK_HEIGHT - 1 + BRANCH_LENGTH, tree.getTopLog().getY());
+        assertTrue(reads <= LOGS_PER_TREE * NEIGHBOURS);
+    }
+
+    @Test
+    public void testScanStopsAtMaxTreeSize()
+    {
+        final TreeCache.TreeScan tree = TreeCache.scan(BlockPos.ORIGIN, pos -> pos.getY() >= 0 && pos.getY() < GROUND);
+
+        assertEquals(TreeCache.MAX_TREE_SIZE, tree.getLogCount());
+    }
+
+    @Test
+    public void testForestIsSharedBetweenLogsOfTheSameTree()
+    {
+        for (int x = 0; x < FOREST_SIZE; x++)
+        {
+            for (int z = 0; z < FOREST_SIZE; z++)
+            {
+                cache.getTree(new BlockPos(x * TREE_DISTANCE, GROUND, z * TREE_DISTANCE), isLog, tree -> true);
+            }
+        }
+        final int readsToScan = reads;
+
+        for (int x = 0; x < FOREST_SIZE; x++)
+        {
+            for (int z = 0; z < FOREST_SIZE; z++)
+            {
+                for (int y = 0; y < TRUNK_HEIGHT; y++)
+                {
+                    final TreeCache.TreeScan tree = cache.getTree(new BlockPos(x * TREE_DISTANCE + 1, GROUND + y, z * TREE_DISTANCE + 1), isLog, scan -> true);
+                    assertEquals(LOGS_PER_TREE, tree.getLogCount());
+                }
+            }
+        }
+
+        assertEquals(readsToScan, reads);
+        assertEquals(FOREST_SIZE * FOREST_SIZE, cache.getMisses());
+        assertEquals(FOREST_SIZE * FOREST_SIZE * TRUNK_HEIGHT, cache.getHits());
+    }
+
+    @Test
+    public void testChangedLogDropsTree()
+    {
+        final BlockPos stump = new BlockPos(0, GROUND, 0);
+        final TreeCache.TreeScan first = cache.getTree(stump, isLog, tree -> true);
+
+        final BlockPos branch = new BlockPos(-BRANCH_LENGTH, GROUND + TRUNK_HEIGHT - 1 + BRANCH_LENGTH, 0);
+        logs.remove(branch);
+        cache.invalidate(branch);
+
+        final TreeCache.TreeScan second = cache.getTree(stump, isLog, tree -> true);
+        assertNotSame(first, second);
+        assertEquals(LOGS_PER_TREE - 1, second.getLogCount());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testTreesOutsideOfColonyAreNotStored()
+    {
+        final TreeCache smallCache = new TreeCache(BlockPos.ORIGIN, TREE_DISTANCE);
+        final BlockPos stump = new BlockPos(TREE_DISTANCE * 2, GROUND, TREE_DISTANCE * 2);
+
+        smallCache.getTree(stump, isLog, tree -> true);
+        smallCache.getTree(stump, isLog, tree -> true);
+
+        assertEquals(2, smallCache.getMisses());
+        assertEquals(0, smallCache.getSectionCount());
+    }
+
+    @Test
+    public void testRejectedTreesAreNotStored()
+    {
+        final BlockPos stump = new BlockPos(0, GROUND, 0);
+
+        cache.getTree(stump, isLog, tree -> false);
+        cache.getTree(stump, isLog, tree -> true);
+        cache.getTree(stump, isLog, tree -> true);
+
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Look up the tree of every trunk log of the forest, the way the lumberjack and the tree search ask for the same trees again and again.
+     *
+     * @param treeCache the cache to look the trees up in, null to scan every time.
+     */
+    private void lookUpForest(final TreeCache treeCache)
+    {
+        for (int x = 0; x < FOREST_SIZE; x++)
+        {
+            for (int z = 0; z < FOREST_SIZE; z++)
+            {
+                for (int y = 0; y < TRUNK_HEIGHT; y++)
+                {
+                    final BlockPos log = new BlockPos(x * TREE_DISTANCE + 1, GROUND + y, z * TREE_DISTANCE + 1);
+                    final TreeCache.TreeScan tree = treeCache == null ? TreeCache.scan(log, isLog) : treeCache.getTree(log, isLog, scan -> true);
+                    assertEquals(LOGS_PER_TREE, tree.getLogCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testForestIsFasterWithCache()
+    {
+        long scanNanos = Long.MAX_VALUE;
+        long cacheNanos = Long.MAX_VALUE;
+        int scanReads = 0;
+        int cacheReads = 0;
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            reads = 0;
+            final long scanStart = System.nanoTime();
+            lookUpForest(null);
+            scanNanos = Math.min(scanNanos, System.nanoTime() - scanStart);
+            scanReads = reads;
+
+            //  A new cache every round, so the first scan of each tree is part of the time.
+            final TreeCache roundCache = new TreeCache(BlockPos.ORIGIN, COLONY_RANGE);
+            reads = 0;
+            final long cacheStart = System.nanoTime();
+            lookUpForest(roundCache);
+            cacheNanos = Math.min(cacheNanos, System.nanoTime() - cacheStart);
+            cacheReads = reads;
+        }
+
+        assertEquals(scanReads / TRUNK_HEIGHT, cacheReads);
+        assertTrue("scan " + scanNanos + " ns, cache " + cacheNanos + " ns for " + FOREST_SIZE * FOREST_SIZE + " trees",
+          cacheNanos * MIN_SPEEDUP < scanNanos);
+    }
+}
@@ -0,0 +1,105 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the data structures of the {@link IndexedNodeStore}.
+ */
+public class IndexedNodeStoreTest
+{
+    private static final int  NODE_COUNT = 5000;
+    private static final long SEED       = 42L;
+
+    @Test
+    public void testHeapPollsInSameOrderAsPriorityQueue()
+    {
+        final Random random = new Random(SEED);
+        final NodeHeap heap = new NodeHeap();
+        final PriorityQueue<Node> queue = new PriorityQueue<>();
+
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final double score = random.nextInt(100);
+            final Node node = new Node(null, new BlockPos(i, 0, 0), 0, score, score);
+            node.setCounterAdded(i);
+            heap.offer(node);
+            queue.offer(node);
+        }
+
+        while (!queue.isEmpty())
+        {
+            assertSame(queue.poll(), heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+        assertNull(heap.poll());
+    }
+
+    @Test
+    public void testHeapDecreaseKey()
+    {
+        final NodeHeap heap = new NodeHeap();
+        final Node first = new Node(null, new BlockPos(0, 0, 0), 0, 1, 1);
+        final Node second = new Node(null, new BlockPos(1, 0, 0), 0, 2, 2);
+        final Node third = new Node(null, new BlockPos(2, 0, 0), 0, 3, 3);
+        heap.offer(first);
+        heap.offer(second);
+        heap.offer(third);
+
+        third.setScore(0);
+        assertTrue(heap.decreaseKey(third));
+
+        assertSame(third, heap.poll());
+        assertFalse(heap.decreaseKey(third));
+        assertSame(first, heap.poll());
+        assertSame(second, heap.poll());
+    }
+
+    @Test
+    public void testIndexGetAndPut()
+    {
+        final NodeIndex index = new NodeIndex();
+        final Node[] nodes = new Node[NODE_COUNT];
+
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            nodes[i] = new Node(new BlockPos(i, 0, 0), 0);
+            index.put(i * 31, nodes[i]);
+        }
+
+        assertEquals(NODE_COUNT, index.size());
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            assertSame(nodes[i], index.get(i * 31));
+        }
+        assertNull(index.get(-1));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.get(0));
+    }
+
+    @Test
+    public void testStoreReusesNodesAfterRelease()
+    {
+        final IndexedNodeStore store = IndexedNodeStore.forCurrentThread();
+        final Node node = store.createNode(null, new BlockPos(1, 2, 3), 1, 1, 2);
+        node.setClosed();
+        store.addOpen(1, node);
+        store.release();
+
+        final IndexedNodeStore reused = IndexedNodeStore.forCurrentThread();
+        assertSame(store, reused);
+        final Node recycled = reused.createNode(null, new BlockPos(4, 5, 6), 0, 0, 0);
+        assertSame(node, recycled);
+        assertFalse(recycled.isClosed());
+        assertEquals(new BlockPos(4, 5, 6), recycled.pos);
+        assertNull(reused.getVisited(1));
+        reused.release();
+    }
+}
@@ -0,0 +1,113 @@
+package com.minecolonies.coremod.permissions;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ColonyExplosionFilter}.
+ */
+public class ColonyExplosionFilterTest
+{
+    private static final int RANGE       = 20;
+    private static final int BLAST_SIZE  = 22;
+    private static final int BLAST_LOW_Y = 50;
+    private static final int ROUNDS      = 20;
+    private static final int MIN_SPEEDUP = 2;
+
+    private List<BlockPos> centers;
+    private List<BlockPos> blast;
+
+    @Before
+    public void setup()
+    {
+        //  Four colonies around the origin, the blast covers parts of all of them.
+        centers = new ArrayList<>();
+        centers.add(new BlockPos(-25, 64, -25));
+        centers.add(new BlockPos(25, 64, -25));
+        centers.add(new BlockPos(-25, 64, 25));
+        centers.add(new BlockPos(25, 64, 25));
+
+        blast = new ArrayList<>();
+        for (int x = -BLAST_SIZE / 2; x < BLAST_SIZE / 2; x++)
+        {
+            for (int y = BLAST_LOW_Y; y < BLAST_LOW_Y + BLAST_SIZE - 1; y++)
+            {
+                for (int z = -BLAST_SIZE / 2; z < BLAST_SIZE / 2; z++)
+                {
+                    blast.add(new BlockPos(x, y, z));
+                }
+            }
+        }
+    }
+
+    /**
+     * The filter as it was done before, once per colony with a BlockPos per check and removeAll.
+     */
+    private List<BlockPos> filterPerColony(final List<BlockPos> blocks)
+    {
+        final List<BlockPos> result = new ArrayList<>(blocks);
+        for (final BlockPos center : centers)
+        {
+            final List<BlockPos> toRemove = result.stream()
+                                              .filter(pos -> center.distanceSq(new BlockPos(pos.getX(), center.getY(), pos.getZ())) <= RANGE * RANGE)
+                                              .collect(Collectors.toList());
+            result.removeAll(toRemove);
+        }
+        return result;
+    }
+
+    @Test
+    public void isProtected()
+    {
+        final ColonyExplosionFilter filter = new ColonyExplosionFilter(centers, RANGE);
+
+        assertTrue(filter.isProtected(-25, -25));
+        assertTrue(filter.isProtected(-25 + RANGE, -25));
+        assertFalse(filter.isProtected(-25 + RANGE + 1, -25));
+        assertFalse(filter.isProtected(0, 0));
+    }
+
+    @Test
+    public void filterBlocksMatchesPerColonyFilter()
+    {
+        assertTrue(blast.size() >= 10_000);
+
+        final List<BlockPos> expected = filterPerColony(blast);
+        final List<BlockPos> actual = new ArrayList<>(blast);
+        new ColonyExplosionFilter(centers, RANGE).filterBlocks(actual);
+
+        assertEquals(expected, actual);
+        assertTrue(actual.size() < blast.size());
+        assertFalse(actual.isEmpty());
+    }
+
+    @Test
+    public void filterBlocksIsFasterThanPerColonyFilter()
+    {
+        long perColonyNanos = Long.MAX_VALUE;
+        long filterNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            final long perColonyStart = System.nanoTime();
+            filterPerColony(blast);
+            perColonyNanos = Math.min(perColonyNanos, System.nanoTime() - perColonyStart);
+
+            final List<BlockPos> blocks = new ArrayList<>(blast);
+            final long filterStart = System.nanoTime();
+            new ColonyExplosionFilter(centers, RANGE).filterBlocks(blocks);
+            filterNanos = Math.min(filterNanos, System.nanoTime() - filterStart);
+        }
+
+        assertTrue("per colony " + perColonyNanos + " ns, filter " + filterNanos + " ns for " + blast.size() + " blocks",
+          filterNanos * MIN_SPEEDUP < perColonyNanos);
+    }
+}
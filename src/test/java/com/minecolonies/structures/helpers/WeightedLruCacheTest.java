@@ -0,0 +1,85 @@
+package com.minecolonies.structures.helpers;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link WeightedLruCache}.
+ */
+public class WeightedLruCacheTest
+{
+    private static final int MAX_WEIGHT = 10;
+
+    private WeightedLruCache<String, String> cache;
+    private AtomicInteger                    loads;
+
+    @Before
+    public void setup()
+    {
+        cache = new WeightedLruCache<>(() -> MAX_WEIGHT, String::length);
+        loads = new AtomicInteger();
+    }
+
+    private String load(final String key)
+    {
+        loads.incrementAndGet();
+        return key;
+    }
+
+    @Test
+    public void testLoadsOnlyOnce()
+    {
+        assertEquals("abc", cache.get("abc", this::load));
+        assertEquals("abc", cache.get("abc", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(3, cache.getWeight());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed()
+    {
+        cache.get("aaaa", this::load);
+        cache.get("bbbb", this::load);
+        cache.get("aaaa", this::load);
+        cache.get("cccc", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(8, cache.getWeight());
+        assertEquals(1, cache.getEvictions());
+
+        cache.get("aaaa", this::load);
+        assertEquals(3, loads.get());
+        cache.get("bbbb", this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testDoesNotCacheNullOrTooHeavyValues()
+    {
+        assertNull(cache.get("missing", key -> null));
+        assertEquals(0, cache.size());
+
+        assertEquals("abcdefghijk", cache.get("abcdefghijk", this::load));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+
+    @Test
+    public void testClear()
+    {
+        cache.get("abc", this::load);
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        cache.get("abc", this::load);
+        assertEquals(2, loads.get());
+    }
+}